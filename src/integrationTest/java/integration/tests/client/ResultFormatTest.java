@@ -0,0 +1,74 @@
+package integration.tests.client;
+
+import com.firebolt.jdbc.testutils.RowBinaryPayload;
+import integration.MockWebServerAwareIntegrationTest;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResultFormatTest extends MockWebServerAwareIntegrationTest {
+	private static final String TSV_RESPONSE = "id\tname\tprice\tcreated\n" +
+			"bigint\ttext null\tdouble precision\ttimestamp\n" +
+			"1\tfirst\t1.5\t2024-01-02 03:04:05.123456\n" +
+			"2\t\\N\t-0.25\t1970-01-01 00:00:00\n";
+
+	@Test
+	void shouldRequestAndReadTabSeparatedFormatByDefault() throws SQLException, InterruptedException {
+		mockBackEnd.enqueue(new MockResponse().setResponseCode(200).setBody(TSV_RESPONSE));
+		try (Connection connection = createLocalConnection(format("?ssl=0&port=%d&compress=0", mockBackEnd.getPort()));
+			 Statement statement = connection.createStatement();
+			 ResultSet rs = statement.executeQuery("SELECT * FROM products")) {
+			assertEquals("TabSeparatedWithNamesAndTypes", getRequestedFormat(mockBackEnd.takeRequest()));
+			assertProducts(rs);
+		}
+	}
+
+	@Test
+	void shouldRequestAndReadRowBinaryFormat() throws SQLException, InterruptedException {
+		byte[] payload = RowBinaryPayload.header("id", "bigint", "name", "text null", "price", "double precision", "created", "timestamp")
+				.int64(1).isNull(false).string("first").float64(1.5).int64(1704164645123456L)
+				.int64(2).isNull(true).float64(-0.25).int64(0)
+				.toByteArray();
+		mockBackEnd.enqueue(new MockResponse().setResponseCode(200).setBody(new Buffer().write(payload)));
+		try (Connection connection = createLocalConnection(format("?ssl=0&port=%d&compress=0&result_format=RowBinaryWithNamesAndTypes", mockBackEnd.getPort()));
+			 Statement statement = connection.createStatement();
+			 ResultSet rs = statement.executeQuery("SELECT * FROM products")) {
+			assertEquals("RowBinaryWithNamesAndTypes", getRequestedFormat(mockBackEnd.takeRequest()));
+			assertProducts(rs);
+		}
+	}
+
+	private String getRequestedFormat(RecordedRequest request) {
+		// the format is sent as default_format to a local database and as output_format otherwise
+		String format = request.getRequestUrl().queryParameter("default_format");
+		return format == null ? request.getRequestUrl().queryParameter("output_format") : format;
+	}
+
+	private void assertProducts(ResultSet rs) throws SQLException {
+		assertEquals("name", rs.getMetaData().getColumnName(2));
+		assertTrue(rs.next());
+		assertEquals(1L, rs.getLong(1));
+		assertEquals("first", rs.getString(2));
+		assertEquals(1.5, rs.getDouble(3));
+		assertEquals("2024-01-02 03:04:05.123456", rs.getString(4));
+		assertTrue(rs.next());
+		assertEquals(2, rs.getInt("id"));
+		assertNull(rs.getString("name"));
+		assertTrue(rs.wasNull());
+		assertEquals(-0.25f, rs.getFloat("price"));
+		assertEquals("1970-01-01 00:00:00", rs.getString("created"));
+		assertFalse(rs.next());
+	}
+}
@@ -0,0 +1,66 @@
+package com.firebolt.jdbc.resultset;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.sql.SQLException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Measures the time to read a large result depending on the number of threads decoding its rows (0 for the thread
+ * reading the result only).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelDecodingBenchmark {
+	@Param({"0", "1", "2", "4", "8"})
+	private int decodingThreads;
+	@Param({"500000"})
+	private int rows;
+	private byte[] response;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(0);
+		StringBuilder sb = new StringBuilder("id\tquantity\tprice\tname\tdescription\nbigint\tinteger null\tdouble precision\ttext\ttext\n");
+		for (int i = 0; i < rows; i++) {
+			sb.append(random.nextLong()).append('\t')
+					.append(i % 10 == 0 ? "\\N" : Integer.toString(random.nextInt(1000))).append('\t')
+					.append(Math.round(random.nextDouble() * 1_000_000) / 100.0).append('\t')
+					.append("name").append(i).append('\t')
+					.append("a longer description of the row number ").append(i).append('\n');
+		}
+		response = sb.toString().getBytes(UTF_8);
+	}
+
+	@Benchmark
+	public long readAllRows() throws SQLException {
+		long sum = 0;
+		try (FireboltResultSet resultSet = new FireboltResultSet(new ByteArrayInputStream(response), "table", "db", 65536,
+				false, null, false, FireboltResultSetOptions.builder().decodingThreads(decodingThreads).build())) {
+			while (resultSet.next()) {
+				sum += resultSet.getLong(1);
+				sum += resultSet.getInt(2);
+				sum += resultSet.getString(5).length();
+			}
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,92 @@
+package com.firebolt.jdbc.resultset;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.sql.SQLException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compares summing the columns of a result with the getters of {@link FireboltResultSet} and with
+ * {@link FireboltResultSet#nextBatch(RowBatch)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowBatchBenchmark {
+	@Param({"100000"})
+	private int rows;
+	private byte[] response;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(0);
+		StringBuilder sb = new StringBuilder("id\tquantity\tprice\tname\nbigint\tinteger null\tdouble precision\ttext\n");
+		for (int i = 0; i < rows; i++) {
+			sb.append(random.nextLong()).append('\t')
+					.append(i % 10 == 0 ? "\\N" : Integer.toString(random.nextInt(1000))).append('\t')
+					.append(Math.round(random.nextDouble() * 1_000_000) / 100.0).append('\t')
+					.append("name").append(i).append('\n');
+		}
+		response = sb.toString().getBytes(UTF_8);
+	}
+
+	@Benchmark
+	public long getters() throws SQLException {
+		long sum = 0;
+		try (FireboltResultSet resultSet = resultSet()) {
+			while (resultSet.next()) {
+				sum += resultSet.getLong(1);
+				sum += resultSet.getInt(2);
+				sum += (long) resultSet.getDouble(3);
+				sum += resultSet.getString(4).length();
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long batches() throws SQLException {
+		long sum = 0;
+		RowBatch batch = new RowBatch(1024);
+		try (FireboltResultSet resultSet = resultSet()) {
+			while (resultSet.nextBatch(batch) > 0) {
+				int count = batch.getRowCount();
+				long[] ids = batch.getLongs(1);
+				for (int i = 0; i < count; i++) {
+					sum += ids[i];
+				}
+				int[] quantities = batch.getInts(2);
+				for (int i = 0; i < count; i++) {
+					sum += quantities[i];
+				}
+				double[] prices = batch.getDoubles(3);
+				for (int i = 0; i < count; i++) {
+					sum += (long) prices[i];
+				}
+				sum += batch.getOffsets(4)[count];
+			}
+		}
+		return sum;
+	}
+
+	private FireboltResultSet resultSet() throws SQLException {
+		return new FireboltResultSet(new ByteArrayInputStream(response), "table", "db", 65536, false, null, false);
+	}
+}
@@ -0,0 +1,43 @@
+package com.firebolt.jdbc.resultset.compress;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the checksum of compressed blocks of the size of the blocks sent by the server (up to 1 MiB) and of small
+ * blocks. Run with {@code -prof gc} to see the memory allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CityHashBenchmark {
+	@Param({"100", "65536", "1048576"})
+	private int length;
+	private byte[] block;
+
+	@Setup
+	public void setUp() {
+		block = new byte[length];
+		new Random(0).nextBytes(block);
+	}
+
+	@Benchmark
+	public long[] cityHash128() {
+		return CityHash.cityHash128(block, 0, length);
+	}
+}
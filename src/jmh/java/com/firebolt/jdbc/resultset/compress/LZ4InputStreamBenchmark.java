@@ -0,0 +1,97 @@
+package com.firebolt.jdbc.resultset.compress;
+
+import com.firebolt.jdbc.resultset.decoder.TsvResultDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.SQLException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Measures the decompression of a response made of LZ4 blocks of the size used by the server (1 MiB) read through
+ * {@link LZ4InputStream} in 64 KiB reads, or decompressed in a background thread by {@link PipelinedLZ4InputStream}
+ * while the rows are decoded. Run with {@code -prof gc} to see the memory allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LZ4InputStreamBenchmark {
+	@Param({"1048576"})
+	private int blockSize;
+	@Param({"64"})
+	private int blocks;
+	@Param({"false", "true"})
+	private boolean pipelined;
+	private byte[] response;
+
+	@Setup
+	public void setUp() throws IOException {
+		Random random = new Random(0);
+		StringBuilder sb = new StringBuilder();
+		while (sb.length() < blockSize * blocks) {
+			sb.append(random.nextInt(1_000_000)).append('\t').append("name").append(random.nextInt(100)).append('\t')
+					.append(random.nextDouble()).append('\n');
+		}
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		LZ4OutputStream outputStream = new LZ4OutputStream(compressed, blockSize);
+		// complete rows only
+		sb.setLength(sb.lastIndexOf("\n", blockSize * blocks) + 1);
+		outputStream.write(sb.toString().getBytes(UTF_8));
+		outputStream.flush();
+		response = compressed.toByteArray();
+	}
+
+	@Benchmark
+	public void read(Blackhole blackhole) throws IOException {
+		try (LZ4InputStream is = stream()) {
+			byte[] buffer = new byte[65536];
+			int read;
+			while ((read = is.read(buffer)) >= 0) {
+				blackhole.consume(read);
+			}
+		}
+	}
+
+	@Benchmark
+	public void transferTo(Blackhole blackhole) throws IOException {
+		try (LZ4InputStream is = stream()) {
+			blackhole.consume(is.transferTo(OutputStream.nullOutputStream()));
+		}
+	}
+
+	@Benchmark
+	public void decodeRows(Blackhole blackhole) throws IOException, SQLException {
+		try (TsvResultDecoder decoder = new TsvResultDecoder(stream(), 65536)) {
+			while (decoder.next()) {
+				blackhole.consume(decoder.getLong(0));
+				blackhole.consume(decoder.getString(1));
+				blackhole.consume(decoder.getDouble(2));
+			}
+		}
+	}
+
+	private LZ4InputStream stream() {
+		ByteArrayInputStream compressed = new ByteArrayInputStream(response);
+		return pipelined ? new PipelinedLZ4InputStream(compressed) : new LZ4InputStream(compressed);
+	}
+}
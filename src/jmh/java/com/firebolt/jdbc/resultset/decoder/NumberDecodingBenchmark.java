@@ -0,0 +1,71 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import com.firebolt.jdbc.type.BaseType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compares reading NUMERIC(38, 4) values and doubles written with all their digits through {@link BaseType#transform(String)}
+ * ({@code new BigDecimal(String)}, {@code Double.parseDouble}) with the getters of {@link TsvResultDecoder} parsing the
+ * bytes of the row with {@link NumberParser}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NumberDecodingBenchmark {
+	@Param({"100000"})
+	private int rows;
+	private byte[] response;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(0);
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < rows; i++) {
+			long unscaled = random.nextLong() % 1_000_000_000_000L;
+			sb.append(unscaled / 10_000).append('.').append(String.format("%04d", Math.abs(unscaled % 10_000))).append('\t')
+					.append(random.nextDouble() * Math.pow(10, random.nextInt(20) - 10)).append('\n');
+		}
+		response = sb.toString().getBytes(UTF_8);
+	}
+
+	@Benchmark
+	public void baseTypeTransform(Blackhole blackhole) throws IOException, SQLException {
+		TsvResultDecoder decoder = new TsvResultDecoder(new ByteArrayInputStream(response), 65536);
+		while (decoder.next()) {
+			blackhole.consume(BaseType.NUMERIC.<Object>transform(decoder.getString(0)));
+			Double d = BaseType.DOUBLE.transform(decoder.getString(1));
+			blackhole.consume(d == null ? 0 : d);
+		}
+	}
+
+	@Benchmark
+	public void numberParser(Blackhole blackhole) throws IOException {
+		TsvResultDecoder decoder = new TsvResultDecoder(new ByteArrayInputStream(response), 65536);
+		while (decoder.next()) {
+			blackhole.consume(decoder.getBigDecimal(0));
+			blackhole.consume(decoder.getDouble(1));
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import com.firebolt.jdbc.type.BaseType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compares reading numeric and boolean cells through {@link BaseType#transform(String)} (String of the field, conversion
+ * object, boxing) with the primitive getters of {@link TsvResultDecoder} parsing the bytes of the row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrimitiveGetterBenchmark {
+	@Param({"100000"})
+	private int rows;
+	private byte[] response;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(0);
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < rows; i++) {
+			sb.append(random.nextLong()).append('\t')
+					.append(random.nextInt()).append('\t')
+					.append(Math.round(random.nextDouble() * 1_000_000) / 100.0).append('\t')
+					.append(random.nextBoolean() ? '1' : '0').append('\t')
+					.append(i % 10 == 0 ? "\\N" : Integer.toString(i)).append('\n');
+		}
+		response = sb.toString().getBytes(UTF_8);
+	}
+
+	@Benchmark
+	public void baseTypeTransform(Blackhole blackhole) throws IOException, SQLException {
+		TsvResultDecoder decoder = new TsvResultDecoder(new ByteArrayInputStream(response), 65536);
+		while (decoder.next()) {
+			Long l = BaseType.LONG.transform(decoder.getString(0));
+			blackhole.consume(l == null ? 0 : l);
+			Integer i = BaseType.INTEGER.transform(decoder.getString(1));
+			blackhole.consume(i == null ? 0 : i);
+			Double d = BaseType.DOUBLE.transform(decoder.getString(2));
+			blackhole.consume(d == null ? 0 : d);
+			Boolean b = BaseType.BOOLEAN.transform(decoder.getString(3));
+			blackhole.consume(b != null && b);
+			Integer nullable = BaseType.INTEGER.transform(decoder.getString(4));
+			blackhole.consume(nullable == null ? 0 : nullable);
+		}
+	}
+
+	@Benchmark
+	public void primitiveGetters(Blackhole blackhole) throws IOException, SQLException {
+		TsvResultDecoder decoder = new TsvResultDecoder(new ByteArrayInputStream(response), 65536);
+		while (decoder.next()) {
+			blackhole.consume(decoder.getLong(0));
+			blackhole.consume(decoder.getInt(1));
+			blackhole.consume(decoder.getDouble(2));
+			blackhole.consume(decoder.getBoolean(3));
+			blackhole.consume(decoder.isNull(4) ? 0 : decoder.getInt(4));
+		}
+	}
+}
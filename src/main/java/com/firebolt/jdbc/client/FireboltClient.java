@@ -43,6 +43,7 @@ public abstract class FireboltClient {
 	private static final String HEADER_AUTHORIZATION_BEARER_PREFIX_VALUE = "Bearer ";
 	private static final String HEADER_USER_AGENT = "User-Agent";
 	private static final String HEADER_PROTOCOL_VERSION = "Firebolt-Protocol-Version";
+	protected static final MediaType JSON_MEDIA_TYPE = MediaType.parse("application/json");
 	private final OkHttpClient httpClient;
 	private final String headerUserAgentValue;
 	protected final FireboltConnection connection;
@@ -127,7 +128,7 @@ public abstract class FireboltClient {
 	protected Request createPostRequest(String uri, String label, String json, String accessToken) {
 		RequestBody requestBody = null;
 		if (json != null) {
-			requestBody = RequestBody.create(json, MediaType.parse("application/json"));
+			requestBody = RequestBody.create(json, JSON_MEDIA_TYPE);
 		}
 		return createPostRequest(uri, label, requestBody, accessToken);
 	}
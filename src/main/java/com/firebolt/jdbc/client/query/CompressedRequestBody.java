@@ -0,0 +1,71 @@
+package com.firebolt.jdbc.client.query;
+
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Body of a request sending a statement compressed while it is written to the connection: the statement is encoded
+ * and compressed chunk by chunk, so neither its bytes nor its compressed bytes are ever held in memory as a whole.
+ * The body can be written several times, for instance when the request is retried.
+ */
+class CompressedRequestBody extends RequestBody {
+	private static final int CHUNK_SIZE = 8192;
+	private static final int MAX_BYTES_PER_CHAR = 3;
+
+	private final String content;
+	private final MediaType contentType;
+	private final RequestCompression compression;
+
+	CompressedRequestBody(String content, MediaType contentType, RequestCompression compression) {
+		this.content = content;
+		this.contentType = contentType;
+		this.compression = compression;
+	}
+
+	@Override
+	public MediaType contentType() {
+		return contentType;
+	}
+
+	/**
+	 * @return -1 as the length is only known once the body is compressed, so the body is sent in chunks
+	 */
+	@Override
+	public long contentLength() {
+		return -1;
+	}
+
+	@Override
+	public void writeTo(BufferedSink sink) throws IOException {
+		int maxLength = (int) Math.min(Integer.MAX_VALUE, (long) content.length() * MAX_BYTES_PER_CHAR);
+		// the sink is closed by the HTTP client, closing the writer only writes the end of the compressed stream
+		OutputStream out = new FilterOutputStream(sink.outputStream()) {
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				this.out.write(b, off, len);
+			}
+
+			@Override
+			public void close() throws IOException {
+				flush();
+			}
+		};
+		try (Writer writer = new OutputStreamWriter(compression.compress(out, maxLength), UTF_8)) {
+			char[] chunk = new char[Math.min(CHUNK_SIZE, content.length())];
+			for (int start = 0; start < content.length(); start += chunk.length) {
+				int end = Math.min(start + chunk.length, content.length());
+				content.getChars(start, end, chunk, 0);
+				writer.write(chunk, 0, end - start);
+			}
+		}
+	}
+}
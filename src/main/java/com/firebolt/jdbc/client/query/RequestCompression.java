@@ -0,0 +1,100 @@
+package com.firebolt.jdbc.client.query;
+
+import com.firebolt.jdbc.connection.settings.FireboltQueryParameterKey;
+import com.firebolt.jdbc.resultset.compress.LZ4OutputStream;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import static java.lang.String.format;
+
+/**
+ * Compressions of the bodies of the requests sending the statements
+ */
+@Getter
+public enum RequestCompression {
+	/**
+	 * The statement is sent as is
+	 */
+	NONE("none", null, null) {
+		@Override
+		OutputStream compress(OutputStream out, int maxLength) {
+			return out;
+		}
+	},
+	/**
+	 * The statement is sent in LZ4 blocks with the same framing as the compressed responses
+	 */
+	LZ4("lz4", FireboltQueryParameterKey.DECOMPRESS, null) {
+		@Override
+		OutputStream compress(OutputStream out, int maxLength) {
+			return new LZ4OutputStream(out, Math.max(1, Math.min(LZ4_BLOCK_SIZE, maxLength)));
+		}
+	},
+	/**
+	 * The statement is sent compressed with gzip and the standard Content-Encoding header
+	 */
+	GZIP("gzip", null, "gzip") {
+		@Override
+		OutputStream compress(OutputStream out, int maxLength) throws IOException {
+			return new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+		}
+	};
+
+	// size of the blocks compressed by the server
+	private static final int LZ4_BLOCK_SIZE = 1024 * 1024;
+	private static final int GZIP_BUFFER_SIZE = 8192;
+
+	private final String name;
+	private final FireboltQueryParameterKey queryParameter;
+	private final String contentEncoding;
+
+	RequestCompression(String name, FireboltQueryParameterKey queryParameter, String contentEncoding) {
+		this.name = name;
+		this.queryParameter = queryParameter;
+		this.contentEncoding = contentEncoding;
+	}
+
+	/**
+	 * @return the query parameter set to 1 to tell the server that the body is compressed, empty if none
+	 */
+	public Optional<FireboltQueryParameterKey> getQueryParameter() {
+		return Optional.ofNullable(queryParameter);
+	}
+
+	/**
+	 * @return the value of the Content-Encoding header of the request, empty if the header is not sent
+	 */
+	public Optional<String> getContentEncoding() {
+		return Optional.ofNullable(contentEncoding);
+	}
+
+	/**
+	 * Wraps a stream in a stream compressing the bytes written to it. Closing the returned stream writes the last
+	 * compressed bytes and closes the given stream.
+	 *
+	 * @param out the stream the compressed bytes are written to
+	 * @param maxLength the maximum number of bytes that will be compressed, used to size the buffers
+	 * @return the compressing stream
+	 */
+	abstract OutputStream compress(OutputStream out, int maxLength) throws IOException;
+
+	/**
+	 * Returns the compression with the given name (case-insensitive)
+	 *
+	 * @param name the name of the compression, null for no compression
+	 * @return the compression
+	 * @throws IllegalArgumentException if the compression is not supported
+	 */
+	public static RequestCompression of(String name) {
+		if (name == null || name.isEmpty()) {
+			return NONE;
+		}
+		return Arrays.stream(values()).filter(compression -> compression.name.equalsIgnoreCase(name)).findFirst()
+				.orElseThrow(() -> new IllegalArgumentException(format("Unsupported request compression: %s", name)));
+	}
+}
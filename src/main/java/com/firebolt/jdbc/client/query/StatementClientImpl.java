@@ -6,6 +6,7 @@ import com.firebolt.jdbc.connection.settings.FireboltProperties;
 import com.firebolt.jdbc.connection.settings.FireboltQueryParameterKey;
 import com.firebolt.jdbc.exception.ExceptionType;
 import com.firebolt.jdbc.exception.FireboltException;
+import com.firebolt.jdbc.resultset.decoder.ResultFormat;
 import com.firebolt.jdbc.statement.StatementInfoWrapper;
 import com.firebolt.jdbc.statement.StatementType;
 import com.firebolt.jdbc.statement.rawstatement.RawStatement;
@@ -52,7 +53,6 @@ import static java.util.Optional.ofNullable;
 @CustomLog
 public class StatementClientImpl extends FireboltClient implements StatementClient {
 
-	private static final String TAB_SEPARATED_WITH_NAMES_AND_TYPES_FORMAT = "TabSeparatedWithNamesAndTypes";
 	private static final Map<Pattern, String> missConfigurationErrorMessages = Map.of(
 			Pattern.compile("HTTP status code: 401"), "Please associate user with your service account.",
 			Pattern.compile("Engine .+? does not exist or not authorized"), "Please grant at least one role to user associated your service account."
@@ -63,6 +63,7 @@ public class StatementClientImpl extends FireboltClient implements StatementClie
 	static final String HEADER_UPDATE_PARAMETER = "Firebolt-Update-Parameters";
 	static final String HEADER_UPDATE_ENDPOINT = "Firebolt-Update-Endpoint";
 	static final String HEADER_RESET_SESSION = "Firebolt-Reset-Session";
+	private static final String HEADER_CONTENT_ENCODING = "Content-Encoding";
 
 	private enum QueryIdFetcher {
 		/**
@@ -141,11 +142,13 @@ public class StatementClientImpl extends FireboltClient implements StatementClie
 		QueryIdFetcher.getQueryFetcher(connection.getInfraVersion()).formatStatement(statementInfoWrapper);
 		String formattedStatement = QueryIdFetcher.getQueryFetcher(connection.getInfraVersion()).formatStatement(statementInfoWrapper);
 		Map<String, String> params = getAllParameters(connectionProperties, statementInfoWrapper, systemEngine, queryTimeout);
+		RequestCompression requestCompression = getRequestCompression(connectionProperties, formattedStatement, systemEngine);
+		requestCompression.getQueryParameter().ifPresent(parameter -> params.put(parameter.getKey(), "1"));
 		String label = statementInfoWrapper.getLabel();
 		String errorMessage = format("Error executing statement with label %s: %s", label, formattedStatement);
 		try {
 			String uri = buildQueryUri(connectionProperties, params).toString();
-			return executeSqlStatementWithRetryOnUnauthorized(label, connectionProperties, formattedStatement, uri);
+			return executeSqlStatementWithRetryOnUnauthorized(label, connectionProperties, formattedStatement, uri, requestCompression);
 		} catch (FireboltException e) {
 			throw e;
 		} catch (StreamResetException e) {
@@ -155,24 +158,33 @@ public class StatementClientImpl extends FireboltClient implements StatementClie
 		}
 	}
 
-	private InputStream executeSqlStatementWithRetryOnUnauthorized(String label, @NonNull FireboltProperties connectionProperties, String formattedStatement, String uri)
-			throws IOException, FireboltException {
+	private InputStream executeSqlStatementWithRetryOnUnauthorized(String label, @NonNull FireboltProperties connectionProperties, String formattedStatement, String uri,
+																   RequestCompression requestCompression) throws IOException, FireboltException {
 		try {
 			log.debug("Posting statement with label {} to URI: {}", label, uri);
-			return postSqlStatement(connectionProperties, formattedStatement, uri, label);
+			return postSqlStatement(connectionProperties, formattedStatement, uri, label, requestCompression);
 		} catch (FireboltException exception) {
 			if (exception.getType() == UNAUTHORIZED) {
 				log.debug("Retrying to post statement with label {} following a 401 status code to URI: {}",label, uri);
-				return postSqlStatement(connectionProperties, formattedStatement, uri, label);
+				return postSqlStatement(connectionProperties, formattedStatement, uri, label, requestCompression);
 			} else {
 				throw exception;
 			}
 		}
 	}
 
-	private InputStream postSqlStatement(@NonNull FireboltProperties connectionProperties, String formattedStatement, String uri, String label)
-			throws FireboltException, IOException {
-		Request post = createPostRequest(uri, label, formattedStatement, getConnection().getAccessToken().orElse(null));
+	private InputStream postSqlStatement(@NonNull FireboltProperties connectionProperties, String formattedStatement, String uri, String label,
+										 RequestCompression requestCompression) throws FireboltException, IOException {
+		String accessToken = getConnection().getAccessToken().orElse(null);
+		Request post;
+		if (requestCompression == RequestCompression.NONE) {
+			post = createPostRequest(uri, label, formattedStatement, accessToken);
+		} else {
+			log.debug("Compressing statement with label {} of {} characters with {}", label, formattedStatement.length(), requestCompression.getName());
+			Request.Builder builder = createPostRequest(uri, label, new CompressedRequestBody(formattedStatement, JSON_MEDIA_TYPE, requestCompression), accessToken).newBuilder();
+			requestCompression.getContentEncoding().ifPresent(encoding -> builder.header(HEADER_CONTENT_ENCODING, encoding));
+			post = builder.build();
+		}
 		Response response = execute(post, connectionProperties.getHost(), connectionProperties.isCompress());
 		InputStream is = ofNullable(response.body()).map(ResponseBody::byteStream).orElse(null);
 		if (is == null) {
@@ -304,7 +316,8 @@ public class StatementClientImpl extends FireboltClient implements StatementClie
 
 		Map<String, String> params = new HashMap<>(fireboltProperties.getAdditionalProperties());
 
-		getResponseFormatParameter(statementInfoWrapper.getType() == StatementType.QUERY, isLocalDb)
+		getResponseFormatParameter(statementInfoWrapper.getType() == StatementType.QUERY, isLocalDb,
+				ResultFormat.of(fireboltProperties.getResultFormat()))
 				.ifPresent(format -> params.put(format.getKey(), format.getValue()));
 
 		String accountId = fireboltProperties.getAccountId();
@@ -333,9 +346,20 @@ public class StatementClientImpl extends FireboltClient implements StatementClie
 		return params;
 	}
 
-	private Optional<Entry<String, String>> getResponseFormatParameter(boolean isQuery, boolean isLocalDb) {
+	/**
+	 * @return the compression of the body of the request, none for the statements shorter than the threshold and for
+	 *         the system engine
+	 */
+	private RequestCompression getRequestCompression(FireboltProperties fireboltProperties, String statement, boolean systemEngine) {
+		if (systemEngine || statement.length() < fireboltProperties.getRequestCompressionThreshold()) {
+			return RequestCompression.NONE;
+		}
+		return RequestCompression.of(fireboltProperties.getRequestCompression());
+	}
+
+	private Optional<Entry<String, String>> getResponseFormatParameter(boolean isQuery, boolean isLocalDb, ResultFormat resultFormat) {
 		FireboltQueryParameterKey format = isLocalDb ? DEFAULT_FORMAT : OUTPUT_FORMAT;
-		return isQuery ? Optional.of(Map.entry(format.getKey(), TAB_SEPARATED_WITH_NAMES_AND_TYPES_FORMAT)) : Optional.empty();
+		return isQuery ? Optional.of(Map.entry(format.getKey(), resultFormat.getFormatName())) : Optional.empty();
 	}
 
 	private Map<String, String> getCancelParameters(String statementId) {
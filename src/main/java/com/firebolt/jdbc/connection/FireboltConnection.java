@@ -13,6 +13,8 @@ import com.firebolt.jdbc.exception.FireboltSQLFeatureNotSupportedException;
 import com.firebolt.jdbc.metadata.FireboltDatabaseMetadata;
 import com.firebolt.jdbc.metadata.FireboltSystemEngineDatabaseMetadata;
 import com.firebolt.jdbc.service.FireboltAuthenticationService;
+import com.firebolt.jdbc.resultset.compress.AdaptiveCompression;
+import com.firebolt.jdbc.resultset.decoder.ResultMemoryBudget;
 import com.firebolt.jdbc.service.FireboltStatementService;
 import com.firebolt.jdbc.statement.FireboltStatement;
 import com.firebolt.jdbc.statement.preparedstatement.FireboltPreparedStatement;
@@ -56,6 +58,7 @@ import java.util.regex.Pattern;
 import static java.lang.String.format;
 import static java.sql.ResultSet.CLOSE_CURSORS_AT_COMMIT;
 import static java.sql.ResultSet.TYPE_FORWARD_ONLY;
+import static java.sql.ResultSet.TYPE_SCROLL_INSENSITIVE;
 
 @CustomLog
 public abstract class FireboltConnection extends JdbcBase implements Connection {
@@ -71,6 +74,10 @@ public abstract class FireboltConnection extends JdbcBase implements Connection
 	private final String protocolVersion;
 	protected int infraVersion = 1;
 	private DatabaseMetaData databaseMetaData;
+	// bytes of the results read ahead by the statements of the connection
+	private final ResultMemoryBudget resultMemoryBudget;
+	// decides whether the results of the queries are compressed when adaptive_compression is enabled
+	private final AdaptiveCompression adaptiveCompression = new AdaptiveCompression();
 
 	//Properties that are used at the beginning of the connection for authentication
 	protected final FireboltProperties loginProperties;
@@ -90,6 +97,7 @@ public abstract class FireboltConnection extends JdbcBase implements Connection
 		this.connectionTimeout = loginProperties.getConnectionTimeoutMillis();
 		this.networkTimeout = loginProperties.getSocketTimeoutMillis();
 		this.protocolVersion = protocolVersion;
+		this.resultMemoryBudget = new ResultMemoryBudget(loginProperties.getResultMemoryBudget(), ResultMemoryBudget.global());
 	}
 
 	// This code duplication between constructors is done because of back reference: dependent services require reference to current instance of FireboltConnection that prevents using constructor chaining or factory method.
@@ -106,6 +114,7 @@ public abstract class FireboltConnection extends JdbcBase implements Connection
 		this.connectionTimeout = loginProperties.getConnectionTimeoutMillis();
 		this.networkTimeout = loginProperties.getSocketTimeoutMillis();
 		this.protocolVersion = protocolVersion;
+		this.resultMemoryBudget = new ResultMemoryBudget(loginProperties.getResultMemoryBudget(), ResultMemoryBudget.global());
 	}
 
 	protected abstract FireboltAuthenticationClient createFireboltAuthenticationClient(OkHttpClient httpClient);
@@ -195,15 +204,26 @@ public abstract class FireboltConnection extends JdbcBase implements Connection
 		return sessionProperties;
 	}
 
+	public ResultMemoryBudget getResultMemoryBudget() {
+		return resultMemoryBudget;
+	}
+
+	/**
+	 * @return the controller deciding whether the results of the queries are compressed, with its metrics
+	 */
+	public AdaptiveCompression getAdaptiveCompression() {
+		return adaptiveCompression;
+	}
+
 	@Override
 	public Statement createStatement() throws SQLException {
 		validateConnectionIsNotClose();
-		return createStatement(getSessionProperties());
+		return createStatement(getSessionProperties(), TYPE_FORWARD_ONLY);
 	}
 
-	private Statement createStatement(FireboltProperties fireboltProperties) throws SQLException {
+	private Statement createStatement(FireboltProperties fireboltProperties, int resultSetType) throws SQLException {
 		validateConnectionIsNotClose();
-		FireboltStatement fireboltStatement = new FireboltStatement(fireboltStatementService, fireboltProperties, this);
+		FireboltStatement fireboltStatement = new FireboltStatement(fireboltStatementService, fireboltProperties, this, resultSetType);
 		addStatement(fireboltStatement);
 		return fireboltStatement;
 	}
@@ -279,10 +299,14 @@ public abstract class FireboltConnection extends JdbcBase implements Connection
 	@Override
 	public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
 		validateConnectionIsNotClose();
-		if (resultSetType != TYPE_FORWARD_ONLY || resultSetConcurrency != ResultSet.CONCUR_READ_ONLY) {
+		if (!isSupportedResultSetType(resultSetType) || resultSetConcurrency != ResultSet.CONCUR_READ_ONLY) {
 			throw new FireboltSQLFeatureNotSupportedException();
 		}
-		return createStatement();
+		return createStatement(getSessionProperties(), resultSetType);
+	}
+
+	private static boolean isSupportedResultSetType(int resultSetType) {
+		return resultSetType == TYPE_FORWARD_ONLY || resultSetType == TYPE_SCROLL_INSENSITIVE;
 	}
 
 	@Override
@@ -347,7 +371,7 @@ public abstract class FireboltConnection extends JdbcBase implements Connection
 
 	@Override
 	public PreparedStatement prepareStatement(String sql) throws SQLException {
-		return createPreparedStatement(sql);
+		return createPreparedStatement(sql, TYPE_FORWARD_ONLY);
 	}
 
 	@Override
@@ -359,10 +383,10 @@ public abstract class FireboltConnection extends JdbcBase implements Connection
 	@Override
 	public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
 			throws SQLException {
-		if (resultSetType != TYPE_FORWARD_ONLY) {
+		if (!isSupportedResultSetType(resultSetType) || resultSetConcurrency != ResultSet.CONCUR_READ_ONLY) {
 			throw new FireboltSQLFeatureNotSupportedException();
 		}
-		return prepareStatement(sql);
+		return createPreparedStatement(sql, resultSetType);
 	}
 
 	@Override
@@ -386,9 +410,9 @@ public abstract class FireboltConnection extends JdbcBase implements Connection
 		throw new FireboltSQLFeatureNotSupportedException();
 	}
 
-	private PreparedStatement createPreparedStatement(String sql) throws SQLException {
+	private PreparedStatement createPreparedStatement(String sql, int resultSetType) throws SQLException {
 		validateConnectionIsNotClose();
-		FireboltPreparedStatement statement = new FireboltPreparedStatement(fireboltStatementService, this, sql);
+		FireboltPreparedStatement statement = new FireboltPreparedStatement(fireboltStatementService, getSessionProperties(), this, sql, resultSetType);
 		addStatement(statement);
 		return statement;
 	}
@@ -418,7 +442,7 @@ public abstract class FireboltConnection extends JdbcBase implements Connection
 
 	private void validateConnection(FireboltProperties fireboltProperties, boolean ignoreToManyRequestsError)
 			throws SQLException {
-		try (Statement s = createStatement(fireboltProperties)) {
+		try (Statement s = createStatement(fireboltProperties, TYPE_FORWARD_ONLY)) {
 			s.execute("SELECT 1");
 		} catch (Exception e) {
 			// A connection is not invalid when too many requests are being sent.
@@ -1,5 +1,8 @@
 package com.firebolt.jdbc.connection.settings;
 
+import com.firebolt.jdbc.client.query.RequestCompression;
+import com.firebolt.jdbc.resultset.compress.ChecksumVerification;
+import com.firebolt.jdbc.resultset.decoder.ResultFormat;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.CustomLog;
@@ -75,6 +78,17 @@ public class FireboltProperties {
 	private final String userDrivers;
 	private final String userClients;
 	private final String accessToken;
+	private final String resultFormat;
+	private final boolean prefetch;
+	private final int decodingThreads;
+	private final long resultMemoryBudget;
+	private final boolean pipelinedDecompression;
+	private final String checksumVerification;
+	private final boolean adaptiveCompression;
+	private final String requestCompression;
+	// the same default as the parsed properties for the properties built from scratch
+	@Builder.Default
+	private final int requestCompressionThreshold = (Integer) FireboltSessionProperty.REQUEST_COMPRESSION_THRESHOLD.getDefaultValue();
 	@Builder.Default
 	private Map<String, String> initialAdditionalProperties = new HashMap<>();
 	@Builder.Default
@@ -115,11 +129,41 @@ public class FireboltProperties {
 		host = getHost(configuredEnvironment, properties);
 		port = getPort(properties, ssl);
 		accessToken =  getSetting(properties, FireboltSessionProperty.ACCESS_TOKEN);
+		resultFormat = getResultFormat(properties);
+		prefetch = getSetting(properties, FireboltSessionProperty.PREFETCH);
+		decodingThreads = getSetting(properties, FireboltSessionProperty.DECODING_THREADS);
+		resultMemoryBudget = getSetting(properties, FireboltSessionProperty.RESULT_MEMORY_BUDGET);
+		pipelinedDecompression = getSetting(properties, FireboltSessionProperty.PIPELINED_DECOMPRESSION);
+		checksumVerification = getChecksumVerification(properties);
+		adaptiveCompression = getSetting(properties, FireboltSessionProperty.ADAPTIVE_COMPRESSION);
+		requestCompression = getRequestCompression(properties);
+		requestCompressionThreshold = getSetting(properties, FireboltSessionProperty.REQUEST_COMPRESSION_THRESHOLD);
 
 		initialAdditionalProperties = getFireboltCustomProperties(properties);
 		runtimeAdditionalProperties = new HashMap<>();
 	}
 
+	private static String getResultFormat(Properties properties) {
+		String format = getSetting(properties, FireboltSessionProperty.RESULT_FORMAT);
+		// fails fast if the format is not supported
+		ResultFormat.of(format);
+		return format;
+	}
+
+	private static String getChecksumVerification(Properties properties) {
+		String verification = getSetting(properties, FireboltSessionProperty.CHECKSUM_VERIFICATION);
+		// fails fast if the verification is not supported
+		ChecksumVerification.of(verification);
+		return verification;
+	}
+
+	private static String getRequestCompression(Properties properties) {
+		String compression = getSetting(properties, FireboltSessionProperty.REQUEST_COMPRESSION);
+		// fails fast if the compression is not supported
+		RequestCompression.of(compression);
+		return compression;
+	}
+
 	private static String getEngine(Properties mergedProperties) {
 		return getSetting(mergedProperties, FireboltSessionProperty.ENGINE);
 	}
@@ -11,6 +11,7 @@ public enum FireboltQueryParameterKey {
 	QUERY_ID("query_id"),
 	QUERY_LABEL("query_label"),
 	COMPRESS("compress"),
+	DECOMPRESS("decompress"),
 	DEFAULT_FORMAT("default_format"),
 	OUTPUT_FORMAT("output_format"),
 	ACCOUNT_ID("account_id"),
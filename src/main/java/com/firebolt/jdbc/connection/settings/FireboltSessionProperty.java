@@ -59,6 +59,24 @@ public enum FireboltSessionProperty {
 	USER_CLIENTS("user_clients", null, String.class, "user clients"),
 	ACCESS_TOKEN("access_token", null, String.class, "access token"),
 	ENVIRONMENT("environment", "app", String.class, "Firebolt environment", "env"),
+	RESULT_FORMAT("result_format", null, String.class,
+			"Format of the results of the queries: TabSeparatedWithNamesAndTypes (text, the default) or RowBinaryWithNamesAndTypes (binary)"),
+	PREFETCH("prefetch", false, Boolean.class,
+			"Whether the rows of the results are read and decoded in a background thread, in batches of the fetch size of the statement"),
+	DECODING_THREADS("decoding_threads", 0, Integer.class,
+			"Number of chunks of the results in the format TabSeparatedWithNamesAndTypes decoded into rows in parallel, by threads shared by all the results (one per processor). Set to 0 to decode the rows in the thread reading the results"),
+	PIPELINED_DECOMPRESSION("pipelined_decompression", false, Boolean.class,
+			"Whether the compressed blocks of the results are read and decompressed in a background thread while the rows of the previous blocks are read"),
+	CHECKSUM_VERIFICATION("checksum_verification", null, String.class,
+			"Checksums of the compressed blocks of the results that are verified: full (every block, the default), sampled (one block out of 16) or none (for trusted networks only)"),
+	ADAPTIVE_COMPRESSION("adaptive_compression", false, Boolean.class,
+			"Whether the driver decides for each query whether its result is compressed, from the sizes of the previous results of the statement, the throughput of the network and the decompression speed measured on the connection. Only used when compress is enabled"),
+	REQUEST_COMPRESSION("request_compression", null, String.class,
+			"Compression of the statements sent to the server when they are longer than request_compression_threshold: none (the default), lz4 (same framing as the compressed results) or gzip (standard Content-Encoding)"),
+	REQUEST_COMPRESSION_THRESHOLD("request_compression_threshold", 1024 * 1024, Integer.class,
+			"Minimum number of characters of a statement compressed with request_compression"),
+	RESULT_MEMORY_BUDGET("result_memory_budget", 0L, Long.class,
+			"Maximum number of bytes of the results of the connection read ahead in background threads (see prefetch and decoding_threads). Set to 0 for no limit other than the one of the system property firebolt.jdbc.result_memory_budget"),
 	// We keep all the deprecated properties to ensure backward compatibility - but
 	// they do not have any effect.
 	@Deprecated
@@ -0,0 +1,19 @@
+package com.firebolt.jdbc.exception;
+
+import java.sql.SQLException;
+
+/**
+ * Wraps a {@link SQLException} thrown where checked exceptions are not allowed, for example while consuming a
+ * {@link java.util.stream.Stream} of rows
+ */
+public class UncheckedSQLException extends RuntimeException {
+
+	public UncheckedSQLException(SQLException cause) {
+		super(cause.getMessage(), cause);
+	}
+
+	@Override
+	public synchronized SQLException getCause() {
+		return (SQLException) super.getCause();
+	}
+}
@@ -142,6 +142,7 @@ import static com.firebolt.jdbc.type.FireboltDataType.TIMESTAMP;
 import static com.firebolt.jdbc.type.FireboltDataType.TUPLE;
 import static java.lang.String.format;
 import static java.sql.ResultSet.TYPE_FORWARD_ONLY;
+import static java.sql.ResultSet.TYPE_SCROLL_INSENSITIVE;
 import static java.sql.Types.VARCHAR;
 import static java.util.Map.entry;
 import static java.util.regex.Pattern.CASE_INSENSITIVE;
@@ -1054,12 +1055,12 @@ public class FireboltDatabaseMetadata implements DatabaseMetaData {
 
 	@Override
 	public boolean supportsResultSetType(int type) throws SQLException {
-		return TYPE_FORWARD_ONLY == type;
+		return TYPE_FORWARD_ONLY == type || TYPE_SCROLL_INSENSITIVE == type;
 	}
 
 	@Override
 	public boolean supportsResultSetConcurrency(int type, int concurrency) throws SQLException {
-		return type == ResultSet.TYPE_FORWARD_ONLY && concurrency == ResultSet.CONCUR_READ_ONLY;
+		return supportsResultSetType(type) && concurrency == ResultSet.CONCUR_READ_ONLY;
 	}
 
 	/*
@@ -1,119 +1,137 @@
 package com.firebolt.jdbc.resultset;
 
+import java.lang.invoke.MethodType;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TimeZone;
 
+import com.firebolt.jdbc.CheckedBiFunction;
 import com.firebolt.jdbc.CheckedTriFunction;
 import com.firebolt.jdbc.exception.FireboltException;
 import com.firebolt.jdbc.resultset.column.Column;
 import com.firebolt.jdbc.type.BaseType;
-import com.firebolt.jdbc.type.date.SqlDateUtil;
+import com.firebolt.jdbc.type.date.TimestampUtil;
 
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class FieldTypeConverter {
 
-	private static final Map<Class<?>, CheckedTriFunction<String, BaseType, Column, ?>> CLASS_TO_CONVERT_FUNCTION;
+	private static final Map<Class<?>, Converter> CLASS_TO_CONVERTER = new HashMap<>();
+	// the converter of each class including the primitive types, resolved once per class
+	private static final ClassValue<Converter> CONVERTERS = new ClassValue<>() {
+		@Override
+		protected Converter computeValue(Class<?> type) {
+			return CLASS_TO_CONVERTER.get(type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type);
+		}
+	};
 
 	private static final String CONVERSION_NOT_SUPPORTED_EXCEPTION = "conversion to %s from %s not supported";
 
 	static {
-		CLASS_TO_CONVERT_FUNCTION = new HashMap<>();
-
-		CLASS_TO_CONVERT_FUNCTION.put(String.class, (value, columnType, column) -> {
-			verify(String.class, columnType, BaseType.TEXT);
-			return BaseType.TEXT.transform(value, column);
-		});
-		CLASS_TO_CONVERT_FUNCTION.put(Integer.class, (value, columnType, column) -> {
-			verify(Integer.class, columnType, BaseType.INTEGER, BaseType.SHORT);
-			return BaseType.INTEGER.transform(value, column);
-		});
-		CLASS_TO_CONVERT_FUNCTION.put(Long.class, (value, columnType, column) -> {
-			verify(Long.class, columnType, BaseType.INTEGER, BaseType.SHORT, BaseType.LONG);
-			return BaseType.LONG.transform(value, column);
-		});
-		CLASS_TO_CONVERT_FUNCTION.put(Double.class, (value, columnType, column) -> {
-			verify(Double.class, columnType, BaseType.DOUBLE, BaseType.REAL, BaseType.INTEGER, BaseType.SHORT, BaseType.LONG, BaseType.BIGINT);
-			return BaseType.DOUBLE.transform(value, column);
-		});
-		CLASS_TO_CONVERT_FUNCTION.put(Boolean.class, (value, columnType, column) -> {
-			verify(Boolean.class, columnType, BaseType.BOOLEAN);
-			return BaseType.BOOLEAN.transform(value, column);
-		});
-		CLASS_TO_CONVERT_FUNCTION.put(Short.class, (value, columnType, column) -> {
-			verify(Short.class, columnType, BaseType.SHORT);
-			return BaseType.SHORT.transform(value, column);
-		});
-		CLASS_TO_CONVERT_FUNCTION.put(BigInteger.class, (value, columnType, column) -> {
-			verify(BigInteger.class, columnType, BaseType.INTEGER, BaseType.SHORT, BaseType.LONG, BaseType.BIGINT);
-			return BaseType.BIGINT.transform(value, column);
-		});
-		CLASS_TO_CONVERT_FUNCTION.put(Float.class, (value, columnType, column) -> {
-			verify(Float.class, columnType, BaseType.REAL, BaseType.INTEGER, BaseType.SHORT, BaseType.LONG, BaseType.BIGINT);
-			return BaseType.REAL.transform(value, column);
-		});
-		CLASS_TO_CONVERT_FUNCTION.put(BigDecimal.class, (value, columnType, column) -> {
-			verify(BigDecimal.class, columnType, BaseType.BIGINT, BaseType.NUMERIC, BaseType.INTEGER, BaseType.REAL,
-					BaseType.DOUBLE);
-			return BaseType.NUMERIC.transform(value, column);
-		});
-		CLASS_TO_CONVERT_FUNCTION.put(Date.class, (value, columnType, column) -> {
-			verify(Date.class, columnType, BaseType.DATE);
-			return BaseType.DATE.transform(value, column);
-		});
-		CLASS_TO_CONVERT_FUNCTION.put(Time.class, (value, columnType, column) -> {
-			verify(Time.class, columnType, BaseType.TIME);
-			return BaseType.TIME.transform(value, column);
-		});
-		CLASS_TO_CONVERT_FUNCTION.put(Timestamp.class, (value, columnType, column) -> {
-			verify(Timestamp.class, columnType, BaseType.TIMESTAMP, BaseType.TIMESTAMP_WITH_TIMEZONE);
-			return BaseType.TIMESTAMP.transform(value, column);
-		});
-		CLASS_TO_CONVERT_FUNCTION.put(Array.class, (value, columnType, column) -> {
-			verify(Array.class, columnType, BaseType.ARRAY);
-			return BaseType.ARRAY.transform(value, column);
-		});
-		CLASS_TO_CONVERT_FUNCTION.put(OffsetDateTime.class, (value, columnType, column) -> {
-			verify(OffsetDateTime.class, columnType, BaseType.DATE, BaseType.TIMESTAMP,
-					BaseType.TIMESTAMP_WITH_TIMEZONE);
-			Timestamp ts = BaseType.TIMESTAMP.transform(value, column);
-			return SqlDateUtil.transformFromTimestampToOffsetDateTime.apply(ts);
-		});
-		CLASS_TO_CONVERT_FUNCTION.put(Object.class, (value, columnType, column) -> {
-			verify(Object.class, columnType, BaseType.OBJECT, BaseType.NULL);
-			return BaseType.OBJECT.transform(value, column);
-		});
-		CLASS_TO_CONVERT_FUNCTION.put(byte[].class, (value, columnType, column) -> {
+		register(String.class, (value, columnType, column) -> BaseType.TEXT.transform(value, column), BaseType.TEXT);
+		register(Integer.class, (value, columnType, column) -> BaseType.INTEGER.transform(value, column),
+				BaseType.INTEGER, BaseType.SHORT);
+		register(Long.class, (value, columnType, column) -> BaseType.LONG.transform(value, column), BaseType.INTEGER,
+				BaseType.SHORT, BaseType.LONG);
+		register(Double.class, (value, columnType, column) -> BaseType.DOUBLE.transform(value, column),
+				BaseType.DOUBLE, BaseType.REAL, BaseType.INTEGER, BaseType.SHORT, BaseType.LONG, BaseType.BIGINT);
+		register(Boolean.class, (value, columnType, column) -> BaseType.BOOLEAN.transform(value, column),
+				BaseType.BOOLEAN);
+		register(Short.class, (value, columnType, column) -> BaseType.SHORT.transform(value, column), BaseType.SHORT);
+		register(BigInteger.class, (value, columnType, column) -> BaseType.BIGINT.transform(value, column),
+				BaseType.INTEGER, BaseType.SHORT, BaseType.LONG, BaseType.BIGINT);
+		register(Float.class, (value, columnType, column) -> BaseType.REAL.transform(value, column), BaseType.REAL,
+				BaseType.INTEGER, BaseType.SHORT, BaseType.LONG, BaseType.BIGINT);
+		register(BigDecimal.class, (value, columnType, column) -> BaseType.NUMERIC.transform(value, column),
+				BaseType.BIGINT, BaseType.NUMERIC, BaseType.INTEGER, BaseType.REAL, BaseType.DOUBLE);
+		register(Date.class, (value, columnType, column) -> BaseType.DATE.transform(value, column), BaseType.DATE);
+		register(Time.class, (value, columnType, column) -> BaseType.TIME.transform(value, column), BaseType.TIME);
+		register(Timestamp.class, (value, columnType, column) -> BaseType.TIMESTAMP.transform(value, column),
+				BaseType.TIMESTAMP, BaseType.TIMESTAMP_WITH_TIMEZONE);
+		register(Array.class, (value, columnType, column) -> BaseType.ARRAY.transform(value, column), BaseType.ARRAY);
+		register(OffsetDateTime.class,
+				(value, columnType, column) -> transformDateTime(value, column, TimestampUtil::toOffsetDateTime),
+				BaseType.DATE, BaseType.TIMESTAMP, BaseType.TIMESTAMP_WITH_TIMEZONE);
+		register(ZonedDateTime.class,
+				(value, columnType, column) -> transformDateTime(value, column, TimestampUtil::toZonedDateTime),
+				BaseType.DATE, BaseType.TIMESTAMP, BaseType.TIMESTAMP_WITH_TIMEZONE);
+		register(Instant.class, (value, columnType, column) -> transformDateTime(value, column, TimestampUtil::toInstant),
+				BaseType.DATE, BaseType.TIMESTAMP, BaseType.TIMESTAMP_WITH_TIMEZONE);
+		register(LocalDateTime.class,
+				(value, columnType, column) -> transformDateTime(value, column, TimestampUtil::toLocalDateTime),
+				BaseType.DATE, BaseType.TIMESTAMP, BaseType.TIMESTAMP_WITH_TIMEZONE);
+		register(LocalDate.class,
+				(value, columnType, column) -> transformDateTime(value, column, TimestampUtil::toLocalDate),
+				BaseType.DATE, BaseType.TIMESTAMP, BaseType.TIMESTAMP_WITH_TIMEZONE);
+		register(Object.class, (value, columnType, column) -> BaseType.OBJECT.transform(value, column),
+				BaseType.OBJECT, BaseType.NULL);
+		register(byte[].class, (value, columnType, column) -> {
 			if (columnType == BaseType.BYTEA) {
-				verify(byte[].class, columnType, BaseType.BYTEA);
 				return BaseType.BYTEA.transform(value, column);
 			} else {
 				return Optional.ofNullable(value).map(v -> BaseType.isNull(v) ? null : v).map(String::getBytes)
 						.orElse(null);
 			}
-		});
+		}, BaseType.values());
 	}
 
-	private static <T> void verify(Class<T> toType, BaseType columnBaseType, BaseType... supportedTypes)
-			throws FireboltException {
-		if (Arrays.stream(supportedTypes).noneMatch(b -> b.equals(columnBaseType))) {
-			throw new FireboltException(
-					String.format(CONVERSION_NOT_SUPPORTED_EXCEPTION, toType, columnBaseType.getType().getName()));
+	private static void register(Class<?> type, CheckedTriFunction<String, BaseType, Column, ?> convertFunction,
+			BaseType... supportedTypes) {
+		CLASS_TO_CONVERTER.put(type, new Converter(type, convertFunction, EnumSet.copyOf(Arrays.asList(supportedTypes))));
+	}
+
+	/**
+	 * Parses the value directly to a type of java.time, the values without offset being in the time zone of the column
+	 * or in UTC
+	 */
+	private static <T> T transformDateTime(String value, Column column,
+			CheckedBiFunction<String, TimeZone, T> parseFunction) throws SQLException {
+		if (value == null || BaseType.isNull(value)) {
+			return null;
 		}
+		TimeZone timeZone = column == null ? null : column.getType().getTimeZone();
+		return parseFunction.apply(value, timeZone);
 	}
 
 	static <T> T convert(Class<T> type, String value, BaseType columnType, Column column) throws SQLException {
-		if (!CLASS_TO_CONVERT_FUNCTION.containsKey(type)) {
+		Converter converter = CONVERTERS.get(type);
+		if (converter == null) {
 			throw new FireboltException(
 					String.format(CONVERSION_NOT_SUPPORTED_EXCEPTION, type.getName(), columnType.getType().getName()));
 		}
-		return (T) CLASS_TO_CONVERT_FUNCTION.get(type).apply(value, columnType, column);
+		if (!converter.supportedTypes.contains(columnType)) {
+			throw new FireboltException(String.format(CONVERSION_NOT_SUPPORTED_EXCEPTION, converter.type,
+					columnType.getType().getName()));
+		}
+		return (T) converter.convertFunction.apply(value, columnType, column);
+	}
+
+	/**
+	 * Converts the values to a class from the column types in {@link #supportedTypes}
+	 */
+	private static final class Converter {
+		private final Class<?> type;
+		private final CheckedTriFunction<String, BaseType, Column, ?> convertFunction;
+		private final Set<BaseType> supportedTypes;
+
+		private Converter(Class<?> type, CheckedTriFunction<String, BaseType, Column, ?> convertFunction,
+				Set<BaseType> supportedTypes) {
+			this.type = type;
+			this.convertFunction = convertFunction;
+			this.supportedTypes = supportedTypes;
+		}
 	}
 }
@@ -7,30 +7,36 @@ import com.firebolt.jdbc.annotation.NotImplemented;
 import com.firebolt.jdbc.exception.ExceptionType;
 import com.firebolt.jdbc.exception.FireboltException;
 import com.firebolt.jdbc.exception.FireboltSQLFeatureNotSupportedException;
+import com.firebolt.jdbc.exception.UncheckedSQLException;
 import com.firebolt.jdbc.resultset.column.Column;
-import com.firebolt.jdbc.resultset.column.ColumnType;
 import com.firebolt.jdbc.resultset.compress.LZ4InputStream;
+import com.firebolt.jdbc.resultset.decoder.ColumnDecoder;
+import com.firebolt.jdbc.resultset.decoder.ParallelResultDecoder;
+import com.firebolt.jdbc.resultset.decoder.PrefetchResultDecoder;
+import com.firebolt.jdbc.resultset.decoder.ResultDecoder;
+import com.firebolt.jdbc.resultset.decoder.ResultFormat;
+import com.firebolt.jdbc.resultset.decoder.ResultMemoryBudget;
+import com.firebolt.jdbc.resultset.decoder.RowArrayResultDecoder;
+import com.firebolt.jdbc.resultset.decoder.ScrollableResultDecoder;
 import com.firebolt.jdbc.statement.FireboltStatement;
 import com.firebolt.jdbc.type.BaseType;
-import com.firebolt.jdbc.type.FireboltDataType;
-import com.firebolt.jdbc.type.array.FireboltArray;
-import com.firebolt.jdbc.type.array.SqlArrayUtil;
+import com.firebolt.jdbc.util.CloseableUtil;
 import com.firebolt.jdbc.util.LoggerUtil;
 import lombok.CustomLog;
-import org.apache.commons.text.StringEscapeUtils;
 
 import javax.sql.rowset.serial.SerialBlob;
 import javax.sql.rowset.serial.SerialClob;
-import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.sql.Array;
@@ -47,7 +53,7 @@ import java.sql.SQLXML;
 import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Map;
@@ -55,85 +61,139 @@ import java.util.TimeZone;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-import static com.firebolt.jdbc.type.BaseType.isNull;
-import static com.firebolt.jdbc.util.StringUtil.splitAll;
 import static java.lang.String.CASE_INSENSITIVE_ORDER;
 import static java.lang.String.format;
-import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Optional.ofNullable;
 
 /**
- * ResultSet for InputStream using the format "TabSeparatedWithNamesAndTypes"
+ * ResultSet for InputStream using one of the formats of {@link ResultFormat} ("TabSeparatedWithNamesAndTypes" by
+ * default)
  */
 @CustomLog
 public class FireboltResultSet extends JdbcBase implements ResultSet {
+	// number of rows read by nextRows before the array of the rows grows
+	private static final int INITIAL_ROWS_CAPACITY = 1024;
 	private static final String FORWARD_ONLY_ERROR = "Cannot call %s() for ResultSet of type TYPE_FORWARD_ONLY";
-	private static final int DEFAULT_CHAR_BUFFER_SIZE = 8192; // the default of BufferedReader
-	private final BufferedReader reader;
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+	// number of rows prefetched at once when the fetch size is not set
+	private static final int DEFAULT_PREFETCH_SIZE = 1024;
+	private final ResultDecoder decoder;
+	// not null when the result set is of type TYPE_SCROLL_INSENSITIVE
+	private final ScrollableResultDecoder scrollableDecoder;
 	private final Map<String, Integer> columnNameToColumnNumber;
 	private final FireboltResultSetMetaData resultSetMetaData;
 	private final FireboltStatement statement;
 	private final List<Column> columns;
+	private final ColumnDecoder[] columnDecoders;
 	private final int maxRows;
 	private final int maxFieldSize;
-	private String currentLine;
+	private int fetchSize;
+	private int fetchDirection = ResultSet.FETCH_FORWARD;
 	private int currentRow = 0;
-	private int lastSplitRow = -1;
 	private boolean isClosed = false;
-	private String[] arr = new String[0];
-
-	private String lastReadValue = null;
+	private boolean columnRead = false;
+	private boolean lastReadValueNull = false;
 
 	public FireboltResultSet(InputStream is, String tableName, String dbName, int bufferSize, boolean isCompressed,
 							 FireboltStatement statement, boolean logResultSet) throws SQLException {
+		this(is, tableName, dbName, bufferSize, isCompressed, statement, logResultSet, FireboltResultSetOptions.DEFAULT);
+	}
+
+	/**
+	 * @param options how the response is read and decoded
+	 */
+	public FireboltResultSet(InputStream is, String tableName, String dbName, int bufferSize, boolean isCompressed,
+							 FireboltStatement statement, boolean logResultSet, FireboltResultSetOptions options) throws SQLException {
 		log.debug("Creating resultSet...");
 		this.statement = statement;
 		if (logResultSet) {
 			is = LoggerUtil.logInputStream(is);
 		}
 
-		this.reader = createStreamReader(is, bufferSize, isCompressed);
+		int resultSetType = TYPE_FORWARD_ONLY;
 		if (statement == null) {
 			this.maxRows = 0;
 			this.maxFieldSize = 0;
 		} else {
 			this.maxRows = statement.getMaxRows();
 			this.maxFieldSize = statement.getMaxFieldSize();
+			this.fetchSize = statement.getFetchSize();
+			resultSetType = statement.getResultSetType();
+		}
+		InputStream response = is;
+		if (isCompressed) {
+			response = LZ4InputStream.create(is, options.isPipelinedDecompression(), options.getChecksumVerification());
+		}
+		ResultFormat resultFormat = options.getResultFormat();
+		ResultMemoryBudget resultMemoryBudget = options.getResultMemoryBudget();
+		boolean parallel = options.getDecodingThreads() > 0 && resultSetType != TYPE_SCROLL_INSENSITIVE;
+		if (parallel && resultFormat != ResultFormat.TAB_SEPARATED_WITH_NAMES_AND_TYPES) {
+			log.debug("Ignoring decoding_threads as the rows of a response in the format {} cannot be split", resultFormat.getFormatName());
+			parallel = false;
+		}
+		if (resultSetType == TYPE_SCROLL_INSENSITIVE) {
+			this.scrollableDecoder = new ScrollableResultDecoder(resultFormat.createDecoder(response, bufferSize, maxFieldSize), maxRows);
+			this.decoder = scrollableDecoder;
+		} else if (parallel) {
+			this.scrollableDecoder = null;
+			this.decoder = new ParallelResultDecoder(response, options.getDecodingThreads(), resultMemoryBudget);
+		} else {
+			ResultDecoder responseDecoder = resultFormat.createDecoder(response, bufferSize, maxFieldSize);
+			this.scrollableDecoder = null;
+			this.decoder = options.isPrefetch() ? new PrefetchResultDecoder(responseDecoder, fetchSize > 0 ? fetchSize : DEFAULT_PREFETCH_SIZE, resultMemoryBudget) : responseDecoder;
 		}
 
 		try {
-			next();
-			String[] fields = toStringArray(currentLine);
-			this.columnNameToColumnNumber = getColumnNamesToIndexes(fields);
-			columns = next() ? getColumns(fields, currentLine) : new ArrayList<>();
+			decoder.readHeader();
+			// the 2 lines of the header are counted as rows
+			currentRow = 2;
+			this.columnNameToColumnNumber = getColumnNamesToIndexes(decoder.getColumnNames());
+			columns = getColumns(decoder.getColumnNames(), decoder.getColumnTypes());
+			columnDecoders = columns.stream().map(column -> ColumnDecoder.of(column, maxFieldSize)).toArray(ColumnDecoder[]::new);
 			resultSetMetaData = new FireboltResultSetMetaData(dbName, tableName, columns);
 		} catch (Exception e) {
 			log.error("Could not create ResultSet: {}", e.getMessage(), e);
+			// stops the threads reading the response in the background, if any
+			CloseableUtil.close(decoder);
 			throw new FireboltException("Cannot read response from DB: error while creating ResultSet ", e);
 		}
 		log.debug("ResultSet created");
 	}
 
+	/**
+	 * Creates a result set reading rows copied from another result set. It has the same columns and does not read any
+	 * stream.
+	 */
+	private FireboltResultSet(FireboltResultSet resultSet, RowArrayResultDecoder rows) {
+		this.statement = null;
+		this.decoder = rows;
+		this.scrollableDecoder = null;
+		this.columnNameToColumnNumber = resultSet.columnNameToColumnNumber;
+		this.resultSetMetaData = resultSet.resultSetMetaData;
+		this.columns = resultSet.columns;
+		this.columnDecoders = resultSet.columnDecoders;
+		this.maxRows = 0;
+		this.maxFieldSize = resultSet.maxFieldSize;
+		this.fetchSize = resultSet.fetchSize;
+		// the 2 lines of the header are counted as rows
+		this.currentRow = 2;
+	}
+
 	public static FireboltResultSet of(QueryResult queryResult) throws SQLException {
 		return new FireboltResultSet(new ByteArrayInputStream(queryResult.toString().getBytes()),
-				queryResult.getTableName(), queryResult.getDatabaseName(), DEFAULT_CHAR_BUFFER_SIZE, false, null, false);
-
-	}
+				queryResult.getTableName(), queryResult.getDatabaseName(), DEFAULT_BUFFER_SIZE, false, null, false);
 
-	private BufferedReader createStreamReader(InputStream is, int bufferSize, boolean isCompressed) {
-		InputStreamReader inputStreamReader;
-		if (isCompressed) {
-			inputStreamReader = new InputStreamReader(new LZ4InputStream(is), UTF_8);
-		} else {
-			inputStreamReader = new InputStreamReader(is, UTF_8);
-		}
-		return new BufferedReader(inputStreamReader, bufferSize);
 	}
 
 	@Override
 	public boolean next() throws SQLException {
 		checkStreamNotClosed();
+		if (scrollableDecoder != null) {
+			return moveTo(scrollableDecoder.getRowIndex() + 1);
+		}
 
 		if (maxRows > 0 && currentRow - 2 >= maxRows) {
 			// if maxRows is configured (>0) and currentRow (minus 2 that is header lines) arrived >= maxRows
@@ -142,33 +202,125 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 		}
 
 		try {
-			currentLine = reader.readLine();
+			boolean hasRow = decoder.next();
 			currentRow++;
+			return hasRow;
 		} catch (IOException e) {
 			throw new SQLException("Error reading result from stream", e);
 		}
+	}
 
-		return currentLine != null;
+	/**
+	 * Reads the next rows into a batch storing the values by column in primitive arrays (see {@link RowBatch}). This
+	 * avoids calling the getters of the result set for each value. The result set is positioned on the last row read
+	 * (or after the last row when the batch is not full), so {@link #next()} and this method can be used alternately.
+	 *
+	 * @param batch the batch to fill, its previous content is discarded
+	 * @return the number of rows read, 0 when there are no more rows
+	 * @throws SQLException if the rows cannot be read
+	 */
+	public int nextBatch(RowBatch batch) throws SQLException {
+		checkStreamNotClosed();
+		batch.reset(columnDecoders);
+		while (!batch.isFull() && next()) {
+			batch.addRow(decoder);
+		}
+		return batch.getRowCount();
+	}
+
+	/**
+	 * Writes the rows that were not read yet as they are in the response of the server (in the format of the result,
+	 * decompressed, without the lines of the header), without decoding them. The names and the types of the columns
+	 * are still available with {@link #getMetaData()}. The result set is after the last row afterwards.
+	 * <p>
+	 * The rows cannot be transferred when they are read ahead (prefetched, split in parallel or scrollable result set,
+	 * see {@link com.firebolt.jdbc.statement.FireboltStatement#executeQueryRaw(String)}) nor when the maximum number of
+	 * rows of the statement is set. The maximum field size of the statement is not applied.
+	 *
+	 * @param out the stream to write to
+	 * @return the number of bytes written
+	 * @throws SQLException if the rows cannot be transferred
+	 */
+	public long transferTo(OutputStream out) throws SQLException {
+		checkRowsCanBeTransferred();
+		try {
+			return decoder.transferTo(out);
+		} catch (IOException e) {
+			throw new SQLException("Error transferring the result", e);
+		}
 	}
 
-	@Override
-	public String getString(int columnIndex) throws SQLException {
-		Column columnInfo = columns.get(columnIndex - 1);
-		if (ofNullable(columnInfo).map(Column::getType).map(ColumnType::getDataType)
-				.filter(t -> t.equals(FireboltDataType.BYTEA)).isPresent()) {
-			// We do not need to escape when the type is BYTEA
-			String hex = getValueAtColumn(columnIndex);
-			if (isNull(hex)) {
-				return null;
+	/**
+	 * Same as {@link #transferTo(OutputStream)} with a channel
+	 */
+	public long transferTo(WritableByteChannel channel) throws SQLException {
+		checkRowsCanBeTransferred();
+		try {
+			return decoder.transferTo(channel);
+		} catch (IOException e) {
+			throw new SQLException("Error transferring the result", e);
+		}
+	}
+
+	/**
+	 * Returns the rows that were not read yet as a stream of objects created by a {@link RowMapper}. The rows are read
+	 * as the stream is consumed. A parallel stream reads the rows in batches, in the order of the result, and maps the
+	 * batches concurrently. The result set must not be used while the stream is consumed and closing the stream closes
+	 * the result set, which releases the response of the server. A {@link SQLException} thrown while the stream is
+	 * consumed is wrapped in an {@link UncheckedSQLException}.
+	 *
+	 * @param rowMapper the mapper of the rows
+	 * @param <T> the type of the objects
+	 * @return the stream of the objects
+	 * @throws SQLException if the result set is closed
+	 */
+	public <T> Stream<T> stream(RowMapper<T> rowMapper) throws SQLException {
+		checkStreamNotClosed();
+		return StreamSupport.stream(new ResultSetSpliterator<>(this, rowMapper, 0), false).onClose(() -> {
+			try {
+				close();
+			} catch (SQLException e) {
+				throw new UncheckedSQLException(e);
 			}
-			int maxHexStringSize = maxFieldSize * 2 + 2;
-			if (maxFieldSize > 0 && maxHexStringSize <= hex.length()) {
-				hex = hex.substring(0, maxHexStringSize);
+		});
+	}
+
+	/**
+	 * Reads the next rows and copies them into a new result set that can be read by another thread. The rows that were
+	 * already copied by the decoder (see {@link ResultDecoder#shareRow()}) are not copied again.
+	 *
+	 * @param count the maximum number of rows to read
+	 * @return the rows read, null if there are no more rows
+	 */
+	FireboltResultSet nextRows(int count) throws SQLException {
+		// the array grows with the rows read as there may be much fewer rows than requested
+		ResultDecoder[] rows = new ResultDecoder[Math.min(count, INITIAL_ROWS_CAPACITY)];
+		int size = 0;
+		while (size < count && next()) {
+			if (size == rows.length) {
+				rows = Arrays.copyOf(rows, (int) Math.min(count, size * 2L));
 			}
-			return hex;
-		} else {
-			return BaseType.TEXT.transform(getValueAtColumn(columnIndex), null, null, maxFieldSize);
+			rows[size++] = decoder.shareRow();
 		}
+		return size == 0 ? null : new FireboltResultSet(this, new RowArrayResultDecoder(decoder.getColumnNames(), decoder.getColumnTypes(), rows, size));
+	}
+
+	/**
+	 * @return the number of rows after the current one, -1 when it is unknown
+	 */
+	long getRemainingRowCount() {
+		if (scrollableDecoder != null) {
+			return Math.max(scrollableDecoder.getRowCount() - scrollableDecoder.getRowIndex() - 1, 0);
+		} else if (decoder instanceof RowArrayResultDecoder) {
+			return ((RowArrayResultDecoder) decoder).getRemainingRowCount();
+		}
+		return -1;
+	}
+
+	@Override
+	public String getString(int columnIndex) throws SQLException {
+		int index = getFieldIndex(columnIndex);
+		return lastReadValueNull ? null : columnDecoders[index].getString(decoder, index);
 	}
 
 	@Override
@@ -178,8 +330,8 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 
 	@Override
 	public int getInt(int columnIndex) throws SQLException {
-		Integer value = BaseType.INTEGER.transform(getValueAtColumn(columnIndex));
-		return value == null ? 0 : value;
+		int index = getFieldIndex(columnIndex);
+		return lastReadValueNull ? 0 : decoder.getInt(index);
 	}
 
 	@Override
@@ -189,14 +341,14 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 
 	@Override
 	public long getLong(int colNum) throws SQLException {
-		Long value = BaseType.LONG.transform(getValueAtColumn(colNum));
-		return value == null ? 0 : value;
+		int index = getFieldIndex(colNum);
+		return lastReadValueNull ? 0 : decoder.getLong(index);
 	}
 
 	@Override
 	public float getFloat(int columnIndex) throws SQLException {
-		Float value = BaseType.REAL.transform(getValueAtColumn(columnIndex));
-		return value == null ? 0 : value;
+		int index = getFieldIndex(columnIndex);
+		return lastReadValueNull ? 0 : decoder.getFloat(index);
 	}
 
 	@Override
@@ -206,8 +358,8 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 
 	@Override
 	public double getDouble(int columnIndex) throws SQLException {
-		Double value = BaseType.DOUBLE.transform(getValueAtColumn(columnIndex));
-		return value == null ? 0 : value;
+		int index = getFieldIndex(columnIndex);
+		return lastReadValueNull ? 0 : decoder.getDouble(index);
 	}
 
 	@Override
@@ -222,14 +374,14 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 
 	@Override
 	public byte getByte(int columnIndex) throws SQLException {
-		return ofNullable(getValueAtColumn(columnIndex)).map(v -> isNull(v) ? null : v)
-				.map(Byte::parseByte).orElse((byte) 0);
+		int index = getFieldIndex(columnIndex);
+		return lastReadValueNull ? 0 : decoder.getByte(index);
 	}
 
 	@Override
 	public short getShort(int columnIndex) throws SQLException {
-		Short value = BaseType.SHORT.transform(getValueAtColumn(columnIndex));
-		return value == null ? 0 : value;
+		int index = getFieldIndex(columnIndex);
+		return lastReadValueNull ? 0 : decoder.getShort(index);
 	}
 
 	@Override
@@ -244,10 +396,8 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 
 	@Override
 	public byte[] getBytes(int colNum) throws SQLException {
-		return ofNullable(getValueAtColumn(colNum))
-				.map(v -> isNull(v) ? null : v)
-				.map(SqlArrayUtil::hexStringToByteArray)
-				.orElse(null);
+		int index = getFieldIndex(colNum);
+		return lastReadValueNull ? null : decoder.getBytes(index);
 	}
 
 	@Override
@@ -259,7 +409,7 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 	public synchronized void close() throws SQLException {
 		if (!isClosed) {
 			try {
-				reader.close();
+				decoder.close();
 				isClosed = true;
 			} catch (IOException e) {
 				throw new SQLException("Could not close data stream when closing ResultSet", e);
@@ -273,13 +423,13 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 
 	@Override
 	public int getType() {
-		return TYPE_FORWARD_ONLY;
+		return scrollableDecoder == null ? TYPE_FORWARD_ONLY : TYPE_SCROLL_INSENSITIVE;
 	}
 
 	@Override
 	public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
-		String value = getValueAtColumn(columnIndex);
-		return value == null || value.isEmpty() ? null : BaseType.NUMERIC.transform(value);
+		int index = getFieldIndex(columnIndex);
+		return lastReadValueNull ? null : decoder.getBigDecimal(index);
 	}
 
 	@Override
@@ -301,7 +451,7 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 	@Override
 	public Array getArray(int columnIndex) throws SQLException {
 		String value = getValueAtColumn(columnIndex);
-		return BaseType.ARRAY.transform(value, resultSetMetaData.getColumn(columnIndex));
+		return BaseType.ARRAY.transform(value, columnDecoders[columnIndex - 1].getColumn());
 	}
 
 	@Override
@@ -316,8 +466,8 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 
 	@Override
 	public boolean getBoolean(int columnIndex) throws SQLException {
-		Boolean value = BaseType.BOOLEAN.transform(getValueAtColumn(columnIndex), resultSetMetaData.getColumn(columnIndex));
-		return value != null && value;
+		int index = getFieldIndex(columnIndex);
+		return !lastReadValueNull && decoder.getBoolean(index);
 	}
 
 	@Override
@@ -332,9 +482,9 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 
 	@Override
 	public Date getDate(int columnIndex, Calendar calendar) throws SQLException {
-		TimeZone timeZone = calendar != null ? calendar.getTimeZone() : null;
 		String value = getValueAtColumn(columnIndex);
-		return BaseType.DATE.transform(value, resultSetMetaData.getColumn(columnIndex), timeZone, 0);
+		TimeZone timeZone = columnDecoders[columnIndex - 1].getTimeZone(calendar != null ? calendar.getTimeZone() : null);
+		return BaseType.DATE.transform(value, null, timeZone, 0);
 	}
 
 	@Override
@@ -354,9 +504,9 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 
 	@Override
 	public Timestamp getTimestamp(int columnIndex, Calendar calendar) throws SQLException {
-		TimeZone timeZone = calendar != null ? calendar.getTimeZone() : null;
 		String value = getValueAtColumn(columnIndex);
-		return BaseType.TIMESTAMP.transform(value, resultSetMetaData.getColumn(columnIndex), timeZone, 0);
+		TimeZone timeZone = columnDecoders[columnIndex - 1].getTimeZone(calendar != null ? calendar.getTimeZone() : null);
+		return BaseType.TIMESTAMP.transform(value, null, timeZone, 0);
 	}
 
 	@Override
@@ -366,9 +516,9 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 
 	@Override
 	public Time getTime(int columnIndex, Calendar calendar) throws SQLException {
-		TimeZone timeZone = calendar != null ? calendar.getTimeZone() : null;
 		String value = getValueAtColumn(columnIndex);
-		return BaseType.TIME.transform(value, resultSetMetaData.getColumn(columnIndex), timeZone, 0);
+		TimeZone timeZone = columnDecoders[columnIndex - 1].getTimeZone(calendar != null ? calendar.getTimeZone() : null);
+		return BaseType.TIME.transform(value, null, timeZone, 0);
 	}
 
 	@Override
@@ -377,9 +527,8 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 			throw new FireboltException("The type provided is null");
 		}
 		String value = getValueAtColumn(columnIndex);
-		Column column = resultSetMetaData.getColumn(columnIndex);
-		BaseType columnType = column.getType().getDataType().getBaseType();
-		return FieldTypeConverter.convert(type, value, columnType, column);
+		ColumnDecoder columnDecoder = columnDecoders[columnIndex - 1];
+		return FieldTypeConverter.convert(type, value, columnDecoder.getBaseType(), columnDecoder.getColumn());
 	}
 
 	@Override
@@ -404,6 +553,9 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 
 	@Override
 	public int getRow() {
+		if (scrollableDecoder != null && !scrollableDecoder.isOnRow()) {
+			return 0;
+		}
 		return currentRow - 2;
 	}
 
@@ -419,18 +571,8 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 
 	@Override
 	public Object getObject(int columnIndex) throws SQLException {
-		String value = getValueAtColumn(columnIndex);
-		if (isNull(value)) {
-			return null;
-		}
-		Column columnInfo = columns.get(columnIndex - 1);
-		FireboltDataType columnType = columnInfo.getType().getDataType();
-		Object object = columnType.getBaseType().transform(value, columnInfo, columnInfo.getType().getTimeZone(), maxFieldSize);
-		if (columnType == FireboltDataType.ARRAY && object != null) {
-			return ((FireboltArray) object).getArray();
-		} else {
-			return object;
-		}
+		int index = getFieldIndex(columnIndex);
+		return lastReadValueNull ? null : columnDecoders[index].getObject(decoder, index);
 	}
 
 	@Override
@@ -441,16 +583,26 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 	@Override
 	public boolean isBeforeFirst() throws SQLException {
 		checkStreamNotClosed();
-		return currentRow < 3 || !hasNext();
+		return currentRow < 3 && hasNext();
 	}
 
 	@Override
 	public boolean isAfterLast() throws SQLException {
-		return !hasNext() && currentLine == null;
+		if (scrollableDecoder != null) {
+			return scrollableDecoder.getRowCount() > 0 && scrollableDecoder.getRowIndex() == scrollableDecoder.getRowCount();
+		}
+		return currentRow > 3 && !decoder.isOnRow();
 	}
 
-	private boolean hasNext() {
-		return reader.lines().iterator().hasNext();
+	private boolean hasNext() throws SQLException {
+		if (maxRows > 0 && currentRow - 2 >= maxRows) {
+			return false;
+		}
+		try {
+			return decoder.hasNext();
+		} catch (IOException e) {
+			throw new SQLException("Error reading result from stream", e);
+		}
 	}
 
 	@Override
@@ -461,48 +613,50 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 
 	@Override
 	public boolean isLast() throws SQLException {
-		return !hasNext() && currentLine != null;
+		return currentRow > 2 && decoder.isOnRow() && !hasNext();
 	}
 
 	@Override
 	public boolean wasNull() throws SQLException {
 		checkStreamNotClosed();
-		if (lastReadValue == null) {
+		if (!columnRead) {
 			throw new IllegalArgumentException("A column must be read before checking nullability");
 		}
-		return isNull(lastReadValue);
+		return lastReadValueNull;
 	}
 
 	@Override
 	public boolean first() throws SQLException {
-		throw new FireboltException(format(FORWARD_ONLY_ERROR, "first"));
+		checkScrollable("first");
+		return moveTo(0);
 	}
 
 	@Override
 	public boolean last() throws SQLException {
-		throw new FireboltException(format(FORWARD_ONLY_ERROR, "last"));
+		checkScrollable("last");
+		return moveTo(scrollableDecoder.getRowCount() - 1);
 	}
 
-	private String[] toStringArray(String stringToSplit) {
-		if (currentRow != lastSplitRow) {
-			arr = splitAll(stringToSplit, '\t');
-			lastSplitRow = currentRow;
-		}
-		return arr;
-	}
-
-	private List<Column> getColumns(String[] columnNames, String columnTypes) {
-		String[] types = toStringArray(columnTypes);
+	private List<Column> getColumns(String[] columnNames, String[] types) {
 		return IntStream.range(0, types.length)
-				.mapToObj(i -> Column.of(types[i], StringEscapeUtils.unescapeJava(columnNames[i])))
+				.mapToObj(i -> Column.of(types[i], columnNames[i]))
 				.collect(Collectors.toList());
 	}
 
 	private String getValueAtColumn(int columnIndex) throws SQLException {
+		return decoder.getString(getFieldIndex(columnIndex));
+	}
+
+	/**
+	 * Returns the index of the field of the current row containing the value of the column and records if the value is
+	 * null, so it can be checked by {@link #wasNull()}
+	 */
+	private int getFieldIndex(int columnIndex) throws SQLException {
 		checkStreamNotClosed();
-		String value = toStringArray(currentLine)[getColumnIndex(columnIndex)];
-		lastReadValue = value;
-		return value;
+		int index = getColumnIndex(columnIndex);
+		lastReadValueNull = decoder.isNull(index);
+		columnRead = true;
+		return index;
 	}
 
 	private int getColumnIndex(int colNum) throws SQLException {
@@ -526,6 +680,16 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 		}
 	}
 
+	private void checkRowsCanBeTransferred() throws SQLException {
+		checkStreamNotClosed();
+		if (maxRows > 0) {
+			throw new FireboltException("The rows cannot be transferred as they are when the maximum number of rows is set");
+		}
+		if (!decoder.supportsTransfer()) {
+			throw new FireboltException(ResultDecoder.TRANSFER_NOT_SUPPORTED);
+		}
+	}
+
 	private void validateColumnNumber(int columnNumber) throws SQLException {
 		if (columnNumber > columns.size()) {
 			throw new SQLException(
@@ -572,7 +736,8 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 
 	@Override
 	public InputStream getBinaryStream(int columnIndex) throws SQLException {
-		return ofNullable(getBytes(columnIndex)).map(ByteArrayInputStream::new).orElse(null);
+		int index = getFieldIndex(columnIndex);
+		return lastReadValueNull ? null : decoder.getBinaryStream(index);
 	}
 
 	@Override
@@ -607,46 +772,71 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 
 	@Override
 	public void beforeFirst() throws SQLException {
-		throw new FireboltException(format(FORWARD_ONLY_ERROR, "beforeFirst"));
+		checkScrollable("beforeFirst");
+		moveTo(-1);
 	}
 
 	@Override
 	public void afterLast() throws SQLException {
-		throw new FireboltException(format(FORWARD_ONLY_ERROR, "afterLast"));
+		checkScrollable("afterLast");
+		moveTo(scrollableDecoder.getRowCount());
 	}
 
 	@Override
 	public boolean absolute(int row) throws SQLException {
-		throw new FireboltException(format(FORWARD_ONLY_ERROR, "absolute"));
+		checkScrollable("absolute");
+		// a negative row is relative to the end of the result: -1 is the last row
+		return moveTo(row >= 0 ? row - 1 : scrollableDecoder.getRowCount() + row);
 	}
 
 	@Override
-	@NotImplemented
 	public boolean relative(int rows) throws SQLException {
-		throw new FireboltException(format(FORWARD_ONLY_ERROR, "relative"));
+		checkScrollable("relative");
+		return moveTo((int) Math.max(-1, Math.min((long) scrollableDecoder.getRowIndex() + rows, scrollableDecoder.getRowCount())));
 	}
 
 	@Override
-	@NotImplemented
 	public boolean previous() throws SQLException {
-		throw new FireboltException(format(FORWARD_ONLY_ERROR, "previous"));
+		checkScrollable("previous");
+		return moveTo(scrollableDecoder.getRowIndex() - 1);
+	}
+
+	private void checkScrollable(String method) throws SQLException {
+		checkStreamNotClosed();
+		if (scrollableDecoder == null) {
+			throw new FireboltException(format(FORWARD_ONLY_ERROR, method));
+		}
+	}
+
+	private boolean moveTo(int rowIndex) throws SQLException {
+		try {
+			boolean onRow = scrollableDecoder.moveTo(rowIndex);
+			// the 2 lines of the header are counted as rows
+			currentRow = scrollableDecoder.getRowIndex() + 3;
+			return onRow;
+		} catch (IOException e) {
+			throw new SQLException("Error reading result from stream", e);
+		}
 	}
 
 	@Override
 	public int getFetchDirection() throws SQLException {
-		return ResultSet.FETCH_FORWARD;
+		return fetchDirection;
 	}
 
 	@Override
 	public void setFetchDirection(int direction) throws SQLException {
-		if (direction != ResultSet.FETCH_FORWARD) {
+		if (direction != ResultSet.FETCH_FORWARD && (scrollableDecoder == null
+				|| (direction != ResultSet.FETCH_REVERSE && direction != ResultSet.FETCH_UNKNOWN))) {
 			throw new FireboltException(ExceptionType.TYPE_NOT_SUPPORTED);
 		}
+		// only a hint: the rows of a scrollable result set are all available
+		fetchDirection = direction;
 	}
 
 	@Override
 	public int getFetchSize() throws SQLException {
-		return 0; // fetch size is not supported; 0 means unlimited like in PostgreSQL and MySQL
+		return fetchSize;
 	}
 
 	@Override
@@ -655,7 +845,20 @@ public class FireboltResultSet extends JdbcBase implements ResultSet {
 		if (rows < 0) {
 			throw new FireboltException("The number of rows cannot be less than 0");
 		}
-		// Not supported
+		// only a hint: the size of the batches of prefetched rows is chosen when the result set is created
+		fetchSize = rows;
+	}
+
+	/**
+	 * Stops reading the rows in the background when they are prefetched or split in parallel. The rows that were not
+	 * read yet are lost.
+	 */
+	public void stopPrefetching() {
+		if (decoder instanceof PrefetchResultDecoder) {
+			((PrefetchResultDecoder) decoder).stop();
+		} else if (decoder instanceof ParallelResultDecoder) {
+			((ParallelResultDecoder) decoder).stop();
+		}
 	}
 
 	@Override
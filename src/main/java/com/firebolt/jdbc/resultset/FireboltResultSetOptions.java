@@ -0,0 +1,71 @@
+package com.firebolt.jdbc.resultset;
+
+import com.firebolt.jdbc.connection.settings.FireboltProperties;
+import com.firebolt.jdbc.resultset.compress.ChecksumVerification;
+import com.firebolt.jdbc.resultset.compress.PipelinedLZ4InputStream;
+import com.firebolt.jdbc.resultset.decoder.ParallelResultDecoder;
+import com.firebolt.jdbc.resultset.decoder.PrefetchResultDecoder;
+import com.firebolt.jdbc.resultset.decoder.ResultFormat;
+import com.firebolt.jdbc.resultset.decoder.ResultMemoryBudget;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * How a {@link FireboltResultSet} reads and decodes the response of the server
+ */
+@Getter
+@ToString
+@Builder(toBuilder = true)
+public class FireboltResultSetOptions {
+	/**
+	 * The format "TabSeparatedWithNamesAndTypes" read in the thread reading the result
+	 */
+	public static final FireboltResultSetOptions DEFAULT = FireboltResultSetOptions.builder().build();
+
+	@Builder.Default
+	private final ResultFormat resultFormat = ResultFormat.TAB_SEPARATED_WITH_NAMES_AND_TYPES;
+	/**
+	 * True to read and decode the rows in a background thread, in batches of the fetch size of the statement (see
+	 * {@link PrefetchResultDecoder}). Ignored when the result set is scrollable as all the rows are read when it is
+	 * created.
+	 */
+	private final boolean prefetch;
+	/**
+	 * The number of chunks of a response in the format TabSeparatedWithNamesAndTypes decoded into rows in parallel (see
+	 * {@link ParallelResultDecoder}), 0 to decode them in the thread reading the result. Takes precedence over prefetch
+	 * and ignored when the result set is scrollable.
+	 */
+	private final int decodingThreads;
+	/**
+	 * The budget in which the bytes of the rows read in background threads are reserved
+	 */
+	@Builder.Default
+	private final ResultMemoryBudget resultMemoryBudget = ResultMemoryBudget.global();
+	/**
+	 * True to read and decompress the blocks of a compressed response in a background thread (see
+	 * {@link PipelinedLZ4InputStream})
+	 */
+	private final boolean pipelinedDecompression;
+	/**
+	 * The compressed blocks whose checksum is verified
+	 */
+	@Builder.Default
+	private final ChecksumVerification checksumVerification = ChecksumVerification.FULL;
+
+	/**
+	 * @param properties the properties of the connection
+	 * @param resultMemoryBudget the budget of the connection
+	 * @return the options set by the properties
+	 */
+	public static FireboltResultSetOptions of(FireboltProperties properties, ResultMemoryBudget resultMemoryBudget) {
+		return FireboltResultSetOptions.builder()
+				.resultFormat(ResultFormat.of(properties.getResultFormat()))
+				.prefetch(properties.isPrefetch())
+				.decodingThreads(properties.getDecodingThreads())
+				.resultMemoryBudget(resultMemoryBudget)
+				.pipelinedDecompression(properties.isPipelinedDecompression())
+				.checksumVerification(ChecksumVerification.of(properties.getChecksumVerification()))
+				.build();
+	}
+}
@@ -0,0 +1,91 @@
+package com.firebolt.jdbc.resultset;
+
+import com.firebolt.jdbc.exception.UncheckedSQLException;
+
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the rows of a {@link FireboltResultSet} mapped by a {@link RowMapper}. When the number of rows is
+ * unknown, a split reads the next rows into a batch (growing by {@value #BATCH_UNIT} rows at each split like the
+ * spliterators of the JDK built from an iterator) that can be mapped by another thread. When the number of rows is
+ * known (scrollable result sets and batches), a split takes half of the remaining rows.
+ *
+ * @param <T> the type of the objects
+ */
+class ResultSetSpliterator<T> implements Spliterator<T> {
+	private static final int BATCH_UNIT = 1 << 10;
+	private static final int MAX_BATCH = 1 << 25;
+
+	private final FireboltResultSet resultSet;
+	private final RowMapper<T> rowMapper;
+	private final int characteristics;
+	// number of rows not read yet, -1 when unknown
+	private long remaining;
+	private int rowNum;
+	private int batchSize;
+
+	ResultSetSpliterator(FireboltResultSet resultSet, RowMapper<T> rowMapper, int rowNum) {
+		this.resultSet = resultSet;
+		this.rowMapper = rowMapper;
+		this.rowNum = rowNum;
+		this.remaining = resultSet.getRemainingRowCount();
+		this.characteristics = remaining < 0 ? ORDERED : ORDERED | SIZED | SUBSIZED;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		try {
+			if (!resultSet.next()) {
+				remaining = Math.min(remaining, 0);
+				return false;
+			}
+			if (remaining > 0) {
+				remaining--;
+			}
+			action.accept(rowMapper.mapRow(resultSet, rowNum++));
+			return true;
+		} catch (SQLException e) {
+			throw new UncheckedSQLException(e);
+		}
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		int size;
+		if (remaining >= 0) {
+			size = (int) Math.min(remaining / 2, MAX_BATCH);
+		} else {
+			size = batchSize = Math.min(batchSize + BATCH_UNIT, MAX_BATCH);
+		}
+		if (size == 0) {
+			return null;
+		}
+		try {
+			FireboltResultSet rows = resultSet.nextRows(size);
+			if (rows == null) {
+				remaining = Math.min(remaining, 0);
+				return null;
+			}
+			ResultSetSpliterator<T> prefix = new ResultSetSpliterator<>(rows, rowMapper, rowNum);
+			rowNum += (int) prefix.remaining;
+			if (remaining > 0) {
+				remaining -= prefix.remaining;
+			}
+			return prefix;
+		} catch (SQLException e) {
+			throw new UncheckedSQLException(e);
+		}
+	}
+
+	@Override
+	public long estimateSize() {
+		return remaining < 0 ? Long.MAX_VALUE : remaining;
+	}
+
+	@Override
+	public int characteristics() {
+		return characteristics;
+	}
+}
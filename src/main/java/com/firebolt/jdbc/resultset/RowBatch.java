@@ -0,0 +1,271 @@
+package com.firebolt.jdbc.resultset;
+
+import com.firebolt.jdbc.resultset.decoder.ColumnDecoder;
+import com.firebolt.jdbc.resultset.decoder.ResultDecoder;
+import com.firebolt.jdbc.resultset.decoder.TsvResultDecoder;
+import com.firebolt.jdbc.type.FireboltDataType;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Reusable batch of rows filled by {@link FireboltResultSet#nextBatch(RowBatch)}. The values are stored by column in
+ * primitive arrays so they can be processed without calling a getter for each value:
+ * <ul>
+ *     <li>{@link VectorType#INT}: integers of 32 bits at most and booleans (1 for true, 0 for false) in {@link #getInts(int)}</li>
+ *     <li>{@link VectorType#LONG}: integers of 64 bits in {@link #getLongs(int)}</li>
+ *     <li>{@link VectorType#DOUBLE}: floating point numbers in {@link #getDoubles(int)}</li>
+ *     <li>{@link VectorType#BYTES}: all the other types, as the UTF-8 bytes of the value returned by
+ *     {@link java.sql.ResultSet#getString(int)}. The value of the row {@code i} is stored in {@link #getBytes(int)}
+ *     between the offsets {@code i} and {@code i + 1} of {@link #getOffsets(int)}</li>
+ * </ul>
+ * The rows that contain NULL are marked in the bitmap returned by {@link #getNulls(int)} and their value is 0 (or
+ * empty). The columns are numbered from 1 like in {@link java.sql.ResultSet} and the rows from 0. The arrays are reused
+ * by the next batch and can be larger than the number of rows.
+ */
+public class RowBatch {
+	private static final int INITIAL_BYTES_PER_VALUE = 16;
+
+	public enum VectorType {
+		INT, LONG, DOUBLE, BYTES
+	}
+
+	private final int capacity;
+	private int rowCount;
+	private ColumnDecoder[] columns = new ColumnDecoder[0];
+	private VectorType[] types = new VectorType[0];
+	private long[][] nulls = new long[0][];
+	private int[][] ints = new int[0][];
+	private long[][] longs = new long[0][];
+	private double[][] doubles = new double[0][];
+	private int[][] offsets = new int[0][];
+	private byte[][] bytes = new byte[0][];
+
+	/**
+	 * @param capacity the maximum number of rows of the batch
+	 */
+	public RowBatch(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("The capacity of a batch must be greater than 0");
+		}
+		this.capacity = capacity;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return the number of rows of the batch
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	public int getColumnCount() {
+		return columns.length;
+	}
+
+	public VectorType getVectorType(int columnIndex) {
+		return types[checkColumn(columnIndex)];
+	}
+
+	/**
+	 * @return the bitmap of the NULL values of the column: the row {@code i} is NULL when the bit {@code i % 64} of the
+	 * element {@code i / 64} is set
+	 */
+	public long[] getNulls(int columnIndex) {
+		return nulls[checkColumn(columnIndex)];
+	}
+
+	public boolean isNull(int columnIndex, int row) {
+		return (getNulls(columnIndex)[Objects.checkIndex(row, rowCount) >>> 6] & (1L << row)) != 0;
+	}
+
+	public int[] getInts(int columnIndex) {
+		return vector(ints, columnIndex, VectorType.INT);
+	}
+
+	public long[] getLongs(int columnIndex) {
+		return vector(longs, columnIndex, VectorType.LONG);
+	}
+
+	public double[] getDoubles(int columnIndex) {
+		return vector(doubles, columnIndex, VectorType.DOUBLE);
+	}
+
+	/**
+	 * @return the offsets in {@link #getBytes(int)} of the value of each row, followed by the offset of the end of the
+	 * value of the last row
+	 */
+	public int[] getOffsets(int columnIndex) {
+		return vector(offsets, columnIndex, VectorType.BYTES);
+	}
+
+	public byte[] getBytes(int columnIndex) {
+		return vector(bytes, columnIndex, VectorType.BYTES);
+	}
+
+	/**
+	 * Convenience method returning the value of a column of type {@link VectorType#BYTES}
+	 *
+	 * @return the value as returned by {@link java.sql.ResultSet#getString(int)}
+	 */
+	public String getString(int columnIndex, int row) {
+		if (isNull(columnIndex, row)) {
+			return null;
+		}
+		int[] columnOffsets = getOffsets(columnIndex);
+		return new String(getBytes(columnIndex), columnOffsets[row], columnOffsets[row + 1] - columnOffsets[row], UTF_8);
+	}
+
+	/**
+	 * Empties the batch and prepares its vectors for the given columns
+	 */
+	void reset(ColumnDecoder[] columnDecoders) {
+		rowCount = 0;
+		if (Arrays.equals(columns, columnDecoders)) {
+			for (long[] bitmap : nulls) {
+				Arrays.fill(bitmap, 0);
+			}
+			return;
+		}
+		int count = columnDecoders.length;
+		columns = columnDecoders;
+		types = new VectorType[count];
+		nulls = new long[count][];
+		ints = new int[count][];
+		longs = new long[count][];
+		doubles = new double[count][];
+		offsets = new int[count][];
+		bytes = new byte[count][];
+		for (int i = 0; i < count; i++) {
+			types[i] = getVectorType(columnDecoders[i].getDataType());
+			nulls[i] = new long[(capacity + 63) >>> 6];
+			switch (types[i]) {
+				case INT:
+					ints[i] = new int[capacity];
+					break;
+				case LONG:
+					longs[i] = new long[capacity];
+					break;
+				case DOUBLE:
+					doubles[i] = new double[capacity];
+					break;
+				default:
+					offsets[i] = new int[capacity + 1];
+					bytes[i] = new byte[capacity * INITIAL_BYTES_PER_VALUE];
+					break;
+			}
+		}
+	}
+
+	boolean isFull() {
+		return rowCount == capacity;
+	}
+
+	/**
+	 * Adds the current row of the decoder to the batch
+	 */
+	void addRow(ResultDecoder decoder) throws SQLException {
+		int row = rowCount;
+		for (int i = 0; i < types.length; i++) {
+			boolean isNull = decoder.isNull(i);
+			if (isNull) {
+				nulls[i][row >>> 6] |= 1L << row;
+			}
+			switch (types[i]) {
+				case INT:
+					ints[i][row] = isNull ? 0 : getInt(decoder, i);
+					break;
+				case LONG:
+					longs[i][row] = isNull ? 0 : decoder.getLong(i);
+					break;
+				case DOUBLE:
+					doubles[i][row] = isNull ? 0 : decoder.getDouble(i);
+					break;
+				default:
+					addBytes(decoder, i, row, isNull);
+					break;
+			}
+		}
+		rowCount++;
+	}
+
+	private int getInt(ResultDecoder decoder, int index) throws SQLException {
+		return columns[index].getDataType() == FireboltDataType.BOOLEAN ? (decoder.getBoolean(index) ? 1 : 0) : decoder.getInt(index);
+	}
+
+	private void addBytes(ResultDecoder decoder, int index, int row, boolean isNull) throws SQLException {
+		int[] columnOffsets = offsets[index];
+		int start = columnOffsets[row];
+		if (isNull) {
+			columnOffsets[row + 1] = start;
+		} else if (decoder instanceof TsvResultDecoder && isPlainText((TsvResultDecoder) decoder, index)) {
+			// the bytes of the response are the value itself: nothing to unescape or to truncate
+			TsvResultDecoder tsvDecoder = (TsvResultDecoder) decoder;
+			int from = tsvDecoder.getFieldStart(index);
+			int length = tsvDecoder.getFieldEnd(index) - from;
+			System.arraycopy(tsvDecoder.getBuffer(), from, ensureBytes(index, start + length), start, length);
+			columnOffsets[row + 1] = start + length;
+		} else {
+			byte[] value = columns[index].getString(decoder, index).getBytes(UTF_8);
+			System.arraycopy(value, 0, ensureBytes(index, start + value.length), start, value.length);
+			columnOffsets[row + 1] = start + value.length;
+		}
+	}
+
+	private boolean isPlainText(TsvResultDecoder decoder, int index) {
+		if (columns[index].getMaxFieldSize() > 0) {
+			return false;
+		}
+		byte[] buffer = decoder.getBuffer();
+		for (int i = decoder.getFieldStart(index), end = decoder.getFieldEnd(index); i < end; i++) {
+			if (buffer[i] == '\\') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private byte[] ensureBytes(int index, int size) {
+		if (bytes[index].length < size) {
+			bytes[index] = Arrays.copyOf(bytes[index], Math.max(size, bytes[index].length * 2));
+		}
+		return bytes[index];
+	}
+
+	private static VectorType getVectorType(FireboltDataType dataType) {
+		switch (dataType) {
+			case U_INT_8:
+			case INTEGER:
+			case BOOLEAN:
+				return VectorType.INT;
+			case BIG_INT:
+				return VectorType.LONG;
+			case REAL:
+			case DOUBLE_PRECISION:
+				return VectorType.DOUBLE;
+			default:
+				return VectorType.BYTES;
+		}
+	}
+
+	private <T> T vector(T[] vectors, int columnIndex, VectorType type) {
+		int index = checkColumn(columnIndex);
+		if (types[index] != type) {
+			throw new IllegalArgumentException(String.format("The column %d is of type %s and not %s", columnIndex, types[index], type));
+		}
+		return vectors[index];
+	}
+
+	private int checkColumn(int columnIndex) {
+		if (columnIndex < 1 || columnIndex > columns.length) {
+			throw new IndexOutOfBoundsException(String.format("The column %d does not exist", columnIndex));
+		}
+		return columnIndex - 1;
+	}
+}
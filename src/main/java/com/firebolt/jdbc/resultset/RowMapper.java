@@ -0,0 +1,23 @@
+package com.firebolt.jdbc.resultset;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Maps a row of a result set to an object (see {@link FireboltResultSet#stream(RowMapper)})
+ *
+ * @param <T> the type of the objects
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+	/**
+	 * Maps the current row. The implementation must not move the result set.
+	 *
+	 * @param resultSet the result set positioned on the row
+	 * @param rowNum the index of the row in the stream starting from 0
+	 * @return the object of the row
+	 * @throws SQLException if a value cannot be read
+	 */
+	T mapRow(ResultSet resultSet, int rowNum) throws SQLException;
+}
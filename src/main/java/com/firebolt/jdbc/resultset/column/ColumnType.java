@@ -1,6 +1,7 @@
 package com.firebolt.jdbc.resultset.column;
 
 import com.firebolt.jdbc.type.FireboltDataType;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.CustomLog;
 import lombok.EqualsAndHashCode;
@@ -8,8 +9,8 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.Value;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -40,16 +41,46 @@ public class ColumnType {
 	private static final Set<String> TIMEZONES = Arrays.stream(TimeZone.getAvailableIDs())
 			.collect(Collectors.toCollection(HashSet::new));
 	private static final Pattern COMMA_WITH_SPACES = Pattern.compile("\\s*,\\s*");
+	private static final int CACHE_SIZE = 1024;
+	// the column types are immutable so the same instance is shared by all the results with the same type
+	private static final ColumnTypeCache CACHE = new ColumnTypeCache(CACHE_SIZE);
 	@EqualsAndHashCode.Exclude
 	String name;
 	FireboltDataType dataType;
 	boolean nullable;
 	int precision;
 	int scale;
+	// a TimeZone is mutable so the column types shared by the results only give copies of it
+	@Getter(AccessLevel.NONE)
 	TimeZone timeZone;
 	List<ColumnType> innerTypes;
 
+	/**
+	 * Returns the column type of a type returned by the server. The types already parsed are taken from a cache shared
+	 * by all the connections.
+	 *
+	 * @param columnType the type returned by the server
+	 * @return the column type
+	 */
 	public static ColumnType of(String columnType) {
+		return CACHE.get(columnType, ColumnType::parse);
+	}
+
+	/**
+	 * @return the cache of the column types
+	 */
+	public static ColumnTypeCache getCache() {
+		return CACHE;
+	}
+
+	/**
+	 * @return a copy of the time zone of the type, null if it has none
+	 */
+	public TimeZone getTimeZone() {
+		return timeZone == null ? null : (TimeZone) timeZone.clone();
+	}
+
+	private static ColumnType parse(String columnType) {
 		List<ColumnType> innerDataTypes = null;
 		TimeZone timeZone = null;
 		Optional<Entry<Optional<Integer>, Optional<Integer>>> scaleAndPrecisionPair;
@@ -83,7 +114,8 @@ public class ColumnType {
 						.orElse(dataType.getMaxScale()))
 				.precision(scaleAndPrecisionPair.map(Entry::getValue).filter(Optional::isPresent).map(Optional::get)
 						.orElse(dataType.getPrecision()))
-				.timeZone(timeZone).innerTypes(Optional.ofNullable(innerDataTypes).orElse(new ArrayList<>())).build();
+				.timeZone(timeZone).innerTypes(innerDataTypes == null ? List.of() : Collections.unmodifiableList(innerDataTypes))
+				.build();
 	}
 
 	private static boolean isType(FireboltDataType fireboltDataType, String typeWithoutNullKeyword) {
@@ -221,6 +253,17 @@ public class ColumnType {
 		return currentInnerType;
 	}
 
+	public static class ColumnTypeBuilder {
+		/**
+		 * @param timeZone the time zone of the type, copied so that it cannot be modified once the type is built
+		 * @return this builder
+		 */
+		public ColumnTypeBuilder timeZone(TimeZone timeZone) {
+			this.timeZone = timeZone == null ? null : (TimeZone) timeZone.clone();
+			return this;
+		}
+	}
+
 	@Getter
 	@Value
 	private static class ColumnTypeWrapper {
@@ -0,0 +1,122 @@
+package com.firebolt.jdbc.resultset.column;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of the column types by the type returned by the server (see {@link ColumnType#of(String)}). The types
+ * are found without locking. When the cache is full, a type that was not used since the last eviction is evicted: the
+ * types used since then are skipped once (second chance), which approximates evicting the least recently used type.
+ */
+public class ColumnTypeCache {
+	private final ConcurrentMap<String, CachedType> types = new ConcurrentHashMap<>();
+	private final int maxSize;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * @param maxSize the maximum number of types kept in the cache
+	 */
+	ColumnTypeCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the column type from the cache or parses it. The type is not parsed in a function of the map so types
+	 * containing other types can be parsed with the same cache.
+	 *
+	 * @param type the type returned by the server
+	 * @param parser the function parsing the type when it is not in the cache
+	 * @return the column type
+	 */
+	ColumnType get(String type, Function<String, ColumnType> parser) {
+		CachedType cachedType = types.get(type);
+		if (cachedType != null) {
+			hits.increment();
+			cachedType.use();
+			return cachedType.columnType;
+		}
+		misses.increment();
+		ColumnType columnType = parser.apply(type);
+		cachedType = types.putIfAbsent(type, new CachedType(columnType));
+		if (cachedType != null) {
+			return cachedType.columnType;
+		}
+		evict();
+		return columnType;
+	}
+
+	private void evict() {
+		Iterator<CachedType> iterator = types.values().iterator();
+		while (types.size() > maxSize) {
+			if (!iterator.hasNext()) {
+				iterator = types.values().iterator();
+				if (!iterator.hasNext()) {
+					return;
+				}
+			}
+			if (!iterator.next().clearUsed()) {
+				iterator.remove();
+			}
+		}
+	}
+
+	/**
+	 * @return the number of types found in the cache
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return the number of types that had to be parsed
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return the number of types in the cache
+	 */
+	public int size() {
+		return types.size();
+	}
+
+	/**
+	 * Removes all the types from the cache. The counters are not reset.
+	 */
+	public void clear() {
+		types.clear();
+	}
+
+	private static final class CachedType {
+		private final ColumnType columnType;
+		// true if the type was used since the last eviction
+		private volatile boolean used;
+
+		private CachedType(ColumnType columnType) {
+			this.columnType = columnType;
+		}
+
+		private void use() {
+			// only written when needed so that the types used all the time are not written by every thread
+			if (!used) {
+				used = true;
+			}
+		}
+
+		/**
+		 * @return true if the type was used since the last eviction
+		 */
+		private boolean clearUsed() {
+			boolean wasUsed = used;
+			if (wasUsed) {
+				used = false;
+			}
+			return wasUsed;
+		}
+	}
+}
@@ -0,0 +1,292 @@
+package com.firebolt.jdbc.resultset.compress;
+
+import lombok.CustomLog;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides for each query of a connection whether its response is compressed, from what was observed on the previous
+ * responses of the connection:
+ * <ul>
+ * <li>the responses of the statements that returned less than a minimum number of bytes last time are not compressed,
+ * as compressing them costs more than it saves</li>
+ * <li>the other responses are compressed when the bytes saved on the network take longer to transfer than it takes to
+ * decompress the response, i.e. when the decompression speed multiplied by the fraction of bytes saved by the
+ * compression is higher than the throughput of the network</li>
+ * </ul>
+ * The responses are compressed as long as nothing was measured yet. The throughput of the network is measured on all
+ * the responses, without the time waiting for their first bytes; the compression ratio and the decompression speed on
+ * the compressed responses, the latter by the {@link LZ4InputStream} itself since it may decompress in a background
+ * thread. One out of {@value #PROBE_INTERVAL} responses that would not be compressed because of the speeds is
+ * compressed anyway, so that the compression ratio and the decompression speed keep following the responses.
+ */
+@CustomLog
+public class AdaptiveCompression {
+	/**
+	 * Number of bytes of a result under which it is not compressed
+	 */
+	public static final long DEFAULT_MIN_RESULT_BYTES = 64 * 1024L;
+	private static final int MAX_STATEMENTS = 1000;
+	private static final int PROBE_INTERVAL = 16;
+	// weight of the last observation in the moving averages
+	private static final double SMOOTHING = 0.2;
+	private static final double NANOS_PER_SECOND = 1e9;
+
+	private final long minResultBytes;
+	// bytes of the last result of each statement, the statement used the least recently is evicted first
+	private final Map<String, Long> resultSizes;
+	private final LongAdder compressedCount = new LongAdder();
+	private final LongAdder uncompressedCount = new LongAdder();
+	private final LongAdder smallResultCount = new LongAdder();
+	private final LongAdder observedCount = new LongAdder();
+	// responses not compressed because of the speeds since the last one compressed to measure them again
+	private int responsesSinceProbe;
+	// moving averages, 0 as long as nothing was measured
+	private double wireBytesPerNano;
+	private double decompressedBytesPerNano;
+	private double compressionRatio;
+
+	public AdaptiveCompression() {
+		this(DEFAULT_MIN_RESULT_BYTES);
+	}
+
+	/**
+	 * @param minResultBytes the number of bytes of a result under which it is not compressed
+	 */
+	public AdaptiveCompression(long minResultBytes) {
+		this.minResultBytes = minResultBytes;
+		resultSizes = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+				return size() > MAX_STATEMENTS;
+			}
+		};
+	}
+
+	/**
+	 * @param statement the statement sent to the server, before the values of its parameters are set
+	 * @return true if the response of the statement should be compressed
+	 */
+	public synchronized boolean shouldCompress(String statement) {
+		Long resultSize = resultSizes.get(statement);
+		boolean compress;
+		if (resultSize != null && resultSize < minResultBytes) {
+			smallResultCount.increment();
+			compress = false;
+		} else {
+			compress = wireBytesPerNano == 0 || decompressedBytesPerNano == 0 || compressionRatio == 0
+					|| decompressedBytesPerNano * (1 - 1 / compressionRatio) > wireBytesPerNano;
+			if (!compress && ++responsesSinceProbe >= PROBE_INTERVAL) {
+				compress = true;
+			}
+			if (compress) {
+				responsesSinceProbe = 0;
+			}
+		}
+		(compress ? compressedCount : uncompressedCount).increment();
+		log.debug("{} the response of a statement whose last result had {} bytes", compress ? "Compressing" : "Not compressing", resultSize);
+		return compress;
+	}
+
+	/**
+	 * Starts measuring the response of a statement
+	 *
+	 * @param statement the statement sent to the server, before the values of its parameters are set
+	 * @param compressed true if the response is compressed
+	 * @return the observation whose streams measure the response
+	 */
+	public Observation observe(String statement, boolean compressed) {
+		return new Observation(statement, compressed);
+	}
+
+	/**
+	 * @return the number of responses that were compressed
+	 */
+	public long getCompressedCount() {
+		return compressedCount.sum();
+	}
+
+	/**
+	 * @return the number of responses that were not compressed, including the small ones
+	 */
+	public long getUncompressedCount() {
+		return uncompressedCount.sum();
+	}
+
+	/**
+	 * @return the number of responses that were not compressed because the last result of the statement was small
+	 */
+	public long getSmallResultCount() {
+		return smallResultCount.sum();
+	}
+
+	/**
+	 * @return the number of responses measured
+	 */
+	public long getObservedCount() {
+		return observedCount.sum();
+	}
+
+	/**
+	 * @return the average throughput of the network, 0 if not measured yet
+	 */
+	public synchronized double getWireBytesPerSecond() {
+		return wireBytesPerNano * NANOS_PER_SECOND;
+	}
+
+	/**
+	 * @return the average number of decompressed bytes per second of decompression, 0 if not measured yet
+	 */
+	public synchronized double getDecompressedBytesPerSecond() {
+		return decompressedBytesPerNano * NANOS_PER_SECOND;
+	}
+
+	/**
+	 * @return the average ratio between the decompressed and the compressed sizes of the responses, 0 if not
+	 *         measured yet
+	 */
+	public synchronized double getCompressionRatio() {
+		return compressionRatio;
+	}
+
+	private synchronized void record(Observation observation) {
+		observedCount.increment();
+		MeasuredInputStream wire = observation.wire;
+		MeasuredInputStream result = observation.compressed ? observation.result : wire;
+		long resultBytes = result.bytes;
+		Long previous = resultSizes.get(observation.statement);
+		// a result that was not read until its end is at least as big as what was read
+		resultSizes.put(observation.statement, result.endReached || previous == null ? resultBytes : Math.max(previous, resultBytes));
+		if (resultBytes < minResultBytes) {
+			return;
+		}
+		if (wire.nanosAfterFirstRead > 0) {
+			wireBytesPerNano = average(wireBytesPerNano, (double) wire.bytesAfterFirstRead / wire.nanosAfterFirstRead);
+		}
+		if (observation.compressed && wire.bytes > 0) {
+			compressionRatio = average(compressionRatio, (double) resultBytes / wire.bytes);
+			LZ4InputStream decompressor = observation.decompressor;
+			long decompressionNanos = decompressor.getDecompressionNanos();
+			if (decompressionNanos > 0) {
+				decompressedBytesPerNano = average(decompressedBytesPerNano, (double) decompressor.getDecompressedBytes() / decompressionNanos);
+			}
+		}
+	}
+
+	private static double average(double average, double value) {
+		return average == 0 ? value : average + SMOOTHING * (value - average);
+	}
+
+	/**
+	 * Measures of the response of a statement, recorded when the response is closed
+	 */
+	public final class Observation {
+		private final String statement;
+		private final boolean compressed;
+		private MeasuredInputStream wire;
+		private MeasuredInputStream result;
+		private LZ4InputStream decompressor;
+		private boolean recorded;
+
+		private Observation(String statement, boolean compressed) {
+			this.statement = statement;
+			this.compressed = compressed;
+		}
+
+		/**
+		 * @param is the response as read from the network
+		 * @return the stream measuring the response
+		 */
+		public InputStream wire(InputStream is) {
+			wire = new MeasuredInputStream(is, this);
+			return wire;
+		}
+
+		/**
+		 * @param is the decompressed response, reading the stream returned by {@link #wire(InputStream)}
+		 * @return the stream measuring the decompressed response
+		 */
+		public InputStream decompressed(LZ4InputStream is) {
+			decompressor = is;
+			result = new MeasuredInputStream(is, this);
+			return result;
+		}
+
+		private void closed(MeasuredInputStream stream) {
+			// the decompressed stream closes the network stream, the response is recorded once both were read
+			boolean last = compressed ? stream == result : stream == wire;
+			if (last && !recorded && wire != null) {
+				recorded = true;
+				record(this);
+			}
+		}
+	}
+
+	/**
+	 * Counts the bytes read and the time spent reading them. The fields are written by the thread reading the stream,
+	 * which may be a background thread of {@link PipelinedLZ4InputStream}, and read once the stream is closed.
+	 */
+	private static final class MeasuredInputStream extends FilterInputStream {
+		private final Observation observation;
+		private volatile long bytes;
+		private volatile long bytesAfterFirstRead;
+		private volatile long nanosAfterFirstRead;
+		private volatile boolean endReached;
+
+		private MeasuredInputStream(InputStream in, Observation observation) {
+			super(in);
+			this.observation = observation;
+		}
+
+		@Override
+		public int read() throws IOException {
+			long start = System.nanoTime();
+			int b = super.read();
+			measure(b < 0 ? -1 : 1, start);
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			long start = System.nanoTime();
+			int read = super.read(b, off, len);
+			measure(read, start);
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long start = System.nanoTime();
+			long skipped = super.skip(n);
+			measure(skipped, start);
+			return skipped;
+		}
+
+		private void measure(long read, long start) {
+			long elapsed = System.nanoTime() - start;
+			if (read < 0) {
+				endReached = true;
+				return;
+			}
+			if (bytes > 0) {
+				bytesAfterFirstRead += read;
+				nanosAfterFirstRead += elapsed;
+			}
+			bytes += read;
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			} finally {
+				observation.closed(this);
+			}
+		}
+	}
+}
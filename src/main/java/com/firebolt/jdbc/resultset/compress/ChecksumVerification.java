@@ -0,0 +1,64 @@
+package com.firebolt.jdbc.resultset.compress;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+import static java.lang.String.format;
+
+/**
+ * Verification of the checksums of the compressed blocks of a response
+ */
+@Getter
+public enum ChecksumVerification {
+	/**
+	 * The checksum of every block is verified
+	 */
+	FULL("full"),
+	/**
+	 * The checksum of the first block and then of one block out of {@link #SAMPLING_INTERVAL} is verified
+	 */
+	SAMPLED("sampled"),
+	/**
+	 * No checksum is verified, for trusted networks only as corrupted blocks are decompressed as is
+	 */
+	NONE("none");
+
+	public static final int SAMPLING_INTERVAL = 16;
+
+	private final String name;
+
+	ChecksumVerification(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * @param blockIndex the index of the block in the response, starting at 0
+	 * @return true if the checksum of the block must be verified
+	 */
+	public boolean shouldVerify(long blockIndex) {
+		switch (this) {
+		case FULL:
+			return true;
+		case SAMPLED:
+			return blockIndex % SAMPLING_INTERVAL == 0;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the verification with the given name (case-insensitive)
+	 *
+	 * @param name the name of the verification, null for the default one (full)
+	 * @return the verification
+	 * @throws IllegalArgumentException if the name is not supported
+	 */
+	public static ChecksumVerification of(String name) {
+		if (name == null || name.isEmpty()) {
+			return FULL;
+		}
+		return Arrays.stream(values()).filter(verification -> verification.name.equalsIgnoreCase(name)).findFirst()
+				.orElseThrow(() -> new IllegalArgumentException(format("Unsupported checksum verification: %s", name)));
+	}
+}
@@ -26,6 +26,7 @@ OF THE COMPANY YANDEX LLC.
  *  - Remove useless shift and parentheses
  *  - Fix code smells by renaming variable names and how they are instantiated
  *  - Use @UtilityClass annotation
+ *  - Read the words with little-endian VarHandle views and compute the 32-byte rounds without allocating arrays
  *
  */
 
@@ -71,6 +72,11 @@ package com.firebolt.jdbc.resultset.compress;
 
 import lombok.experimental.UtilityClass;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
 /**
  * NOTE: The code is modified to be compatible with CityHash128 used in
  * ClickHouse
@@ -83,23 +89,15 @@ public class CityHash {
 	private static final long K_2 = 0x9ae16a3b2f90404fL;
 	private static final long K_3 = 0xc949d7c7509e6557L;
 	private static final long K_MUL = 0x9ddfea08eb382d69L;
-
-	private static long toLongLE(byte[] b, int i) {
-		return (((long) b[i + 7] << 56) + ((long) (b[i + 6] & 255) << 48) + ((long) (b[i + 5] & 255) << 40)
-				+ ((long) (b[i + 4] & 255) << 32) + ((long) (b[i + 3] & 255) << 24) + ((b[i + 2] & 255) << 16)
-				+ ((b[i + 1] & 255) << 8) + (b[i] & 255));
-	}
-
-	private static long toIntLE(byte[] b, int i) {
-		return (((b[i + 3] & 255L) << 24) + ((b[i + 2] & 255L) << 16) + ((b[i + 1] & 255L) << 8) + (b[i] & 255L));
-	}
+	private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, LITTLE_ENDIAN);
+	private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, LITTLE_ENDIAN);
 
 	private static long fetch64(byte[] s, int pos) {
-		return toLongLE(s, pos);
+		return (long) LONG_LE.get(s, pos);
 	}
 
 	private static long fetch32(byte[] s, int pos) {
-		return toIntLE(s, pos);
+		return Integer.toUnsignedLong((int) INT_LE.get(s, pos));
 	}
 
 	private static int staticCastToInt(byte b) {
@@ -152,20 +150,23 @@ public class CityHash {
 		return K_2;
 	}
 
-	private static long[] weakHashLen32WithSeeds(long w, long x, long y, long z, long a, long b) {
-
+	/**
+	 * Writes the two words of the hash of 32 bytes into {@code result}, which can be one of the arrays the seeds were
+	 * read from
+	 */
+	private static void weakHashLen32WithSeeds(byte[] s, int pos, long a, long b, long[] result) {
+		long w = fetch64(s, pos + 0);
+		long x = fetch64(s, pos + 8);
+		long y = fetch64(s, pos + 16);
+		long z = fetch64(s, pos + 24);
 		a += w;
 		b = rotate(b + a + z, 21);
 		long c = a;
 		a += x;
 		a += y;
 		b += rotate(a, 44);
-		return new long[] { a + z, b + c };
-	}
-
-	private static long[] weakHashLen32WithSeeds(byte[] s, int pos, long a, long b) {
-		return weakHashLen32WithSeeds(fetch64(s, pos + 0), fetch64(s, pos + 8), fetch64(s, pos + 16),
-				fetch64(s, pos + 24), a, b);
+		result[0] = a + z;
+		result[1] = b + c;
 	}
 
 	private static long[] cityMurmur(byte[] s, int pos, int len, long seed0, long seed1) {
@@ -228,8 +229,8 @@ public class CityHash {
 			y ^= v[0];
 
 			z = rotate(z ^ w[0], 33);
-			v = weakHashLen32WithSeeds(s, pos, v[1] * K_1, x + w[0]);
-			w = weakHashLen32WithSeeds(s, pos + 32, z + w[1], y);
+			weakHashLen32WithSeeds(s, pos, v[1] * K_1, x + w[0], v);
+			weakHashLen32WithSeeds(s, pos + 32, z + w[1], y, w);
 
 			{
 				long swap = z;
@@ -242,8 +243,8 @@ public class CityHash {
 			x ^= w[1];
 			y ^= v[0];
 			z = rotate(z ^ w[0], 33);
-			v = weakHashLen32WithSeeds(s, pos, v[1] * K_1, x + w[0]);
-			w = weakHashLen32WithSeeds(s, pos + 32, z + w[1], y);
+			weakHashLen32WithSeeds(s, pos, v[1] * K_1, x + w[0], v);
+			weakHashLen32WithSeeds(s, pos + 32, z + w[1], y, w);
 			{
 				long swap = z;
 				z = x;
@@ -263,7 +264,7 @@ public class CityHash {
 			w[0] += fetch64(s, pos + len - tailDone + 16);
 			x = rotate(x, 49) * K_0 + w[0];
 			w[0] += v[0];
-			v = weakHashLen32WithSeeds(s, pos + len - tailDone, v[0], v[1]);
+			weakHashLen32WithSeeds(s, pos + len - tailDone, v[0], v[1], v);
 		}
 
 		// At this point our 48 bytes of state should contain more than
@@ -281,7 +282,8 @@ public class CityHash {
 		if (len >= 16) {
 			return cityHash128WithSeed(s, pos + 16, len - 16, fetch64(s, pos) ^ K_3, fetch64(s, pos + 8));
 		} else if (len >= 8) {
-			return cityHash128WithSeed(new byte[0], 0, 0, fetch64(s, pos) ^ (len * K_0), fetch64(s, pos + len - 8) ^ K_1);
+			// the seeds already hold all the bytes, nothing is read from the input
+			return cityHash128WithSeed(s, pos, 0, fetch64(s, pos) ^ (len * K_0), fetch64(s, pos + len - 8) ^ K_1);
 		} else {
 			return cityHash128WithSeed(s, pos, len, K_0, K_1);
 		}
@@ -26,87 +26,78 @@ OF THE COMPANY YANDEX LLC.
  *  - Formatting
  *  - Import several readInt and readFully methods from ru.yandex.clickhouse.util.Utils class
  *  - Return an empty array instead of null
+ *  - Decompress into buffers reused for all the blocks and read the headers in bulk
+ *  - Verify the checksums of all the blocks, of a sample of them or of none
+ *  - Measure the time spent verifying and decompressing the blocks
  */
 package com.firebolt.jdbc.resultset.compress;
 
-import java.io.DataInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 import net.jpountz.lz4.LZ4Factory;
 import net.jpountz.lz4.LZ4FastDecompressor;
 
-/** Reader from clickhouse in lz4 */
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Reader from clickhouse in lz4. The compressed and the decompressed blocks are kept in buffers that are reused for
+ * all the blocks of the stream and only grow when a block is bigger than all the previous ones.
+ */
 public class LZ4InputStream extends InputStream {
 
 	public static final int MAGIC = 0x82;
-	private static final LZ4Factory factory = LZ4Factory.fastestInstance();
+	private static final LZ4FastDecompressor decompressor = LZ4Factory.fastestInstance().fastDecompressor();
 	public static final int SPACE = 0x20;
 	private static final BlockChecksum keepalive =
 		BlockChecksum.fromBytes("keepalivekeepali".getBytes(StandardCharsets.UTF_8));
-	private final InputStream stream;
-	private final DataInputStream dataWrapper;
+	private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, LITTLE_ENDIAN);
+	private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, LITTLE_ENDIAN);
+	private static final int CHECKSUM_SIZE = 16;
+	// magic, size of the compressed data with the header and size of the decompressed data
+	private static final int HEADER_SIZE = 9;
+	private static final int INITIAL_BUFFER_SIZE = 8192;
+	final BlockReader reader;
 
-	private byte[] currentBlock = new byte[0];
+	// decompressed data of the current block
+	private Block currentBlock = new Block();
 	private int pointer;
 
 	public LZ4InputStream(InputStream stream) {
-		this.stream = stream;
-		dataWrapper = new DataInputStream(stream);
-	}
-
-	// This method was picked from ru.yandex.clickhouse.util.Utils
-	private static void readFully(DataInputStream in, byte[] b, int off, int len) throws IOException {
-		Objects.requireNonNull(in);
-		Objects.requireNonNull(b);
-		if (len < 0 || off < 0) {
-			throw new IndexOutOfBoundsException(
-					String.format("length (%s) and offset (%s) cannot be negative", len, off));
-		}
-		int end = off + len;
-		if (end < off || end > b.length) {
-			throw new IndexOutOfBoundsException(String
-					.format("offset (%s) should less than length (%s) and buffer length (%s)", off, len, b.length));
-		}
-
-		int total = 0;
-		while (total < len) {
-			int result = in.read(b, off + total, len - total);
-			if (result == -1) {
-				break;
-			}
-			total += result;
-		}
-
-		if (total != len) {
-			throw new EOFException(
-					"reached end of stream after reading " + total + " bytes; " + len + " bytes expected");
-		}
+		this(stream, ChecksumVerification.FULL);
 	}
 
-	// This method was picked from ru.yandex.clickhouse.util.Utils
-	private static int readInt(DataInputStream inputStream) throws IOException {
-		byte b1 = (byte) inputStream.readUnsignedByte();
-		byte b2 = (byte) inputStream.readUnsignedByte();
-		byte b3 = (byte) inputStream.readUnsignedByte();
-		byte b4 = (byte) inputStream.readUnsignedByte();
-
-		return b4 << 24 | (b3 & 0xFF) << 16 | (b2 & 0xFF) << 8 | (b1 & 0xFF);
+	/**
+	 * @param stream the compressed stream
+	 * @param checksumVerification the blocks whose checksum is verified
+	 */
+	public LZ4InputStream(InputStream stream, ChecksumVerification checksumVerification) {
+		reader = new BlockReader(stream, checksumVerification);
 	}
 
-	// This method was picked from ru.yandex.clickhouse.util.Utils
-	private static void readFully(DataInputStream in, byte[] b) throws IOException {
-		readFully(in, b, 0, b.length);
+	/**
+	 * @param stream the compressed stream
+	 * @param pipelined true to decompress the blocks in a background thread (see {@link PipelinedLZ4InputStream})
+	 * @param checksumVerification the blocks whose checksum is verified
+	 * @return the decompressed stream
+	 */
+	public static LZ4InputStream create(InputStream stream, boolean pipelined, ChecksumVerification checksumVerification) {
+		return pipelined
+				? new PipelinedLZ4InputStream(stream, PipelinedLZ4InputStream.DEFAULT_BLOCK_COUNT, checksumVerification)
+				: new LZ4InputStream(stream, checksumVerification);
 	}
 
 	@Override
 	public int read() throws IOException {
 		if (!checkNext())
 			return -1;
-		byte b = currentBlock[pointer];
+		byte b = currentBlock.bytes[pointer];
 		pointer += 1;
 		return b & 0xFF;
 	}
@@ -128,70 +119,232 @@ public class LZ4InputStream extends InputStream {
 		int targetPointer = off;
 		while (copied != len) {
 			int toCopy = Math.min(currentBlock.length - pointer, len - copied);
-			System.arraycopy(currentBlock, pointer, b, targetPointer, toCopy);
+			System.arraycopy(currentBlock.bytes, pointer, b, targetPointer, toCopy);
 			targetPointer += toCopy;
 			pointer += toCopy;
 			copied += toCopy;
-			if (!checkNext()) { // finished
+			if (copied != len && !checkNext()) { // finished
 				return copied;
 			}
 		}
 		return copied;
 	}
 
+	/**
+	 * @return the number of decompressed bytes of the current block that were not read yet
+	 */
+	@Override
+	public int available() {
+		return currentBlock.length - pointer;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long skipped = 0;
+		while (skipped < n && checkNext()) {
+			int toSkip = (int) Math.min(currentBlock.length - pointer, n - skipped);
+			pointer += toSkip;
+			skipped += toSkip;
+		}
+		return skipped;
+	}
+
+	/**
+	 * Writes the decompressed blocks directly to the stream, without copying them
+	 */
+	@Override
+	public long transferTo(OutputStream out) throws IOException {
+		Objects.requireNonNull(out);
+		long transferred = 0;
+		while (checkNext()) {
+			int length = currentBlock.length - pointer;
+			out.write(currentBlock.bytes, pointer, length);
+			pointer = currentBlock.length;
+			transferred += length;
+		}
+		return transferred;
+	}
+
 	@Override
 	public void close() throws IOException {
-		stream.close();
+		reader.getStream().close();
+	}
+
+	/**
+	 * @return the number of bytes of the blocks decompressed so far, which may be ahead of the bytes read
+	 */
+	public long getDecompressedBytes() {
+		return reader.decompressedBytes;
+	}
+
+	/**
+	 * @return the time spent verifying and decompressing the blocks so far, without the time reading them, in
+	 *         nanoseconds
+	 */
+	public long getDecompressionNanos() {
+		return reader.decompressionNanos;
+	}
+
+	/**
+	 * Replaces the current block, that was entirely read, by the next block of the stream
+	 *
+	 * @param block the current block
+	 * @return the next block, null if the end of the stream was reached
+	 * @throws IOException if the stream cannot be read
+	 */
+	Block nextBlock(Block block) throws IOException {
+		return reader.readBlock(block) ? block : null;
 	}
 
 	private boolean checkNext() throws IOException {
-		if (currentBlock.length == 0 || pointer == currentBlock.length) {
-			currentBlock = readNextBlock();
+		while (pointer == currentBlock.length) {
+			Block next = nextBlock(currentBlock);
+			if (next == null) {
+				// the block may have been emptied when trying to read the next one
+				pointer = currentBlock.length;
+				return false;
+			}
+			currentBlock = next;
 			pointer = 0;
 		}
-		return currentBlock.length != 0;
-	}
-
-	// every block is:
-	public byte[] readNextBlock() throws IOException {
-		int read = stream.read();
-		if (read < 0)
-			return new byte[0];
-
-		byte[] checksum = new byte[16];
-		checksum[0] = (byte) read;
-		// checksum - 16 bytes.
-		readFully(dataWrapper, checksum, 1, 15);
-		BlockChecksum expected = BlockChecksum.fromBytes(checksum);
-
-		// header:
-		// 1 byte - 0x82 (shows this is LZ4)
-		int magic = dataWrapper.readUnsignedByte();
-		if (magic != MAGIC) {
-			// ALB keepalive checksum + special magic
-			if (expected.equals(keepalive) && magic == SPACE) {
-				return new byte[]{SPACE}; // space, same as uncompressed path
+		return true;
+	}
+
+	/**
+	 * Decompressed data of a block
+	 */
+	static final class Block {
+		byte[] bytes = new byte[INITIAL_BUFFER_SIZE];
+		int length;
+	}
+
+	/**
+	 * Reads the blocks of the stream, verifies their checksum and decompresses them
+	 */
+	static final class BlockReader {
+		private final InputStream stream;
+		private final ChecksumVerification checksumVerification;
+		// checksum, header and compressed data of the last block read
+		private byte[] compressed = new byte[INITIAL_BUFFER_SIZE];
+		// number of compressed blocks read, keepalive blocks excluded
+		private long blockCount;
+		// written by the thread reading the blocks, which may be a background thread of PipelinedLZ4InputStream
+		private volatile long decompressedBytes;
+		private volatile long decompressionNanos;
+
+		BlockReader(InputStream stream, ChecksumVerification checksumVerification) {
+			this.stream = stream;
+			this.checksumVerification = Objects.requireNonNull(checksumVerification);
+		}
+
+		InputStream getStream() {
+			return stream;
+		}
+
+		/**
+		 * Reads the next block of the stream
+		 *
+		 * @param block the block to decompress the data into, its buffer is enlarged if needed
+		 * @return false if the end of the stream was reached
+		 * @throws IOException if the stream cannot be read or if the block is not valid
+		 */
+		boolean readBlock(Block block) throws IOException {
+			block.length = 0;
+			// every block is:
+			// checksum - 16 bytes, then the magic
+			if (!readFully(compressed, 0, CHECKSUM_SIZE + 1)) {
+				return false;
+			}
+			long first = (long) LONG.get(compressed, 0);
+			long second = (long) LONG.get(compressed, 8);
+
+			// header:
+			// 1 byte - 0x82 (shows this is LZ4)
+			int magic = compressed[CHECKSUM_SIZE] & 0xFF;
+			if (magic != MAGIC) {
+				// ALB keepalive checksum + special magic
+				if (keepalive.equals(new BlockChecksum(first, second)) && magic == SPACE) {
+					block.bytes[0] = SPACE; // space, same as uncompressed path
+					block.length = 1;
+					return true;
+				}
+				throw new IOException("Magic is not correct: " + magic);
 			}
-			throw new IOException("Magic is not correct: " + magic);
+			readRemaining(compressed, CHECKSUM_SIZE + 1, HEADER_SIZE - 1);
+			// 4 bytes - size of the compressed data including 9 bytes of the header
+			int compressedSizeWithHeader = (int) INT.get(compressed, CHECKSUM_SIZE + 1);
+			// 4 bytes - size of uncompressed data
+			int uncompressedSize = (int) INT.get(compressed, CHECKSUM_SIZE + 5);
+			if (compressedSizeWithHeader < HEADER_SIZE || uncompressedSize < 0) {
+				throw new IOException("Sizes of the block are not correct: " + compressedSizeWithHeader + ", " + uncompressedSize);
+			}
+			compressed = ensureCapacity(compressed, CHECKSUM_SIZE + compressedSizeWithHeader, CHECKSUM_SIZE + HEADER_SIZE);
+			// compressed data: compressed_size - 9 bytes.
+			readRemaining(compressed, CHECKSUM_SIZE + HEADER_SIZE, compressedSizeWithHeader - HEADER_SIZE);
+
+			long start = System.nanoTime();
+			// the checksum covers the header and the compressed data
+			if (checksumVerification.shouldVerify(blockCount++)) {
+				long[] real = CityHash.cityHash128(compressed, CHECKSUM_SIZE, compressedSizeWithHeader);
+				if (real[0] != first || real[1] != second) {
+					throw new IllegalArgumentException("Checksum doesn't match: corrupted data.");
+				}
+			}
+
+			block.bytes = ensureCapacity(block.bytes, uncompressedSize, 0);
+			decompressor.decompress(compressed, CHECKSUM_SIZE + HEADER_SIZE, block.bytes, 0, uncompressedSize);
+			block.length = uncompressedSize;
+			decompressedBytes += uncompressedSize;
+			decompressionNanos += System.nanoTime() - start;
+			return true;
 		}
-		// 4 bytes - size of the compressed data including 9 bytes of the header
-		int compressedSizeWithHeader = readInt(dataWrapper);
-		// 4 bytes - size of uncompressed data
-		int uncompressedSize = readInt(dataWrapper);
-		int compressedSize = compressedSizeWithHeader - 9; // header
-		byte[] block = new byte[compressedSize];
-		// compressed data: compressed_size - 9 байт.
-		readFully(dataWrapper, block);
-
-		BlockChecksum real = BlockChecksum.calculateForBlock((byte) magic, compressedSizeWithHeader, uncompressedSize,
-				block, compressedSize);
-		if (!real.equals(expected)) {
-			throw new IllegalArgumentException("Checksum doesn't match: corrupted data.");
+
+		/**
+		 * Reads the bytes of a block that was started
+		 *
+		 * @throws EOFException if the end of the stream is reached before reading all the bytes
+		 */
+		private void readRemaining(byte[] b, int off, int len) throws IOException {
+			if (!readFully(b, off, len)) {
+				throw new EOFException("reached end of stream after reading 0 bytes; " + len + " bytes expected");
+			}
 		}
 
-		byte[] decompressed = new byte[uncompressedSize];
-		LZ4FastDecompressor decompressor = factory.fastDecompressor();
-		decompressor.decompress(block, 0, decompressed, 0, uncompressedSize);
-		return decompressed;
+		/**
+		 * Reads bytes from the stream
+		 *
+		 * @return false if the end of the stream was reached before reading any byte
+		 */
+		private boolean readFully(byte[] b, int off, int len) throws IOException {
+			int total = 0;
+			while (total < len) {
+				int result = stream.read(b, off + total, len - total);
+				if (result == -1) {
+					break;
+				}
+				total += result;
+			}
+			if (total == 0 && len > 0) {
+				return false;
+			}
+			if (total != len) {
+				throw new EOFException(
+						"reached end of stream after reading " + total + " bytes; " + len + " bytes expected");
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * @return the buffer if it can contain the given number of bytes, a bigger buffer containing its first bytes
+	 *         otherwise
+	 */
+	private static byte[] ensureCapacity(byte[] buffer, int capacity, int bytesToKeep) {
+		if (buffer.length >= capacity) {
+			return buffer;
+		}
+		byte[] bigger = new byte[Math.max(capacity, (int) Math.min(Integer.MAX_VALUE - 8, buffer.length * 2L))];
+		System.arraycopy(buffer, 0, bigger, 0, bytesToKeep);
+		return bigger;
 	}
 }
@@ -25,6 +25,7 @@ OF THE COMPANY YANDEX LLC.
  *  - Package name
  *  - Formatting
  *  - Import writeInt from Utils class
+ *  - Write the last block and close the underlying stream when closed
  */
 package com.firebolt.jdbc.resultset.compress;
 
@@ -111,6 +112,15 @@ public class LZ4OutputStream extends OutputStream {
 		dataWrapper.flush();
 	}
 
+	/**
+	 * Writes the last block and closes the stream the blocks are written to
+	 */
+	@Override
+	public void close() throws IOException {
+		flush();
+		dataWrapper.close();
+	}
+
 	private void writeBlock() throws IOException {
 		int compressed = compressor.compress(currentBlock, 0, pointer, compressedBlock, 0);
 		BlockChecksum checksum = BlockChecksum.calculateForBlock((byte) LZ4InputStream.MAGIC, compressed + 9, pointer,
@@ -0,0 +1,146 @@
+package com.firebolt.jdbc.resultset.compress;
+
+import lombok.CustomLog;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * {@link LZ4InputStream} that reads, verifies and decompresses the blocks in a background thread while the blocks
+ * before them are read, so that waiting for the network and decompressing overlap with the decoding of the rows.
+ * <p>
+ * The blocks are decompressed into a fixed number of buffers that go back to the background thread once they were
+ * read, so no more than this number of decompressed blocks are kept in memory. The background thread is started by the
+ * first read, so a stream that is never read does not start any thread.
+ */
+@CustomLog
+public class PipelinedLZ4InputStream extends LZ4InputStream {
+	public static final int DEFAULT_BLOCK_COUNT = 4;
+	private static final String THREAD_NAME = "firebolt-lz4-decompression";
+	private static final Block END_OF_STREAM = new Block();
+	private static final Block CLOSED = new Block();
+	private static final String CLOSED_ERROR = "The stream was closed";
+
+	private final BlockingQueue<Block> freeBlocks;
+	private final BlockingQueue<Block> readyBlocks;
+	// started by the first read
+	private Thread producer;
+	private volatile boolean closed;
+	// failure of the background thread, thrown again on each attempt to read more blocks
+	private volatile Exception failure;
+	// block taken from the queue of the blocks ready to be read, null before the first one
+	private Block current;
+
+	public PipelinedLZ4InputStream(InputStream stream) {
+		this(stream, DEFAULT_BLOCK_COUNT);
+	}
+
+	/**
+	 * @param stream the compressed stream
+	 * @param blockCount the number of blocks decompressed in advance, including the one being read
+	 */
+	public PipelinedLZ4InputStream(InputStream stream, int blockCount) {
+		this(stream, blockCount, ChecksumVerification.FULL);
+	}
+
+	/**
+	 * @param stream the compressed stream
+	 * @param blockCount the number of blocks decompressed in advance, including the one being read
+	 * @param checksumVerification the blocks whose checksum is verified
+	 */
+	public PipelinedLZ4InputStream(InputStream stream, int blockCount, ChecksumVerification checksumVerification) {
+		super(stream, checksumVerification);
+		if (blockCount < 2) {
+			throw new IllegalArgumentException("At least 2 blocks are needed to decompress them in advance");
+		}
+		freeBlocks = new ArrayBlockingQueue<>(blockCount);
+		// one more for the end of the stream
+		readyBlocks = new ArrayBlockingQueue<>(blockCount + 1);
+		for (int i = 0; i < blockCount; i++) {
+			freeBlocks.add(new Block());
+		}
+	}
+
+	@Override
+	Block nextBlock(Block block) throws IOException {
+		if (current != END_OF_STREAM) {
+			if (closed) {
+				throw new IOException(CLOSED_ERROR);
+			}
+			startProducer();
+			if (current != null) {
+				freeBlocks.add(current);
+			}
+			try {
+				current = readyBlocks.take();
+			} catch (InterruptedException e) {
+				current = null;
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for the next block");
+			}
+			if (current == CLOSED) {
+				throw new IOException(CLOSED_ERROR);
+			} else if (current != END_OF_STREAM) {
+				return current;
+			}
+		}
+		Exception error = failure;
+		if (error instanceof IOException) {
+			throw (IOException) error;
+		} else if (error instanceof RuntimeException) {
+			throw (RuntimeException) error;
+		} else if (error != null) {
+			throw new IOException(error.getMessage(), error);
+		}
+		return null;
+	}
+
+	/**
+	 * Stops the background thread and closes the compressed stream
+	 */
+	@Override
+	public void close() throws IOException {
+		synchronized (this) {
+			closed = true;
+			if (producer != null) {
+				producer.interrupt();
+			}
+		}
+		// wakes up the thread reading the stream if it is waiting for a block
+		readyBlocks.offer(CLOSED);
+		super.close();
+	}
+
+	private synchronized void startProducer() {
+		if (producer == null && !closed) {
+			producer = new Thread(this::produce, THREAD_NAME);
+			producer.setDaemon(true);
+			producer.start();
+		}
+	}
+
+	private void produce() {
+		try {
+			while (!closed) {
+				Block block = freeBlocks.take();
+				if (!reader.readBlock(block)) {
+					break;
+				}
+				readyBlocks.put(block);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		} catch (Exception e) {
+			if (closed) {
+				log.debug("Stopped decompressing a closed stream: {}", e.getMessage());
+				return;
+			}
+			failure = e;
+		}
+		readyBlocks.offer(END_OF_STREAM);
+	}
+}
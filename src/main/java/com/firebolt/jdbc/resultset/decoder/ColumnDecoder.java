@@ -0,0 +1,190 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import com.firebolt.jdbc.resultset.column.Column;
+import com.firebolt.jdbc.type.BaseType;
+import com.firebolt.jdbc.type.FireboltDataType;
+import com.firebolt.jdbc.type.array.FireboltArray;
+import com.firebolt.jdbc.util.TsvUnescaper;
+
+import java.sql.SQLException;
+import java.util.TimeZone;
+
+/**
+ * Decodes the values of a column of the current row. A decoder is created for each column when the header of the
+ * response is read, so everything that depends only on the column (type, time zone, limits) is resolved once.
+ * <p>
+ * The methods of a decoder must not be called when the field is NULL.
+ */
+public class ColumnDecoder {
+	private final Column column;
+	private final FireboltDataType dataType;
+	private final BaseType baseType;
+	private final TimeZone timeZone;
+	protected final int maxFieldSize;
+
+	protected ColumnDecoder(Column column, int maxFieldSize) {
+		this.column = column;
+		this.dataType = column.getType().getDataType();
+		this.baseType = dataType.getBaseType();
+		this.timeZone = column.getType().getTimeZone();
+		this.maxFieldSize = maxFieldSize;
+	}
+
+	/**
+	 * Creates the decoder of a column
+	 *
+	 * @param column the column
+	 * @param maxFieldSize the maximum number of characters or bytes returned for a value (0 for no limit)
+	 * @return the decoder of the column
+	 */
+	public static ColumnDecoder of(Column column, int maxFieldSize) {
+		switch (column.getType().getDataType()) {
+			case U_INT_8:
+			case INTEGER:
+				return new IntegerColumnDecoder(column, maxFieldSize);
+			case BIG_INT:
+				return new LongColumnDecoder(column, maxFieldSize);
+			case REAL:
+				return new RealColumnDecoder(column, maxFieldSize);
+			case DOUBLE_PRECISION:
+				return new DoubleColumnDecoder(column, maxFieldSize);
+			case BOOLEAN:
+				return new BooleanColumnDecoder(column, maxFieldSize);
+			case BYTEA:
+				return new ByteaColumnDecoder(column, maxFieldSize);
+			case ARRAY:
+				return new ArrayColumnDecoder(column, maxFieldSize);
+			default:
+				return new ColumnDecoder(column, maxFieldSize);
+		}
+	}
+
+	public Column getColumn() {
+		return column;
+	}
+
+	public FireboltDataType getDataType() {
+		return dataType;
+	}
+
+	public BaseType getBaseType() {
+		return baseType;
+	}
+
+	public int getMaxFieldSize() {
+		return maxFieldSize;
+	}
+
+	/**
+	 * Returns the time zone used to read the values of the column: the time zone of the column when it has one, the
+	 * given one otherwise
+	 *
+	 * @param defaultTimeZone the time zone to use if the column does not have one
+	 * @return the time zone of the column values
+	 */
+	public TimeZone getTimeZone(TimeZone defaultTimeZone) {
+		return timeZone != null ? timeZone : defaultTimeZone;
+	}
+
+	/**
+	 * @return the value of the field as returned by {@link java.sql.ResultSet#getString(int)}
+	 */
+	public String getString(ResultDecoder row, int index) throws SQLException {
+		String value = TsvUnescaper.unescape(row.getString(index));
+		return maxFieldSize > 0 && maxFieldSize <= value.length() ? value.substring(0, maxFieldSize) : value;
+	}
+
+	/**
+	 * @return the value of the field as returned by {@link java.sql.ResultSet#getObject(int)}
+	 */
+	public Object getObject(ResultDecoder row, int index) throws SQLException {
+		return baseType.transform(row.getString(index), column, timeZone, maxFieldSize);
+	}
+
+	private static class IntegerColumnDecoder extends ColumnDecoder {
+		private IntegerColumnDecoder(Column column, int maxFieldSize) {
+			super(column, maxFieldSize);
+		}
+
+		@Override
+		public Object getObject(ResultDecoder row, int index) throws SQLException {
+			return row.getInt(index);
+		}
+	}
+
+	private static class LongColumnDecoder extends ColumnDecoder {
+		private LongColumnDecoder(Column column, int maxFieldSize) {
+			super(column, maxFieldSize);
+		}
+
+		@Override
+		public Object getObject(ResultDecoder row, int index) throws SQLException {
+			return row.getLong(index);
+		}
+	}
+
+	private static class RealColumnDecoder extends ColumnDecoder {
+		private RealColumnDecoder(Column column, int maxFieldSize) {
+			super(column, maxFieldSize);
+		}
+
+		@Override
+		public Object getObject(ResultDecoder row, int index) throws SQLException {
+			return row.getFloat(index);
+		}
+	}
+
+	private static class DoubleColumnDecoder extends ColumnDecoder {
+		private DoubleColumnDecoder(Column column, int maxFieldSize) {
+			super(column, maxFieldSize);
+		}
+
+		@Override
+		public Object getObject(ResultDecoder row, int index) throws SQLException {
+			return row.getDouble(index);
+		}
+	}
+
+	private static class BooleanColumnDecoder extends ColumnDecoder {
+		private BooleanColumnDecoder(Column column, int maxFieldSize) {
+			super(column, maxFieldSize);
+		}
+
+		@Override
+		public Object getObject(ResultDecoder row, int index) throws SQLException {
+			return row.getBoolean(index);
+		}
+	}
+
+	private static class ByteaColumnDecoder extends ColumnDecoder {
+		private final int maxHexStringSize;
+
+		private ByteaColumnDecoder(Column column, int maxFieldSize) {
+			super(column, maxFieldSize);
+			// the hex string is prefixed by \x and contains 2 characters per byte
+			maxHexStringSize = maxFieldSize * 2 + 2;
+		}
+
+		@Override
+		public String getString(ResultDecoder row, int index) {
+			// We do not need to escape when the type is BYTEA
+			String hex = row.getString(index);
+			if (maxFieldSize > 0 && maxHexStringSize <= hex.length()) {
+				hex = hex.substring(0, maxHexStringSize);
+			}
+			return hex;
+		}
+	}
+
+	private static class ArrayColumnDecoder extends ColumnDecoder {
+		private ArrayColumnDecoder(Column column, int maxFieldSize) {
+			super(column, maxFieldSize);
+		}
+
+		@Override
+		public Object getObject(ResultDecoder row, int index) throws SQLException {
+			FireboltArray array = (FireboltArray) super.getObject(row, index);
+			return array == null ? null : array.getArray();
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import com.firebolt.jdbc.type.array.SqlArrayUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+
+/**
+ * Stream of the bytes of a value written in hexadecimal digits (without the prefix {@code \x}). The digits are decoded
+ * while the stream is read, directly from the buffer of the row. Before this buffer is modified, the decoder detaches
+ * the stream (see {@link #detach()}): the digits not read yet are decoded into an array of the stream.
+ */
+class HexInputStream extends InputStream {
+	private byte[] buffer;
+	private int end;
+	private int position;
+	// true once the digits not read were decoded into the buffer, which then contains bytes
+	private boolean detached;
+	// error found while decoding the digits when detaching, thrown when the stream is read
+	private IOException failure;
+
+	/**
+	 * @param buffer the buffer containing the digits
+	 * @param start the index of the first digit
+	 * @param end the index after the last digit, an even number of digits after the first one
+	 */
+	HexInputStream(byte[] buffer, int start, int end) {
+		if (((end - start) & 1) != 0) {
+			throw new IllegalArgumentException("Odd number of hexadecimal digits");
+		}
+		this.buffer = buffer;
+		this.position = start;
+		this.end = end;
+	}
+
+	/**
+	 * Decodes the digits not read yet so that the stream no longer reads the buffer of the row
+	 */
+	void detach() {
+		if (detached) {
+			return;
+		}
+		byte[] bytes = new byte[available()];
+		int count = 0;
+		try {
+			for (; count < bytes.length; count++) {
+				bytes[count] = (byte) decode();
+			}
+		} catch (IOException e) {
+			// the bytes before the invalid digit can still be read
+			failure = e;
+		}
+		buffer = bytes;
+		position = 0;
+		end = count;
+		detached = true;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (position >= end) {
+			checkFailure();
+			return -1;
+		}
+		return detached ? buffer[position++] & 0xFF : decode();
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		Objects.checkFromIndexSize(off, len, b.length);
+		if (len == 0) {
+			return 0;
+		}
+		int count = Math.min(len, available());
+		if (count == 0) {
+			checkFailure();
+			return -1;
+		}
+		if (detached) {
+			System.arraycopy(buffer, position, b, off, count);
+			position += count;
+			return count;
+		}
+		for (int i = 0; i < count; i++) {
+			b[off + i] = (byte) decode();
+		}
+		return count;
+	}
+
+	@Override
+	public long skip(long n) {
+		long skipped = Math.max(0, Math.min(n, available()));
+		position += (int) skipped * (detached ? 1 : 2);
+		return skipped;
+	}
+
+	@Override
+	public int available() {
+		return detached ? end - position : (end - position) / 2;
+	}
+
+	private void checkFailure() throws IOException {
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private int decode() throws IOException {
+		try {
+			int value = (SqlArrayUtil.hexDigit(buffer[position]) << 4) + SqlArrayUtil.hexDigit(buffer[position + 1]);
+			position += 2;
+			return value;
+		} catch (IllegalArgumentException e) {
+			throw new IOException(e.getMessage(), e);
+		}
+	}
+}
@@ -0,0 +1,408 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import lombok.experimental.UtilityClass;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Parses numbers directly from a range of bytes containing their textual representation, without creating any
+ * intermediate object.
+ */
+@UtilityClass
+public class NumberParser {
+	// The values up to 10^22 are exactly representable as double
+	private static final double[] DOUBLE_POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+	// The values up to 10^10 are exactly representable as float
+	private static final float[] FLOAT_POWERS_OF_TEN = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+	private static final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;
+	private static final long MAX_EXACT_FLOAT_MANTISSA = 1L << 24;
+	private static final int MAX_EXPLICIT_EXPONENT = 9999;
+	// A simple decimal is packed in a long with the exponent (plus a bias to make it positive) in the lowest bits
+	private static final int EXPONENT_BITS = 6;
+	private static final int EXPONENT_BIAS = 22;
+	private static final long NOT_SIMPLE_DECIMAL = -1;
+	// The unscaled values of up to 18 digits fit in a long
+	private static final int MAX_LONG_DIGITS = 18;
+	// The mantissas of up to 19 digits fit in an unsigned long
+	private static final int MAX_EISEL_LEMIRE_DIGITS = 19;
+
+	/**
+	 * Checks if the range contains the TSV representation of NULL ({@code \N})
+	 */
+	public static boolean isNull(byte[] bytes, int from, int to) {
+		return to - from == 2 && bytes[from] == '\\' && (bytes[from + 1] == 'N' || bytes[from + 1] == 'n');
+	}
+
+	/**
+	 * Parses a decimal integer made of an optional sign followed by ASCII digits
+	 *
+	 * @throws NumberFormatException if the range does not contain such an integer or if its value is not between min
+	 *                               and max
+	 */
+	public static long parseLong(byte[] bytes, int from, int to, long min, long max) {
+		int i = from;
+		boolean negative = false;
+		if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+			negative = bytes[i] == '-';
+			i++;
+		}
+		if (i == to) {
+			throw numberFormatException(bytes, from, to);
+		}
+		// the value is accumulated as a negative number so Long.MIN_VALUE can be parsed
+		long limit = negative ? min : -max;
+		long multiplyLimit = limit / 10;
+		long result = 0;
+		for (; i < to; i++) {
+			int digit = bytes[i] - '0';
+			if (digit < 0 || digit > 9 || result < multiplyLimit) {
+				throw numberFormatException(bytes, from, to);
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				throw numberFormatException(bytes, from, to);
+			}
+			result -= digit;
+		}
+		return negative ? result : -result;
+	}
+
+	/**
+	 * Parses a double the same way as {@link Double#parseDouble(String)} but also accepts the representations of
+	 * infinity and NaN sent by Firebolt ({@code inf}, {@code +inf}, {@code -inf}, {@code nan}, {@code +nan},
+	 * {@code -nan}). Simple decimal values are computed directly from the bytes.
+	 */
+	public static double parseDouble(byte[] bytes, int from, int to) {
+		long decimal = scanSimpleDecimal(bytes, from, to, MAX_EXACT_DOUBLE_MANTISSA, DOUBLE_POWERS_OF_TEN.length - 1);
+		if (decimal != NOT_SIMPLE_DECIMAL) {
+			int exponent = getExponent(decimal);
+			double value = getMantissa(decimal);
+			value = exponent < 0 ? value / DOUBLE_POWERS_OF_TEN[-exponent] : value * DOUBLE_POWERS_OF_TEN[exponent];
+			return bytes[from] == '-' ? -value : value;
+		}
+		double value = parseDecimal(bytes, from, to);
+		if (!Double.isNaN(value)) {
+			return value;
+		}
+		switch (getSpecialValue(bytes, from, to)) {
+			case POSITIVE_INFINITY:
+				return Double.POSITIVE_INFINITY;
+			case NEGATIVE_INFINITY:
+				return Double.NEGATIVE_INFINITY;
+			case NAN:
+				return Double.NaN;
+			default:
+				return Double.parseDouble(new String(bytes, from, to - from, US_ASCII));
+		}
+	}
+
+	/**
+	 * Parses a float the same way as {@link #parseDouble(byte[], int, int)} parses a double
+	 */
+	public static float parseFloat(byte[] bytes, int from, int to) {
+		long decimal = scanSimpleDecimal(bytes, from, to, MAX_EXACT_FLOAT_MANTISSA, FLOAT_POWERS_OF_TEN.length - 1);
+		if (decimal != NOT_SIMPLE_DECIMAL) {
+			int exponent = getExponent(decimal);
+			float value = getMantissa(decimal);
+			value = exponent < 0 ? value / FLOAT_POWERS_OF_TEN[-exponent] : value * FLOAT_POWERS_OF_TEN[exponent];
+			return bytes[from] == '-' ? -value : value;
+		}
+		switch (getSpecialValue(bytes, from, to)) {
+			case POSITIVE_INFINITY:
+				return Float.POSITIVE_INFINITY;
+			case NEGATIVE_INFINITY:
+				return Float.NEGATIVE_INFINITY;
+			case NAN:
+				return Float.NaN;
+			default:
+				return Float.parseFloat(new String(bytes, from, to - from, US_ASCII));
+		}
+	}
+
+	/**
+	 * Parses a decimal number the same way as {@link java.math.BigDecimal#BigDecimal(String)}. The numbers without
+	 * exponent and with at most 18 digits are created from their unscaled value without any intermediate object.
+	 */
+	public static BigDecimal parseBigDecimal(byte[] bytes, int from, int to) {
+		int i = from;
+		boolean negative = false;
+		if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+			negative = bytes[i] == '-';
+			i++;
+		}
+		long unscaled = 0;
+		int digits = 0;
+		int scale = 0;
+		for (; i < to && isDigit(bytes[i]); i++, digits++) {
+			unscaled = unscaled * 10 + (bytes[i] - '0');
+		}
+		if (i < to && bytes[i] == '.') {
+			i++;
+			for (; i < to && isDigit(bytes[i]); i++, digits++, scale++) {
+				unscaled = unscaled * 10 + (bytes[i] - '0');
+			}
+		}
+		if (i == to && digits > 0 && digits <= MAX_LONG_DIGITS) {
+			return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+		}
+		return new BigDecimal(new String(bytes, from, to - from, US_ASCII));
+	}
+
+	/**
+	 * Parses a decimal number with at most 19 significant digits with the algorithm of Eisel and Lemire (see "Number
+	 * Parsing at a Gigabyte per Second", Daniel Lemire, 2021): the result is computed from a 128 bits approximation of
+	 * the power of ten, correctly rounded.
+	 *
+	 * @return the value or {@link Double#NaN} when the number has to be parsed by {@link Double#parseDouble(String)}
+	 *         (more digits, result close to halfway between two doubles, subnormal or infinite result...)
+	 */
+	private static double parseDecimal(byte[] bytes, int from, int to) {
+		int i = from;
+		boolean negative = false;
+		if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+			negative = bytes[i] == '-';
+			i++;
+		}
+		long mantissa = 0;
+		int digits = 0;
+		int significantDigits = 0;
+		int exponent = 0;
+		for (; i < to && isDigit(bytes[i]); i++, digits++) {
+			mantissa = mantissa * 10 + (bytes[i] - '0');
+			if (mantissa != 0) {
+				significantDigits++;
+			}
+		}
+		if (i < to && bytes[i] == '.') {
+			i++;
+			for (; i < to && isDigit(bytes[i]); i++, digits++) {
+				mantissa = mantissa * 10 + (bytes[i] - '0');
+				exponent--;
+				if (mantissa != 0) {
+					significantDigits++;
+				}
+			}
+		}
+		if (digits == 0 || significantDigits > MAX_EISEL_LEMIRE_DIGITS) {
+			return Double.NaN;
+		}
+		if (i < to && (bytes[i] == 'e' || bytes[i] == 'E')) {
+			i++;
+			boolean negativeExponent = false;
+			if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+				negativeExponent = bytes[i] == '-';
+				i++;
+			}
+			if (i == to) {
+				return Double.NaN;
+			}
+			int explicitExponent = 0;
+			for (; i < to && isDigit(bytes[i]); i++) {
+				explicitExponent = explicitExponent * 10 + (bytes[i] - '0');
+				if (explicitExponent > MAX_EXPLICIT_EXPONENT) {
+					return Double.NaN;
+				}
+			}
+			exponent += negativeExponent ? -explicitExponent : explicitExponent;
+		}
+		return i == to ? EiselLemire.toDouble(mantissa, exponent, negative) : Double.NaN;
+	}
+
+	private static SpecialValue getSpecialValue(byte[] bytes, int from, int to) {
+		int i = from;
+		byte sign = i < to ? bytes[i] : 0;
+		if (sign == '+' || sign == '-') {
+			i++;
+		}
+		if (to - i != 3) {
+			return SpecialValue.NONE;
+		}
+		int b0 = bytes[i] | 0x20;
+		int b1 = bytes[i + 1] | 0x20;
+		int b2 = bytes[i + 2] | 0x20;
+		if (b0 == 'i' && b1 == 'n' && b2 == 'f') {
+			return sign == '-' ? SpecialValue.NEGATIVE_INFINITY : SpecialValue.POSITIVE_INFINITY;
+		}
+		if (b0 == 'n' && b1 == 'a' && b2 == 'n') {
+			return SpecialValue.NAN;
+		}
+		return SpecialValue.NONE;
+	}
+
+	/**
+	 * Scans a number made of an optional sign, ASCII digits, an optional fraction and an optional exponent. When the
+	 * number can be computed exactly from a mantissa not greater than maxMantissa and a power of ten not greater than
+	 * maxExponent, the mantissa and the exponent are returned packed in a long (see {@link #getMantissa(long)} and
+	 * {@link #getExponent(long)}).
+	 *
+	 * @return the packed mantissa and exponent or {@link #NOT_SIMPLE_DECIMAL}
+	 */
+	private static long scanSimpleDecimal(byte[] bytes, int from, int to, long maxMantissa, int maxExponent) {
+		int i = from;
+		if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+			i++;
+		}
+		long mantissa = 0;
+		int digits = 0;
+		int exponent = 0;
+		for (; i < to && isDigit(bytes[i]); i++, digits++) {
+			mantissa = mantissa * 10 + (bytes[i] - '0');
+			if (mantissa > maxMantissa) {
+				return NOT_SIMPLE_DECIMAL;
+			}
+		}
+		if (i < to && bytes[i] == '.') {
+			i++;
+			for (; i < to && isDigit(bytes[i]); i++, digits++) {
+				mantissa = mantissa * 10 + (bytes[i] - '0');
+				exponent--;
+				if (mantissa > maxMantissa) {
+					return NOT_SIMPLE_DECIMAL;
+				}
+			}
+		}
+		if (digits == 0) {
+			return NOT_SIMPLE_DECIMAL;
+		}
+		if (i < to && (bytes[i] == 'e' || bytes[i] == 'E')) {
+			i++;
+			boolean negativeExponent = false;
+			if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+				negativeExponent = bytes[i] == '-';
+				i++;
+			}
+			if (i == to) {
+				return NOT_SIMPLE_DECIMAL;
+			}
+			int explicitExponent = 0;
+			for (; i < to && isDigit(bytes[i]); i++) {
+				explicitExponent = explicitExponent * 10 + (bytes[i] - '0');
+				if (explicitExponent > MAX_EXPLICIT_EXPONENT) {
+					return NOT_SIMPLE_DECIMAL;
+				}
+			}
+			exponent += negativeExponent ? -explicitExponent : explicitExponent;
+		}
+		if (i != to || exponent < -maxExponent || exponent > maxExponent) {
+			return NOT_SIMPLE_DECIMAL;
+		}
+		return mantissa << EXPONENT_BITS | (exponent + EXPONENT_BIAS);
+	}
+
+	private static long getMantissa(long decimal) {
+		return decimal >>> EXPONENT_BITS;
+	}
+
+	private static int getExponent(long decimal) {
+		return (int) (decimal & ((1 << EXPONENT_BITS) - 1)) - EXPONENT_BIAS;
+	}
+
+	private static boolean isDigit(byte b) {
+		return b >= '0' && b <= '9';
+	}
+
+	private static NumberFormatException numberFormatException(byte[] bytes, int from, int to) {
+		return new NumberFormatException("For input string: \"" + new String(bytes, from, to - from, US_ASCII) + "\"");
+	}
+
+	/**
+	 * Computes the double nearest to a decimal number from 128 bits approximations of the powers of ten. The table of
+	 * the approximations is only created when it is needed.
+	 */
+	private static final class EiselLemire {
+		private static final int MIN_EXPONENT = -342;
+		private static final int MAX_EXPONENT = 308;
+		private static final int DOUBLE_EXPONENT_BIAS = 1023;
+		// the high and the low 64 bits of the normalized mantissa of each power of ten (truncated for the positive
+		// powers, rounded up for the negative ones)
+		private static final long[] POWERS_OF_TEN = createPowersOfTen();
+
+		private static long[] createPowersOfTen() {
+			long[] powers = new long[(MAX_EXPONENT - MIN_EXPONENT + 1) * 2];
+			for (int q = MIN_EXPONENT; q <= MAX_EXPONENT; q++) {
+				BigInteger power;
+				if (q >= 0) {
+					power = BigInteger.valueOf(5).pow(q);
+				} else {
+					BigInteger powerOfFive = BigInteger.valueOf(5).pow(-q);
+					int z = powerOfFive.bitLength();
+					int b = q >= -27 ? z + 127 : 2 * z + 128;
+					power = BigInteger.ONE.shiftLeft(b).divide(powerOfFive).add(BigInteger.ONE);
+				}
+				power = power.bitLength() > 128 ? power.shiftRight(power.bitLength() - 128)
+						: power.shiftLeft(128 - power.bitLength());
+				int index = (q - MIN_EXPONENT) * 2;
+				powers[index] = power.shiftRight(64).longValue();
+				powers[index + 1] = power.longValue();
+			}
+			return powers;
+		}
+
+		/**
+		 * @return the value of mantissa * 10^exponent or {@link Double#NaN} if it cannot be computed safely
+		 */
+		private static double toDouble(long mantissa, int exponent, boolean negative) {
+			if (mantissa == 0) {
+				return negative ? -0.0 : 0.0;
+			}
+			if (exponent < MIN_EXPONENT || exponent > MAX_EXPONENT) {
+				return Double.NaN;
+			}
+			int leadingZeros = Long.numberOfLeadingZeros(mantissa);
+			long normalized = mantissa << leadingZeros;
+			// 217706 / 2^16 approximates log2(10)
+			long binaryExponent = ((217706L * exponent) >> 16) + 64 + DOUBLE_EXPONENT_BIAS - leadingZeros;
+			int index = (exponent - MIN_EXPONENT) * 2;
+			long high = unsignedMultiplyHigh(normalized, POWERS_OF_TEN[index]);
+			long low = normalized * POWERS_OF_TEN[index];
+			if ((high & 0x1FF) == 0x1FF && Long.compareUnsigned(low + normalized, normalized) < 0) {
+				// the truncated product may be wrong: the lower bits of the power of ten are taken into account
+				long lowerHigh = unsignedMultiplyHigh(normalized, POWERS_OF_TEN[index + 1]);
+				long lowerLow = normalized * POWERS_OF_TEN[index + 1];
+				long mergedHigh = high;
+				long mergedLow = low + lowerHigh;
+				if (Long.compareUnsigned(mergedLow, low) < 0) {
+					mergedHigh++;
+				}
+				if ((mergedHigh & 0x1FF) == 0x1FF && mergedLow == -1
+						&& Long.compareUnsigned(lowerLow + normalized, normalized) < 0) {
+					return Double.NaN;
+				}
+				high = mergedHigh;
+				low = mergedLow;
+			}
+			long upperBit = high >>> 63;
+			long result = high >>> (upperBit + 9);
+			binaryExponent -= 1 ^ upperBit;
+			if (low == 0 && (high & 0x1FF) == 0 && (result & 3) == 1) {
+				// halfway between two doubles
+				return Double.NaN;
+			}
+			result += result & 1;
+			result >>>= 1;
+			if ((result >>> 53) > 0) {
+				result >>>= 1;
+				binaryExponent++;
+			}
+			if (binaryExponent <= 0 || binaryExponent >= 0x7FF) {
+				// subnormal or infinite
+				return Double.NaN;
+			}
+			long bits = binaryExponent << 52 | result & 0x000FFFFFFFFFFFFFL;
+			return Double.longBitsToDouble(negative ? bits | Long.MIN_VALUE : bits);
+		}
+
+		private static long unsignedMultiplyHigh(long x, long y) {
+			return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+		}
+	}
+
+	private enum SpecialValue {
+		NONE, POSITIVE_INFINITY, NEGATIVE_INFINITY, NAN
+	}
+}
@@ -0,0 +1,481 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import com.firebolt.jdbc.resultset.column.ColumnType;
+import com.firebolt.jdbc.type.FireboltDataType;
+import com.firebolt.jdbc.util.TsvUnescaper;
+import lombok.CustomLog;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Decoder of a response in the format "TabSeparatedWithNamesAndTypes" that decodes the rows in parallel. A background
+ * thread cuts the stream into chunks of complete rows and the chunks are decoded in parallel by the threads of a
+ * {@link ForkJoinPool} shared by all the results, with one thread per processor: the rows and fields are found and the
+ * strings of the columns that are read through their strings (all but the numbers, booleans and bytea, which are parsed
+ * from the bytes of the fields) are decoded. The thread reading the result gets the chunks back in the order of the
+ * response.
+ * <p>
+ * No more than twice as many chunks as the parallelism are waiting to be read so the memory used is bounded, and the
+ * arrays of the chunks that were read are reused for the next ones. The bytes of the chunks, and as much again for
+ * their strings, are also reserved in a {@link ResultMemoryBudget}: the background thread waits before reading a chunk
+ * that does not fit in the budget until the thread reading the result has read the chunks before it.
+ */
+@CustomLog
+public class ParallelResultDecoder implements ResultDecoder {
+	private static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+	private static final String THREAD_NAME = "firebolt-result-reader";
+	private static final String WORKER_THREAD_NAME = "firebolt-result-decoder-";
+	private static final byte NEW_LINE = '\n';
+	private static final String[] NO_FIELDS = new String[0];
+	// the types of the columns whose values are parsed from the bytes of the fields rather than from their strings
+	private static final Set<FireboltDataType> PARSED_TYPES = EnumSet.of(FireboltDataType.U_INT_8,
+			FireboltDataType.INTEGER, FireboltDataType.BIG_INT, FireboltDataType.REAL, FireboltDataType.DOUBLE_PRECISION,
+			FireboltDataType.BOOLEAN, FireboltDataType.BYTEA);
+	private static final CompletableFuture<TsvChunk> END_OF_ROWS = CompletableFuture.completedFuture(null);
+	private static final CompletableFuture<TsvChunk> STOPPED = CompletableFuture.completedFuture(null);
+	private static final String STOPPED_ERROR = "The reading of the rows was stopped";
+	// shared by all the results, its threads are started when needed and stop after being idle for a while
+	private static final ForkJoinPool POOL = createPool(Runtime.getRuntime().availableProcessors());
+
+	private final InputStream is;
+	private final int chunkSize;
+	private final BlockingQueue<CompletableFuture<TsvChunk>> queue;
+	// arrays of the chunks that were read, reused by the background thread
+	private final BlockingQueue<byte[]> freeChunks;
+	private final ResultMemoryBudget budget;
+	// decoder of the current row
+	private final TsvResultDecoder row = new TsvResultDecoder(InputStream.nullInputStream(), 0);
+	private volatile boolean closed;
+	private Thread reader;
+	// bytes read with the header that belong to the first rows
+	private byte[] remainder = new byte[0];
+	private String[] columnNames = NO_FIELDS;
+	private String[] columnTypes = NO_FIELDS;
+	// the columns whose strings are decoded with the chunks, null if there is none
+	private boolean[] decodedColumns;
+	private TsvChunk chunk;
+	// chunk taken from the queue by hasNext() and not read yet
+	private TsvChunk nextChunk;
+	private boolean endOfRows;
+	private int rowIndex;
+	private boolean onRow;
+	// failure of the background threads, thrown again on each attempt to read more rows
+	private IOException failure;
+	// bytes of the chunks reserved in the budget and not released yet
+	private long reservedBytes;
+
+	/**
+	 * @param is the stream of the response (decompressed)
+	 * @param parallelism the number of chunks decoded in parallel
+	 */
+	public ParallelResultDecoder(InputStream is, int parallelism) {
+		this(is, parallelism, ResultMemoryBudget.global());
+	}
+
+	/**
+	 * @param is the stream of the response (decompressed)
+	 * @param parallelism the number of chunks decoded in parallel
+	 * @param budget the budget in which the bytes of the chunks are reserved
+	 */
+	public ParallelResultDecoder(InputStream is, int parallelism, ResultMemoryBudget budget) {
+		this(is, parallelism, DEFAULT_CHUNK_SIZE, budget);
+	}
+
+	ParallelResultDecoder(InputStream is, int parallelism, int chunkSize, ResultMemoryBudget budget) {
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("The number of threads must be greater than 0");
+		}
+		this.is = is;
+		this.chunkSize = chunkSize;
+		this.queue = new ArrayBlockingQueue<>(parallelism * 2);
+		// the chunks of the queue, the one being read and the one taken by hasNext()
+		this.freeChunks = new ArrayBlockingQueue<>(parallelism * 2 + 2);
+		this.budget = budget;
+	}
+
+	/**
+	 * Reads the header in the calling thread and then starts reading the rows in the background
+	 */
+	@Override
+	public void readHeader() throws IOException {
+		byte[] bytes = new byte[8192];
+		int length = 0;
+		int headerEnd = -1;
+		int read = 0;
+		while (headerEnd < 0 && read >= 0) {
+			if (length == bytes.length) {
+				bytes = Arrays.copyOf(bytes, length * 2);
+			}
+			read = is.read(bytes, length, bytes.length - length);
+			if (read > 0) {
+				headerEnd = findHeaderEnd(bytes, length, length + read);
+				length += read;
+			}
+		}
+		if (headerEnd < 0) {
+			headerEnd = length;
+		}
+		TsvChunk header = TsvChunk.index(bytes, headerEnd);
+		if (header.getRowCount() > 0) {
+			row.readRow(header, 0);
+			columnNames = row.getStrings();
+			for (int i = 0; i < columnNames.length; i++) {
+				columnNames[i] = TsvUnescaper.unescape(columnNames[i]);
+			}
+			if (header.getRowCount() > 1) {
+				row.readRow(header, 1);
+				columnTypes = row.getStrings();
+			}
+		}
+		decodedColumns = getDecodedColumns(columnTypes);
+		remainder = Arrays.copyOfRange(bytes, headerEnd, length);
+		reader = new Thread(this::produce, THREAD_NAME);
+		reader.setDaemon(true);
+		reader.start();
+	}
+
+	@Override
+	public String[] getColumnNames() {
+		return columnNames;
+	}
+
+	@Override
+	public String[] getColumnTypes() {
+		return columnTypes;
+	}
+
+	@Override
+	public boolean next() throws IOException {
+		if (chunk != null && ++rowIndex < chunk.getRowCount()) {
+			row.readRow(chunk, rowIndex);
+			return true;
+		}
+		if (chunk != null) {
+			// the array of the chunk is refilled by the background thread once recycled
+			row.detachBinaryStreams();
+			release(getReservedBytes(chunk.getBytes().length, chunk.getValues() != null));
+			recycle(chunk.getBytes());
+		}
+		chunk = nextChunk();
+		rowIndex = 0;
+		onRow = chunk != null;
+		if (onRow) {
+			row.readRow(chunk, rowIndex);
+		}
+		return onRow;
+	}
+
+	@Override
+	public boolean hasNext() throws IOException {
+		if (chunk != null && rowIndex + 1 < chunk.getRowCount()) {
+			return true;
+		}
+		if (nextChunk == null) {
+			nextChunk = nextChunk();
+		}
+		return nextChunk != null;
+	}
+
+	@Override
+	public boolean isOnRow() {
+		return onRow;
+	}
+
+	@Override
+	public boolean isNull(int index) {
+		return row().isNull(index);
+	}
+
+	@Override
+	public String getString(int index) {
+		return row().getString(index);
+	}
+
+	@Override
+	public long getLong(int index) throws SQLException {
+		return row().getLong(index);
+	}
+
+	@Override
+	public int getInt(int index) throws SQLException {
+		return row().getInt(index);
+	}
+
+	@Override
+	public short getShort(int index) throws SQLException {
+		return row().getShort(index);
+	}
+
+	@Override
+	public byte getByte(int index) {
+		return row().getByte(index);
+	}
+
+	@Override
+	public double getDouble(int index) {
+		return row().getDouble(index);
+	}
+
+	@Override
+	public float getFloat(int index) {
+		return row().getFloat(index);
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int index) {
+		return row().getBigDecimal(index);
+	}
+
+	@Override
+	public boolean getBoolean(int index) throws SQLException {
+		return row().getBoolean(index);
+	}
+
+	@Override
+	public byte[] getBytes(int index) {
+		return row().getBytes(index);
+	}
+
+	@Override
+	public InputStream getBinaryStream(int index) {
+		return row().getBinaryStream(index);
+	}
+
+	@Override
+	public ResultDecoder copyRow() {
+		return row().copyRow();
+	}
+
+	/**
+	 * Stops the background threads. The rows that were not read yet are discarded and any further attempt to read rows
+	 * fails.
+	 */
+	public void stop() {
+		closed = true;
+		if (reader != null) {
+			reader.interrupt();
+		}
+		// wakes up the thread reading the result if it is waiting for a chunk, the queue may have been filled again by
+		// the background thread before it saw the interruption
+		do {
+			queue.clear();
+		} while (!queue.offer(STOPPED));
+		release(Long.MAX_VALUE);
+	}
+
+	@Override
+	public void close() throws IOException {
+		stop();
+		// closing the stream also stops the background thread when it is waiting for the server
+		is.close();
+	}
+
+	private TsvResultDecoder row() {
+		if (!onRow) {
+			throw new IndexOutOfBoundsException("The decoder is not positioned on a row");
+		}
+		return row;
+	}
+
+	private TsvChunk nextChunk() throws IOException {
+		if (nextChunk != null) {
+			TsvChunk next = nextChunk;
+			nextChunk = null;
+			return next;
+		}
+		if (endOfRows || reader == null) {
+			return null;
+		}
+		if (failure != null) {
+			throw failure;
+		}
+		try {
+			CompletableFuture<TsvChunk> next = closed ? STOPPED : queue.take();
+			if (next == STOPPED || closed) {
+				failure = new IOException(STOPPED_ERROR);
+				throw failure;
+			} else if (next == END_OF_ROWS) {
+				endOfRows = true;
+				return null;
+			}
+			return next.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for the rows of the result");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			failure = cause instanceof IOException ? (IOException) cause : new IOException(cause.getMessage(), cause);
+			throw failure;
+		}
+	}
+
+	private void produce() {
+		try {
+			byte[] bytes = remainder;
+			int length = bytes.length;
+			remainder = null;
+			while (!closed) {
+				if (length == bytes.length) {
+					bytes = Arrays.copyOf(bytes, Math.max(chunkSize, length * 2));
+				}
+				int read = is.read(bytes, length, bytes.length - length);
+				if (read < 0) {
+					if (length > 0) {
+						submit(bytes, length);
+					}
+					queue.put(END_OF_ROWS);
+					return;
+				}
+				length += read;
+				int end = length == bytes.length ? lastIndexOf(bytes, NEW_LINE, length) + 1 : 0;
+				if (end > 0) {
+					// the rows after the last complete one are moved to the next chunk
+					byte[] next = newChunk(length - end);
+					System.arraycopy(bytes, end, next, 0, length - end);
+					submit(bytes, end);
+					bytes = next;
+					length -= end;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			if (closed) {
+				log.debug("Stopped reading the rows of a closed result: {}", e.getMessage());
+				return;
+			}
+			try {
+				queue.put(CompletableFuture.failedFuture(e));
+			} catch (InterruptedException interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void submit(byte[] bytes, int length) throws InterruptedException {
+		boolean[] columns = decodedColumns;
+		reserve(getReservedBytes(bytes.length, columns != null));
+		if (closed) {
+			return;
+		}
+		queue.put(CompletableFuture.supplyAsync(() -> decode(bytes, length, columns), POOL));
+	}
+
+	private static TsvChunk decode(byte[] bytes, int length, boolean[] columns) {
+		TsvChunk chunk = TsvChunk.index(bytes, length);
+		if (columns != null) {
+			chunk.decodeStrings(columns);
+		}
+		return chunk;
+	}
+
+	/**
+	 * @return the bytes reserved for a chunk: its array and, if its strings are decoded, as much again for them
+	 */
+	private static long getReservedBytes(int chunkLength, boolean decoded) {
+		return decoded ? 2L * chunkLength : chunkLength;
+	}
+
+	/**
+	 * @return true for the columns read through their strings, null if there is none
+	 */
+	private static boolean[] getDecodedColumns(String[] columnTypes) {
+		boolean[] columns = new boolean[columnTypes.length];
+		boolean any = false;
+		for (int i = 0; i < columnTypes.length; i++) {
+			columns[i] = !PARSED_TYPES.contains(ColumnType.of(columnTypes[i]).getDataType());
+			any |= columns[i];
+		}
+		return any ? columns : null;
+	}
+
+	/**
+	 * @return an array of the size of the chunks, reused if possible, or bigger if needed
+	 */
+	private byte[] newChunk(int minLength) {
+		byte[] bytes = minLength <= chunkSize ? freeChunks.poll() : null;
+		return bytes != null ? bytes : new byte[Math.max(chunkSize, minLength)];
+	}
+
+	private void recycle(byte[] bytes) {
+		// the bigger arrays of the long rows are not kept
+		if (bytes.length == chunkSize) {
+			freeChunks.offer(bytes);
+		}
+	}
+
+	/**
+	 * Reserves the bytes of a chunk, waiting while the budget is exhausted unless the thread reading the result has no
+	 * chunk left to read
+	 */
+	private void reserve(long bytes) throws InterruptedException {
+		budget.reserve(bytes, queue::isEmpty);
+		synchronized (this) {
+			reservedBytes += bytes;
+		}
+		if (closed) {
+			// the decoder was stopped while waiting: nothing will release the chunk
+			release(bytes);
+		}
+	}
+
+	private void release(long bytes) {
+		long released;
+		synchronized (this) {
+			released = Math.min(bytes, reservedBytes);
+			reservedBytes -= released;
+		}
+		if (released > 0) {
+			budget.release(released);
+		}
+	}
+
+	/**
+	 * @return the offset right after the second line terminator of the bytes if it is between from and to, -1 otherwise
+	 */
+	private static int findHeaderEnd(byte[] bytes, int from, int to) {
+		int lines = 0;
+		for (int i = 0; i < from; i++) {
+			if (bytes[i] == NEW_LINE) {
+				lines++;
+			}
+		}
+		for (int i = from; i < to; i++) {
+			if (bytes[i] == NEW_LINE && ++lines == 2) {
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+
+	private static int lastIndexOf(byte[] bytes, byte value, int length) {
+		for (int i = length - 1; i >= 0; i--) {
+			if (bytes[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static ForkJoinPool createPool(int parallelism) {
+		return new ForkJoinPool(parallelism, pool -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName(WORKER_THREAD_NAME + thread.getPoolIndex());
+			thread.setDaemon(true);
+			return thread;
+		}, null, false);
+	}
+}
@@ -0,0 +1,362 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import lombok.CustomLog;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Decoder that reads the rows of another decoder in a background thread. The rows are copied (see
+ * {@link ResultDecoder#copyRow()}) into batches of at most {@value #MAX_BATCH_SIZE} rows that are handed over to the
+ * thread reading the result through a bounded queue: the reading thread only waits when no batch is ready and the
+ * background thread waits when the queue is full, so no more than {@value #QUEUE_CAPACITY} + 2 batches are kept in
+ * memory. The bytes of the rows are also reserved in a {@link ResultMemoryBudget} every
+ * {@value #RESERVATION_BYTES} bytes while a batch is filled: the background thread waits before reading rows that do
+ * not fit in the budget until the thread reading the result has read the batches before them.
+ */
+@CustomLog
+public class PrefetchResultDecoder implements ResultDecoder {
+	private static final int QUEUE_CAPACITY = 2;
+	// bounds the memory of a batch whatever the fetch size, the storage of the rows grows up to it
+	private static final int MAX_BATCH_SIZE = 64 * 1024;
+	private static final int INITIAL_BATCH_CAPACITY = 1024;
+	private static final long RESERVATION_BYTES = 64 * 1024L;
+	private static final String THREAD_NAME = "firebolt-result-prefetch";
+	private static final long CLOSE_TIMEOUT_MILLIS = 1000;
+	private static final Batch NO_ROWS = new Batch(new ResultDecoder[0], 0, 0, null);
+	private static final Batch END_OF_ROWS = new Batch(new ResultDecoder[0], 0, 0, null);
+	private static final Batch STOPPED = new Batch(new ResultDecoder[0], 0, 0, null);
+	private static final String STOPPED_ERROR = "The reading of the rows was stopped";
+
+	private final ResultDecoder decoder;
+	private final int batchSize;
+	private final ResultMemoryBudget budget;
+	private final BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+	private volatile boolean closed;
+	private Thread producer;
+	private Batch batch = NO_ROWS;
+	// batch taken from the queue by hasNext() and not read yet
+	private Batch nextBatch;
+	private int index;
+	private boolean onRow;
+	// failure of the background thread, thrown again on each attempt to read more rows
+	private IOException failure;
+	// bytes of the batches reserved in the budget and not released yet
+	private long reservedBytes;
+
+	/**
+	 * @param decoder the decoder of the response
+	 * @param batchSize the number of rows of each batch, at most {@value #MAX_BATCH_SIZE}
+	 */
+	public PrefetchResultDecoder(ResultDecoder decoder, int batchSize) {
+		this(decoder, batchSize, ResultMemoryBudget.global());
+	}
+
+	/**
+	 * @param decoder the decoder of the response
+	 * @param batchSize the number of rows of each batch, at most {@value #MAX_BATCH_SIZE}
+	 * @param budget the budget in which the bytes of the batches are reserved
+	 */
+	public PrefetchResultDecoder(ResultDecoder decoder, int batchSize, ResultMemoryBudget budget) {
+		if (batchSize <= 0) {
+			throw new IllegalArgumentException("The size of the batches must be greater than 0");
+		}
+		this.decoder = decoder;
+		this.batchSize = Math.min(batchSize, MAX_BATCH_SIZE);
+		this.budget = budget;
+	}
+
+	/**
+	 * Reads the header in the calling thread and then starts reading the rows in the background
+	 */
+	@Override
+	public void readHeader() throws IOException, SQLException {
+		decoder.readHeader();
+		producer = new Thread(this::produce, THREAD_NAME);
+		producer.setDaemon(true);
+		producer.start();
+	}
+
+	@Override
+	public String[] getColumnNames() {
+		return decoder.getColumnNames();
+	}
+
+	@Override
+	public String[] getColumnTypes() {
+		return decoder.getColumnTypes();
+	}
+
+	@Override
+	public boolean next() throws IOException {
+		if (++index < batch.size) {
+			return true;
+		}
+		release(batch.bytes);
+		batch = nextBatch();
+		index = 0;
+		onRow = batch.size > 0;
+		return onRow;
+	}
+
+	@Override
+	public boolean hasNext() throws IOException {
+		if (index + 1 < batch.size) {
+			return true;
+		}
+		if (nextBatch == null) {
+			nextBatch = nextBatch();
+		}
+		return nextBatch.size > 0;
+	}
+
+	@Override
+	public boolean isOnRow() {
+		return onRow;
+	}
+
+	@Override
+	public boolean isNull(int index) {
+		return row().isNull(index);
+	}
+
+	@Override
+	public String getString(int index) {
+		return row().getString(index);
+	}
+
+	@Override
+	public long getLong(int index) throws SQLException {
+		return row().getLong(index);
+	}
+
+	@Override
+	public int getInt(int index) throws SQLException {
+		return row().getInt(index);
+	}
+
+	@Override
+	public short getShort(int index) throws SQLException {
+		return row().getShort(index);
+	}
+
+	@Override
+	public byte getByte(int index) throws SQLException {
+		return row().getByte(index);
+	}
+
+	@Override
+	public double getDouble(int index) throws SQLException {
+		return row().getDouble(index);
+	}
+
+	@Override
+	public float getFloat(int index) throws SQLException {
+		return row().getFloat(index);
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int index) throws SQLException {
+		return row().getBigDecimal(index);
+	}
+
+	@Override
+	public boolean getBoolean(int index) throws SQLException {
+		return row().getBoolean(index);
+	}
+
+	@Override
+	public byte[] getBytes(int index) throws SQLException {
+		return row().getBytes(index);
+	}
+
+	@Override
+	public InputStream getBinaryStream(int index) throws SQLException {
+		return row().getBinaryStream(index);
+	}
+
+	@Override
+	public ResultDecoder copyRow() {
+		return row().copyRow();
+	}
+
+	/**
+	 * @return the current row, which was already copied by the background thread
+	 */
+	@Override
+	public ResultDecoder shareRow() {
+		return row();
+	}
+
+	/**
+	 * Stops the background thread. The rows that were prefetched are discarded and any further attempt to read rows
+	 * fails.
+	 */
+	public void stop() {
+		closed = true;
+		if (producer != null) {
+			producer.interrupt();
+		}
+		// wakes up the thread reading the result if it is waiting for a batch, the queue may have been filled again by
+		// the background thread before it saw the interruption
+		do {
+			queue.clear();
+		} while (!queue.offer(STOPPED));
+		release(Long.MAX_VALUE);
+	}
+
+	/**
+	 * Stops the background thread, closes the decoder of the response and waits up to {@value #CLOSE_TIMEOUT_MILLIS}
+	 * ms for the background thread to end so that it does not outlive the result set
+	 */
+	@Override
+	public void close() throws IOException {
+		stop();
+		// closing the stream also stops the background thread when it is waiting for the server
+		decoder.close();
+		if (producer != null && producer != Thread.currentThread()) {
+			try {
+				producer.join(CLOSE_TIMEOUT_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (producer.isAlive()) {
+				log.warn("The thread prefetching the rows of the result did not stop after {} ms", CLOSE_TIMEOUT_MILLIS);
+			}
+		}
+	}
+
+	private ResultDecoder row() {
+		if (!onRow) {
+			throw new IndexOutOfBoundsException("The decoder is not positioned on a row");
+		}
+		return batch.rows[index];
+	}
+
+	private Batch nextBatch() throws IOException {
+		if (nextBatch != null) {
+			Batch next = nextBatch;
+			nextBatch = null;
+			return next;
+		}
+		if (batch == END_OF_ROWS || producer == null) {
+			return END_OF_ROWS;
+		}
+		if (failure != null) {
+			throw failure;
+		}
+		try {
+			Batch next = closed ? STOPPED : queue.take();
+			if (next == STOPPED || closed) {
+				failure = new IOException(STOPPED_ERROR);
+				throw failure;
+			} else if (next.error != null) {
+				failure = next.error instanceof IOException ? (IOException) next.error : new IOException(next.error.getMessage(), next.error);
+				throw failure;
+			}
+			return next;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for the rows of the result");
+		}
+	}
+
+	private void produce() {
+		try {
+			while (!closed) {
+				ResultDecoder[] rows = new ResultDecoder[Math.min(batchSize, INITIAL_BATCH_CAPACITY)];
+				int size = 0;
+				long bytes = 0;
+				long unreservedBytes = 0;
+				while (size < batchSize && !closed && decoder.next()) {
+					if (size == rows.length) {
+						rows = Arrays.copyOf(rows, (int) Math.min(batchSize, 2L * rows.length));
+					}
+					long rowSize = decoder.getRowSize();
+					bytes += rowSize;
+					unreservedBytes += rowSize;
+					rows[size++] = decoder.copyRow();
+					if (unreservedBytes >= RESERVATION_BYTES) {
+						reserve(unreservedBytes);
+						unreservedBytes = 0;
+					}
+				}
+				if (closed) {
+					return;
+				}
+				if (size > 0) {
+					reserve(unreservedBytes);
+					if (closed) {
+						return;
+					}
+					queue.put(new Batch(rows, size, bytes, null));
+				}
+				if (size < batchSize) {
+					queue.put(END_OF_ROWS);
+					return;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (Exception e) {
+			if (closed) {
+				log.debug("Stopped reading the rows of a closed result: {}", e.getMessage());
+				return;
+			}
+			try {
+				queue.put(new Batch(null, 0, 0, e));
+			} catch (InterruptedException interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Reserves the bytes of rows of a batch, waiting while the budget is exhausted unless the thread reading the result
+	 * has no batch left to read
+	 */
+	private void reserve(long bytes) throws InterruptedException {
+		if (bytes == 0) {
+			return;
+		}
+		budget.reserve(bytes, queue::isEmpty);
+		synchronized (this) {
+			reservedBytes += bytes;
+		}
+		if (closed) {
+			// the decoder was stopped while waiting: nothing will release the batch
+			release(bytes);
+		}
+	}
+
+	private void release(long bytes) {
+		long released;
+		synchronized (this) {
+			released = Math.min(bytes, reservedBytes);
+			reservedBytes -= released;
+		}
+		if (released > 0) {
+			budget.release(released);
+		}
+	}
+
+	private static final class Batch {
+		private final ResultDecoder[] rows;
+		private final int size;
+		private final long bytes;
+		private final Exception error;
+
+		private Batch(ResultDecoder[] rows, int size, long bytes, Exception error) {
+			this.rows = rows;
+			this.size = size;
+			this.bytes = bytes;
+			this.error = error;
+		}
+	}
+}
@@ -0,0 +1,170 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import com.firebolt.jdbc.type.BaseType;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.channels.WritableByteChannel;
+import java.sql.SQLException;
+
+/**
+ * Decoder of the response of a query. A decoder reads the header of the response (names and types of the columns) and
+ * then iterates over the rows.
+ * <p>
+ * {@link #getString(int)} returns the value of a field in the text form of the format "TabSeparated" (escaped, arrays
+ * between brackets, bytea in hex...) whatever the format of the response, so the conversions of
+ * {@link com.firebolt.jdbc.type.BaseType} can be used with all the decoders. The primitive getters should be
+ * implemented without creating this text form when the format allows it. None of the getters can be called when the
+ * field is NULL.
+ */
+public interface ResultDecoder extends Closeable {
+	String TRANSFER_NOT_SUPPORTED = "The rows of the response were read ahead and cannot be transferred as they are";
+
+	/**
+	 * Reads the names and the types of the columns. Must be called once before reading the rows.
+	 *
+	 * @throws IOException if the stream cannot be read
+	 * @throws SQLException if the header cannot be decoded
+	 */
+	void readHeader() throws IOException, SQLException;
+
+	/**
+	 * @return the names of the columns (unescaped), empty if the response is empty
+	 */
+	String[] getColumnNames();
+
+	/**
+	 * @return the types of the columns as returned by the server, empty if the response is empty
+	 */
+	String[] getColumnTypes();
+
+	/**
+	 * Moves to the next row
+	 *
+	 * @return true if there is a row, false if the end of the stream was reached
+	 * @throws IOException if the stream cannot be read
+	 */
+	boolean next() throws IOException;
+
+	/**
+	 * Checks if there is another row after the current one without moving to it
+	 *
+	 * @return true if there is another row
+	 * @throws IOException if the stream cannot be read
+	 */
+	boolean hasNext() throws IOException;
+
+	/**
+	 * @return true if the decoder is positioned on a row, false before the first row or after the last one
+	 */
+	boolean isOnRow();
+
+	/**
+	 * @param index the index of the field starting from 0
+	 * @return true if the field contains NULL
+	 */
+	boolean isNull(int index);
+
+	/**
+	 * @param index the index of the field starting from 0
+	 * @return the value of the field in the text form of the format "TabSeparated"
+	 */
+	String getString(int index);
+
+	long getLong(int index) throws SQLException;
+
+	int getInt(int index) throws SQLException;
+
+	short getShort(int index) throws SQLException;
+
+	byte getByte(int index) throws SQLException;
+
+	double getDouble(int index) throws SQLException;
+
+	float getFloat(int index) throws SQLException;
+
+	boolean getBoolean(int index) throws SQLException;
+
+	/**
+	 * @param index the index of the field starting from 0
+	 * @return the decimal value of the field, null if the field is empty
+	 * @throws SQLException if the field cannot be read
+	 */
+	default BigDecimal getBigDecimal(int index) throws SQLException {
+		String value = getString(index);
+		return value.isEmpty() ? null : BaseType.NUMERIC.transform(value);
+	}
+
+	byte[] getBytes(int index) throws SQLException;
+
+	/**
+	 * Returns the bytes of a field (see {@link #getBytes(int)}) as a stream. The stream can only be read while the
+	 * decoder is on the row.
+	 *
+	 * @param index the index of the field starting from 0
+	 * @return the stream of the bytes of the field
+	 * @throws SQLException if the field cannot be read
+	 */
+	default InputStream getBinaryStream(int index) throws SQLException {
+		return new ByteArrayInputStream(getBytes(index));
+	}
+
+	/**
+	 * Copies the current row. The copy is a decoder positioned on this row that is not affected when this decoder
+	 * moves to another row and that cannot move itself ({@link #next()} returns false): it can be read by another
+	 * thread.
+	 *
+	 * @return the copy of the current row
+	 */
+	ResultDecoder copyRow();
+
+	/**
+	 * Same as {@link #copyRow()} but the current row is returned as is when it is already a copy that this decoder
+	 * does not change, so it may be shared with this decoder: the caller must not move it.
+	 *
+	 * @return the current row or its copy
+	 */
+	default ResultDecoder shareRow() {
+		return copyRow();
+	}
+
+	/**
+	 * @return the number of bytes of the current row in the response, used to account for the memory of the rows read
+	 *         ahead (see {@link ResultMemoryBudget}), 0 if unknown
+	 */
+	default int getRowSize() {
+		return 0;
+	}
+
+	/**
+	 * @return true if the rows can be transferred with {@link #transferTo(OutputStream)}, false if they are read ahead
+	 *         by the decoder
+	 */
+	default boolean supportsTransfer() {
+		return false;
+	}
+
+	/**
+	 * Writes the rows that were not read yet as they are in the response, without decoding them. The decoder is after
+	 * the last row afterwards.
+	 *
+	 * @param out the stream to write to
+	 * @return the number of bytes written
+	 * @throws IOException if a stream cannot be read or written
+	 * @throws UnsupportedOperationException if {@link #supportsTransfer()} returns false
+	 */
+	default long transferTo(OutputStream out) throws IOException {
+		throw new UnsupportedOperationException(TRANSFER_NOT_SUPPORTED);
+	}
+
+	/**
+	 * Same as {@link #transferTo(OutputStream)} with a channel
+	 */
+	default long transferTo(WritableByteChannel channel) throws IOException {
+		throw new UnsupportedOperationException(TRANSFER_NOT_SUPPORTED);
+	}
+}
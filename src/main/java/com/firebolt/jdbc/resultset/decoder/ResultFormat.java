@@ -0,0 +1,70 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static java.lang.String.format;
+
+/**
+ * Formats of the responses of the queries supported by the driver, with the decoder of each one
+ */
+@Getter
+public enum ResultFormat {
+	TAB_SEPARATED_WITH_NAMES_AND_TYPES("TabSeparatedWithNamesAndTypes", TsvResultDecoder::new),
+	ROW_BINARY_WITH_NAMES_AND_TYPES(RowBinaryResultDecoder.FORMAT_NAME, RowBinaryResultDecoder::new);
+
+	private final String formatName;
+	@Getter(AccessLevel.NONE)
+	private final DecoderFactory decoderFactory;
+
+	ResultFormat(String formatName, DecoderFactory decoderFactory) {
+		this.formatName = formatName;
+		this.decoderFactory = decoderFactory;
+	}
+
+	/**
+	 * Creates the decoder of a response
+	 *
+	 * @param is the stream of the response (decompressed)
+	 * @param bufferSize the initial size of the buffer of the decoder
+	 * @return the decoder
+	 */
+	public ResultDecoder createDecoder(InputStream is, int bufferSize) {
+		return createDecoder(is, bufferSize, 0);
+	}
+
+	/**
+	 * Creates the decoder of a response that skips the bytes of the text and bytea values that cannot be returned
+	 *
+	 * @param is the stream of the response (decompressed)
+	 * @param bufferSize the initial size of the buffer of the decoder
+	 * @param maxFieldSize the maximum number of characters or bytes returned for a value (0 for no limit)
+	 * @return the decoder
+	 */
+	public ResultDecoder createDecoder(InputStream is, int bufferSize, int maxFieldSize) {
+		return decoderFactory.create(is, bufferSize, maxFieldSize);
+	}
+
+	/**
+	 * Returns the format with the given name (case-insensitive)
+	 *
+	 * @param formatName the name of the format, null for the default format (TabSeparatedWithNamesAndTypes)
+	 * @return the format
+	 * @throws IllegalArgumentException if the format is not supported
+	 */
+	public static ResultFormat of(String formatName) {
+		if (formatName == null || formatName.isEmpty()) {
+			return TAB_SEPARATED_WITH_NAMES_AND_TYPES;
+		}
+		return Arrays.stream(values()).filter(resultFormat -> resultFormat.formatName.equalsIgnoreCase(formatName)).findFirst()
+				.orElseThrow(() -> new IllegalArgumentException(format("Unsupported result format: %s", formatName)));
+	}
+
+	@FunctionalInterface
+	private interface DecoderFactory {
+		ResultDecoder create(InputStream is, int bufferSize, int maxFieldSize);
+	}
+}
@@ -0,0 +1,105 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Limit of the bytes of the results read ahead of the thread reading them (batches of {@link PrefetchResultDecoder},
+ * chunks of {@link ParallelResultDecoder}). Each connection has its own budget whose parent is the budget shared by the
+ * whole JVM, so a reservation must fit in both.
+ * <p>
+ * When the budget is exhausted the background threads reading the results wait until the bytes are released instead
+ * of reading more. A reservation is always granted when nothing is reserved or when the caller must proceed (for
+ * instance when the thread reading the result has nothing left to read), so a single row bigger than the budget never
+ * blocks the reading of a result.
+ */
+public class ResultMemoryBudget {
+	/**
+	 * System property with the number of bytes of the budget shared by the JVM, 0 (default) for no limit
+	 */
+	public static final String GLOBAL_BUDGET_PROPERTY = "firebolt.jdbc.result_memory_budget";
+	private static final long WAIT_MILLIS = 10;
+	private static final ResultMemoryBudget GLOBAL = new ResultMemoryBudget(Long.getLong(GLOBAL_BUDGET_PROPERTY, 0), null);
+
+	private final ResultMemoryBudget parent;
+	private volatile long maxBytes;
+	private long usedBytes;
+
+	/**
+	 * @param maxBytes the number of bytes that can be reserved, 0 for no limit
+	 * @param parent the budget in which the bytes are also reserved, null if none
+	 */
+	public ResultMemoryBudget(long maxBytes, ResultMemoryBudget parent) {
+		if (maxBytes < 0) {
+			throw new IllegalArgumentException("The memory budget cannot be negative");
+		}
+		this.maxBytes = maxBytes;
+		this.parent = parent;
+	}
+
+	/**
+	 * @return the budget shared by all the connections of the JVM
+	 */
+	public static ResultMemoryBudget global() {
+		return GLOBAL;
+	}
+
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * @param maxBytes the number of bytes that can be reserved, 0 for no limit
+	 */
+	public synchronized void setMaxBytes(long maxBytes) {
+		if (maxBytes < 0) {
+			throw new IllegalArgumentException("The memory budget cannot be negative");
+		}
+		this.maxBytes = maxBytes;
+		notifyAll();
+	}
+
+	public synchronized long getUsedBytes() {
+		return usedBytes;
+	}
+
+	/**
+	 * Reserves bytes, waiting for other reservations to be released if the budget is exhausted
+	 *
+	 * @param bytes the number of bytes
+	 * @param mustProceed checked while waiting, the bytes are reserved without waiting any longer when it returns true
+	 * @throws InterruptedException if the thread is interrupted while waiting, nothing is reserved then
+	 */
+	public void reserve(long bytes, BooleanSupplier mustProceed) throws InterruptedException {
+		synchronized (this) {
+			while (maxBytes > 0 && usedBytes > 0 && usedBytes + bytes > maxBytes && !mustProceed.getAsBoolean()) {
+				wait(WAIT_MILLIS);
+			}
+			usedBytes += bytes;
+		}
+		if (parent != null) {
+			try {
+				parent.reserve(bytes, mustProceed);
+			} catch (InterruptedException e) {
+				releaseLocally(bytes);
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Releases bytes reserved with {@link #reserve(long, BooleanSupplier)}
+	 *
+	 * @param bytes the number of bytes
+	 */
+	public void release(long bytes) {
+		releaseLocally(bytes);
+		if (parent != null) {
+			parent.release(bytes);
+		}
+	}
+
+	private synchronized void releaseLocally(long bytes) {
+		usedBytes = Math.max(0, usedBytes - bytes);
+		notifyAll();
+	}
+}
@@ -0,0 +1,157 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+/**
+ * Decoder iterating over rows already read and copied by another decoder (see {@link ResultDecoder#copyRow()}). It
+ * does not read any stream so it can be used by another thread than the one reading the response.
+ */
+public class RowArrayResultDecoder implements ResultDecoder {
+	private final String[] columnNames;
+	private final String[] columnTypes;
+	private final ResultDecoder[] rows;
+	private final int size;
+	// index of the current row: -1 before the first row and size after the last one
+	private int index = -1;
+
+	/**
+	 * @param columnNames the names of the columns
+	 * @param columnTypes the types of the columns
+	 * @param rows the copied rows
+	 * @param size the number of rows in the array
+	 */
+	public RowArrayResultDecoder(String[] columnNames, String[] columnTypes, ResultDecoder[] rows, int size) {
+		this.columnNames = columnNames;
+		this.columnTypes = columnTypes;
+		this.rows = rows;
+		this.size = size;
+	}
+
+	/**
+	 * Does nothing as the header was read by the decoder of the response
+	 */
+	@Override
+	public void readHeader() {
+		// nothing to read
+	}
+
+	@Override
+	public String[] getColumnNames() {
+		return columnNames;
+	}
+
+	@Override
+	public String[] getColumnTypes() {
+		return columnTypes;
+	}
+
+	/**
+	 * @return the number of rows after the current one
+	 */
+	public int getRemainingRowCount() {
+		return Math.max(size - index - 1, 0);
+	}
+
+	@Override
+	public boolean next() {
+		index = Math.min(index + 1, size);
+		return isOnRow();
+	}
+
+	@Override
+	public boolean hasNext() {
+		return index + 1 < size;
+	}
+
+	@Override
+	public boolean isOnRow() {
+		return index >= 0 && index < size;
+	}
+
+	@Override
+	public boolean isNull(int index) {
+		return row().isNull(index);
+	}
+
+	@Override
+	public String getString(int index) {
+		return row().getString(index);
+	}
+
+	@Override
+	public long getLong(int index) throws SQLException {
+		return row().getLong(index);
+	}
+
+	@Override
+	public int getInt(int index) throws SQLException {
+		return row().getInt(index);
+	}
+
+	@Override
+	public short getShort(int index) throws SQLException {
+		return row().getShort(index);
+	}
+
+	@Override
+	public byte getByte(int index) throws SQLException {
+		return row().getByte(index);
+	}
+
+	@Override
+	public double getDouble(int index) throws SQLException {
+		return row().getDouble(index);
+	}
+
+	@Override
+	public float getFloat(int index) throws SQLException {
+		return row().getFloat(index);
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int index) throws SQLException {
+		return row().getBigDecimal(index);
+	}
+
+	@Override
+	public boolean getBoolean(int index) throws SQLException {
+		return row().getBoolean(index);
+	}
+
+	@Override
+	public byte[] getBytes(int index) throws SQLException {
+		return row().getBytes(index);
+	}
+
+	@Override
+	public InputStream getBinaryStream(int index) throws SQLException {
+		return row().getBinaryStream(index);
+	}
+
+	@Override
+	public ResultDecoder copyRow() {
+		return row().copyRow();
+	}
+
+	/**
+	 * @return the current row, which is already a copy
+	 */
+	@Override
+	public ResultDecoder shareRow() {
+		return row();
+	}
+
+	@Override
+	public void close() {
+		index = size;
+	}
+
+	private ResultDecoder row() {
+		if (!isOnRow()) {
+			throw new IndexOutOfBoundsException("The decoder is not positioned on a row");
+		}
+		return rows[index];
+	}
+}
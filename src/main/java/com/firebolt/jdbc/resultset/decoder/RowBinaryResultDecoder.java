@@ -0,0 +1,940 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import com.firebolt.jdbc.exception.FireboltException;
+import com.firebolt.jdbc.resultset.column.ColumnType;
+import com.firebolt.jdbc.type.BaseType;
+import com.firebolt.jdbc.type.array.SqlArrayUtil;
+import com.firebolt.jdbc.util.InputStreamUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.channels.WritableByteChannel;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TimeZone;
+
+import static java.lang.String.format;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Decoder of a response in the format "RowBinaryWithNamesAndTypes". The header contains the number of columns followed
+ * by the names and then the types of the columns. Each row contains the values of its fields one after the other:
+ * <ul>
+ *     <li>integers, floats, dates ({@code UInt16} or {@code Int32} days) and timestamps ({@code UInt32} seconds or
+ *     {@code Int64} ticks) in little endian</li>
+ *     <li>decimals as little endian integers of 4, 8, 16 or 32 bytes depending on their precision</li>
+ *     <li>strings and bytea as their length followed by their bytes</li>
+ *     <li>arrays as their length followed by their elements</li>
+ *     <li>nullable values prefixed by a byte that is 1 when the value is NULL</li>
+ * </ul>
+ * Lengths are unsigned LEB128. Numbers are decoded into primitives that are returned as is by the primitive getters,
+ * the text form of a value is only created when it is read as a String.
+ */
+public class RowBinaryResultDecoder implements ResultDecoder {
+	public static final String FORMAT_NAME = "RowBinaryWithNamesAndTypes";
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+	private static final String[] NO_FIELDS = new String[0];
+	private static final FieldReader[] NO_READERS = new FieldReader[0];
+	private static final VarHandle SHORT = MethodHandles.byteArrayViewVarHandle(short[].class, LITTLE_ENDIAN);
+	private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, LITTLE_ENDIAN);
+	private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, LITTLE_ENDIAN);
+	private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L,
+			100_000_000L, 1_000_000_000L };
+	private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss");
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+	// floats whose decimal exponent is in this range are written without exponent, as in TabSeparated
+	private static final int MIN_PLAIN_FLOAT_EXPONENT = -6;
+	private static final int MAX_PLAIN_FLOAT_EXPONENT = 21;
+
+	private final InputStream is;
+	private final int maxFieldSize;
+	private byte[] buffer;
+	private int position;
+	private int limit;
+	// number of bytes of the stream moved out of the buffer, position + shifted is the offset in the stream
+	private long shifted;
+	private int rowSize;
+	private boolean endOfStream;
+	private boolean onRow;
+	private String[] columnNames = NO_FIELDS;
+	private String[] columnTypes = NO_FIELDS;
+	private FieldReader[] readers = NO_READERS;
+	// maximum number of bytes kept for the field of each column (0 for no limit)
+	private int[] maxFieldBytes = new int[0];
+	// values of the current row: integers, booleans, dates, timestamps and small decimals are kept in longValues, floats
+	// in doubleValues and all the other values in objectValues
+	private boolean[] nulls;
+	private long[] longValues;
+	private double[] doubleValues;
+	private Object[] objectValues;
+	private String[] stringValues;
+
+	public RowBinaryResultDecoder(InputStream is, int bufferSize) {
+		this(is, bufferSize, 0);
+	}
+
+	/**
+	 * @param maxFieldSize the maximum number of characters or bytes returned for a value of a text or bytea column (0
+	 *                     for no limit). The bytes of the fields that cannot be returned are skipped while the rows are
+	 *                     read, without being kept in the buffer.
+	 */
+	public RowBinaryResultDecoder(InputStream is, int bufferSize, int maxFieldSize) {
+		this.is = is;
+		this.maxFieldSize = maxFieldSize;
+		this.buffer = new byte[bufferSize > 0 ? bufferSize : DEFAULT_BUFFER_SIZE];
+	}
+
+	private RowBinaryResultDecoder(RowBinaryResultDecoder row) {
+		is = InputStream.nullInputStream();
+		maxFieldSize = 0;
+		buffer = new byte[0];
+		endOfStream = true;
+		onRow = true;
+		columnNames = row.columnNames;
+		columnTypes = row.columnTypes;
+		readers = row.readers;
+		// the decoded values are immutable so only the arrays are copied
+		nulls = row.nulls.clone();
+		longValues = row.longValues.clone();
+		doubleValues = row.doubleValues.clone();
+		objectValues = row.objectValues.clone();
+		stringValues = row.stringValues.clone();
+		rowSize = row.rowSize;
+	}
+
+	@Override
+	public void readHeader() throws IOException, SQLException {
+		if (!hasNext()) {
+			return;
+		}
+		int count = readLength();
+		String[] names = new String[count];
+		for (int i = 0; i < count; i++) {
+			names[i] = readString();
+		}
+		String[] types = new String[count];
+		FieldReader[] fieldReaders = new FieldReader[count];
+		for (int i = 0; i < count; i++) {
+			// the types are kept in the form they have in the format TabSeparated (quotes of time zones escaped)
+			types[i] = escape(readString(), true);
+			fieldReaders[i] = FieldReader.of(types[i]);
+		}
+		columnNames = names;
+		columnTypes = types;
+		readers = fieldReaders;
+		maxFieldBytes = new int[count];
+		for (int i = 0; i < count && maxFieldSize > 0; i++) {
+			// a character of a text takes up to 4 bytes
+			if (fieldReaders[i].kind == Kind.TEXT) {
+				maxFieldBytes[i] = (int) Math.min(Integer.MAX_VALUE, 4L * maxFieldSize);
+			} else if (fieldReaders[i].kind == Kind.BYTEA) {
+				maxFieldBytes[i] = maxFieldSize;
+			}
+		}
+		nulls = new boolean[count];
+		longValues = new long[count];
+		doubleValues = new double[count];
+		objectValues = new Object[count];
+		stringValues = new String[count];
+	}
+
+	@Override
+	public String[] getColumnNames() {
+		return columnNames;
+	}
+
+	@Override
+	public String[] getColumnTypes() {
+		return columnTypes;
+	}
+
+	@Override
+	public boolean next() throws IOException {
+		if (onRow) {
+			Arrays.fill(objectValues, null);
+			Arrays.fill(stringValues, null);
+		}
+		if (!hasNext()) {
+			onRow = false;
+			return false;
+		}
+		long start = shifted + position;
+		for (int i = 0; i < readers.length; i++) {
+			readField(i);
+		}
+		rowSize = (int) Math.min(Integer.MAX_VALUE, shifted + position - start);
+		onRow = true;
+		return true;
+	}
+
+	@Override
+	public boolean hasNext() throws IOException {
+		return position < limit || fill(1);
+	}
+
+	@Override
+	public boolean isOnRow() {
+		return onRow;
+	}
+
+	@Override
+	public boolean isNull(int index) {
+		checkIndex(index);
+		return nulls[index];
+	}
+
+	@Override
+	public String getString(int index) {
+		FieldReader reader = checkIndex(index);
+		String value = stringValues[index];
+		if (value == null) {
+			if (reader.kind == Kind.TEXT) {
+				value = escape(new String((byte[]) objectValues[index], UTF_8), false);
+			} else {
+				StringBuilder sb = new StringBuilder();
+				appendText(sb, reader, getValue(reader, index), false);
+				value = sb.toString();
+			}
+			stringValues[index] = value;
+		}
+		return value;
+	}
+
+	/*
+	 * The primitive getters below return the decoded value when the type of the column allows it. Otherwise, the value
+	 * is converted from its text form exactly like the value of a response in the format TabSeparated.
+	 */
+
+	@Override
+	public long getLong(int index) throws SQLException {
+		FieldReader reader = checkIndex(index);
+		return isLong(reader, index) ? longValues[index] : BaseType.LONG.<Long>transform(getString(index));
+	}
+
+	@Override
+	public int getInt(int index) throws SQLException {
+		FieldReader reader = checkIndex(index);
+		if (isLong(reader, index) && longValues[index] == (int) longValues[index]) {
+			return (int) longValues[index];
+		}
+		return BaseType.INTEGER.<Integer>transform(getString(index));
+	}
+
+	@Override
+	public short getShort(int index) throws SQLException {
+		FieldReader reader = checkIndex(index);
+		if (isLong(reader, index) && longValues[index] == (short) longValues[index]) {
+			return (short) longValues[index];
+		}
+		return BaseType.SHORT.<Short>transform(getString(index));
+	}
+
+	@Override
+	public byte getByte(int index) {
+		FieldReader reader = checkIndex(index);
+		if (isLong(reader, index) && longValues[index] == (byte) longValues[index]) {
+			return (byte) longValues[index];
+		}
+		return Byte.parseByte(getString(index));
+	}
+
+	@Override
+	public double getDouble(int index) {
+		FieldReader reader = checkIndex(index);
+		if (reader.kind == Kind.FLOAT && reader.size == Float.BYTES) {
+			// the decimal value of the real as in TabSeparated (1.1 rather than 1.100000023841858)
+			return Double.parseDouble(Float.toString((float) doubleValues[index]));
+		} else if (reader.kind == Kind.FLOAT) {
+			return doubleValues[index];
+		} else if (isLong(reader, index)) {
+			return longValues[index];
+		}
+		byte[] text = getString(index).getBytes(UTF_8);
+		return NumberParser.parseDouble(text, 0, text.length);
+	}
+
+	@Override
+	public float getFloat(int index) {
+		FieldReader reader = checkIndex(index);
+		if (reader.kind == Kind.FLOAT) {
+			return (float) doubleValues[index];
+		} else if (isLong(reader, index)) {
+			return longValues[index];
+		}
+		byte[] text = getString(index).getBytes(UTF_8);
+		return NumberParser.parseFloat(text, 0, text.length);
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int index) {
+		FieldReader reader = checkIndex(index);
+		if (reader.kind == Kind.DECIMAL) {
+			return reader.size > Long.BYTES ? new BigDecimal((BigInteger) objectValues[index], reader.scale)
+					: BigDecimal.valueOf(longValues[index], reader.scale);
+		} else if (isLong(reader, index)) {
+			return BigDecimal.valueOf(longValues[index]);
+		}
+		byte[] text = getString(index).getBytes(UTF_8);
+		return text.length == 0 ? null : NumberParser.parseBigDecimal(text, 0, text.length);
+	}
+
+	@Override
+	public boolean getBoolean(int index) throws SQLException {
+		FieldReader reader = checkIndex(index);
+		if (reader.kind == Kind.BOOLEAN) {
+			return longValues[index] != 0;
+		} else if (reader.kind == Kind.INTEGER && (longValues[index] == 0 || longValues[index] == 1)) {
+			return longValues[index] == 1;
+		}
+		return BaseType.BOOLEAN.<Boolean>transform(getString(index));
+	}
+
+	@Override
+	public byte[] getBytes(int index) {
+		FieldReader reader = checkIndex(index);
+		if (reader.kind == Kind.BYTEA) {
+			return ((byte[]) objectValues[index]).clone();
+		}
+		return SqlArrayUtil.hexStringToByteArray(getString(index));
+	}
+
+	@Override
+	public InputStream getBinaryStream(int index) {
+		FieldReader reader = checkIndex(index);
+		if (reader.kind == Kind.BYTEA) {
+			// the stream cannot modify the value so it does not need to be copied
+			return new ByteArrayInputStream((byte[]) objectValues[index]);
+		}
+		return new ByteArrayInputStream(getBytes(index));
+	}
+
+	@Override
+	public boolean supportsTransfer() {
+		return true;
+	}
+
+	@Override
+	public long transferTo(OutputStream out) throws IOException {
+		long transferred = InputStreamUtil.transferTo(buffer, position, limit - position, remainingStream(), out);
+		skipRows();
+		return transferred;
+	}
+
+	@Override
+	public long transferTo(WritableByteChannel channel) throws IOException {
+		long transferred = InputStreamUtil.transferTo(buffer, position, limit - position, remainingStream(), channel);
+		skipRows();
+		return transferred;
+	}
+
+	private InputStream remainingStream() {
+		return endOfStream ? InputStream.nullInputStream() : is;
+	}
+
+	/**
+	 * Moves after the last row once the rows were transferred
+	 */
+	private void skipRows() {
+		if (onRow) {
+			Arrays.fill(objectValues, null);
+			Arrays.fill(stringValues, null);
+		}
+		position = limit = 0;
+		endOfStream = true;
+		onRow = false;
+	}
+
+	@Override
+	public int getRowSize() {
+		return onRow ? rowSize : 0;
+	}
+
+	@Override
+	public ResultDecoder copyRow() {
+		return new RowBinaryResultDecoder(this);
+	}
+
+	@Override
+	public void close() throws IOException {
+		is.close();
+	}
+
+	private FieldReader checkIndex(int index) {
+		return readers[Objects.checkIndex(index, onRow ? readers.length : 0)];
+	}
+
+	/**
+	 * @return true if the field contains an integer that fits in a long
+	 */
+	private boolean isLong(FieldReader reader, int index) {
+		return reader.kind == Kind.INTEGER && (reader.signed || reader.size < Long.BYTES || longValues[index] >= 0);
+	}
+
+	private Object getValue(FieldReader reader, int index) {
+		if (nulls[index]) {
+			return null;
+		}
+		switch (reader.kind) {
+			case FLOAT:
+				return doubleValues[index];
+			case TEXT:
+			case BYTEA:
+			case ARRAY:
+				return objectValues[index];
+			case DECIMAL:
+				return reader.size > Long.BYTES ? objectValues[index] : (Object) longValues[index];
+			default:
+				return longValues[index];
+		}
+	}
+
+	private void readField(int index) throws IOException {
+		FieldReader reader = readers[index];
+		boolean isNull = reader.nullable && readUnsignedByte() != 0;
+		nulls[index] = isNull;
+		if (isNull) {
+			return;
+		}
+		switch (reader.kind) {
+			case FLOAT:
+				doubleValues[index] = readFloat(reader.size);
+				break;
+			case TEXT:
+			case BYTEA:
+				objectValues[index] = maxFieldBytes[index] > 0 ? readBytes(readLength(), maxFieldBytes[index])
+						: readValue(reader);
+				break;
+			case ARRAY:
+				objectValues[index] = readValue(reader);
+				break;
+			case DECIMAL:
+				if (reader.size > Long.BYTES) {
+					objectValues[index] = readBigInteger(reader.size);
+				} else {
+					longValues[index] = readInteger(reader.size, true);
+				}
+				break;
+			case NOTHING:
+				readUnsignedByte();
+				nulls[index] = true;
+				break;
+			default:
+				longValues[index] = readInteger(reader.size, reader.signed);
+				break;
+		}
+	}
+
+	/**
+	 * Reads a value that is not nullable (or whose null flag was already read) as an object: {@link Long} for all the
+	 * values stored as integers, {@link Double} for floats, {@link BigInteger} for large decimals, byte[] for strings and
+	 * Object[] for arrays.
+	 */
+	private Object readValue(FieldReader reader) throws IOException {
+		switch (reader.kind) {
+			case FLOAT:
+				return readFloat(reader.size);
+			case TEXT:
+			case BYTEA:
+				return readBytes(readLength());
+			case ARRAY:
+				Object[] elements = new Object[readLength()];
+				FieldReader elementReader = reader.element;
+				for (int i = 0; i < elements.length; i++) {
+					elements[i] = elementReader.nullable && readUnsignedByte() != 0 ? null : readValue(elementReader);
+				}
+				return elements;
+			case DECIMAL:
+				return reader.size > Long.BYTES ? readBigInteger(reader.size) : (Object) readInteger(reader.size, true);
+			case NOTHING:
+				readUnsignedByte();
+				return null;
+			default:
+				return readInteger(reader.size, reader.signed);
+		}
+	}
+
+	private static void appendText(StringBuilder sb, FieldReader reader, Object value, boolean inArray) {
+		if (value == null) {
+			sb.append("NULL");
+			return;
+		}
+		switch (reader.kind) {
+			case INTEGER:
+				long l = (Long) value;
+				sb.append(reader.signed || reader.size < Long.BYTES ? Long.toString(l) : Long.toUnsignedString(l));
+				break;
+			case BOOLEAN:
+				sb.append((Long) value != 0 ? 't' : 'f');
+				break;
+			case FLOAT:
+				appendFloat(sb, reader, (Double) value);
+				break;
+			case DECIMAL:
+				BigDecimal decimal = value instanceof BigInteger ? new BigDecimal((BigInteger) value, reader.scale)
+						: BigDecimal.valueOf((Long) value, reader.scale);
+				sb.append(decimal.toPlainString());
+				break;
+			case DATE:
+				appendQuote(sb, inArray);
+				sb.append(LocalDate.ofEpochDay((Long) value));
+				appendQuote(sb, inArray);
+				break;
+			case TIMESTAMP:
+				appendQuote(sb, inArray);
+				appendTimestamp(sb, reader, (Long) value);
+				appendQuote(sb, inArray);
+				break;
+			case TEXT:
+				appendQuote(sb, inArray);
+				sb.append(escape(new String((byte[]) value, UTF_8), inArray));
+				appendQuote(sb, inArray);
+				break;
+			case BYTEA:
+				appendQuote(sb, inArray);
+				appendHex(sb, (byte[]) value);
+				appendQuote(sb, inArray);
+				break;
+			case ARRAY:
+				Object[] elements = (Object[]) value;
+				sb.append('[');
+				for (int i = 0; i < elements.length; i++) {
+					if (i > 0) {
+						sb.append(',');
+					}
+					appendText(sb, reader.element, elements[i], true);
+				}
+				sb.append(']');
+				break;
+			default:
+				break;
+		}
+	}
+
+	private static void appendQuote(StringBuilder sb, boolean inArray) {
+		if (inArray) {
+			sb.append('\'');
+		}
+	}
+
+	/**
+	 * Writes a float as the server writes it in TabSeparated: the shortest digits reading back as the same value,
+	 * without exponent when the decimal exponent is between {@value #MIN_PLAIN_FLOAT_EXPONENT} and
+	 * {@value #MAX_PLAIN_FLOAT_EXPONENT} (excluded), with an exponent such as {@code 1.5e+21} or {@code 1e-7} otherwise
+	 */
+	private static void appendFloat(StringBuilder sb, FieldReader reader, double value) {
+		if (Double.isNaN(value)) {
+			sb.append("nan");
+			return;
+		} else if (Double.isInfinite(value)) {
+			sb.append(value > 0 ? "inf" : "-inf");
+			return;
+		} else if (value == 0) {
+			sb.append(Double.doubleToRawLongBits(value) < 0 ? "-0" : "0");
+			return;
+		}
+		BigDecimal decimal = new BigDecimal(reader.size == Float.BYTES ? Float.toString((float) value) : Double.toString(value))
+				.stripTrailingZeros();
+		String digits = decimal.unscaledValue().abs().toString();
+		int exponent = digits.length() - 1 - decimal.scale();
+		if (decimal.signum() < 0) {
+			sb.append('-');
+		}
+		if (exponent < MIN_PLAIN_FLOAT_EXPONENT || exponent >= MAX_PLAIN_FLOAT_EXPONENT) {
+			sb.append(digits.charAt(0));
+			if (digits.length() > 1) {
+				sb.append('.').append(digits, 1, digits.length());
+			}
+			sb.append('e').append(exponent < 0 ? '-' : '+').append(Math.abs(exponent));
+		} else if (exponent < 0) {
+			sb.append("0.");
+			for (int i = exponent + 1; i < 0; i++) {
+				sb.append('0');
+			}
+			sb.append(digits);
+		} else if (exponent >= digits.length() - 1) {
+			sb.append(digits);
+			for (int i = digits.length() - 1; i < exponent; i++) {
+				sb.append('0');
+			}
+		} else {
+			sb.append(digits, 0, exponent + 1).append('.').append(digits, exponent + 1, digits.length());
+		}
+	}
+
+	private static void appendTimestamp(StringBuilder sb, FieldReader reader, long ticks) {
+		long ticksPerSecond = POWERS_OF_TEN[reader.scale];
+		long seconds = Math.floorDiv(ticks, ticksPerSecond);
+		long fraction = Math.floorMod(ticks, ticksPerSecond);
+		ZoneOffset offset = reader.zone.getRules().getOffset(Instant.ofEpochSecond(seconds));
+		sb.append(DATE_TIME_FORMATTER.format(LocalDateTime.ofEpochSecond(seconds, 0, offset)));
+		int scale = reader.scale;
+		if (reader.trimFraction) {
+			for (; scale > 0 && fraction % 10 == 0; scale--) {
+				fraction /= 10;
+			}
+		}
+		if (scale > 0) {
+			String digits = Long.toString(fraction);
+			sb.append('.');
+			for (int i = digits.length(); i < scale; i++) {
+				sb.append('0');
+			}
+			sb.append(digits);
+		}
+		if (reader.withOffset) {
+			sb.append(offset.getTotalSeconds() == 0 ? "+00" : offset.getId());
+		}
+	}
+
+	private static void appendHex(StringBuilder sb, byte[] bytes) {
+		sb.append(SqlArrayUtil.BYTE_ARRAY_PREFIX);
+		for (byte b : bytes) {
+			sb.append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+		}
+	}
+
+	/**
+	 * Escapes a value like the format TabSeparated does. The single quotes are also escaped when the value is quoted
+	 * (element of an array).
+	 *
+	 * @return the escaped value, the same instance if nothing needs to be escaped
+	 */
+	private static String escape(String value, boolean escapeQuotes) {
+		int length = value.length();
+		int i = 0;
+		while (i < length && escapedChar(value.charAt(i), escapeQuotes) == 0) {
+			i++;
+		}
+		if (i == length) {
+			return value;
+		}
+		StringBuilder sb = new StringBuilder(length + 16).append(value, 0, i);
+		for (; i < length; i++) {
+			char c = value.charAt(i);
+			char escaped = escapedChar(c, escapeQuotes);
+			if (escaped == 0) {
+				sb.append(c);
+			} else {
+				sb.append('\\').append(escaped);
+			}
+		}
+		return sb.toString();
+	}
+
+	private static char escapedChar(char c, boolean escapeQuotes) {
+		switch (c) {
+			case '\\':
+				return '\\';
+			case '\t':
+				return 't';
+			case '\n':
+				return 'n';
+			case '\r':
+				return 'r';
+			case '\0':
+				return '0';
+			case '\b':
+				return 'b';
+			case '\f':
+				return 'f';
+			case '\'':
+				return escapeQuotes ? '\'' : 0;
+			default:
+				return 0;
+		}
+	}
+
+	private int readUnsignedByte() throws IOException {
+		require(1);
+		return buffer[position++] & 0xFF;
+	}
+
+	private long readInteger(int size, boolean signed) throws IOException {
+		require(size);
+		long value;
+		switch (size) {
+			case Byte.BYTES:
+				value = signed ? buffer[position] : buffer[position] & 0xFF;
+				break;
+			case Short.BYTES:
+				short s = (short) SHORT.get(buffer, position);
+				value = signed ? s : s & 0xFFFF;
+				break;
+			case Integer.BYTES:
+				int i = (int) INT.get(buffer, position);
+				value = signed ? i : i & 0xFFFF_FFFFL;
+				break;
+			default:
+				value = (long) LONG.get(buffer, position);
+				break;
+		}
+		position += size;
+		return value;
+	}
+
+	private double readFloat(int size) throws IOException {
+		return size == Float.BYTES ? Float.intBitsToFloat((int) readInteger(Integer.BYTES, true))
+				: Double.longBitsToDouble(readInteger(Long.BYTES, true));
+	}
+
+	private BigInteger readBigInteger(int size) throws IOException {
+		require(size);
+		byte[] bigEndian = new byte[size];
+		for (int i = 0; i < size; i++) {
+			bigEndian[i] = buffer[position + size - 1 - i];
+		}
+		position += size;
+		return new BigInteger(bigEndian);
+	}
+
+	private int readLength() throws IOException {
+		long length = 0;
+		for (int shift = 0; ; shift += 7) {
+			if (shift > 35) {
+				throw new IOException("Invalid length in the stream");
+			}
+			int b = readUnsignedByte();
+			length |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				break;
+			}
+		}
+		if (length > Integer.MAX_VALUE) {
+			throw new IOException(format("Cannot read a value of %d bytes", length));
+		}
+		return (int) length;
+	}
+
+	private byte[] readBytes(int length) throws IOException {
+		require(length);
+		byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+		position += length;
+		return bytes;
+	}
+
+	/**
+	 * Reads the first maxLength bytes of a value and skips the others without keeping them in the buffer
+	 */
+	private byte[] readBytes(int length, int maxLength) throws IOException {
+		byte[] bytes = readBytes(Math.min(length, maxLength));
+		int remaining = length - bytes.length;
+		while (remaining > 0) {
+			if (position == limit && !fill(1)) {
+				throw new EOFException("Unexpected end of the stream");
+			}
+			int skipped = Math.min(remaining, limit - position);
+			position += skipped;
+			remaining -= skipped;
+		}
+		return bytes;
+	}
+
+	private String readString() throws IOException {
+		return new String(readBytes(readLength()), UTF_8);
+	}
+
+	private void require(int length) throws IOException {
+		if (limit - position < length && !fill(length)) {
+			throw new EOFException("Unexpected end of the stream");
+		}
+	}
+
+	/**
+	 * Reads bytes from the stream until at least the given number of bytes is available after the current position.
+	 * The remaining bytes are moved to the beginning of the buffer, that is enlarged if needed.
+	 *
+	 * @return false if the end of the stream was reached before
+	 */
+	private boolean fill(int length) throws IOException {
+		if (endOfStream) {
+			return false;
+		}
+		int remaining = limit - position;
+		if (position > 0) {
+			shifted += position;
+			System.arraycopy(buffer, position, buffer, 0, remaining);
+			position = 0;
+			limit = remaining;
+		}
+		if (length > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(length, buffer.length * 2));
+		}
+		while (limit < length) {
+			int read = is.read(buffer, limit, buffer.length - limit);
+			if (read < 0) {
+				endOfStream = true;
+				return false;
+			}
+			limit += read;
+		}
+		return true;
+	}
+
+	private enum Kind {
+		INTEGER, BOOLEAN, FLOAT, DECIMAL, DATE, TIMESTAMP, TEXT, BYTEA, ARRAY, NOTHING
+	}
+
+	/**
+	 * Describes how the values of a type are encoded
+	 */
+	private static final class FieldReader {
+		private static final String NULLABLE_PREFIX = "NULLABLE(";
+		private static final String ARRAY_PREFIX = "ARRAY(";
+		private static final String NOT_NULL_SUFFIX = " NOT NULL";
+		private static final String NULL_SUFFIX = " NULL";
+		private static final int MICROSECONDS_SCALE = 6;
+
+		private final Kind kind;
+		// size in bytes of the values of fixed size
+		private final int size;
+		private final boolean signed;
+		private final boolean nullable;
+		private final int scale;
+		private final ZoneId zone;
+		private final boolean withOffset;
+		// the fraction of seconds of the Firebolt timestamps is written without its trailing zeros
+		private final boolean trimFraction;
+		private final FieldReader element;
+
+		@SuppressWarnings("java:S107") // private constructor of a descriptor
+		private FieldReader(Kind kind, int size, boolean signed, boolean nullable, int scale, ZoneId zone,
+				boolean withOffset, boolean trimFraction, FieldReader element) {
+			this.kind = kind;
+			this.size = size;
+			this.signed = signed;
+			this.nullable = nullable;
+			this.scale = scale;
+			this.zone = zone;
+			this.withOffset = withOffset;
+			this.trimFraction = trimFraction;
+			this.element = element;
+		}
+
+		private static FieldReader of(Kind kind, int size, boolean signed) {
+			return new FieldReader(kind, size, signed, false, 0, null, false, false, null);
+		}
+
+		private static FieldReader timestamp(int size, int scale, TimeZone timeZone) {
+			ZoneId zone = timeZone == null ? ZoneOffset.UTC : timeZone.toZoneId();
+			return new FieldReader(Kind.TIMESTAMP, size, size == Long.BYTES, false, scale, zone, false, false, null);
+		}
+
+		private static FieldReader fireboltTimestamp(boolean withOffset) {
+			return new FieldReader(Kind.TIMESTAMP, Long.BYTES, true, false, MICROSECONDS_SCALE, ZoneOffset.UTC,
+					withOffset, true, null);
+		}
+
+		private FieldReader asNullable() {
+			return new FieldReader(kind, size, signed, true, scale, zone, withOffset, trimFraction, element);
+		}
+
+		private static FieldReader of(String type) throws FireboltException {
+			String trimmed = type.trim();
+			String upperCase = trimmed.toUpperCase(Locale.ROOT);
+			if (upperCase.startsWith(NULLABLE_PREFIX) && upperCase.endsWith(")")) {
+				return of(trimmed.substring(NULLABLE_PREFIX.length(), trimmed.length() - 1)).asNullable();
+			} else if (upperCase.endsWith(NOT_NULL_SUFFIX)) {
+				return of(trimmed.substring(0, trimmed.length() - NOT_NULL_SUFFIX.length()));
+			} else if (upperCase.endsWith(NULL_SUFFIX)) {
+				return of(trimmed.substring(0, trimmed.length() - NULL_SUFFIX.length())).asNullable();
+			} else if (upperCase.startsWith(ARRAY_PREFIX) && upperCase.endsWith(")")) {
+				FieldReader element = of(trimmed.substring(ARRAY_PREFIX.length(), trimmed.length() - 1));
+				return new FieldReader(Kind.ARRAY, 0, false, false, 0, null, false, false, element);
+			}
+			int parenthesis = upperCase.indexOf('(');
+			String name = (parenthesis < 0 ? upperCase : upperCase.substring(0, parenthesis)).trim();
+			switch (name) {
+				case "INT8":
+					return of(Kind.INTEGER, Byte.BYTES, true);
+				case "UINT8":
+					return of(Kind.INTEGER, Byte.BYTES, false);
+				case "INT16":
+					return of(Kind.INTEGER, Short.BYTES, true);
+				case "UINT16":
+					return of(Kind.INTEGER, Short.BYTES, false);
+				case "INT32":
+				case "INT":
+				case "INTEGER":
+					return of(Kind.INTEGER, Integer.BYTES, true);
+				case "UINT32":
+					return of(Kind.INTEGER, Integer.BYTES, false);
+				case "INT64":
+				case "BIGINT":
+				case "LONG":
+					return of(Kind.INTEGER, Long.BYTES, true);
+				case "UINT64":
+					return of(Kind.INTEGER, Long.BYTES, false);
+				case "BOOLEAN":
+				case "BOOL":
+					return of(Kind.BOOLEAN, Byte.BYTES, false);
+				case "FLOAT32":
+				case "FLOAT":
+				case "REAL":
+					return of(Kind.FLOAT, Float.BYTES, true);
+				case "FLOAT64":
+				case "DOUBLE":
+				case "DOUBLE PRECISION":
+					return of(Kind.FLOAT, Double.BYTES, true);
+				case "STRING":
+				case "TEXT":
+				case "VARCHAR":
+					return of(Kind.TEXT, 0, false);
+				case "BYTEA":
+					return of(Kind.BYTEA, 0, false);
+				case "DATE":
+					return of(Kind.DATE, Short.BYTES, false);
+				case "DATE32":
+				case "PGDATE":
+					return of(Kind.DATE, Integer.BYTES, true);
+				case "DATETIME":
+					return timestamp(Integer.BYTES, 0, ColumnType.of(trimmed).getTimeZone());
+				case "DATETIME64":
+					ColumnType dateTime64 = ColumnType.of(trimmed);
+					return timestamp(Long.BYTES, dateTime64.getScale(), dateTime64.getTimeZone());
+				case "TIMESTAMP":
+				case "TIMESTAMPNTZ":
+					return fireboltTimestamp(false);
+				case "TIMESTAMPTZ":
+					return fireboltTimestamp(true);
+				case "DECIMAL":
+				case "NUMERIC":
+				case "DEC":
+					ColumnType decimal = ColumnType.of(trimmed);
+					return new FieldReader(Kind.DECIMAL, getDecimalSize(decimal.getPrecision()), true, false,
+							decimal.getScale(), null, false, false, null);
+				case "NOTHING":
+				case "NULL":
+					return of(Kind.NOTHING, 0, false);
+				default:
+					throw new FireboltException(format("The type %s is not supported by the format %s", type, FORMAT_NAME));
+			}
+		}
+
+		private static int getDecimalSize(int precision) {
+			if (precision <= 9) {
+				return Integer.BYTES;
+			} else if (precision <= 18) {
+				return Long.BYTES;
+			} else if (precision <= 38) {
+				return 16;
+			}
+			return 32;
+		}
+	}
+}
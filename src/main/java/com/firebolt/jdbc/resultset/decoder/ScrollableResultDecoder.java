@@ -0,0 +1,300 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import lombok.CustomLog;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Decoder giving random access to the rows of another decoder. All the rows are spooled to a temporary file when the
+ * header is read: the file is then memory-mapped and only the offset of each row is kept in memory, so moving to any
+ * row costs the same whatever the size of the result.
+ * <p>
+ * The rows are spooled in the format TabSeparated: the rows of a {@link TsvResultDecoder} are copied as they were
+ * received and the rows of the other decoders are written using the text form of their fields.
+ */
+@CustomLog
+public class ScrollableResultDecoder implements ResultDecoder {
+	// a row never spans two segments so a segment can be mapped by a single buffer
+	private static final int MAX_SEGMENT_SIZE = 1 << 30;
+	private static final int INITIAL_ROWS_CAPACITY = 1024;
+	private static final byte[] NULL_VALUE = "\\N".getBytes(UTF_8);
+	private static final byte TAB = '\t';
+	private static final byte NEW_LINE = '\n';
+
+	private final ResultDecoder decoder;
+	private final int maxRows;
+	// decoder of the current row
+	private final TsvResultDecoder row = new TsvResultDecoder(InputStream.nullInputStream(), 0);
+	private Path file;
+	private MappedByteBuffer[] segments = new MappedByteBuffer[0];
+	// index of the segment (high 32 bits) and offset in the segment (low 32 bits) of each row
+	private long[] rowOffsets = new long[INITIAL_ROWS_CAPACITY];
+	private int[] segmentSizes = new int[1];
+	private int rowCount;
+	// index of the current row: -1 before the first row and rowCount after the last one
+	private int rowIndex = -1;
+
+	/**
+	 * @param decoder the decoder of the response
+	 * @param maxRows the maximum number of rows to keep, 0 for no limit
+	 */
+	public ScrollableResultDecoder(ResultDecoder decoder, int maxRows) {
+		this.decoder = decoder;
+		this.maxRows = maxRows;
+	}
+
+	/**
+	 * Reads the header and spools all the rows of the response. The stream of the response is closed once all the
+	 * rows are spooled.
+	 */
+	@Override
+	public void readHeader() throws IOException, SQLException {
+		decoder.readHeader();
+		file = Files.createTempFile("firebolt-result-", ".tsv");
+		try {
+			spool();
+			map();
+		} catch (IOException | RuntimeException e) {
+			deleteFile();
+			throw e;
+		}
+		decoder.close();
+	}
+
+	@Override
+	public String[] getColumnNames() {
+		return decoder.getColumnNames();
+	}
+
+	@Override
+	public String[] getColumnTypes() {
+		return decoder.getColumnTypes();
+	}
+
+	/**
+	 * @return the number of rows of the result
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * @return the index of the current row starting from 0, -1 before the first row and the number of rows after the
+	 * last one
+	 */
+	public int getRowIndex() {
+		return rowIndex;
+	}
+
+	/**
+	 * Moves to a row. An index lower than 0 moves before the first row and an index greater than the index of the
+	 * last row moves after the last row.
+	 *
+	 * @param index the index of the row starting from 0
+	 * @return true if the decoder is positioned on a row
+	 * @throws IOException never as the rows are already read
+	 */
+	public boolean moveTo(int index) throws IOException {
+		rowIndex = Math.max(-1, Math.min(index, rowCount));
+		if (!isOnRow()) {
+			return false;
+		}
+		int segment = (int) (rowOffsets[rowIndex] >>> 32);
+		int start = (int) rowOffsets[rowIndex];
+		int end = rowIndex + 1 < rowCount && (int) (rowOffsets[rowIndex + 1] >>> 32) == segment ? (int) rowOffsets[rowIndex + 1] : segmentSizes[segment];
+		row.readRow(segments[segment].position(start), end - start);
+		return true;
+	}
+
+	@Override
+	public boolean next() throws IOException {
+		return moveTo(rowIndex + 1);
+	}
+
+	@Override
+	public boolean hasNext() {
+		return rowIndex + 1 < rowCount;
+	}
+
+	@Override
+	public boolean isOnRow() {
+		return rowIndex >= 0 && rowIndex < rowCount;
+	}
+
+	@Override
+	public boolean isNull(int index) {
+		return row().isNull(index);
+	}
+
+	@Override
+	public String getString(int index) {
+		return row().getString(index);
+	}
+
+	@Override
+	public long getLong(int index) throws SQLException {
+		return row().getLong(index);
+	}
+
+	@Override
+	public int getInt(int index) throws SQLException {
+		return row().getInt(index);
+	}
+
+	@Override
+	public short getShort(int index) throws SQLException {
+		return row().getShort(index);
+	}
+
+	@Override
+	public byte getByte(int index) {
+		return row().getByte(index);
+	}
+
+	@Override
+	public double getDouble(int index) {
+		return row().getDouble(index);
+	}
+
+	@Override
+	public float getFloat(int index) {
+		return row().getFloat(index);
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int index) {
+		return row().getBigDecimal(index);
+	}
+
+	@Override
+	public boolean getBoolean(int index) throws SQLException {
+		return row().getBoolean(index);
+	}
+
+	@Override
+	public byte[] getBytes(int index) {
+		return row().getBytes(index);
+	}
+
+	@Override
+	public InputStream getBinaryStream(int index) {
+		return row().getBinaryStream(index);
+	}
+
+	@Override
+	public ResultDecoder copyRow() {
+		return row().copyRow();
+	}
+
+	/**
+	 * Closes the response if it was not fully read and deletes the temporary file
+	 */
+	@Override
+	public void close() throws IOException {
+		rowIndex = rowCount;
+		segments = new MappedByteBuffer[0];
+		try {
+			decoder.close();
+		} finally {
+			deleteFile();
+		}
+	}
+
+	private TsvResultDecoder row() {
+		if (!isOnRow()) {
+			throw new IndexOutOfBoundsException("The decoder is not positioned on a row");
+		}
+		return row;
+	}
+
+	private void spool() throws IOException {
+		try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+			int segment = 0;
+			long segmentStart = 0;
+			long position = 0;
+			while ((maxRows <= 0 || rowCount < maxRows) && decoder.next()) {
+				long start = position;
+				position += writeRow(out);
+				if (position - segmentStart > MAX_SEGMENT_SIZE) {
+					if (start == segmentStart) {
+						throw new IOException("The row " + (rowCount + 1) + " is too large to be spooled");
+					}
+					// the row starts a new segment
+					segmentSizes[segment++] = (int) (start - segmentStart);
+					segmentSizes = Arrays.copyOf(segmentSizes, segment + 1);
+					segmentStart = start;
+				}
+				addRow(((long) segment << 32) | (start - segmentStart));
+			}
+			segmentSizes[segment] = (int) (position - segmentStart);
+		}
+	}
+
+	private int writeRow(OutputStream out) throws IOException {
+		int length;
+		if (decoder instanceof TsvResultDecoder) {
+			TsvResultDecoder tsvDecoder = (TsvResultDecoder) decoder;
+			int start = tsvDecoder.getFieldStart(0);
+			length = tsvDecoder.getFieldEnd(tsvDecoder.getFieldCount() - 1) - start;
+			out.write(tsvDecoder.getBuffer(), start, length);
+		} else {
+			length = 0;
+			for (int i = 0; i < decoder.getColumnNames().length; i++) {
+				if (i > 0) {
+					out.write(TAB);
+					length++;
+				}
+				byte[] value = decoder.isNull(i) ? NULL_VALUE : decoder.getString(i).getBytes(UTF_8);
+				out.write(value);
+				length += value.length;
+			}
+		}
+		out.write(NEW_LINE);
+		return length + 1;
+	}
+
+	private void addRow(long offset) {
+		if (rowCount == rowOffsets.length) {
+			rowOffsets = Arrays.copyOf(rowOffsets, rowCount * 2);
+		}
+		rowOffsets[rowCount++] = offset;
+	}
+
+	private void map() throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			segments = new MappedByteBuffer[segmentSizes.length];
+			long segmentStart = 0;
+			for (int i = 0; i < segments.length; i++) {
+				segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, segmentStart, segmentSizes[i]);
+				segmentStart += segmentSizes[i];
+			}
+		}
+	}
+
+	private void deleteFile() {
+		if (file == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			// the file cannot be deleted while it is mapped on some platforms
+			log.debug("Could not delete the file {}: {}", file, e.getMessage());
+			file.toFile().deleteOnExit();
+		}
+		file = null;
+	}
+}
@@ -0,0 +1,133 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Chunk of complete rows of a response in the format TabSeparated with the offsets of its rows and fields, and possibly
+ * the strings of some of its fields. A chunk is indexed and decoded once (possibly by another thread) and its rows are
+ * then read by {@link TsvResultDecoder#readRow(TsvChunk, int)}.
+ */
+final class TsvChunk {
+	private static final byte TAB = '\t';
+	private static final byte NEW_LINE = '\n';
+	private static final byte CARRIAGE_RETURN = '\r';
+	private static final int INITIAL_ROWS_CAPACITY = 64;
+
+	private final byte[] bytes;
+	private int rowCount;
+	// offset of the first byte of each row
+	private int[] rowStarts = new int[INITIAL_ROWS_CAPACITY];
+	// index in fieldEnds of the first field of each row, followed by the total number of fields
+	private int[] firstFields = new int[INITIAL_ROWS_CAPACITY + 1];
+	// end of each field relatively to the start of its row like in TsvResultDecoder
+	private int[] fieldEnds = new int[INITIAL_ROWS_CAPACITY * 4];
+	private int fieldCount;
+	// strings of the fields in the same order as fieldEnds, null for the fields that were not decoded
+	private String[] values;
+
+	private TsvChunk(byte[] bytes) {
+		this.bytes = bytes;
+	}
+
+	/**
+	 * Finds the rows and the fields of a chunk
+	 *
+	 * @param bytes the rows, the last one may be without line terminator
+	 * @param length the number of bytes of the rows
+	 * @return the indexed chunk
+	 */
+	static TsvChunk index(byte[] bytes, int length) {
+		TsvChunk chunk = new TsvChunk(bytes);
+		int rowStart = 0;
+		for (int p = 0; p < length; p++) {
+			byte b = bytes[p];
+			if (b == TAB) {
+				chunk.addField(p - rowStart);
+			} else if (b == NEW_LINE) {
+				chunk.addRow(rowStart, p);
+				rowStart = p + 1;
+			}
+		}
+		if (rowStart < length) {
+			chunk.addRow(rowStart, length);
+		}
+		return chunk;
+	}
+
+	/**
+	 * Decodes the strings of the fields of some columns, except NULL
+	 *
+	 * @param columns true for the columns whose fields are decoded
+	 */
+	void decodeStrings(boolean[] columns) {
+		values = new String[fieldCount];
+		for (int row = 0; row < rowCount; row++) {
+			int rowStart = rowStarts[row];
+			int count = Math.min(getFieldCount(row), columns.length);
+			for (int column = 0; column < count; column++) {
+				if (columns[column]) {
+					int field = firstFields[row] + column;
+					int start = column == 0 ? rowStart : rowStart + fieldEnds[field - 1] + 1;
+					int end = rowStart + fieldEnds[field];
+					if (!NumberParser.isNull(bytes, start, end)) {
+						values[field] = new String(bytes, start, end - start, UTF_8);
+					}
+				}
+			}
+		}
+	}
+
+	byte[] getBytes() {
+		return bytes;
+	}
+
+	int getRowCount() {
+		return rowCount;
+	}
+
+	int getRowStart(int row) {
+		return rowStarts[row];
+	}
+
+	int getFirstField(int row) {
+		return firstFields[row];
+	}
+
+	int getFieldCount(int row) {
+		return firstFields[row + 1] - firstFields[row];
+	}
+
+	int[] getFieldEnds() {
+		return fieldEnds;
+	}
+
+	/**
+	 * @return the strings of the fields, null if none was decoded
+	 */
+	String[] getValues() {
+		return values;
+	}
+
+	private void addField(int end) {
+		if (fieldCount == fieldEnds.length) {
+			fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+		}
+		fieldEnds[fieldCount++] = end;
+	}
+
+	private void addRow(int rowStart, int rowEnd) {
+		if (rowEnd > rowStart && bytes[rowEnd - 1] == CARRIAGE_RETURN) {
+			rowEnd--;
+		}
+		addField(rowEnd - rowStart);
+		if (rowCount + 1 == firstFields.length) {
+			rowStarts = Arrays.copyOf(rowStarts, rowCount * 2);
+			firstFields = Arrays.copyOf(firstFields, rowCount * 2 + 1);
+		}
+		rowStarts[rowCount] = rowStart;
+		firstFields[rowCount + 1] = fieldCount;
+		rowCount++;
+	}
+}
@@ -0,0 +1,594 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import com.firebolt.jdbc.resultset.column.ColumnType;
+import com.firebolt.jdbc.type.BaseType;
+import com.firebolt.jdbc.type.FireboltDataType;
+import com.firebolt.jdbc.type.array.SqlArrayUtil;
+import com.firebolt.jdbc.util.InputStreamUtil;
+import com.firebolt.jdbc.util.TsvUnescaper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Decoder of a response in the format "TabSeparatedWithNamesAndTypes" that works directly on the bytes of the stream.
+ * The current row is kept in a reusable buffer and only the offsets of its fields are recorded: a {@link String} is
+ * created for a field only when it is read.
+ */
+public class TsvResultDecoder implements ResultDecoder {
+	private static final byte TAB = '\t';
+	private static final byte NEW_LINE = '\n';
+	private static final byte CARRIAGE_RETURN = '\r';
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+	private static final int INITIAL_FIELDS_CAPACITY = 16;
+	private static final String[] NO_FIELDS = new String[0];
+
+	private final InputStream is;
+	private final int maxFieldSize;
+	private byte[] buffer;
+	// number of valid bytes in the buffer
+	private int limit;
+	// offset in the buffer of the current row
+	private int rowStart;
+	// offset in the buffer of the end of the current row (line terminator excluded)
+	private int rowEnd;
+	// offset in the buffer of the next row
+	private int position;
+	private boolean endOfStream;
+	private boolean onRow;
+	private int fieldCount;
+	// end of each field of the current row relatively to rowStart. A field starts right after the end of the previous one
+	private int[] fieldEnds = new int[INITIAL_FIELDS_CAPACITY];
+	private String[] fieldValues = new String[INITIAL_FIELDS_CAPACITY];
+	// streams of the current row reading its buffer (see getBinaryStream), not needed by a copy as it never changes
+	private final List<HexInputStream> binaryStreams;
+	private String[] columnNames = NO_FIELDS;
+	private String[] columnTypes = NO_FIELDS;
+	// maximum number of bytes kept for the field of each column (0 for no limit), null if no field is limited
+	private int[] maxFieldBytes;
+
+	public TsvResultDecoder(InputStream is, int bufferSize) {
+		this(is, bufferSize, 0);
+	}
+
+	/**
+	 * @param maxFieldSize the maximum number of characters or bytes returned for a value of a text or bytea column (0
+	 *                     for no limit). The bytes of the fields that cannot be returned are skipped while the rows are
+	 *                     read, without being kept in the buffer.
+	 */
+	public TsvResultDecoder(InputStream is, int bufferSize, int maxFieldSize) {
+		this.is = is;
+		this.maxFieldSize = maxFieldSize;
+		this.buffer = new byte[bufferSize > 0 ? bufferSize : DEFAULT_BUFFER_SIZE];
+		this.binaryStreams = new ArrayList<>(0);
+	}
+
+	private TsvResultDecoder(TsvResultDecoder row) {
+		is = InputStream.nullInputStream();
+		binaryStreams = null;
+		maxFieldSize = 0;
+		buffer = Arrays.copyOfRange(row.buffer, row.rowStart, row.rowEnd);
+		limit = buffer.length;
+		rowEnd = buffer.length;
+		position = buffer.length;
+		endOfStream = true;
+		onRow = true;
+		fieldCount = row.fieldCount;
+		fieldEnds = Arrays.copyOf(row.fieldEnds, Math.max(fieldCount, 1));
+		fieldValues = Arrays.copyOf(row.fieldValues, Math.max(fieldCount, 1));
+		columnNames = row.columnNames;
+		columnTypes = row.columnTypes;
+	}
+
+	/**
+	 * Reads the first two lines of the response: the names and the types of the columns
+	 */
+	@Override
+	public void readHeader() throws IOException {
+		if (next()) {
+			columnNames = getStrings();
+			for (int i = 0; i < columnNames.length; i++) {
+				columnNames[i] = TsvUnescaper.unescape(columnNames[i]);
+			}
+			columnTypes = next() ? getStrings() : NO_FIELDS;
+			maxFieldBytes = getMaxFieldBytes(columnTypes, maxFieldSize);
+		}
+	}
+
+	/**
+	 * Returns the maximum number of bytes of the fields of each column that are needed to return maxFieldSize
+	 * characters (unescaped, up to 4 bytes per character) of a text or the hex string of maxFieldSize bytes of a bytea
+	 *
+	 * @return the maximum number of bytes of each field (0 for no limit), null if no field is limited
+	 */
+	private static int[] getMaxFieldBytes(String[] columnTypes, int maxFieldSize) {
+		if (maxFieldSize <= 0) {
+			return null;
+		}
+		int[] maxBytes = new int[columnTypes.length];
+		boolean limited = false;
+		for (int i = 0; i < columnTypes.length; i++) {
+			FireboltDataType dataType = ColumnType.of(columnTypes[i]).getDataType();
+			if (dataType == FireboltDataType.TEXT) {
+				maxBytes[i] = (int) Math.min(Integer.MAX_VALUE, 4L * maxFieldSize);
+			} else if (dataType == FireboltDataType.BYTEA) {
+				maxBytes[i] = (int) Math.min(Integer.MAX_VALUE, 2L * maxFieldSize + SqlArrayUtil.BYTE_ARRAY_PREFIX.length());
+			}
+			limited |= maxBytes[i] > 0;
+		}
+		return limited ? maxBytes : null;
+	}
+
+	@Override
+	public String[] getColumnNames() {
+		return columnNames;
+	}
+
+	@Override
+	public String[] getColumnTypes() {
+		return columnTypes;
+	}
+
+	/**
+	 * Moves to the next row of the stream
+	 *
+	 * @return true if there is a row, false if the end of the stream was reached
+	 * @throws IOException if the stream cannot be read
+	 */
+	@Override
+	public boolean next() throws IOException {
+		detachBinaryStreams();
+		Arrays.fill(fieldValues, 0, fieldCount, null);
+		fieldCount = 0;
+		rowStart = position;
+		if (rowStart == limit && !fill()) {
+			onRow = false;
+			return false;
+		}
+		if (maxFieldBytes == null) {
+			scanRow();
+		} else {
+			scanRowWithLimits();
+		}
+		if (rowEnd > rowStart && buffer[rowEnd - 1] == CARRIAGE_RETURN) {
+			rowEnd--;
+		}
+		addField(rowEnd - rowStart);
+		onRow = true;
+		return true;
+	}
+
+	private void scanRow() throws IOException {
+		int p = rowStart;
+		while (true) {
+			if (p == limit) {
+				int read = p - rowStart;
+				boolean filled = fill();
+				p = rowStart + read;
+				if (!filled) {
+					// last row of the stream without line terminator
+					rowEnd = p;
+					position = p;
+					return;
+				}
+			}
+			byte b = buffer[p];
+			if (b == NEW_LINE) {
+				rowEnd = p;
+				position = p + 1;
+				return;
+			} else if (b == TAB) {
+				addField(p - rowStart);
+			}
+			p++;
+		}
+	}
+
+	/**
+	 * Scans the row like {@link #scanRow()} but only keeps the first bytes of the fields that are limited. The bytes
+	 * kept are moved back over the skipped ones and the skipped bytes are dropped from the buffer before reading more
+	 * bytes, so the buffer does not grow for a field that is too large.
+	 */
+	private void scanRowWithLimits() throws IOException {
+		int p = rowStart;
+		// offset where the next byte kept is written
+		int w = rowStart;
+		int fieldStart = rowStart;
+		int fieldLimit = getMaxFieldBytes(0);
+		while (true) {
+			if (p == limit) {
+				limit = w;
+				int kept = w - rowStart;
+				int fieldOffset = fieldStart - rowStart;
+				boolean filled = fill();
+				p = rowStart + kept;
+				w = p;
+				fieldStart = rowStart + fieldOffset;
+				if (!filled) {
+					rowEnd = w;
+					position = w;
+					return;
+				}
+			}
+			byte b = buffer[p++];
+			if (b == NEW_LINE) {
+				rowEnd = w;
+				position = p;
+				return;
+			} else if (b == TAB) {
+				addField(w - rowStart);
+				buffer[w++] = b;
+				fieldStart = w;
+				fieldLimit = getMaxFieldBytes(fieldCount);
+			} else if (fieldLimit == 0 || w - fieldStart < fieldLimit) {
+				buffer[w++] = b;
+			}
+		}
+	}
+
+	private int getMaxFieldBytes(int index) {
+		return index < maxFieldBytes.length ? maxFieldBytes[index] : 0;
+	}
+
+	/**
+	 * Replaces the content of the decoder by a single row read from another source and moves to this row. Must only be
+	 * used by a decoder that does not read a stream.
+	 *
+	 * @param source the source positioned on the first byte of the row
+	 * @param length the length of the row including its line terminator
+	 * @throws IOException never as no stream is read
+	 */
+	void readRow(ByteBuffer source, int length) throws IOException {
+		detachBinaryStreams();
+		if (buffer.length < length) {
+			buffer = new byte[Math.max(length, buffer.length * 2)];
+		}
+		source.get(buffer, 0, length);
+		position = 0;
+		limit = length;
+		endOfStream = true;
+		next();
+	}
+
+	/**
+	 * Moves to a row of a chunk that was already indexed, with the strings already decoded. The bytes of the chunk are
+	 * not copied so the chunk must not change while the row is read. Must only be used by a decoder that does not read
+	 * a stream.
+	 *
+	 * @param chunk the chunk
+	 * @param row the index of the row in the chunk
+	 */
+	void readRow(TsvChunk chunk, int row) {
+		detachBinaryStreams();
+		Arrays.fill(fieldValues, 0, fieldCount, null);
+		int count = chunk.getFieldCount(row);
+		if (fieldEnds.length < count) {
+			int capacity = Math.max(count, fieldEnds.length * 2);
+			fieldEnds = new int[capacity];
+			fieldValues = new String[capacity];
+		}
+		System.arraycopy(chunk.getFieldEnds(), chunk.getFirstField(row), fieldEnds, 0, count);
+		if (chunk.getValues() != null) {
+			System.arraycopy(chunk.getValues(), chunk.getFirstField(row), fieldValues, 0, count);
+		}
+		fieldCount = count;
+		buffer = chunk.getBytes();
+		rowStart = chunk.getRowStart(row);
+		rowEnd = rowStart + fieldEnds[count - 1];
+		position = rowEnd;
+		limit = rowEnd;
+		endOfStream = true;
+		onRow = true;
+	}
+
+	/**
+	 * Checks if there is another row after the current one without moving to it
+	 *
+	 * @return true if there is another row
+	 * @throws IOException if the stream cannot be read
+	 */
+	@Override
+	public boolean hasNext() throws IOException {
+		return position < limit || fill();
+	}
+
+	/**
+	 * @return true if the decoder is positioned on a row, false before the first row or after the last one
+	 */
+	@Override
+	public boolean isOnRow() {
+		return onRow;
+	}
+
+	public int getFieldCount() {
+		return fieldCount;
+	}
+
+	/**
+	 * Returns the value of a field of the current row as it was received (without unescaping)
+	 *
+	 * @param index the index of the field starting from 0
+	 * @return the value of the field
+	 */
+	@Override
+	public String getString(int index) {
+		Objects.checkIndex(index, fieldCount);
+		String value = fieldValues[index];
+		if (value == null) {
+			int start = getFieldStart(index);
+			value = new String(buffer, start, getFieldEnd(index) - start, UTF_8);
+			fieldValues[index] = value;
+		}
+		return value;
+	}
+
+	/**
+	 * @param index the index of the field starting from 0
+	 * @return true if the field contains NULL
+	 */
+	@Override
+	public boolean isNull(int index) {
+		Objects.checkIndex(index, fieldCount);
+		return NumberParser.isNull(buffer, getFieldStart(index), getFieldEnd(index));
+	}
+
+	/*
+	 * The primitive getters below parse the value directly from the bytes of the field. They must not be called when
+	 * the field is NULL. When the bytes do not contain a plain decimal number, the value is converted by BaseType so
+	 * the result (or the exception thrown) is the same as for the String representation of the field.
+	 */
+
+	@Override
+	public long getLong(int index) throws SQLException {
+		Objects.checkIndex(index, fieldCount);
+		try {
+			return NumberParser.parseLong(buffer, getFieldStart(index), getFieldEnd(index), Long.MIN_VALUE, Long.MAX_VALUE);
+		} catch (NumberFormatException e) {
+			return BaseType.LONG.<Long>transform(getString(index));
+		}
+	}
+
+	@Override
+	public int getInt(int index) throws SQLException {
+		Objects.checkIndex(index, fieldCount);
+		try {
+			return (int) NumberParser.parseLong(buffer, getFieldStart(index), getFieldEnd(index), Integer.MIN_VALUE, Integer.MAX_VALUE);
+		} catch (NumberFormatException e) {
+			return BaseType.INTEGER.<Integer>transform(getString(index));
+		}
+	}
+
+	@Override
+	public short getShort(int index) throws SQLException {
+		Objects.checkIndex(index, fieldCount);
+		try {
+			return (short) NumberParser.parseLong(buffer, getFieldStart(index), getFieldEnd(index), Short.MIN_VALUE, Short.MAX_VALUE);
+		} catch (NumberFormatException e) {
+			return BaseType.SHORT.<Short>transform(getString(index));
+		}
+	}
+
+	@Override
+	public byte getByte(int index) {
+		Objects.checkIndex(index, fieldCount);
+		try {
+			return (byte) NumberParser.parseLong(buffer, getFieldStart(index), getFieldEnd(index), Byte.MIN_VALUE, Byte.MAX_VALUE);
+		} catch (NumberFormatException e) {
+			return Byte.parseByte(getString(index));
+		}
+	}
+
+	@Override
+	public double getDouble(int index) {
+		Objects.checkIndex(index, fieldCount);
+		return NumberParser.parseDouble(buffer, getFieldStart(index), getFieldEnd(index));
+	}
+
+	@Override
+	public float getFloat(int index) {
+		Objects.checkIndex(index, fieldCount);
+		return NumberParser.parseFloat(buffer, getFieldStart(index), getFieldEnd(index));
+	}
+
+	@Override
+	public BigDecimal getBigDecimal(int index) {
+		Objects.checkIndex(index, fieldCount);
+		int start = getFieldStart(index);
+		int end = getFieldEnd(index);
+		return start == end ? null : NumberParser.parseBigDecimal(buffer, start, end);
+	}
+
+	@Override
+	public boolean getBoolean(int index) throws SQLException {
+		Objects.checkIndex(index, fieldCount);
+		int start = getFieldStart(index);
+		if (getFieldEnd(index) - start == 1) {
+			switch (buffer[start]) {
+				case '0': case 'f': case 'F':
+					return false;
+				case '1': case 't': case 'T':
+					return true;
+				default:
+					break;
+			}
+		}
+		return BaseType.BOOLEAN.<Boolean>transform(getString(index));
+	}
+
+	@Override
+	public byte[] getBytes(int index) {
+		Objects.checkIndex(index, fieldCount);
+		return SqlArrayUtil.hexStringToByteArray(buffer, getFieldStart(index), getFieldEnd(index));
+	}
+
+	/**
+	 * Returns a stream decoding the hexadecimal digits of the field from the buffer of the row while it is read. The
+	 * digits not read yet are decoded by the stream before the decoder moves or modifies its buffer.
+	 */
+	@Override
+	public InputStream getBinaryStream(int index) {
+		Objects.checkIndex(index, fieldCount);
+		int start = getFieldStart(index);
+		int end = getFieldEnd(index);
+		if (SqlArrayUtil.isHexString(buffer, start, end)) {
+			start += SqlArrayUtil.BYTE_ARRAY_PREFIX.length();
+			SqlArrayUtil.checkHexDigitCount(end - start);
+			HexInputStream stream = new HexInputStream(buffer, start, end);
+			if (binaryStreams != null) {
+				binaryStreams.add(stream);
+			}
+			return stream;
+		}
+		return new ByteArrayInputStream(Arrays.copyOfRange(buffer, start, end));
+	}
+
+	/**
+	 * Detaches the binary streams of the current row from the buffer, before it is modified or the row is left
+	 */
+	void detachBinaryStreams() {
+		if (binaryStreams != null && !binaryStreams.isEmpty()) {
+			binaryStreams.forEach(HexInputStream::detach);
+			binaryStreams.clear();
+		}
+	}
+
+	/**
+	 * @return the values of all the fields of the current row
+	 */
+	public String[] getStrings() {
+		String[] values = new String[fieldCount];
+		for (int i = 0; i < fieldCount; i++) {
+			values[i] = getString(i);
+		}
+		return values;
+	}
+
+	/**
+	 * Returns the buffer containing the bytes of the current row. The content of the buffer is only valid until the
+	 * next call to {@link #next()} or {@link #hasNext()}.
+	 *
+	 * @return the buffer containing the current row
+	 */
+	public byte[] getBuffer() {
+		return buffer;
+	}
+
+	/**
+	 * @param index the index of the field starting from 0
+	 * @return the offset in the buffer of the first byte of the field
+	 */
+	public int getFieldStart(int index) {
+		return index == 0 ? rowStart : rowStart + fieldEnds[index - 1] + 1;
+	}
+
+	/**
+	 * @param index the index of the field starting from 0
+	 * @return the offset in the buffer right after the last byte of the field
+	 */
+	public int getFieldEnd(int index) {
+		return rowStart + fieldEnds[index];
+	}
+
+	@Override
+	public boolean supportsTransfer() {
+		return true;
+	}
+
+	@Override
+	public long transferTo(OutputStream out) throws IOException {
+		long transferred = InputStreamUtil.transferTo(buffer, position, limit - position, remainingStream(), out);
+		skipRows();
+		return transferred;
+	}
+
+	@Override
+	public long transferTo(WritableByteChannel channel) throws IOException {
+		long transferred = InputStreamUtil.transferTo(buffer, position, limit - position, remainingStream(), channel);
+		skipRows();
+		return transferred;
+	}
+
+	private InputStream remainingStream() {
+		return endOfStream ? InputStream.nullInputStream() : is;
+	}
+
+	/**
+	 * Moves after the last row once the rows were transferred
+	 */
+	private void skipRows() {
+		Arrays.fill(fieldValues, 0, fieldCount, null);
+		fieldCount = 0;
+		rowStart = rowEnd = position = limit = 0;
+		endOfStream = true;
+		onRow = false;
+	}
+
+	@Override
+	public int getRowSize() {
+		return onRow ? rowEnd - rowStart + 1 : 0;
+	}
+
+	@Override
+	public ResultDecoder copyRow() {
+		return new TsvResultDecoder(this);
+	}
+
+	@Override
+	public void close() throws IOException {
+		is.close();
+	}
+
+	private void addField(int end) {
+		if (fieldCount == fieldEnds.length) {
+			fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+			fieldValues = Arrays.copyOf(fieldValues, fieldCount * 2);
+		}
+		fieldEnds[fieldCount++] = end;
+	}
+
+	/**
+	 * Reads more bytes from the stream. The bytes of the current row are moved to the beginning of the buffer (and the
+	 * buffer is enlarged if the row does not fit) so the offsets relative to the row remain valid.
+	 *
+	 * @return true if at least one byte was read, false if the end of the stream was reached
+	 */
+	private boolean fill() throws IOException {
+		if (endOfStream) {
+			return false;
+		}
+		if (rowStart > 0) {
+			detachBinaryStreams();
+			int shift = rowStart;
+			System.arraycopy(buffer, shift, buffer, 0, limit - shift);
+			limit -= shift;
+			rowStart = 0;
+			rowEnd -= shift;
+			position -= shift;
+		}
+		if (limit == buffer.length) {
+			buffer = Arrays.copyOf(buffer, buffer.length * 2);
+		}
+		int read;
+		do {
+			read = is.read(buffer, limit, buffer.length - limit);
+		} while (read == 0);
+		if (read < 0) {
+			endOfStream = true;
+			return false;
+		}
+		limit += read;
+		return true;
+	}
+}
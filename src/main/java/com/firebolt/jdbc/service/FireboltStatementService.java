@@ -1,9 +1,14 @@
 package com.firebolt.jdbc.service;
 
 import com.firebolt.jdbc.client.query.StatementClient;
+import com.firebolt.jdbc.connection.FireboltConnection;
 import com.firebolt.jdbc.connection.settings.FireboltProperties;
 import com.firebolt.jdbc.exception.FireboltException;
 import com.firebolt.jdbc.resultset.FireboltResultSet;
+import com.firebolt.jdbc.resultset.FireboltResultSetOptions;
+import com.firebolt.jdbc.resultset.compress.AdaptiveCompression;
+import com.firebolt.jdbc.resultset.compress.LZ4InputStream;
+import com.firebolt.jdbc.resultset.decoder.ResultMemoryBudget;
 import com.firebolt.jdbc.statement.FireboltStatement;
 import com.firebolt.jdbc.statement.StatementInfoWrapper;
 import com.firebolt.jdbc.statement.StatementType;
@@ -15,6 +20,7 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 import java.io.InputStream;
+import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Optional;
@@ -42,9 +48,23 @@ public class FireboltStatementService {
 			throws SQLException {
 		int queryTimeout = statement.getQueryTimeout();
 		boolean systemEngine = properties.isSystemEngine();
+		AdaptiveCompression.Observation observation = null;
+		if (statementInfoWrapper.getType() == StatementType.QUERY && properties.isAdaptiveCompression() && properties.isCompress() && !systemEngine) {
+			AdaptiveCompression adaptiveCompression = getAdaptiveCompression(statement);
+			if (adaptiveCompression != null) {
+				// the statement before the values of its parameters are set, so that all the executions of a prepared
+				// statement share what was observed
+				String sql = statementInfoWrapper.getInitialStatement().getSql();
+				boolean compress = adaptiveCompression.shouldCompress(sql);
+				if (!compress) {
+					properties = properties.toBuilder().compress(false).build();
+				}
+				observation = adaptiveCompression.observe(sql, compress);
+			}
+		}
 		InputStream is = statementClient.executeSqlStatement(statementInfoWrapper, properties, systemEngine, queryTimeout, standardSql);
 		if (statementInfoWrapper.getType() == StatementType.QUERY) {
-			return Optional.of(createResultSet(is, (QueryRawStatement) statementInfoWrapper.getInitialStatement(), properties, statement));
+			return Optional.of(createResultSet(is, (QueryRawStatement) statementInfoWrapper.getInitialStatement(), properties, statement, observation));
 		} else {
 			// If the statement is not a query, read all bytes from the input stream and close it.
 			// This is needed otherwise the stream with the server will be closed after having received the first chunk of data (resulting in incomplete inserts).
@@ -62,12 +82,33 @@ public class FireboltStatementService {
 		return statementClient.isStatementRunning(statementLabel);
 	}
 
-	private FireboltResultSet createResultSet(InputStream inputStream, QueryRawStatement initialQuery, FireboltProperties properties, FireboltStatement statement)
-			throws SQLException {
-		return new FireboltResultSet(inputStream,
+	private FireboltResultSet createResultSet(InputStream inputStream, QueryRawStatement initialQuery, FireboltProperties properties, FireboltStatement statement,
+											  AdaptiveCompression.Observation observation) throws SQLException {
+		InputStream response = inputStream;
+		boolean compressed = properties.isCompress();
+		FireboltResultSetOptions options = FireboltResultSetOptions.of(properties, getResultMemoryBudget(statement));
+		if (observation != null && response != null) {
+			response = observation.wire(response);
+			if (compressed) {
+				// decompressed here to measure the decompression separately from the network
+				response = observation.decompressed(LZ4InputStream.create(response, options.isPipelinedDecompression(),
+						options.getChecksumVerification()));
+				compressed = false;
+			}
+		}
+		return new FireboltResultSet(response,
 				ofNullable(initialQuery.getTable()).orElse(UNKNOWN_TABLE_NAME),
 				ofNullable(initialQuery.getDatabase()).orElse(properties.getDatabase()),
-				properties.getBufferSize(), properties.isCompress(),
-				statement, properties.isLogResultSet());
+				properties.getBufferSize(), compressed, statement, properties.isLogResultSet(), options);
+	}
+
+	private static AdaptiveCompression getAdaptiveCompression(FireboltStatement statement) {
+		Connection connection = statement.getConnection();
+		return connection instanceof FireboltConnection ? ((FireboltConnection) connection).getAdaptiveCompression() : null;
+	}
+
+	private static ResultMemoryBudget getResultMemoryBudget(FireboltStatement statement) {
+		Connection connection = statement.getConnection();
+		return connection instanceof FireboltConnection ? ((FireboltConnection) connection).getResultMemoryBudget() : ResultMemoryBudget.global();
 	}
 }
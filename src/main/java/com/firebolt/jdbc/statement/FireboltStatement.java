@@ -9,11 +9,13 @@ import com.firebolt.jdbc.exception.ExceptionType;
 import com.firebolt.jdbc.exception.FireboltException;
 import com.firebolt.jdbc.exception.FireboltSQLFeatureNotSupportedException;
 import com.firebolt.jdbc.exception.FireboltUnsupportedOperationException;
+import com.firebolt.jdbc.resultset.FireboltResultSet;
 import com.firebolt.jdbc.service.FireboltStatementService;
 import com.firebolt.jdbc.util.CloseableUtil;
 import lombok.CustomLog;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -37,11 +39,13 @@ public class FireboltStatement extends JdbcBase implements Statement {
 	private final FireboltStatementService statementService;
 	private final FireboltProperties sessionProperties;
 	private final FireboltConnection connection;
+	private final int resultSetType;
 	private final Collection<String> statementsToExecuteLabels = new HashSet<>();
 	private boolean closeOnCompletion = false;
 	private int currentUpdateCount = -1;
 	private int maxRows;
 	private int maxFieldSize;
+	private int fetchSize;
 	private volatile boolean isClosed = false;
 	private StatementResultWrapper currentStatementResult;
 	private StatementResultWrapper firstUnclosedStatementResult;
@@ -51,9 +55,19 @@ public class FireboltStatement extends JdbcBase implements Statement {
 
 	public FireboltStatement(FireboltStatementService statementService, FireboltProperties sessionProperties,
 			FireboltConnection connection) {
+		this(statementService, sessionProperties, connection, ResultSet.TYPE_FORWARD_ONLY);
+	}
+
+	/**
+	 * @param resultSetType the type of the result sets: {@link ResultSet#TYPE_FORWARD_ONLY} or
+	 *                      {@link ResultSet#TYPE_SCROLL_INSENSITIVE}
+	 */
+	public FireboltStatement(FireboltStatementService statementService, FireboltProperties sessionProperties,
+			FireboltConnection connection, int resultSetType) {
 		this.statementService = statementService;
 		this.sessionProperties = sessionProperties;
 		this.connection = connection;
+		this.resultSetType = resultSetType;
 		log.debug("Created Statement");
 	}
 
@@ -63,8 +77,41 @@ public class FireboltStatement extends JdbcBase implements Statement {
 	}
 
 	protected ResultSet executeQuery(List<StatementInfoWrapper> statementInfoList) throws SQLException {
+		return executeQuery(statementInfoList, sessionProperties);
+	}
+
+	/**
+	 * Executes a query whose rows are meant to be written as they are in the response with
+	 * {@link FireboltResultSet#transferTo(OutputStream)}: the rows are neither prefetched nor split in parallel, whatever
+	 * the properties of the connection.
+	 *
+	 * @param sql the query
+	 * @return the result set, before the first row
+	 * @throws SQLException if the query fails
+	 */
+	public FireboltResultSet executeQueryRaw(String sql) throws SQLException {
+		FireboltProperties properties = sessionProperties.toBuilder().prefetch(false).decodingThreads(0).build();
+		return (FireboltResultSet) executeQuery(StatementUtil.parseToStatementInfoWrappers(sql), properties);
+	}
+
+	/**
+	 * Executes a query and writes its rows to a stream as they are in the response, without decoding them (see
+	 * {@link FireboltResultSet#transferTo(OutputStream)}). The result set is closed afterwards.
+	 *
+	 * @param sql the query
+	 * @param out the stream to write to
+	 * @return the number of bytes written
+	 * @throws SQLException if the query fails or if its rows cannot be written
+	 */
+	public long executeQueryRaw(String sql, OutputStream out) throws SQLException {
+		try (FireboltResultSet resultSet = executeQueryRaw(sql)) {
+			return resultSet.transferTo(out);
+		}
+	}
+
+	private ResultSet executeQuery(List<StatementInfoWrapper> statementInfoList, FireboltProperties properties) throws SQLException {
 		StatementInfoWrapper query = getOneQueryStatementInfo(statementInfoList);
-		Optional<ResultSet> resultSet = execute(Collections.singletonList(query));
+		Optional<ResultSet> resultSet = execute(Collections.singletonList(query), properties);
 		synchronized (this) {
 			return resultSet.orElseThrow(() -> new FireboltException("Could not return ResultSet - the query returned no result."));
 		}
@@ -76,6 +123,10 @@ public class FireboltStatement extends JdbcBase implements Statement {
 	}
 
 	protected Optional<ResultSet> execute(List<StatementInfoWrapper> statements) throws SQLException {
+		return execute(statements, sessionProperties);
+	}
+
+	private Optional<ResultSet> execute(List<StatementInfoWrapper> statements, FireboltProperties properties) throws SQLException {
 		Optional<ResultSet> resultSet = Optional.empty();
 		closeAllResults();
 		Set<String> queryLabels = statements.stream().map(StatementInfoWrapper::getLabel).collect(toCollection(HashSet::new));
@@ -85,9 +136,9 @@ public class FireboltStatement extends JdbcBase implements Statement {
 			}
 			for (int i = 0; i < statements.size(); i++) {
 				if (i == 0) {
-					resultSet = execute(statements.get(i), true, true);
+					resultSet = execute(statements.get(i), properties, true, true);
 				} else {
-					execute(statements.get(i), true, true);
+					execute(statements.get(i), properties, true, true);
 				}
 			}
 		} finally {
@@ -98,7 +149,8 @@ public class FireboltStatement extends JdbcBase implements Statement {
 		return resultSet;
 	}
 
-	private Optional<ResultSet> execute(StatementInfoWrapper statementInfoWrapper, boolean verifyNotCancelled, boolean isStandardSql) throws SQLException {
+	private Optional<ResultSet> execute(StatementInfoWrapper statementInfoWrapper, FireboltProperties properties, boolean verifyNotCancelled,
+			boolean isStandardSql) throws SQLException {
 		createValidator(statementInfoWrapper.getInitialStatement(), connection).validate(statementInfoWrapper.getInitialStatement());
 		ResultSet resultSet = null;
 		if (!verifyNotCancelled || isStatementNotCancelled(statementInfoWrapper)) {
@@ -114,7 +166,7 @@ public class FireboltStatement extends JdbcBase implements Statement {
 					connection.addProperty(statementInfoWrapper.getParam());
 					log.debug("The property from the query {} was stored", runningStatementLabel);
 				} else {
-					Optional<ResultSet> currentRs = statementService.execute(statementInfoWrapper, sessionProperties, isStandardSql, this);
+					Optional<ResultSet> currentRs = statementService.execute(statementInfoWrapper, properties, isStandardSql, this);
 					if (currentRs.isPresent()) {
 						resultSet = currentRs.get();
 						currentUpdateCount = -1; // Always -1 when returning a ResultSet
@@ -169,6 +221,17 @@ public class FireboltStatement extends JdbcBase implements Statement {
 			log.info("Cancelling statement with label " + statementLabel);
 			abortStatementRunningOnFirebolt(statementLabel);
 		}
+		stopPrefetching();
+	}
+
+	private void stopPrefetching() {
+		synchronized (this) {
+			for (StatementResultWrapper result = firstUnclosedStatementResult; result != null; result = result.getNext()) {
+				if (result.getResultSet() instanceof FireboltResultSet) {
+					((FireboltResultSet) result.getResultSet()).stopPrefetching();
+				}
+			}
+		}
 	}
 
 	private void abortStatementRunningOnFirebolt(String statementLabel) throws SQLException {
@@ -397,7 +460,7 @@ public class FireboltStatement extends JdbcBase implements Statement {
 
 	@Override
 	public int getFetchSize() throws SQLException {
-		return 0; // fetch size is not supported; 0 means unlimited like in PostgreSQL and MySQL
+		return fetchSize; // 0 means that the driver chooses the number of rows
 	}
 
 	@Override
@@ -406,7 +469,8 @@ public class FireboltStatement extends JdbcBase implements Statement {
 		if (rows < 0) {
 			throw new SQLException("The number of rows cannot be less than 0");
 		}
-		// Ignore
+		// used as the number of rows prefetched at once when the rows are prefetched, ignored otherwise
+		fetchSize = rows;
 	}
 
 	@Override
@@ -416,7 +480,7 @@ public class FireboltStatement extends JdbcBase implements Statement {
 
 	@Override
 	public int getResultSetType() {
-		return ResultSet.TYPE_FORWARD_ONLY;
+		return resultSetType;
 	}
 
 	@Override
@@ -226,33 +226,33 @@ public class StatementUtil {
 			@NonNull RawStatementWrapper rawStatement) {
 		List<StatementInfoWrapper> subQueries = new ArrayList<>();
 		for (int subqueryIndex = 0; subqueryIndex < rawStatement.getSubStatements().size(); subqueryIndex++) {
-			int currentPos;
-			/*
-			 * As the parameter markers are being placed then the statement sql keeps
-			 * getting bigger, which is why we need to keep track of the offset
-			 */
-			int offset = 0;
 			RawStatement subQuery = rawStatement.getSubStatements().get(subqueryIndex);
-			String subQueryWithParams = subQuery.getSql();
+			String sql = subQuery.getSql();
 
 			if (params.size() != rawStatement.getTotalParams()) {
 				throw new IllegalArgumentException(String.format(
 						"The number of parameters passed does not equal the number of parameter markers in the SQL query. Provided: %d, Parameter markers in the SQL query: %d",
 						params.size(), rawStatement.getTotalParams()));
 			}
+			// the statement is written once to a builder sized for the sql and all the values
+			int length = sql.length();
 			for (ParamMarker param : subQuery.getParamMarkers()) {
 				String value = params.get(param.getId());
 				if (value == null) {
 					throw new IllegalArgumentException("No value for parameter marker at position: " + param.getId());
 				}
-				currentPos = param.getPosition() + offset;
-				if (currentPos >= subQuery.getSql().length() + offset) {
+				if (param.getPosition() >= sql.length()) {
 					throw new IllegalArgumentException("The position of the parameter marker provided is invalid");
 				}
-				subQueryWithParams = subQueryWithParams.substring(0, currentPos) + value
-						+ subQueryWithParams.substring(currentPos + 1);
-				offset += value.length() - 1;
+				length += value.length() - 1;
 			}
+			StringBuilder sb = new StringBuilder(length);
+			int currentPos = 0;
+			for (ParamMarker param : subQuery.getParamMarkers()) {
+				sb.append(sql, currentPos, param.getPosition()).append(params.get(param.getId()));
+				currentPos = param.getPosition() + 1;
+			}
+			String subQueryWithParams = sb.append(sql, currentPos, sql.length()).toString();
 			Entry<String, String> additionalParams = subQuery.getStatementType() == StatementType.PARAM_SETTING
 					? ((SetParamRawStatement) subQuery).getAdditionalProperty()
 					: null;
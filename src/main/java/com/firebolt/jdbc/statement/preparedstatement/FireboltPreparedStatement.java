@@ -56,6 +56,8 @@ public class FireboltPreparedStatement extends FireboltStatement implements Prep
 
 	private final RawStatementWrapper rawStatement;
 	private final List<Map<Integer, String>> rows;
+	// the SQL literal of each parameter, rendered when the parameter is set since mutable values (arrays, dates,
+	// timestamps) may be modified by the caller before the statement is executed
 	private Map<Integer, String> providedParameters;
 
 	public FireboltPreparedStatement(FireboltStatementService statementService, FireboltConnection connection, String sql) {
@@ -64,7 +66,12 @@ public class FireboltPreparedStatement extends FireboltStatement implements Prep
 
 	public FireboltPreparedStatement(FireboltStatementService statementService, FireboltProperties sessionProperties,
 									 FireboltConnection connection, String sql) {
-		super(statementService, sessionProperties, connection);
+		this(statementService, sessionProperties, connection, sql, ResultSet.TYPE_FORWARD_ONLY);
+	}
+
+	public FireboltPreparedStatement(FireboltStatementService statementService, FireboltProperties sessionProperties,
+									 FireboltConnection connection, String sql, int resultSetType) {
+		super(statementService, sessionProperties, connection, resultSetType);
 		log.debug("Populating PreparedStatement object for SQL: {}", sql);
 		this.providedParameters = new HashMap<>();
 		this.rawStatement = StatementUtil.parseToRawStatementWrapper(sql);
@@ -5,10 +5,10 @@ import com.firebolt.jdbc.exception.FireboltException;
 import com.firebolt.jdbc.resultset.column.Column;
 import com.firebolt.jdbc.type.array.SqlArrayUtil;
 import com.firebolt.jdbc.type.date.SqlDateUtil;
+import com.firebolt.jdbc.util.TsvUnescaper;
 import lombok.Builder;
 import lombok.CustomLog;
 import lombok.Value;
-import org.apache.commons.text.StringEscapeUtils;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -31,9 +31,9 @@ public enum BaseType {
 	SHORT(Short.class, conversion -> Short.parseShort(checkInfinity(conversion.getValue()))),
 	BIGINT(BigInteger.class, conversion -> new BigInteger(checkInfinity(conversion.getValue()))),
 	TEXT(String.class, conversion -> {
-		String escaped = StringEscapeUtils.unescapeJava(conversion.getValue());
+		String unescaped = TsvUnescaper.unescape(conversion.getValue());
 		int limit = conversion.getMaxFieldSize();
-		return limit > 0 && limit <= escaped.length() ? escaped.substring(0, limit) : escaped;
+		return limit > 0 && limit <= unescaped.length() ? unescaped.substring(0, limit) : unescaped;
 	}),
 	REAL(Float.class, conversion -> {
 		if (isNan(conversion.getValue())) {
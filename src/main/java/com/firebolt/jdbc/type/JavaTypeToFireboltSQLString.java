@@ -6,6 +6,7 @@ import com.firebolt.jdbc.exception.FireboltException;
 import com.firebolt.jdbc.type.array.SqlArrayUtil;
 import com.firebolt.jdbc.type.date.SqlDateUtil;
 
+import java.lang.invoke.MethodType;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Array;
@@ -15,19 +16,14 @@ import java.sql.Date;
 import java.sql.JDBCType;
 import java.sql.SQLException;
 import java.sql.Timestamp;
-import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Optional;
 import java.util.TimeZone;
-import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static com.firebolt.jdbc.exception.ExceptionType.TYPE_NOT_SUPPORTED;
 import static com.firebolt.jdbc.exception.ExceptionType.TYPE_TRANSFORMATION_ERROR;
-import static com.firebolt.jdbc.type.array.SqlArrayUtil.byteArrayToHexString;
+import static com.firebolt.jdbc.type.array.SqlArrayUtil.appendHexString;
 import static java.lang.String.format;
-import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toMap;
 
 public enum JavaTypeToFireboltSQLString {
@@ -35,20 +31,18 @@ public enum JavaTypeToFireboltSQLString {
 	UUID(java.util.UUID.class, Object::toString),
 	BYTE(Byte.class, value -> Byte.toString(((Number) value).byteValue())),
 	SHORT(Short.class, value -> Short.toString(((Number) value).shortValue())),
-	STRING(String.class, getSQLStringValueOfString()),
+	STRING(String.class, (sb, value, tz) -> appendString(sb, (String) value)),
 	LONG(Long.class, value -> Long.toString(((Number)value).longValue())),
 	INTEGER(Integer.class, value -> Integer.toString(((Number)value).intValue())),
 	BIG_INTEGER(BigInteger.class, value -> value instanceof BigInteger ? value.toString() : Long.toString(((Number)value).longValue())),
 	FLOAT(Float.class, value -> Float.toString(((Number)value).floatValue())),
 	DOUBLE(Double.class, value -> Double.toString(((Number)value).doubleValue())),
-	DATE(Date.class, date -> SqlDateUtil.transformFromDateToSQLStringFunction.apply((Date) date), (date, tz) -> SqlDateUtil.transformFromDateWithTimezoneToSQLStringFunction.apply((Date) date, toTimeZone(tz))),
-	TIMESTAMP(Timestamp.class, time -> SqlDateUtil.transformFromTimestampToSQLStringFunction.apply((Timestamp) time), (ts, tz) -> SqlDateUtil.transformFromTimestampWithTimezoneToSQLStringFunction.apply((Timestamp) ts, toTimeZone(tz))),
-	BIG_DECIMAL(BigDecimal.class, value -> value == null ? BaseType.NULL_VALUE : ((BigDecimal) value).toPlainString()),
+	DATE(Date.class, (sb, date, tz) -> SqlDateUtil.appendDate(sb, (Date) date, tz == null ? null : toTimeZone(tz))),
+	TIMESTAMP(Timestamp.class, (sb, ts, tz) -> SqlDateUtil.appendTimestamp(sb, (Timestamp) ts, tz == null ? null : toTimeZone(tz))),
+	BIG_DECIMAL(BigDecimal.class, (sb, value, parameter) -> sb.append(((BigDecimal) value).toPlainString())),
 	ARRAY(Array.class, SqlArrayUtil::arrayToString),
-	BYTE_ARRAY(byte[].class, value -> ofNullable(byteArrayToHexString((byte[])value, true)).map(x  -> format("E'%s'::BYTEA", x)).orElse(null)),
+	BYTE_ARRAY(byte[].class, (sb, value, parameter) -> appendHexString(sb.append("E'"), (byte[]) value, true).append("'::BYTEA")),
 	;
-	private static final List<Entry<String, String>> characterToEscapedCharacterPairs = List.of(
-			Map.entry("\0", "\\0"), Map.entry("\\", "\\\\"), Map.entry("'", "''"));
 	//https://docs.oracle.com/javase/1.5.0/docs/guide/jdbc/getstart/mapping.html
 	private static final Map<JDBCType, Class<?>> jdbcTypeToClass = Map.ofEntries(
 			Map.entry(JDBCType.CHAR, String.class),
@@ -83,58 +77,154 @@ public enum JavaTypeToFireboltSQLString {
 	private final Class<?> sourceType;
 	private final CheckedFunction<Object, String> transformToJavaTypeFunction;
 	private final CheckedBiFunction<Object, Object, String> transformToJavaTypeFunctionWithParameter;
+	private final Appender appender;
 	public static final String NULL_VALUE = "NULL";
 	private static final Map<Class<?>, JavaTypeToFireboltSQLString> classToType = Stream.of(JavaTypeToFireboltSQLString.values())
 			.collect(toMap(type -> type.sourceType, type -> type));
+	// the converter of each class, resolved once per class (see getConverter(Class))
+	private static final ClassValue<JavaTypeToFireboltSQLString> classToConverter = new ClassValue<>() {
+		@Override
+		protected JavaTypeToFireboltSQLString computeValue(Class<?> type) {
+			return getConverter(type);
+		}
+	};
+	private static final Map<Integer, JavaTypeToFireboltSQLString> sqlTypeToConverter = jdbcTypeToClass.entrySet().stream()
+			.filter(entry -> classToType.containsKey(entry.getValue()))
+			.collect(toMap(entry -> entry.getKey().getVendorTypeNumber(), entry -> classToType.get(entry.getValue())));
 
 	JavaTypeToFireboltSQLString(Class<?> sourceType, CheckedFunction<Object, String> transformToSqlStringFunction) {
 		this(sourceType, transformToSqlStringFunction, null);
 	}
 
+	JavaTypeToFireboltSQLString(Class<?> sourceType, Appender appender) {
+		this(sourceType, value -> appender.append(new StringBuilder(), value, null).toString(),
+				(value, parameter) -> appender.append(new StringBuilder(), value, parameter).toString(), appender);
+	}
+
 	JavaTypeToFireboltSQLString(Class<?> sourceType,
 								CheckedFunction<Object, String> transformToSqlStringFunction,
 								CheckedBiFunction<Object, Object, String> transformToJavaTypeFunctionWithParameter) {
+		this(sourceType, transformToSqlStringFunction, transformToJavaTypeFunctionWithParameter, null);
+	}
+
+	JavaTypeToFireboltSQLString(Class<?> sourceType,
+								CheckedFunction<Object, String> transformToSqlStringFunction,
+								CheckedBiFunction<Object, Object, String> transformToJavaTypeFunctionWithParameter,
+								Appender appender) {
 		this.sourceType = sourceType;
 		this.transformToJavaTypeFunction = transformToSqlStringFunction;
 		this.transformToJavaTypeFunctionWithParameter = transformToJavaTypeFunctionWithParameter;
+		this.appender = appender;
 	}
 
 	public static String transformAny(Object object) throws FireboltException {
-		return transformAny(object, () -> getType(object));
+		return object == null ? NULL_VALUE : transformAny(object, object.getClass(), classToConverter.get(object.getClass()));
 	}
 
 	public static String transformAny(Object object, int sqlType) throws SQLException {
-		return transformAny(object, () -> getType(sqlType));
+		if (object == null) {
+			return NULL_VALUE;
+		}
+		JavaTypeToFireboltSQLString converter = sqlTypeToConverter.get(sqlType);
+		if (converter != null) {
+			return converter.transform(object);
+		}
+		Class<?> objectType = getType(sqlType);
+		return transformAny(object, objectType, objectType == null ? null : classToConverter.get(objectType));
 	}
 
-	private static String transformAny(Object object, Supplier<Class<?>> classSupplier) throws FireboltException {
-		return object == null ? NULL_VALUE : transformAny(object, classSupplier.get());
+	/**
+	 * Appends the SQL literal of an object of any supported type (see {@link #transformAny(Object)})
+	 *
+	 * @param sb the builder of the SQL
+	 * @param object the object
+	 * @return the builder
+	 */
+	public static StringBuilder appendAny(StringBuilder sb, Object object) throws FireboltException {
+		if (object == null) {
+			return sb.append(NULL_VALUE);
+		}
+		return getConverter(object.getClass(), classToConverter.get(object.getClass())).appendTo(sb, object);
 	}
 
-	private static String transformAny(Object object, Class<?> objectType) throws FireboltException {
-		JavaTypeToFireboltSQLString converter = Optional.ofNullable(classToType.get(objectType))
-				.orElseThrow(() -> new FireboltException(
-						format("Cannot convert type %s. The type is not supported.", objectType),
-						TYPE_NOT_SUPPORTED));
-		return converter.transform(object);
+	private static String transformAny(Object object, Class<?> objectType, JavaTypeToFireboltSQLString converter) throws FireboltException {
+		return getConverter(objectType, converter).transform(object);
 	}
 
-	private static Class<?> getType(Object object) {
-		return object.getClass().isArray() && !byte[].class.equals(object.getClass()) ? Array.class : object.getClass();
+	private static JavaTypeToFireboltSQLString getConverter(Class<?> objectType, JavaTypeToFireboltSQLString converter) throws FireboltException {
+		if (converter == null) {
+			throw new FireboltException(format("Cannot convert type %s. The type is not supported.", objectType),
+					TYPE_NOT_SUPPORTED);
+		}
+		return converter;
+	}
+
+	/**
+	 * Finds the converter of a class: the converter of the class itself, of its primitive wrapper, of its closest
+	 * superclass or of one of its interfaces (e.g. the implementations of {@link Array}). The arrays other than
+	 * {@code byte[]} are converted as {@link Array}.
+	 *
+	 * @return the converter, null if the class is not supported
+	 */
+	private static JavaTypeToFireboltSQLString getConverter(Class<?> type) {
+		if (type.isArray() && !byte[].class.equals(type)) {
+			return ARRAY;
+		}
+		if (type.isPrimitive()) {
+			return classToType.get(MethodType.methodType(type).wrap().returnType());
+		}
+		for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+			JavaTypeToFireboltSQLString converter = classToType.get(c);
+			if (converter != null) {
+				return converter;
+			}
+		}
+		for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+			for (Class<?> i : c.getInterfaces()) {
+				JavaTypeToFireboltSQLString converter = getConverter(i);
+				if (converter != null) {
+					return converter;
+				}
+			}
+		}
+		return null;
 	}
 
 	private static Class<?> getType(int sqlType) {
 		return jdbcTypeToClass.get(JDBCType.valueOf(sqlType));
 	}
 
-	private static CheckedFunction<Object, String> getSQLStringValueOfString() {
-		return value -> {
-			String escaped = (String) value;
-			for (Entry<String, String> specialCharacter : characterToEscapedCharacterPairs) {
-				escaped = escaped.replace(specialCharacter.getKey(), specialCharacter.getValue());
+	/**
+	 * Appends a string as a quoted literal in a single pass, escaping {@code \0}, {@code \} and {@code '}
+	 */
+	private static StringBuilder appendString(StringBuilder sb, String value) {
+		int length = value.length();
+		sb.ensureCapacity(sb.length() + length + 2);
+		sb.append('\'');
+		// the characters between two special characters are copied at once
+		int start = 0;
+		for (int i = 0; i < length; i++) {
+			String escaped = escape(value.charAt(i));
+			if (escaped != null) {
+				sb.append(value, start, i).append(escaped);
+				start = i + 1;
 			}
-			return format("'%s'", escaped);
-		};
+		}
+		return sb.append(value, start, length).append('\'');
+	}
+
+	private static String escape(char c) {
+		switch (c) {
+			// the backslash written for NUL is escaped as well, like when the characters were replaced one after the other
+			case '\0':
+				return "\\\\0";
+			case '\\':
+				return "\\\\";
+			case '\'':
+				return "''";
+			default:
+				return null;
+		}
 	}
 
 	public Class<?> getSourceType() {
@@ -156,6 +246,26 @@ public enum JavaTypeToFireboltSQLString {
 		}
 	}
 
+	/**
+	 * Appends the SQL literal of an object to a builder. The types rendered by an {@link Appender} write directly to the
+	 * builder, the others append the result of {@link #transform(Object, Object...)}.
+	 *
+	 * @param sb the builder of the SQL
+	 * @param object the object
+	 * @param more the time zone of the dates and timestamps
+	 * @return the builder
+	 */
+	public StringBuilder appendTo(StringBuilder sb, Object object, Object... more) throws FireboltException {
+		if (object == null || appender == null) {
+			return sb.append(transform(object, more));
+		}
+		try {
+			return appender.append(sb, object, more.length > 0 ? more[0] : null);
+		} catch (Exception e) {
+			throw new FireboltException("Could not convert object to a String ", e, TYPE_TRANSFORMATION_ERROR);
+		}
+	}
+
 	@SuppressWarnings("java:S6201") // Pattern Matching for "instanceof" was introduced in java 16 while we still try to be compliant with java 11
 	private static TimeZone toTimeZone(Object tz) {
 		if (tz instanceof TimeZone) {
@@ -166,4 +276,12 @@ public enum JavaTypeToFireboltSQLString {
 		}
 		throw new IllegalArgumentException(format("Cannot convert %s to TimeZone", tz));
 	}
+
+	/**
+	 * Writes the SQL literal of a value directly to the builder of the SQL
+	 */
+	@FunctionalInterface
+	interface Appender {
+		StringBuilder append(StringBuilder sb, Object value, Object parameter) throws SQLException;
+	}
 }
@@ -0,0 +1,252 @@
+package com.firebolt.jdbc.type.array;
+
+import com.firebolt.jdbc.type.BaseType;
+import com.firebolt.jdbc.util.TsvUnescaper;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Array;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Collects the elements of a one-dimensional array while it is parsed. The elements of the numeric types are kept in
+ * an array of primitives ({@code int[]}, {@code long[]}, {@code float[]} or {@code double[]}) with the positions of the
+ * {@code NULL} elements, so they are only boxed if the array is read as an array of objects.
+ */
+abstract class ArrayElements {
+	private static final int INITIAL_CAPACITY = 16;
+
+	@Nullable
+	private BitSet nulls;
+	protected int size;
+
+	static ArrayElements of(BaseType baseType) {
+		switch (baseType) {
+			case INTEGER:
+				return new IntElements();
+			case LONG:
+				return new LongElements();
+			case REAL:
+				return new FloatElements();
+			case DOUBLE:
+				return new DoubleElements();
+			default:
+				return new ObjectElements(baseType);
+		}
+	}
+
+	/**
+	 * Adds the element written between two indexes of a string
+	 */
+	abstract void add(String s, int start, int end) throws SQLException;
+
+	void addNull() {
+		if (nulls == null) {
+			nulls = new BitSet();
+		}
+		nulls.set(size);
+		grow();
+		size++;
+	}
+
+	/**
+	 * @return the array of the elements, an array of primitives for the numeric types
+	 */
+	abstract Object getValues();
+
+	/**
+	 * @return the positions of the {@code NULL} elements, null if there is none
+	 */
+	@Nullable
+	BitSet getNulls() {
+		return nulls;
+	}
+
+	/**
+	 * @return the elements in an array of objects
+	 */
+	Object toObjectArray() {
+		return box(getValues(), nulls);
+	}
+
+	/**
+	 * Makes room for one more element, doubling the capacity when the array is full
+	 */
+	protected abstract void grow();
+
+	protected static int newCapacity(int capacity) {
+		return Math.max(INITIAL_CAPACITY, capacity * 2);
+	}
+
+	/**
+	 * Copies an array of primitives to an array of the wrapper type with {@code null} at the given positions. Arrays of
+	 * objects are returned as is.
+	 */
+	static Object box(Object values, @Nullable BitSet nulls) {
+		if (values instanceof int[]) {
+			int[] ints = (int[]) values;
+			Integer[] boxed = new Integer[ints.length];
+			for (int i = 0; i < ints.length; i++) {
+				boxed[i] = isNull(nulls, i) ? null : ints[i];
+			}
+			return boxed;
+		} else if (values instanceof long[]) {
+			long[] longs = (long[]) values;
+			Long[] boxed = new Long[longs.length];
+			for (int i = 0; i < longs.length; i++) {
+				boxed[i] = isNull(nulls, i) ? null : longs[i];
+			}
+			return boxed;
+		} else if (values instanceof float[]) {
+			float[] floats = (float[]) values;
+			Float[] boxed = new Float[floats.length];
+			for (int i = 0; i < floats.length; i++) {
+				boxed[i] = isNull(nulls, i) ? null : floats[i];
+			}
+			return boxed;
+		} else if (values instanceof double[]) {
+			double[] doubles = (double[]) values;
+			Double[] boxed = new Double[doubles.length];
+			for (int i = 0; i < doubles.length; i++) {
+				boxed[i] = isNull(nulls, i) ? null : doubles[i];
+			}
+			return boxed;
+		}
+		return values;
+	}
+
+	private static boolean isNull(@Nullable BitSet nulls, int index) {
+		return nulls != null && nulls.get(index);
+	}
+
+	/**
+	 * @return true if the element can be parsed by {@link Double#parseDouble(String)} and does not need the conversions
+	 *         of {@link BaseType} ({@code inf}, {@code nan}...)
+	 */
+	private static boolean isPlainNumber(String s, int end) {
+		return Character.isDigit(s.charAt(end - 1));
+	}
+
+	private static class IntElements extends ArrayElements {
+		private int[] values = new int[0];
+
+		@Override
+		void add(String s, int start, int end) {
+			grow();
+			values[size++] = Integer.parseInt(s, start, end, 10);
+		}
+
+		@Override
+		protected void grow() {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, newCapacity(values.length));
+			}
+		}
+
+		@Override
+		Object getValues() {
+			return values.length == size ? values : Arrays.copyOf(values, size);
+		}
+	}
+
+	private static class LongElements extends ArrayElements {
+		private long[] values = new long[0];
+
+		@Override
+		void add(String s, int start, int end) {
+			grow();
+			values[size++] = Long.parseLong(s, start, end, 10);
+		}
+
+		@Override
+		protected void grow() {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, newCapacity(values.length));
+			}
+		}
+
+		@Override
+		Object getValues() {
+			return values.length == size ? values : Arrays.copyOf(values, size);
+		}
+	}
+
+	private static class FloatElements extends ArrayElements {
+		private float[] values = new float[0];
+
+		@Override
+		void add(String s, int start, int end) throws SQLException {
+			String value = s.substring(start, end);
+			float parsed = isPlainNumber(s, end) ? Float.parseFloat(value) : BaseType.REAL.<Float>transform(value);
+			grow();
+			values[size++] = parsed;
+		}
+
+		@Override
+		protected void grow() {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, newCapacity(values.length));
+			}
+		}
+
+		@Override
+		Object getValues() {
+			return values.length == size ? values : Arrays.copyOf(values, size);
+		}
+	}
+
+	private static class DoubleElements extends ArrayElements {
+		private double[] values = new double[0];
+
+		@Override
+		void add(String s, int start, int end) throws SQLException {
+			String value = s.substring(start, end);
+			double parsed = isPlainNumber(s, end) ? Double.parseDouble(value) : BaseType.DOUBLE.<Double>transform(value);
+			grow();
+			values[size++] = parsed;
+		}
+
+		@Override
+		protected void grow() {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, newCapacity(values.length));
+			}
+		}
+
+		@Override
+		Object getValues() {
+			return values.length == size ? values : Arrays.copyOf(values, size);
+		}
+	}
+
+	private static class ObjectElements extends ArrayElements {
+		private final BaseType baseType;
+		private Object[] values;
+
+		private ObjectElements(BaseType baseType) {
+			this.baseType = baseType;
+			this.values = (Object[]) Array.newInstance(baseType.getType(), 0);
+		}
+
+		@Override
+		void add(String s, int start, int end) throws SQLException {
+			String value = s.substring(start, end);
+			Object element = baseType == BaseType.TEXT ? TsvUnescaper.unescape(value) : baseType.transform(value);
+			grow();
+			values[size++] = element;
+		}
+
+		@Override
+		protected void grow() {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, newCapacity(values.length));
+			}
+		}
+
+		@Override
+		Object getValues() {
+			return values.length == size ? values : Arrays.copyOf(values, size);
+		}
+	}
+}
@@ -5,11 +5,13 @@ import com.firebolt.jdbc.exception.FireboltException;
 import com.firebolt.jdbc.resultset.FireboltResultSet;
 import com.firebolt.jdbc.type.FireboltDataType;
 
+import javax.annotation.Nullable;
 import java.sql.Array;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.IntStream;
@@ -21,12 +23,31 @@ import static java.util.stream.Collectors.toList;
 public class FireboltArray implements Array {
 
 	private final FireboltDataType type;
+	// the array of objects, created from the primitive values when it is read for the first time
 	private Object array;
+	// the elements of an array of a numeric type before they are boxed
+	private Object values;
+	private BitSet nulls;
 	private final List<QueryResult.Column> columns;
 
 	public FireboltArray(FireboltDataType type, Object array) {
+		this(type, array, null, null);
+	}
+
+	/**
+	 * @param type the type of the elements
+	 * @param values the parsed elements, an array of objects or of primitives
+	 * @param nulls the positions of the {@code NULL} elements in an array of primitives, null if there is none
+	 */
+	FireboltArray(FireboltDataType type, Object values, @Nullable BitSet nulls) {
+		this(type, values.getClass().getComponentType().isPrimitive() ? null : values, values, nulls);
+	}
+
+	private FireboltArray(FireboltDataType type, Object array, Object values, @Nullable BitSet nulls) {
 		this.type = type;
 		this.array = array;
+		this.values = array == null ? values : null;
+		this.nulls = nulls;
 		columns = Arrays.asList(
 				QueryResult.Column.builder().name("INDEX").type(INTEGER).build(),
 				QueryResult.Column.builder().name("VALUE").type(type).build());
@@ -44,10 +65,25 @@ public class FireboltArray implements Array {
 
 	@Override
 	public Object getArray() throws SQLException {
-		if (array == null) {
-			throw new SQLException("Cannot call method getArray() after calling free()");
+		return array();
+	}
+
+	/**
+	 * Returns the elements of a one-dimensional array of integers, big integers, reals or doubles as an array of
+	 * primitives ({@code int[]}, {@code long[]}, {@code float[]} or {@code double[]}) without boxing them.
+	 *
+	 * @return the array of primitives
+	 * @throws SQLException if the array is not an array of primitives, contains {@code NULL} elements or was freed
+	 */
+	public Object getPrimitiveArray() throws SQLException {
+		if (values == null) {
+			array();
+			throw new FireboltException(format("The array of %s cannot be read as an array of primitives", type.getDisplayName()));
 		}
-		return array;
+		if (nulls != null && !nulls.isEmpty()) {
+			throw new FireboltException("The array contains NULL elements that cannot be read as primitives");
+		}
+		return values;
 	}
 
 	@Override
@@ -58,6 +94,8 @@ public class FireboltArray implements Array {
 	@Override
 	public void free() {
 		array = null;
+		values = null;
+		nulls = null;
 	}
 
 	@Override
@@ -67,9 +105,7 @@ public class FireboltArray implements Array {
 
 	@Override
 	public Object getArray(long index, int count, Map<String, Class<?>> map) throws SQLException {
-		if (array == null) {
-			throw new SQLException("Cannot call method getArray() after calling free()");
-		}
+		Object array = array();
 		if (map != null && !map.isEmpty()) {
 			throw new SQLFeatureNotSupportedException("Maps are not supported with Arrays");
 		}
@@ -83,6 +119,16 @@ public class FireboltArray implements Array {
 		return index == 1 && count >= maxCount ? array : Arrays.copyOfRange((Object[])array, from, to);
 	}
 
+	private Object array() throws SQLException {
+		if (array == null) {
+			if (values == null) {
+				throw new SQLException("Cannot call method getArray() after calling free()");
+			}
+			array = ArrayElements.box(values, nulls);
+		}
+		return array;
+	}
+
 	@Override
 	public ResultSet getResultSet() throws SQLException {
 		return getResultSet(null);
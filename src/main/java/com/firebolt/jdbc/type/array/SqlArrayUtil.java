@@ -2,6 +2,7 @@ package com.firebolt.jdbc.type.array;
 
 import com.firebolt.jdbc.exception.FireboltException;
 import com.firebolt.jdbc.resultset.column.ColumnType;
+import com.firebolt.jdbc.type.BaseType;
 import com.firebolt.jdbc.type.FireboltDataType;
 import com.firebolt.jdbc.type.JavaTypeToFireboltSQLString;
 import com.firebolt.jdbc.util.StringUtil;
@@ -10,17 +11,15 @@ import lombok.NonNull;
 
 import javax.annotation.Nullable;
 import java.lang.reflect.Array;
-import java.nio.ByteBuffer;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 @CustomLog
@@ -32,6 +31,17 @@ public class SqlArrayUtil {
 	private final ColumnType columnType;
 	private final Markers markers;
 	public static final String BYTE_ARRAY_PREFIX = "\\x";
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+	// the value of the hexadecimal digits by character, -1 for the other characters
+	private static final byte[] HEX_VALUES = new byte['f' + 1];
+
+	static {
+		Arrays.fill(HEX_VALUES, (byte) -1);
+		for (int i = 0; i < 16; i++) {
+			HEX_VALUES[Character.forDigit(i, 16)] = (byte) i;
+			HEX_VALUES[Character.toUpperCase(Character.forDigit(i, 16))] = (byte) i;
+		}
+	}
 
 	private static final class Markers {
 		private final char leftArrayBracket;
@@ -61,8 +71,18 @@ public class SqlArrayUtil {
 		SqlArrayUtil parser = new SqlArrayUtil(columnType,
 				ofNullable(formatMarkers.get(value.charAt(0))).orElseThrow(() -> new IllegalArgumentException("Wrong format"))
 		);
+		FireboltDataType arrayBaseType = columnType.getArrayBaseColumnType().getDataType();
+		if (dimensions == 1 && arrayBaseType != FireboltDataType.TUPLE) {
+			// the elements of numeric types are kept unboxed until the array is read as an array of objects
+			String arrayContent = parser.removeBrackets(value);
+			if (isNullValue(arrayContent)) {
+				return null;
+			}
+			ArrayElements elements = parser.parseElements(arrayContent, arrayBaseType);
+			return new FireboltArray(arrayBaseType, elements.getValues(), elements.getNulls());
+		}
 		Object arr = parser.createArray(value, dimensions);
-		return arr == null ? null : new FireboltArray(columnType.getArrayBaseColumnType().getDataType(), arr);
+		return arr == null ? null : new FireboltArray(arrayBaseType, arr);
 	}
 
 	private static int getDimensions(ColumnType columnType) {
@@ -74,10 +94,13 @@ public class SqlArrayUtil {
 	}
 
 	private Object createArray(String arrayContent, int dimension) throws SQLException {
+		return extractArray(removeBrackets(arrayContent), dimension);
+	}
+
+	private String removeBrackets(String arrayContent) {
 		int from = arrayContent.charAt(0) == markers.leftArrayBracket ? 1 : 0;
 		int to = arrayContent.charAt(arrayContent.length() - 1) == markers.rightArrayBracket ? arrayContent.length() - 1 : arrayContent.length();
-		arrayContent = arrayContent.substring(from, to);
-		return extractArray(arrayContent, dimension);
+		return arrayContent.substring(from, to);
 	}
 
 	private Object extractArray(String arrayContent, int dimension) throws SQLException {
@@ -92,27 +115,56 @@ public class SqlArrayUtil {
 		String[] s = splitToElements(str);
 		int[] lengths = new int[dimension];
 		lengths[0] = s.length;
-		Object currentArray = Array.newInstance(columnType.getArrayBaseColumnType().getDataType().getBaseType().getType(), lengths);
+		Object[] currentArray = (Object[]) Array.newInstance(columnType.getArrayBaseColumnType().getDataType().getBaseType().getType(), lengths);
 		for (int i = 0; i < s.length; i++) {
-			Array.set(currentArray, i, createArray(s[i], dimension - 1));
+			currentArray[i] = createArray(s[i], dimension - 1);
 		}
 		return currentArray;
 	}
 
 	private Object extractArrayFromOneDimensionalArray(String arrayContent) throws SQLException {
 		FireboltDataType arrayBaseType = columnType.getArrayBaseColumnType().getDataType();
-		@SuppressWarnings("java:S6204") // JDK 11 compatible
-		List<String> elements = splitArrayContent(arrayContent, arrayBaseType, markers.literalQuote)
-				.stream().filter(s -> s != null && !s.isEmpty()).map(x -> removeQuotesAndTransformNull(x, markers.literalQuote))
-				.collect(toList());
 		if (arrayBaseType == FireboltDataType.TUPLE) {
+			@SuppressWarnings("java:S6204") // JDK 11 compatible
+			List<String> elements = splitArrayContent(arrayContent, arrayBaseType, markers.literalQuote)
+					.stream().filter(s -> s != null && !s.isEmpty()).map(x -> removeQuotesAndTransformNull(x, markers.literalQuote))
+					.collect(toList());
 			return getArrayOfTuples(columnType, elements);
 		}
-		Object currentArray = Array.newInstance(arrayBaseType.getBaseType().getType(), elements.size());
-		for (int i = 0; i < elements.size(); i++) {
-			Array.set(currentArray, i, arrayBaseType.getBaseType().transform(elements.get(i), null));
+		return parseElements(arrayContent, arrayBaseType).toObjectArray();
+	}
+
+	/**
+	 * Parses the elements of a one-dimensional array (without its brackets) in a single pass: the elements are
+	 * converted as soon as they are found by {@link #scanArrayContent(String, FireboltDataType, char, ElementHandler)}.
+	 */
+	private ArrayElements parseElements(String arrayContent, FireboltDataType arrayBaseType) throws SQLException {
+		ArrayElements elements = ArrayElements.of(arrayBaseType.getBaseType());
+		char quote = markers.literalQuote;
+		scanArrayContent(arrayContent, arrayBaseType, quote, (start, end) -> addElement(elements, arrayContent, start, end, quote));
+		return elements;
+	}
+
+	private static void addElement(ArrayElements elements, String arrayContent, int start, int end, char quote) throws SQLException {
+		if (start >= end) {
+			// empty elements are ignored
+			return;
+		}
+		if (arrayContent.startsWith("NULL", start) && end - start == 4) {
+			elements.addNull();
+			return;
 		}
-		return currentArray;
+		if (arrayContent.charAt(start) == quote) {
+			start++;
+		}
+		if (end > start && arrayContent.charAt(end - 1) == quote) {
+			end--;
+		}
+		if (end - start == 2 && arrayContent.startsWith(BaseType.NULL_VALUE, start)) {
+			elements.addNull();
+			return;
+		}
+		elements.add(arrayContent, start, end);
 	}
 
 	private Object[] getArrayOfTuples(ColumnType columnType, List<String> tuples) throws SQLException {
@@ -181,12 +233,23 @@ public class SqlArrayUtil {
 		return s.substring(1, s.length() - 1);
 	}
 
-	private static List<String> splitArrayContent(String arrayContent, FireboltDataType baseType, char quote) {
+	private static List<String> splitArrayContent(String arrayContent, FireboltDataType baseType, char quote) throws SQLException {
+		List<String> elements = new ArrayList<>();
+		scanArrayContent(arrayContent, baseType, quote, (start, end) -> elements.add(arrayContent.substring(start, end)));
+		return elements;
+	}
+
+	/**
+	 * Finds the elements of a one-dimensional array (without its brackets) separated by commas that are neither
+	 * between quotes nor, for an array of tuples, between parenthesis.
+	 *
+	 * @param handler called with the start and the end of each element, including the empty ones
+	 */
+	private static void scanArrayContent(String arrayContent, FireboltDataType baseType, char quote, ElementHandler handler) throws SQLException {
 		int index = -1;
 		int subStringStart = 0;
 		int parenthesisDepth = 0; // Needed for tuples
 		boolean isCurrentSubstringBetweenQuotes = false;
-		List<String> elements = new ArrayList<>();
 		boolean escaped = false;
 		while (index < arrayContent.length() - 1) {
 			index++;
@@ -206,13 +269,17 @@ public class SqlArrayUtil {
 				}
 			}
 			if ((parenthesisDepth == 0 && currentChar == ',' && !isCurrentSubstringBetweenQuotes)) {
-				elements.add(arrayContent.substring(subStringStart, index));
+				handler.element(subStringStart, index);
 				subStringStart = index + 1;
 			}
 			escaped = false;
 		}
-		elements.add(arrayContent.substring(subStringStart));
-		return elements;
+		handler.element(subStringStart, arrayContent.length());
+	}
+
+	@FunctionalInterface
+	private interface ElementHandler {
+		void element(int start, int end) throws SQLException;
 	}
 
 	public static String arrayToString(Object o) throws SQLException {
@@ -236,11 +303,14 @@ public class SqlArrayUtil {
 		if (arr == null) {
 			return null;
 		}
-		List<String> values = new ArrayList<>();
-		for (Object element : arr) {
-			values.add(JavaTypeToFireboltSQLString.transformAny(element));
+		StringBuilder sb = new StringBuilder().append('[');
+		for (int i = 0; i < arr.length; i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			JavaTypeToFireboltSQLString.appendAny(sb, arr[i]);
 		}
-		return "[" + String.join(",", values) + "]";
+		return sb.append(']').toString();
 	}
 
 	private static Object[] toObjectArray(Object array) {
@@ -268,9 +338,43 @@ public class SqlArrayUtil {
 		if (bytes == null)  {
 			return null;
 		}
-		ByteBuffer buffer = ByteBuffer.wrap(bytes);
-		String separator = separateEachByte ? BYTE_ARRAY_PREFIX : "";
-		return Stream.generate(buffer::get).limit(buffer.capacity()).map(i -> format("%02x", i)).collect(joining(separator, BYTE_ARRAY_PREFIX, ""));
+		int charsPerByte = separateEachByte ? 4 : 2;
+		char[] chars = new char[bytes.length == 0 ? 2 : bytes.length * charsPerByte + (separateEachByte ? 0 : 2)];
+		chars[0] = '\\';
+		chars[1] = 'x';
+		// with a separator, each byte (including the first one) is prefixed by \x
+		int position = separateEachByte ? 0 : 2;
+		for (byte b : bytes) {
+			if (separateEachByte) {
+				chars[position++] = '\\';
+				chars[position++] = 'x';
+			}
+			chars[position++] = HEX_DIGITS[(b >> 4) & 0xF];
+			chars[position++] = HEX_DIGITS[b & 0xF];
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * Appends the hexadecimal representation of a byte array (like {@link #byteArrayToHexString(byte[], boolean)})
+	 *
+	 * @param sb the builder
+	 * @param bytes the bytes
+	 * @param separateEachByte - flag that controls separator between hexadecimal digits in the resulting string
+	 * @return the builder
+	 */
+	public static StringBuilder appendHexString(StringBuilder sb, byte[] bytes, boolean separateEachByte) {
+		sb.ensureCapacity(sb.length() + bytes.length * (separateEachByte ? 4 : 2) + 2);
+		if (!separateEachByte || bytes.length == 0) {
+			sb.append("\\x");
+		}
+		for (byte b : bytes) {
+			if (separateEachByte) {
+				sb.append("\\x");
+			}
+			sb.append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+		}
+		return sb;
 	}
 
 	@SuppressWarnings("java:S1168") // we have to return null here
@@ -281,18 +385,61 @@ public class SqlArrayUtil {
 		if (!str.startsWith(BYTE_ARRAY_PREFIX)) {
 			return str.getBytes(UTF_8);
 		}
-		char[] chars = str.substring(2).toCharArray();
-		byte[] bytes = new byte[chars.length / 2];
-		for (int i = 0; i < chars.length; i += 2) {
-			bytes[i / 2] = (byte) ((hexDigit(chars[i]) << 4) + hexDigit(chars[i + 1]));
+		int length = str.length();
+		checkHexDigitCount(length - BYTE_ARRAY_PREFIX.length());
+		byte[] bytes = new byte[(length - BYTE_ARRAY_PREFIX.length()) / 2];
+		for (int i = BYTE_ARRAY_PREFIX.length(), j = 0; j < bytes.length; i += 2, j++) {
+			bytes[j] = (byte) ((hexDigit(str.charAt(i)) << 4) + hexDigit(str.charAt(i + 1)));
 		}
 		return bytes;
 	}
 
-	private static int hexDigit(char c) {
-		int d = Character.digit(c, 16);
+	/**
+	 * Same as {@link #hexStringToByteArray(String)} for a value encoded in UTF-8, without creating a {@link String}
+	 *
+	 * @param value the buffer containing the value
+	 * @param start the index of the first byte of the value
+	 * @param end the index after the last byte of the value
+	 * @return the bytes of the value
+	 * @throws IllegalArgumentException if the value has an odd number of hexadecimal digits or an illegal character
+	 */
+	public static byte[] hexStringToByteArray(byte[] value, int start, int end) {
+		if (!isHexString(value, start, end)) {
+			return Arrays.copyOfRange(value, start, end);
+		}
+		checkHexDigitCount(end - start - BYTE_ARRAY_PREFIX.length());
+		byte[] bytes = new byte[(end - start - BYTE_ARRAY_PREFIX.length()) / 2];
+		for (int i = start + BYTE_ARRAY_PREFIX.length(), j = 0; j < bytes.length; i += 2, j++) {
+			bytes[j] = (byte) ((hexDigit(value[i]) << 4) + hexDigit(value[i + 1]));
+		}
+		return bytes;
+	}
+
+	/**
+	 * @return true if the value encoded in UTF-8 starts with {@link #BYTE_ARRAY_PREFIX}
+	 */
+	public static boolean isHexString(byte[] value, int start, int end) {
+		return end - start >= 2 && value[start] == '\\' && value[start + 1] == 'x';
+	}
+
+	/**
+	 * @param count the number of hexadecimal digits of a value, after its prefix
+	 * @throws IllegalArgumentException if the number is odd as each byte is written with two digits
+	 */
+	public static void checkHexDigitCount(int count) {
+		if ((count & 1) != 0) {
+			throw new IllegalArgumentException(format("Odd number of digits %d in hex string", count));
+		}
+	}
+
+	/**
+	 * @param c a hexadecimal digit (a character or its UTF-8 byte)
+	 * @return the value of the digit
+	 */
+	public static int hexDigit(int c) {
+		int d = c >= 0 && c < HEX_VALUES.length ? HEX_VALUES[c] : -1;
 		if (d < 0) {
-			throw new IllegalArgumentException(format("Illegal character %s in hex string", c));
+			throw new IllegalArgumentException(format("Illegal character %s in hex string", (char) (c & 0xFFFF)));
 		}
 		return d;
 	}
@@ -4,10 +4,14 @@ import com.firebolt.jdbc.CheckedBiFunction;
 import lombok.CustomLog;
 import lombok.experimental.UtilityClass;
 
+import javax.annotation.Nullable;
+
 import java.sql.Date;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
@@ -27,18 +31,51 @@ public class SqlDateUtil {
 			.appendPattern("[XXX]")
 			.appendPattern("[X]").toFormatter();
 
-	public static final Function<Timestamp, String> transformFromTimestampToSQLStringFunction = value -> String
-			.format("'%s'", dateTimeFormatter.format(value.toLocalDateTime()));
-	public static final BiFunction<Timestamp, TimeZone, String> transformFromTimestampWithTimezoneToSQLStringFunction = (ts, tz) -> String
-			.format("'%s'", dateTimeFormatter.format(ts.toInstant().atZone(tz.toZoneId()).toLocalDateTime()));
+	public static final Function<Timestamp, String> transformFromTimestampToSQLStringFunction = value -> appendTimestamp(
+			new StringBuilder(32), value, null).toString();
+	public static final BiFunction<Timestamp, TimeZone, String> transformFromTimestampWithTimezoneToSQLStringFunction = (ts, tz) -> appendTimestamp(
+			new StringBuilder(32), ts, tz).toString();
 	private static final TimeZone DEFAULT_SERVER_TZ = TimeZone.getTimeZone("UTC");
 	private static final DateTimeFormatter dateFormatter = new DateTimeFormatterBuilder()
 			.appendValue(ChronoField.YEAR, 4).parseDefaulting(ChronoField.YEAR, 0).appendPattern("[-]MM-dd")
 			.toFormatter();
-	public static final Function<Date, String> transformFromDateToSQLStringFunction = value -> String.format("'%s'",
-			dateFormatter.format(value.toLocalDate()));
-	public static final BiFunction<Date, TimeZone, String> transformFromDateWithTimezoneToSQLStringFunction = (date, tz) -> String.format("'%s'",
-			dateFormatter.format(Instant.ofEpochMilli(date.getTime()).atZone(tz.toZoneId()).toLocalDateTime()));
+	public static final Function<Date, String> transformFromDateToSQLStringFunction = value -> appendDate(
+			new StringBuilder(12), value, null).toString();
+	public static final BiFunction<Date, TimeZone, String> transformFromDateWithTimezoneToSQLStringFunction = (date, tz) -> appendDate(
+			new StringBuilder(12), date, tz).toString();
+
+	/**
+	 * Appends a timestamp as a quoted SQL literal
+	 *
+	 * @param sb the builder of the SQL
+	 * @param timestamp the timestamp
+	 * @param tz the time zone of the literal, null for the local date and time of the timestamp
+	 * @return the builder
+	 */
+	public static StringBuilder appendTimestamp(StringBuilder sb, Timestamp timestamp, @Nullable TimeZone tz) {
+		LocalDateTime dateTime = tz == null ? timestamp.toLocalDateTime()
+				: timestamp.toInstant().atZone(tz.toZoneId()).toLocalDateTime();
+		sb.append('\'');
+		dateTimeFormatter.formatTo(dateTime, sb);
+		return sb.append('\'');
+	}
+
+	/**
+	 * Appends a date as a quoted SQL literal
+	 *
+	 * @param sb the builder of the SQL
+	 * @param date the date
+	 * @param tz the time zone of the literal, null for the local date of the date
+	 * @return the builder
+	 */
+	public static StringBuilder appendDate(StringBuilder sb, Date date, @Nullable TimeZone tz) {
+		LocalDate localDate = tz == null ? date.toLocalDate()
+				: Instant.ofEpochMilli(date.getTime()).atZone(tz.toZoneId()).toLocalDate();
+		sb.append('\'');
+		dateFormatter.formatTo(localDate, sb);
+		return sb.append('\'');
+	}
+
 	public static final CheckedBiFunction<String, TimeZone, Timestamp> transformToTimestampFunction = TimestampUtil::toTimestamp;
 
 	public static final Function<Timestamp, OffsetDateTime> transformFromTimestampToOffsetDateTime = timestamp -> {
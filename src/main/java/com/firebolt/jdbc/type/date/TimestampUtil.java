@@ -32,6 +32,8 @@
  *  - Type specification in the map constructor with the diamond operator
  *  - Adding final keyword for constants
  *  - Replacing isSpace() with isWhiteSpaced()
+ *  - Computing the instants with the rules of java.time instead of a shared Calendar when they give the same result
+ *  - Parsing to the types of java.time without going through a Timestamp
  */
 
 /*
@@ -68,8 +70,19 @@ import java.sql.Date;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.annotation.Nullable;
 
@@ -89,11 +102,15 @@ public class TimestampUtil {
 	private static final int ONEDAY = 24 * 3600 * 1000;
 	private static @Nullable TimeZone prevDefaultZoneFieldValue;
 	private static @Nullable TimeZone defaultTimeZoneCache;
-	// This calendar is used when user provides calendar in setX(, Calendar) method.
-	// It ensures calendar is Gregorian.
-	private static final Calendar calendarWithUserTz = new GregorianCalendar();
-	private static @Nullable Calendar calCache;
-	private static @Nullable ZoneOffset calCacheZone;
+	private static final long DAYS_0000_TO_1970 = 719528L;
+	// range of the years where the rules of java.time give the same instants as GregorianCalendar
+	private static final int MIN_ZONE_RULES_YEAR = 1900;
+	private static final int MAX_ZONE_RULES_YEAR = 2036;
+	private static final long MIN_ZONE_RULES_MILLIS = getEpochDay(MIN_ZONE_RULES_YEAR, 1, 2) * ONEDAY;
+	private static final long MAX_ZONE_RULES_MILLIS = getEpochDay(MAX_ZONE_RULES_YEAR, 12, 31) * ONEDAY;
+	// the rules of the time zones by id, empty for the time zones unknown to java.time
+	private static final ConcurrentMap<String, Optional<ZoneRules>> ZONE_RULES = new ConcurrentHashMap<>();
+	private static final ConcurrentMap<String, ZoneId> ZONE_IDS = new ConcurrentHashMap<>();
 
 	static {
 		// The expected maximum value is 60 (seconds), so 64 is used "just in case"
@@ -183,16 +200,18 @@ public class TimestampUtil {
 			// Now we have brand-new 7 Jan 00:00 GMT+02:00
 			return new Date(millis);
 		}
-		synchronized (calendarWithUserTz) {
-			Calendar cal = calendarWithUserTz;
-			cal.setTimeZone(tz);
-			cal.setTimeInMillis(millis);
-			cal.set(Calendar.HOUR_OF_DAY, 0);
-			cal.set(Calendar.MINUTE, 0);
-			cal.set(Calendar.SECOND, 0);
-			cal.set(Calendar.MILLISECOND, 0);
-			return new Date(cal.getTimeInMillis());
+		ZoneRules rules = getZoneRules(tz);
+		if (rules != null && isInZoneRulesRange(millis)) {
+			long localMillis = millis + rules.getOffset(Instant.ofEpochMilli(millis)).getTotalSeconds() * 1000L;
+			return new Date(toEpochMillis(floorDiv(localMillis, ONEDAY) * ONEDAY, rules));
 		}
+		Calendar cal = new GregorianCalendar(tz);
+		cal.setTimeInMillis(millis);
+		cal.set(Calendar.HOUR_OF_DAY, 0);
+		cal.set(Calendar.MINUTE, 0);
+		cal.set(Calendar.SECOND, 0);
+		cal.set(Calendar.MILLISECOND, 0);
+		return new Date(cal.getTimeInMillis());
 	}
 
 	/**
@@ -209,53 +228,32 @@ public class TimestampUtil {
 			return null;
 		}
 		ParsedTimestamp ts = parseBackendTimestamp(s);
-		long timeMillis;
-
-		Calendar calendar = ts.hasOffset ? getCalendar(ts.offset) : calendarWithUserTz;
-		synchronized (calendar) {
-			if (!ts.hasOffset) {
-				if (tz == null) {
-					tz = getDefaultTz();
-				}
-				// When no time zone provided (e.g. time or timestamp)
-				// We get the year-month-day from the string, then truncate the day to
-				// 1970-01-01
-				// This is used for timestamp -> time conversion
-				// Note: this cannot be merged with "else" branch since
-				// timestamps at which the time flips to/from DST depend on the date
-				// For instance, 2000-03-26 02:00:00 is invalid timestamp in Europe/Moscow time
-				// zone
-				// and the valid one is 2000-03-26 03:00:00. That is why we parse full timestamp
-				// then set year to 1970 later
-				calendar.setTimeZone(tz);
-				calendar.set(Calendar.ERA, ts.era);
-				calendar.set(Calendar.YEAR, ts.year);
-				calendar.set(Calendar.MONTH, ts.month - 1);
-				calendar.set(Calendar.DAY_OF_MONTH, ts.day);
-			} else {
-				// When time zone is given, we just pick the time part and assume date to be
-				// 1970-01-01
-				// this is used for time, timez, and timestamptz parsing
-				calendar.set(Calendar.ERA, GregorianCalendar.AD);
-				calendar.set(Calendar.YEAR, 1970);
-				calendar.set(Calendar.MONTH, Calendar.JANUARY);
-				calendar.set(Calendar.DAY_OF_MONTH, 1);
-			}
-			calendar.set(Calendar.HOUR_OF_DAY, ts.hour);
-			calendar.set(Calendar.MINUTE, ts.minute);
-			calendar.set(Calendar.SECOND, ts.second);
-			calendar.set(Calendar.MILLISECOND, 0);
-
-			timeMillis = calendar.getTimeInMillis() + ts.nanos / 1000000;
-
-			if (ts.hasOffset || (ts.year == 1970 && ts.era == GregorianCalendar.AD)) {
-				// time with time zone has proper time zone, so the value can be returned as is
-				return new Time(timeMillis);
-			}
-			// 2) Truncate date part so in given time zone the date would be formatted as
-			// 01/01/1970
-			return convertToTime(timeMillis, calendar.getTimeZone());
+		if (ts.hasOffset) {
+			// When time zone is given, we just pick the time part and assume date to be
+			// 1970-01-01
+			// this is used for time, timez, and timestamptz parsing
+			return new Time((getSecondOfDay(ts) - ts.offset.getTotalSeconds()) * 1000L + ts.nanos / 1000000);
 		}
+		if (tz == null) {
+			tz = getDefaultTz();
+		}
+		// When no time zone provided (e.g. time or timestamp)
+		// We get the year-month-day from the string, then truncate the day to
+		// 1970-01-01
+		// This is used for timestamp -> time conversion
+		// Note: this cannot be merged with the time zone case since
+		// timestamps at which the time flips to/from DST depend on the date
+		// For instance, 2000-03-26 02:00:00 is invalid timestamp in Europe/Moscow time
+		// zone
+		// and the valid one is 2000-03-26 03:00:00. That is why we parse full timestamp
+		// then set year to 1970 later
+		long timeMillis = toEpochMillis(ts, tz) + ts.nanos / 1000000;
+		if (ts.year == 1970 && ts.era == GregorianCalendar.AD) {
+			return new Time(timeMillis);
+		}
+		// 2) Truncate date part so in given time zone the date would be formatted as
+		// 01/01/1970
+		return convertToTime(timeMillis, tz);
 	}
 
 	/**
@@ -271,38 +269,293 @@ public class TimestampUtil {
 			return null;
 		}
 
-		int slen = s.length();
-
 		// convert postgres's infinity values to internal infinity magic value
-		if (slen == 8 && s.equals("infinity")) {
+		if (isPositiveInfinity(s)) {
 			return new Timestamp(DATE_POSITIVE_INFINITY);
 		}
 
-		if (slen == 9 && s.equals("-infinity")) {
+		if (isNegativeInfinity(s)) {
 			return new Timestamp(DATE_NEGATIVE_INFINITY);
 		}
 		ParsedTimestamp ts = parseBackendTimestamp(s);
-		Calendar useCal = ts.hasOffset ? getCalendar(ts.offset) : calendarWithUserTz;
-		synchronized (useCal) {
-			if (!ts.hasOffset) {
-				if (tz == null) {
-					tz = getDefaultTz();
-				}
-				useCal.setTimeZone(tz);
+		if (!ts.hasOffset && tz == null) {
+			tz = getDefaultTz();
+		}
+		Timestamp result = new Timestamp(toEpochMillis(ts, tz));
+		result.setNanos(ts.nanos);
+		return result;
+	}
+
+	/**
+	 * Parse a string and return the local date and time it represents. A value with an offset is converted to the
+	 * given time zone.
+	 *
+	 * @param s  The ISO formated timestamp string to parse.
+	 * @param tz the time zone of the result when the value has an offset, UTC if null
+	 * @return null if s is null or the local date and time of the parsed string s.
+	 * @throws SQLException if there is a problem parsing s.
+	 */
+	public static LocalDateTime toLocalDateTime(String s, @Nullable TimeZone tz) throws SQLException {
+		if (s == null) {
+			return null;
+		}
+		if (isPositiveInfinity(s)) {
+			return LocalDateTime.MAX;
+		}
+		if (isNegativeInfinity(s)) {
+			return LocalDateTime.MIN;
+		}
+		ParsedTimestamp ts = parseBackendTimestamp(s);
+		LocalDateTime localDateTime = toLocalDateTime(ts);
+		if (!ts.hasOffset) {
+			return localDateTime;
+		}
+		return localDateTime.atOffset(ts.offset).atZoneSameInstant(toZoneId(tz)).toLocalDateTime();
+	}
+
+	/**
+	 * Parse a string and return the local date it represents. A value with an offset is converted to the given time
+	 * zone before taking its date.
+	 *
+	 * @param s  The ISO formated date or timestamp string to parse.
+	 * @param tz the time zone of the result when the value has an offset, UTC if null
+	 * @return null if s is null or the local date of the parsed string s.
+	 * @throws SQLException if there is a problem parsing s.
+	 */
+	public static LocalDate toLocalDate(String s, @Nullable TimeZone tz) throws SQLException {
+		LocalDateTime localDateTime = toLocalDateTime(s, tz);
+		return localDateTime == null ? null : localDateTime.toLocalDate();
+	}
+
+	/**
+	 * Parse a string and return the instant it represents.
+	 *
+	 * @param s  The ISO formated timestamp string to parse.
+	 * @param tz the time zone of the value when it has no offset, UTC if null
+	 * @return null if s is null or the instant of the parsed string s.
+	 * @throws SQLException if there is a problem parsing s.
+	 */
+	public static Instant toInstant(String s, @Nullable TimeZone tz) throws SQLException {
+		if (s == null) {
+			return null;
+		}
+		if (isPositiveInfinity(s)) {
+			return Instant.MAX;
+		}
+		if (isNegativeInfinity(s)) {
+			return Instant.MIN;
+		}
+		return toInstant(parseBackendTimestamp(s), tz);
+	}
+
+	/**
+	 * Parse a string and return the date and time it represents at the offset UTC, like the server returns the values
+	 * of the type timestamptz.
+	 *
+	 * @param s  The ISO formated timestamp string to parse.
+	 * @param tz the time zone of the value when it has no offset, UTC if null
+	 * @return null if s is null or the date and time of the parsed string s.
+	 * @throws SQLException if there is a problem parsing s.
+	 */
+	public static OffsetDateTime toOffsetDateTime(String s, @Nullable TimeZone tz) throws SQLException {
+		if (s == null) {
+			return null;
+		}
+		if (isPositiveInfinity(s)) {
+			return OffsetDateTime.MAX;
+		}
+		if (isNegativeInfinity(s)) {
+			return OffsetDateTime.MIN;
+		}
+		return toInstant(parseBackendTimestamp(s), tz).atOffset(ZoneOffset.UTC);
+	}
+
+	/**
+	 * Parse a string and return the date and time it represents in the given time zone.
+	 *
+	 * @param s  The ISO formated timestamp string to parse.
+	 * @param tz the time zone of the value when it has no offset and of the result, UTC if null
+	 * @return null if s is null or the date and time of the parsed string s.
+	 * @throws SQLException if there is a problem parsing s.
+	 */
+	public static ZonedDateTime toZonedDateTime(String s, @Nullable TimeZone tz) throws SQLException {
+		if (s == null) {
+			return null;
+		}
+		ZoneId zoneId = toZoneId(tz);
+		if (isPositiveInfinity(s)) {
+			return LocalDateTime.MAX.atZone(zoneId);
+		}
+		if (isNegativeInfinity(s)) {
+			return LocalDateTime.MIN.atZone(zoneId);
+		}
+		ParsedTimestamp ts = parseBackendTimestamp(s);
+		LocalDateTime localDateTime = toLocalDateTime(ts);
+		if (ts.hasOffset) {
+			return localDateTime.atOffset(ts.offset).atZoneSameInstant(zoneId);
+		}
+		return ZonedDateTime.ofLocal(localDateTime, zoneId, null).withLaterOffsetAtOverlap();
+	}
+
+	/**
+	 * Like {@link GregorianCalendar}, a local time in a gap is moved forward by the length of the gap and a local time
+	 * in an overlap gets the offset after the transition.
+	 */
+	private static Instant toInstant(ParsedTimestamp ts, @Nullable TimeZone tz) {
+		LocalDateTime localDateTime = toLocalDateTime(ts);
+		if (ts.hasOffset) {
+			return localDateTime.toInstant(ts.offset);
+		}
+		ZoneId zoneId = toZoneId(tz);
+		if (zoneId instanceof ZoneOffset) {
+			return localDateTime.toInstant((ZoneOffset) zoneId);
+		}
+		return ZonedDateTime.ofLocal(localDateTime, zoneId, null).withLaterOffsetAtOverlap().toInstant();
+	}
+
+	/**
+	 * @return the local date and time of the fields of a parsed timestamp in the proleptic Gregorian calendar like the
+	 *         server, fields out of range (e.g. 24:00:00) being added like with a lenient calendar
+	 */
+	private static LocalDateTime toLocalDateTime(ParsedTimestamp ts) {
+		int year = ts.era == GregorianCalendar.BC ? 1 - ts.year : ts.year;
+		if (ts.month >= 1 && ts.month <= 12 && ts.day >= 1 && ts.day <= getLengthOfMonth(year, ts.month)
+				&& ts.hour <= 23 && ts.minute <= 59 && ts.second <= 59) {
+			return LocalDateTime.of(year, ts.month, ts.day, ts.hour, ts.minute, ts.second, ts.nanos);
+		}
+		return LocalDateTime.of(year, 1, 1, 0, 0).plusMonths(ts.month - 1L).plusDays(ts.day - 1L)
+				.plusSeconds(getSecondOfDay(ts)).plusNanos(ts.nanos);
+	}
+
+	private static ZoneId toZoneId(@Nullable TimeZone tz) {
+		if (tz == null) {
+			return ZoneOffset.UTC;
+		}
+		if (tz instanceof SimpleTimeZone) {
+			// custom rules that may not match the rules of the zone with the same id
+			return tz.useDaylightTime() ? tz.toZoneId() : ZoneOffset.ofTotalSeconds(tz.getRawOffset() / 1000);
+		}
+		return ZONE_IDS.computeIfAbsent(tz.getID(), id -> tz.toZoneId());
+	}
+
+	private static boolean isPositiveInfinity(String s) {
+		return s.length() == 8 && s.equals("infinity");
+	}
+
+	private static boolean isNegativeInfinity(String s) {
+		return s.length() == 9 && s.equals("-infinity");
+	}
+
+	/**
+	 * Computes the instant of a parsed timestamp (without its fractional seconds) in its offset or, when it has no
+	 * offset, in the given time zone. The instant is computed with the rules of java.time when they give the same
+	 * result as a {@link GregorianCalendar}, otherwise with a new calendar (dates before the Gregorian cutover, fields
+	 * out of range...).
+	 */
+	private static long toEpochMillis(ParsedTimestamp ts, TimeZone tz) {
+		if (isValidModernDate(ts)) {
+			long localSeconds = getEpochDay(ts.year, ts.month, ts.day) * 86400 + getSecondOfDay(ts);
+			if (ts.hasOffset) {
+				return (localSeconds - ts.offset.getTotalSeconds()) * 1000;
+			}
+			ZoneRules rules = getZoneRules(tz);
+			if (rules != null) {
+				return toEpochMillis(localSeconds * 1000, rules);
 			}
-			useCal.set(Calendar.ERA, ts.era);
-			useCal.set(Calendar.YEAR, ts.year);
-			useCal.set(Calendar.MONTH, ts.month - 1);
-			useCal.set(Calendar.DAY_OF_MONTH, ts.day);
-			useCal.set(Calendar.HOUR_OF_DAY, ts.hour);
-			useCal.set(Calendar.MINUTE, ts.minute);
-			useCal.set(Calendar.SECOND, ts.second);
-			useCal.set(Calendar.MILLISECOND, 0);
+		}
+		Calendar calendar = new GregorianCalendar(ts.hasOffset ? getTimeZone(ts.offset) : tz);
+		calendar.clear();
+		calendar.set(Calendar.ERA, ts.era);
+		calendar.set(Calendar.YEAR, ts.year);
+		calendar.set(Calendar.MONTH, ts.month - 1);
+		calendar.set(Calendar.DAY_OF_MONTH, ts.day);
+		calendar.set(Calendar.HOUR_OF_DAY, ts.hour);
+		calendar.set(Calendar.MINUTE, ts.minute);
+		calendar.set(Calendar.SECOND, ts.second);
+		calendar.set(Calendar.MILLISECOND, 0);
+		return calendar.getTimeInMillis();
+	}
 
-			Timestamp result = new Timestamp(useCal.getTimeInMillis());
-			result.setNanos(ts.nanos);
-			return result;
+	/**
+	 * Converts a local date and time expressed as milliseconds since 1970-01-01T00:00 to an instant. Like
+	 * {@link GregorianCalendar}, a local time in a gap is moved forward by the length of the gap and a local time in an
+	 * overlap gets the offset after the transition.
+	 */
+	private static long toEpochMillis(long localMillis, ZoneRules rules) {
+		if (rules.isFixedOffset()) {
+			return localMillis - rules.getOffset(Instant.EPOCH).getTotalSeconds() * 1000L;
+		}
+		LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(floorDiv(localMillis, 1000), 0, ZoneOffset.UTC);
+		ZoneOffsetTransition transition = rules.getTransition(localDateTime);
+		ZoneOffset offset;
+		if (transition == null) {
+			offset = rules.getOffset(localDateTime);
+		} else {
+			offset = transition.isOverlap() ? transition.getOffsetAfter() : transition.getOffsetBefore();
+		}
+		return localMillis - offset.getTotalSeconds() * 1000L;
+	}
+
+	private static boolean isValidModernDate(ParsedTimestamp ts) {
+		return ts.era == GregorianCalendar.AD && ts.year >= MIN_ZONE_RULES_YEAR && ts.year <= MAX_ZONE_RULES_YEAR
+				&& ts.month >= 1 && ts.month <= 12 && ts.day >= 1 && ts.day <= getLengthOfMonth(ts.year, ts.month)
+				&& ts.hour >= 0 && ts.hour <= 23 && ts.minute >= 0 && ts.minute <= 59 && ts.second >= 0 && ts.second <= 59;
+	}
+
+	private static boolean isInZoneRulesRange(long millis) {
+		return millis >= MIN_ZONE_RULES_MILLIS && millis < MAX_ZONE_RULES_MILLIS;
+	}
+
+	private static int getSecondOfDay(ParsedTimestamp ts) {
+		return ts.hour * 3600 + ts.minute * 60 + ts.second;
+	}
+
+	/**
+	 * @return the number of days between 1970-01-01 and a date of the proleptic Gregorian calendar
+	 */
+	private static long getEpochDay(int year, int month, int day) {
+		long y = year;
+		long total = 365 * y + (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+		total += (367 * month - 362) / 12 + day - 1;
+		if (month > 2) {
+			total -= isLeapYear(year) ? 1 : 2;
+		}
+		return total - DAYS_0000_TO_1970;
+	}
+
+	private static int getLengthOfMonth(int year, int month) {
+		switch (month) {
+			case 2:
+				return isLeapYear(year) ? 29 : 28;
+			case 4:
+			case 6:
+			case 9:
+			case 11:
+				return 30;
+			default:
+				return 31;
+		}
+	}
+
+	private static boolean isLeapYear(int year) {
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	/**
+	 * @return the rules of the time zone, null if the time zone is not one of the time zones of java.time
+	 */
+	private static @Nullable ZoneRules getZoneRules(TimeZone tz) {
+		if (tz instanceof SimpleTimeZone) {
+			// custom rules that may not match the rules of the zone with the same id
+			return null;
 		}
+		return ZONE_RULES.computeIfAbsent(tz.getID(), id -> {
+			try {
+				return Optional.of(tz.toZoneId().getRules());
+			} catch (DateTimeException e) {
+				return Optional.empty();
+			}
+		}).orElse(null);
 	}
 
 	private static long floorDiv(long x, long y) {
@@ -318,40 +571,40 @@ public class TimestampUtil {
 		return id.startsWith("GMT") || id.startsWith("UTC");
 	}
 
-	private static int skipWhitespace(char[] s, int start) {
-		int slen = s.length;
+	private static int skipWhitespace(String s, int start) {
+		int slen = s.length();
 		for (int i = start; i < slen; i++) {
-			if (!Character.isWhitespace(s[i])) {
+			if (!Character.isWhitespace(s.charAt(i))) {
 				return i;
 			}
 		}
 		return slen;
 	}
 
-	private static int firstNonDigit(char[] s, int start) {
-		int slen = s.length;
+	private static int firstNonDigit(String s, int start) {
+		int slen = s.length();
 		for (int i = start; i < slen; i++) {
-			if (!Character.isDigit(s[i])) {
+			if (!Character.isDigit(s.charAt(i))) {
 				return i;
 			}
 		}
 		return slen;
 	}
 
-	private static char charAt(char[] s, int pos) {
-		if (pos >= 0 && pos < s.length) {
-			return s[pos];
+	private static char charAt(String s, int pos) {
+		if (pos >= 0 && pos < s.length()) {
+			return s.charAt(pos);
 		}
 		return '\0';
 	}
 
-	private static int number(char[] s, int start, int end) {
+	private static int number(String s, int start, int end) {
 		if (start >= end) {
 			throw new NumberFormatException();
 		}
 		int n = 0;
 		for (int i = start; i < end; i++) {
-			n = 10 * n + (s[i] - '0');
+			n = 10 * n + (s.charAt(i) - '0');
 		}
 		return n;
 	}
@@ -389,32 +642,27 @@ public class TimestampUtil {
 			// Now we have brand-new 1970 1 Jan 15:40 GMT+02:00
 			return new Time(millis);
 		}
-		synchronized (calendarWithUserTz) {
-			Calendar cal = calendarWithUserTz;
-			cal.setTimeZone(tz);
-			cal.setTimeInMillis(millis);
-			cal.set(Calendar.ERA, GregorianCalendar.AD);
-			cal.set(Calendar.YEAR, 1970);
-			cal.set(Calendar.MONTH, 0);
-			cal.set(Calendar.DAY_OF_MONTH, 1);
-			return new Time(cal.getTimeInMillis());
+		ZoneRules rules = getZoneRules(tz);
+		if (rules != null && isInZoneRulesRange(millis)) {
+			long localMillis = millis + rules.getOffset(Instant.ofEpochMilli(millis)).getTotalSeconds() * 1000L;
+			return new Time(toEpochMillis(floorMod(localMillis, ONEDAY), rules));
 		}
+		Calendar cal = new GregorianCalendar(tz);
+		cal.setTimeInMillis(millis);
+		cal.set(Calendar.ERA, GregorianCalendar.AD);
+		cal.set(Calendar.YEAR, 1970);
+		cal.set(Calendar.MONTH, 0);
+		cal.set(Calendar.DAY_OF_MONTH, 1);
+		return new Time(cal.getTimeInMillis());
 	}
 
-	private static synchronized Calendar getCalendar(ZoneOffset offset) {
-		if (calCache != null && Objects.equals(offset, calCacheZone)) {
-			return calCache;
-		}
-
+	private static TimeZone getTimeZone(ZoneOffset offset) {
 		// normally we would use:
-		// calCache = new GregorianCalendar(TimeZone.getTimeZone(offset));
+		// TimeZone.getTimeZone(offset);
 		// But this seems to cause issues for some crazy offsets as returned by server
 		// for BC dates!
 		final String tzid = (offset.getTotalSeconds() == 0) ? "UTC" : "GMT".concat(offset.getId());
-		final TimeZone syntheticTZ = new SimpleTimeZone(offset.getTotalSeconds() * 1000, tzid);
-		calCache = new GregorianCalendar(syntheticTZ);
-		calCacheZone = offset;
-		return calCache;
+		return new SimpleTimeZone(offset.getTotalSeconds() * 1000, tzid);
 	}
 
 	private static TimeZone getDefaultTz() {
@@ -458,9 +706,8 @@ public class TimestampUtil {
 	 * Load date/time information into the provided calendar returning the
 	 * fractional seconds.
 	 */
-	private static ParsedTimestamp parseBackendTimestamp(String str) throws SQLException {
-		char[] s = str.toCharArray();
-		int slen = s.length;
+	private static ParsedTimestamp parseBackendTimestamp(String s) throws SQLException {
+		int slen = s.length();
 
 		// This is pretty gross..
 		ParsedTimestamp result = new ParsedTimestamp();
@@ -606,11 +853,10 @@ public class TimestampUtil {
 			}
 
 			if (result.hasDate && start < slen) {
-				String eraString = new String(s, start, slen - start);
-				if (eraString.startsWith("AD")) {
+				if (s.startsWith("AD", start)) {
 					result.era = GregorianCalendar.AD;
 					start += 2;
-				} else if (eraString.startsWith("BC")) {
+				} else if (s.startsWith("BC", start)) {
 					result.era = GregorianCalendar.BC;
 					start += 2;
 				}
@@ -618,7 +864,7 @@ public class TimestampUtil {
 
 			if (start < slen) {
 				throw new NumberFormatException(
-						"Trailing junk on timestamp: '" + new String(s, start, slen - start) + "'");
+						"Trailing junk on timestamp: '" + s.substring(start) + "'");
 			}
 
 			if (!result.hasTime && !result.hasDate) {
@@ -626,7 +872,7 @@ public class TimestampUtil {
 			}
 
 		} catch (NumberFormatException nfe) {
-			throw new FireboltException(String.format("Bad value for type timestamp/date/time: %s", str));
+			throw new FireboltException(String.format("Bad value for type timestamp/date/time: %s", s));
 		}
 
 		return result;
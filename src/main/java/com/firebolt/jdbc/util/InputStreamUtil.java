@@ -1,18 +1,24 @@
 package com.firebolt.jdbc.util;
 
+import com.firebolt.jdbc.resultset.compress.LZ4InputStream;
 import lombok.CustomLog;
 import lombok.experimental.UtilityClass;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
 @UtilityClass
 @CustomLog
 public class InputStreamUtil {
     private static final int K_BYTE = 1024;
     private static final int BUFFER_SIZE = 8 * K_BYTE;
+    private static final int TRANSFER_BUFFER_SIZE = 64 * K_BYTE;
 
     /**
      * Read all bytes from the input stream if the stream is not null
@@ -43,4 +49,59 @@ public class InputStreamUtil {
         }
         return buffer.length() > limit ? buffer.substring(0, limit) : buffer.toString();
     }
+
+    /**
+     * Writes bytes already read from a stream followed by the rest of the stream. The rest of a compressed stream is
+     * written by {@link LZ4InputStream#transferTo(OutputStream)}, which writes its decompressed blocks directly, and the
+     * rest of any other stream is copied in blocks of {@value #TRANSFER_BUFFER_SIZE} bytes (instead of the 8 KB of
+     * {@link InputStream#transferTo(OutputStream)}).
+     *
+     * @param buffer the buffer containing the bytes already read
+     * @param offset the offset of the first byte to write
+     * @param length the number of bytes already read to write
+     * @param is the stream to read the next bytes from
+     * @param out the stream to write to
+     * @return the number of bytes written
+     * @throws IOException if a stream cannot be read or written
+     */
+    public long transferTo(byte[] buffer, int offset, int length, InputStream is, OutputStream out) throws IOException {
+        out.write(buffer, offset, length);
+        if (is instanceof LZ4InputStream) {
+            return length + is.transferTo(out);
+        }
+        byte[] transferBuffer = new byte[TRANSFER_BUFFER_SIZE];
+        long transferred = length;
+        int read;
+        while ((read = is.read(transferBuffer, 0, transferBuffer.length)) >= 0) {
+            out.write(transferBuffer, 0, read);
+            transferred += read;
+        }
+        return transferred;
+    }
+
+    /**
+     * Same as {@link #transferTo(byte[], int, int, InputStream, OutputStream)} with a channel
+     */
+    public long transferTo(byte[] buffer, int offset, int length, InputStream is, WritableByteChannel channel) throws IOException {
+        write(channel, ByteBuffer.wrap(buffer, offset, length));
+        if (is instanceof LZ4InputStream) {
+            // the stream of the channel wraps the arrays written to it without copying them
+            return length + is.transferTo(Channels.newOutputStream(channel));
+        }
+        ByteBuffer transferBuffer = ByteBuffer.allocate(TRANSFER_BUFFER_SIZE);
+        long transferred = length;
+        int read;
+        while ((read = is.read(transferBuffer.array(), 0, transferBuffer.capacity())) >= 0) {
+            transferBuffer.clear().limit(read);
+            write(channel, transferBuffer);
+            transferred += read;
+        }
+        return transferred;
+    }
+
+    private void write(WritableByteChannel channel, ByteBuffer byteBuffer) throws IOException {
+        while (byteBuffer.hasRemaining()) {
+            channel.write(byteBuffer);
+        }
+    }
 }
@@ -0,0 +1,71 @@
+package com.firebolt.jdbc.util;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Unescapes the values of the format TabSeparated. Firebolt escapes the special characters with a backslash:
+ * {@code \b \f \n \r \t \0 \' \" \\} (and {@code \a \v}). A backslash followed by any other character is kept as is.
+ */
+@UtilityClass
+public class TsvUnescaper {
+	private static final char BACKSLASH = '\\';
+	private static final int NOT_AN_ESCAPE_SEQUENCE = -1;
+
+	/**
+	 * Unescapes a value
+	 *
+	 * @param value the escaped value
+	 * @return the unescaped value, the same instance if it does not contain any backslash
+	 */
+	public static String unescape(String value) {
+		int backslash = value.indexOf(BACKSLASH);
+		if (backslash < 0) {
+			return value;
+		}
+		int length = value.length();
+		// an unescaped value is never longer than the escaped one
+		char[] unescaped = new char[length];
+		value.getChars(0, backslash, unescaped, 0);
+		int unescapedLength = backslash;
+		for (int i = backslash; i < length; i++) {
+			char c = value.charAt(i);
+			if (c == BACKSLASH && i + 1 < length) {
+				int escaped = unescape(value.charAt(i + 1));
+				if (escaped != NOT_AN_ESCAPE_SEQUENCE) {
+					unescaped[unescapedLength++] = (char) escaped;
+					i++;
+					continue;
+				}
+			}
+			unescaped[unescapedLength++] = c;
+		}
+		return new String(unescaped, 0, unescapedLength);
+	}
+
+	private static int unescape(char escaped) {
+		switch (escaped) {
+			case 't':
+				return '\t';
+			case 'n':
+				return '\n';
+			case 'r':
+				return '\r';
+			case '0':
+				return '\0';
+			case 'b':
+				return '\b';
+			case 'f':
+				return '\f';
+			case 'a':
+				return 0x07;
+			case 'v':
+				return 0x0B;
+			case '\\':
+			case '\'':
+			case '"':
+				return escaped;
+			default:
+				return NOT_AN_ESCAPE_SEQUENCE;
+		}
+	}
+}
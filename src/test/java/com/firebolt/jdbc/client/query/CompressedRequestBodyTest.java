@@ -0,0 +1,54 @@
+package com.firebolt.jdbc.client.query;
+
+import com.firebolt.jdbc.resultset.compress.LZ4InputStream;
+import okhttp3.MediaType;
+import okio.Buffer;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CompressedRequestBodyTest {
+
+	@ParameterizedTest
+	@EnumSource(RequestCompression.class)
+	void shouldWriteTheCompressedStatementEachTimeTheBodyIsWritten(RequestCompression compression) throws IOException {
+		StringBuilder statement = new StringBuilder("insert into t values ");
+		Random random = new Random(0);
+		while (statement.length() < 100_000) {
+			// characters of 1 to 4 bytes so that some of them span two chunks
+			statement.append("(").append(random.nextInt()).append(", 'é€😀'),");
+		}
+		CompressedRequestBody body = new CompressedRequestBody(statement.toString(), MediaType.parse("application/json"), compression);
+		for (int i = 0; i < 2; i++) {
+			Buffer buffer = new Buffer();
+			body.writeTo(buffer);
+			assertEquals(statement.toString(), new String(decompress(buffer.inputStream(), compression).readAllBytes(), UTF_8));
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(RequestCompression.class)
+	void shouldWriteEmptyStatement(RequestCompression compression) throws IOException {
+		Buffer buffer = new Buffer();
+		new CompressedRequestBody("", MediaType.parse("application/json"), compression).writeTo(buffer);
+		assertEquals("", new String(decompress(buffer.inputStream(), compression).readAllBytes(), UTF_8));
+	}
+
+	private static InputStream decompress(InputStream is, RequestCompression compression) throws IOException {
+		switch (compression) {
+		case LZ4:
+			return new LZ4InputStream(is);
+		case GZIP:
+			return new GZIPInputStream(is);
+		default:
+			return is;
+		}
+	}
+}
@@ -8,6 +8,7 @@ import com.firebolt.jdbc.connection.settings.FireboltProperties;
 import com.firebolt.jdbc.connection.settings.FireboltSessionProperty;
 import com.firebolt.jdbc.exception.ExceptionType;
 import com.firebolt.jdbc.exception.FireboltException;
+import com.firebolt.jdbc.resultset.compress.LZ4InputStream;
 import com.firebolt.jdbc.statement.StatementInfoWrapper;
 import com.firebolt.jdbc.statement.StatementUtil;
 import lombok.NonNull;
@@ -32,7 +33,9 @@ import org.mockito.stubbing.Answer;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -43,6 +46,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.zip.GZIPInputStream;
 
 import static com.firebolt.jdbc.client.UserAgentFormatter.userAgent;
 import static com.firebolt.jdbc.client.query.StatementClientImpl.HEADER_RESET_SESSION;
@@ -51,6 +55,7 @@ import static com.firebolt.jdbc.client.query.StatementClientImpl.HEADER_UPDATE_P
 import static java.lang.String.format;
 import static java.util.Optional.ofNullable;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -83,6 +88,61 @@ class StatementClientImplTest {
 		assertEquals(expectedUrl, shouldPostSqlQuery(systemEngine).getValue());
 	}
 
+	@Test
+	void shouldRequestConfiguredResultFormat() throws FireboltException, IOException {
+		FireboltProperties fireboltProperties = FireboltProperties.builder().database("db1").compress(true).host("firebolt1").port(555)
+				.resultFormat("RowBinaryWithNamesAndTypes").build();
+		when(connection.getAccessToken()).thenReturn(Optional.of("token"));
+		StatementClient statementClient = new StatementClientImpl(okHttpClient, connection, "", "");
+		Call call = getMockedCallWithResponse(200, "");
+		when(okHttpClient.newCall(any())).thenReturn(call);
+		StatementInfoWrapper statementInfoWrapper = StatementUtil.parseToStatementInfoWrappers("select 1").get(0);
+		statementClient.executeSqlStatement(statementInfoWrapper, fireboltProperties, false, 0, true);
+
+		verify(okHttpClient).newCall(requestArgumentCaptor.capture());
+		assertEquals("RowBinaryWithNamesAndTypes", requestArgumentCaptor.getValue().url().queryParameter("output_format"));
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+			"lz4,1,",
+			"gzip,,gzip",
+	})
+	void shouldCompressLongStatements(String compression, String decompressParameter, String contentEncoding) throws IOException, SQLException {
+		FireboltProperties fireboltProperties = FireboltProperties.builder().database("db1").compress(true).host("firebolt1").port(555)
+				.requestCompression(compression).requestCompressionThreshold(20).build();
+		Request request = postStatement(fireboltProperties, "insert into t values (1), (2), (3)");
+		assertEquals(decompressParameter, request.url().queryParameter("decompress"));
+		assertEquals(contentEncoding, request.header("Content-Encoding"));
+		assertEquals(-1, request.body().contentLength());
+		Buffer buffer = new Buffer();
+		request.body().writeTo(buffer);
+		InputStream compressed = buffer.inputStream();
+		InputStream decompressed = "gzip".equals(compression) ? new GZIPInputStream(compressed) : new LZ4InputStream(compressed);
+		assertSqlStatement("insert into t values \\(1\\), \\(2\\), \\(3\\);", new String(decompressed.readAllBytes(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void shouldNotCompressShortStatements() throws IOException, SQLException {
+		FireboltProperties fireboltProperties = FireboltProperties.builder().database("db1").compress(true).host("firebolt1").port(555)
+				.requestCompression("lz4").requestCompressionThreshold(1000).build();
+		Request request = postStatement(fireboltProperties, "insert into t values (1), (2), (3)");
+		assertNull(request.url().queryParameter("decompress"));
+		assertNull(request.header("Content-Encoding"));
+		assertSqlStatement("insert into t values \\(1\\), \\(2\\), \\(3\\);", getActualRequestString(request));
+	}
+
+	private Request postStatement(FireboltProperties fireboltProperties, String sql) throws IOException, SQLException {
+		when(connection.getAccessToken()).thenReturn(Optional.of("token"));
+		StatementClient statementClient = new StatementClientImpl(okHttpClient, connection, "", "");
+		Call call = getMockedCallWithResponse(200, "");
+		when(okHttpClient.newCall(any())).thenReturn(call);
+		StatementInfoWrapper statementInfoWrapper = StatementUtil.parseToStatementInfoWrappers(sql).get(0);
+		statementClient.executeSqlStatement(statementInfoWrapper, fireboltProperties, false, 0, true);
+		verify(okHttpClient).newCall(requestArgumentCaptor.capture());
+		return requestArgumentCaptor.getValue();
+	}
+
 	private Entry<String, String> shouldPostSqlQuery(boolean systemEngine) throws FireboltException, IOException {
 		FireboltProperties fireboltProperties = FireboltProperties.builder().database("db1").compress(true).host("firebolt1").port(555).accountId("12345").systemEngine(systemEngine).build();
 		when(connection.getAccessToken())
@@ -228,13 +228,13 @@ abstract class FireboltConnectionTest {
 	void createStatementWithParameters() throws SQLException {
 		try (FireboltConnection fireboltConnection = createConnection(URL, connectionProperties)) {
 			assertNotNull(fireboltConnection.createStatement(TYPE_FORWARD_ONLY, CONCUR_READ_ONLY));
+			assertEquals(TYPE_SCROLL_INSENSITIVE, fireboltConnection.createStatement(TYPE_SCROLL_INSENSITIVE, CONCUR_READ_ONLY).getResultSetType());
 		}
 	}
 
 	@Test
 	void unsupportedCreateStatementWithParameters() throws SQLException {
 		try (FireboltConnection fireboltConnection = createConnection(URL, connectionProperties)) {
-			assertThrows(SQLFeatureNotSupportedException.class, () -> fireboltConnection.createStatement(TYPE_SCROLL_INSENSITIVE, CONCUR_READ_ONLY));
 			assertThrows(SQLFeatureNotSupportedException.class, () -> fireboltConnection.createStatement(TYPE_SCROLL_SENSITIVE, CONCUR_READ_ONLY));
 			assertThrows(SQLFeatureNotSupportedException.class, () -> fireboltConnection.createStatement(TYPE_SCROLL_INSENSITIVE, CONCUR_UPDATABLE));
 			assertThrows(SQLFeatureNotSupportedException.class, () -> fireboltConnection.createStatement(TYPE_SCROLL_SENSITIVE, CONCUR_UPDATABLE));
@@ -276,7 +276,8 @@ abstract class FireboltConnectionTest {
 
 	@Test
 	void unsupportedPrepareStatement() throws SQLException {
-		notSupported(c -> c.prepareStatement("select 1", ResultSet.TYPE_SCROLL_INSENSITIVE, CONCUR_READ_ONLY));
+		notSupported(c -> c.prepareStatement("select 1", ResultSet.TYPE_SCROLL_SENSITIVE, CONCUR_READ_ONLY));
+		notSupported(c -> c.prepareStatement("select 1", ResultSet.TYPE_FORWARD_ONLY, CONCUR_UPDATABLE));
 		notSupported(c -> c.prepareStatement("select 1", Statement.RETURN_GENERATED_KEYS));
 		notSupported(c -> c.prepareStatement("select 1", new int[0]));
 		notSupported(c -> c.prepareStatement("select 1", new String[0]));
@@ -288,6 +289,7 @@ abstract class FireboltConnectionTest {
 			assertNotNull(fireboltConnection.prepareStatement("select 1"));
 			assertNotNull(fireboltConnection.prepareStatement("select 1", ResultSet.TYPE_FORWARD_ONLY, CONCUR_READ_ONLY));
 			assertNotNull(fireboltConnection.prepareStatement("select 1", ResultSet.TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, HOLD_CURSORS_OVER_COMMIT));
+			assertEquals(TYPE_SCROLL_INSENSITIVE, fireboltConnection.prepareStatement("select 1", TYPE_SCROLL_INSENSITIVE, CONCUR_READ_ONLY).getResultSetType());
 		}
 	}
 
@@ -215,6 +215,56 @@ class FireboltPropertiesTest {
 		assertThrows(IllegalStateException.class, () -> new FireboltProperties(properties));
 	}
 
+	@Test
+	void shouldHaveResultFormat() {
+		assertNull(new FireboltProperties(new Properties()).getResultFormat());
+		Properties properties = new Properties();
+		properties.put("result_format", "RowBinaryWithNamesAndTypes");
+		assertEquals("RowBinaryWithNamesAndTypes", new FireboltProperties(properties).getResultFormat());
+	}
+
+	@Test
+	void shouldNotAcceptUnsupportedResultFormat() {
+		Properties properties = new Properties();
+		properties.put("result_format", "XML");
+		assertThrows(IllegalArgumentException.class, () -> new FireboltProperties(properties));
+	}
+
+	@Test
+	void shouldHaveChecksumVerification() {
+		assertNull(new FireboltProperties(new Properties()).getChecksumVerification());
+		Properties properties = new Properties();
+		properties.put("checksum_verification", "sampled");
+		assertEquals("sampled", new FireboltProperties(properties).getChecksumVerification());
+	}
+
+	@Test
+	void shouldNotAcceptUnsupportedChecksumVerification() {
+		Properties properties = new Properties();
+		properties.put("checksum_verification", "partial");
+		assertThrows(IllegalArgumentException.class, () -> new FireboltProperties(properties));
+	}
+
+	@Test
+	void shouldHaveRequestCompression() {
+		FireboltProperties defaultProperties = new FireboltProperties(new Properties());
+		assertNull(defaultProperties.getRequestCompression());
+		assertEquals(1024 * 1024, defaultProperties.getRequestCompressionThreshold());
+		Properties properties = new Properties();
+		properties.put("request_compression", "gzip");
+		properties.put("request_compression_threshold", "4096");
+		FireboltProperties fireboltProperties = new FireboltProperties(properties);
+		assertEquals("gzip", fireboltProperties.getRequestCompression());
+		assertEquals(4096, fireboltProperties.getRequestCompressionThreshold());
+	}
+
+	@Test
+	void shouldNotAcceptUnsupportedRequestCompression() {
+		Properties properties = new Properties();
+		properties.put("request_compression", "zip");
+		assertThrows(IllegalArgumentException.class, () -> new FireboltProperties(properties));
+	}
+
 	private Properties properties(String envKey, String envValue, String host) {
 		Properties properties = new Properties();
 		if (envValue != null) {
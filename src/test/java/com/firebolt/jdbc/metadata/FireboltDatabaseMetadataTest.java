@@ -566,7 +566,7 @@ class FireboltDatabaseMetadataTest {
 	@Test
 	void supportsResultSetType() throws SQLException {
 		assertTrue(fireboltDatabaseMetadata.supportsResultSetType(ResultSet.TYPE_FORWARD_ONLY));
-		assertFalse(fireboltDatabaseMetadata.supportsResultSetType(ResultSet.TYPE_SCROLL_INSENSITIVE));
+		assertTrue(fireboltDatabaseMetadata.supportsResultSetType(ResultSet.TYPE_SCROLL_INSENSITIVE));
 		assertFalse(fireboltDatabaseMetadata.supportsResultSetType(ResultSet.TYPE_SCROLL_SENSITIVE));
 	}
 
@@ -815,7 +815,7 @@ class FireboltDatabaseMetadataTest {
 	@CsvSource(value = {
 			ResultSet.TYPE_FORWARD_ONLY + "," + ResultSet.CONCUR_READ_ONLY + ",true",
 			ResultSet.TYPE_FORWARD_ONLY + "," + ResultSet.CONCUR_UPDATABLE + ",false",
-			ResultSet.TYPE_SCROLL_INSENSITIVE + "," + ResultSet.CONCUR_READ_ONLY + ",false",
+			ResultSet.TYPE_SCROLL_INSENSITIVE + "," + ResultSet.CONCUR_READ_ONLY + ",true",
 			ResultSet.TYPE_SCROLL_INSENSITIVE + "," + ResultSet.CONCUR_UPDATABLE + ",false",
 			ResultSet.TYPE_SCROLL_SENSITIVE + "," + ResultSet.CONCUR_READ_ONLY + ",false",
 			ResultSet.TYPE_SCROLL_SENSITIVE + "," + ResultSet.CONCUR_UPDATABLE + ",false",
@@ -1,18 +1,24 @@
 package com.firebolt.jdbc.resultset;
 
 import com.firebolt.jdbc.exception.FireboltException;
+import com.firebolt.jdbc.exception.UncheckedSQLException;
+import com.firebolt.jdbc.resultset.decoder.ResultFormat;
 import com.firebolt.jdbc.statement.FireboltStatement;
+import com.firebolt.jdbc.testutils.RowBinaryPayload;
 import com.firebolt.jdbc.util.LoggerUtil;
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.junitpioneer.jupiter.DefaultTimeZone;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
@@ -21,6 +27,7 @@ import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.channels.Channels;
 import java.sql.Array;
 import java.sql.Clob;
 import java.sql.Date;
@@ -36,17 +43,26 @@ import java.sql.Types;
 import java.sql.Wrapper;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
 import java.util.TimeZone;
 import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.sql.ResultSet.TYPE_FORWARD_ONLY;
+import static java.sql.ResultSet.TYPE_SCROLL_INSENSITIVE;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -140,6 +156,225 @@ class FireboltResultSetTest {
 		assertThrowsForwardOnly("previous", () -> resultSet.previous());
 	}
 
+	@Test
+	void shouldNavigateInScrollInsensitiveResultSet() throws SQLException {
+		when(fireboltStatement.getResultSetType()).thenReturn(TYPE_SCROLL_INSENSITIVE);
+		inputStream = getInputStreamWithCommonResponseExample();
+		resultSet = createResultSet(inputStream);
+		assertEquals(TYPE_SCROLL_INSENSITIVE, resultSet.getType());
+		assertTrue(resultSet.isBeforeFirst());
+		assertEquals(0, resultSet.getRow());
+
+		assertTrue(resultSet.last());
+		assertTrue(resultSet.isLast());
+		assertEquals(2, resultSet.getRow());
+		assertEquals(2, resultSet.getInt("id"));
+		assertNull(resultSet.getString("name"));
+		assertTrue(resultSet.previous());
+		assertTrue(resultSet.isFirst());
+		assertEquals("Taylor's Prime Steak House", resultSet.getString("name"));
+		assertFalse(resultSet.previous());
+		assertTrue(resultSet.isBeforeFirst());
+		assertEquals(0, resultSet.getRow());
+
+		assertTrue(resultSet.absolute(-1));
+		assertEquals(2, resultSet.getInt(1));
+		assertTrue(resultSet.relative(-1));
+		assertEquals(1, resultSet.getInt(1));
+		assertFalse(resultSet.relative(5));
+		assertTrue(resultSet.isAfterLast());
+		assertEquals(0, resultSet.getRow());
+		assertFalse(resultSet.next());
+		assertTrue(resultSet.first());
+		assertEquals(1, resultSet.getInt(1));
+		assertTrue(resultSet.next());
+		assertEquals(2, resultSet.getInt(1));
+		assertFalse(resultSet.absolute(0));
+		assertTrue(resultSet.isBeforeFirst());
+		assertFalse(resultSet.absolute(3));
+		assertTrue(resultSet.isAfterLast());
+
+		resultSet.afterLast();
+		assertTrue(resultSet.previous());
+		assertEquals(2, resultSet.getRow());
+		resultSet.beforeFirst();
+		assertTrue(resultSet.next());
+		assertEquals(1, resultSet.getRow());
+		assertEquals(Date.valueOf(LocalDate.of(2022, 5, 10)), resultSet.getDate("a_date"));
+
+		resultSet.setFetchDirection(ResultSet.FETCH_REVERSE);
+		assertEquals(ResultSet.FETCH_REVERSE, resultSet.getFetchDirection());
+	}
+
+	@Test
+	void shouldReadScrollInsensitiveResultSetLikeForwardOnlyResultSet() throws SQLException {
+		when(fireboltStatement.getResultSetType()).thenReturn(TYPE_SCROLL_INSENSITIVE);
+		inputStream = getInputStreamWithCommonResponseExample();
+		resultSet = createResultSet(inputStream);
+		try (ResultSet expected = createResultSet(getInputStreamWithCommonResponseExample())) {
+			int columnCount = expected.getMetaData().getColumnCount();
+			while (expected.next()) {
+				assertTrue(resultSet.next());
+				assertEquals(expected.getRow(), resultSet.getRow());
+				for (int i = 1; i <= columnCount; i++) {
+					assertTrue(Objects.deepEquals(expected.getObject(i), resultSet.getObject(i)), "column " + i);
+					assertEquals(expected.wasNull(), resultSet.wasNull());
+				}
+			}
+			assertFalse(resultSet.next());
+		}
+	}
+
+	@Test
+	void shouldOnlyKeepMaxRowsInScrollInsensitiveResultSet() throws SQLException {
+		when(fireboltStatement.getResultSetType()).thenReturn(TYPE_SCROLL_INSENSITIVE);
+		when(fireboltStatement.getMaxRows()).thenReturn(1);
+		inputStream = getInputStreamWithCommonResponseExample();
+		resultSet = createResultSet(inputStream);
+		assertTrue(resultSet.last());
+		assertEquals(1, resultSet.getRow());
+		assertEquals(1, resultSet.getInt("id"));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 2, 10})
+	void shouldReadRowsInBatches(int capacity) throws SQLException {
+		inputStream = getInputStreamWithCommonResponseExample();
+		resultSet = createResultSet(inputStream);
+		FireboltResultSet fireboltResultSet = resultSet.unwrap(FireboltResultSet.class);
+		RowBatch batch = new RowBatch(capacity);
+		List<Object[]> rows = new ArrayList<>();
+		while (fireboltResultSet.nextBatch(batch) > 0) {
+			assertEquals(8, batch.getColumnCount());
+			assertEquals(RowBatch.VectorType.INT, batch.getVectorType(1));
+			assertEquals(RowBatch.VectorType.BYTES, batch.getVectorType(2));
+			assertEquals(RowBatch.VectorType.INT, batch.getVectorType(5));
+			assertEquals(RowBatch.VectorType.DOUBLE, batch.getVectorType(6));
+			// Int64 is read as a BigInteger
+			assertEquals(RowBatch.VectorType.BYTES, batch.getVectorType(7));
+			for (int row = 0; row < batch.getRowCount(); row++) {
+				rows.add(new Object[] {batch.getInts(1)[row], batch.getString(2, row), batch.getString(3, row), batch.getString(4, row),
+						batch.getInts(5)[row], batch.isNull(6, row) ? null : batch.getDoubles(6)[row],
+						batch.getString(7, row), batch.getString(8, row)});
+			}
+			assertTrue(batch.getRowCount() <= capacity);
+		}
+		assertEquals(2, rows.size());
+		assertArrayEquals(new Object[] {1, "[[['1','2'],['3','4']]]", "Taylor's Prime Steak House", "2022-05-10", 1, 14.6, "5", "http://firebolt.io"}, rows.get(0));
+		assertArrayEquals(new Object[] {2, "[[['1','2'],['3','4']],[['5','6'],['7','8',NULL]]]", null, "2022-05-10", 0, null, null, null}, rows.get(1));
+		assertTrue(resultSet.isAfterLast());
+	}
+
+	@Test
+	void shouldReadRowsInBatchesAfterNext() throws SQLException {
+		inputStream = new ByteArrayInputStream("id\tname\nbigint\ttext\n1\ta\n2\tb\\tc\n3\tc\n".getBytes());
+		resultSet = createResultSet(inputStream);
+		assertTrue(resultSet.next());
+		RowBatch batch = new RowBatch(2);
+		assertEquals(2, resultSet.unwrap(FireboltResultSet.class).nextBatch(batch));
+		assertArrayEquals(new long[] {2, 3}, Arrays.copyOf(batch.getLongs(1), 2));
+		assertEquals("b\tc", batch.getString(2, 0));
+		assertEquals("c", batch.getString(2, 1));
+		assertEquals(3, resultSet.getRow());
+		assertThrows(IllegalArgumentException.class, () -> batch.getInts(1));
+		assertThrows(IndexOutOfBoundsException.class, () -> batch.isNull(1, 2));
+		assertEquals(0, resultSet.unwrap(FireboltResultSet.class).nextBatch(batch));
+		assertEquals(0, batch.getRowCount());
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = {false, true})
+	void shouldStreamRowsInTheOrderOfTheResult(boolean parallel) throws SQLException {
+		StringBuilder response = new StringBuilder("id\tname\nbigint\ttext null\n");
+		for (int i = 0; i < 10_000; i++) {
+			response.append(i).append('\t').append(i % 7 == 0 ? "\\N" : "name" + i).append('\n');
+		}
+		inputStream = new ByteArrayInputStream(response.toString().getBytes());
+		resultSet = createResultSet(inputStream);
+		assertTrue(resultSet.next());
+		Stream<String> stream = resultSet.unwrap(FireboltResultSet.class).stream((rs, rowNum) -> {
+			assertEquals(rowNum + 1, rs.getLong(1));
+			return rs.getString(2);
+		});
+		List<String> names = (parallel ? stream.parallel() : stream).collect(Collectors.toList());
+		assertEquals(9_999, names.size());
+		for (int i = 1; i < 10_000; i++) {
+			assertEquals(i % 7 == 0 ? null : "name" + i, names.get(i - 1));
+		}
+		assertTrue(resultSet.isAfterLast());
+	}
+
+	@Test
+	void shouldReadFewerRowsThanRequestedWithoutAllocatingThemUpFront() throws SQLException {
+		inputStream = getInputStreamWithCommonResponseExample();
+		resultSet = createResultSet(inputStream);
+		FireboltResultSet rows = resultSet.unwrap(FireboltResultSet.class).nextRows(Integer.MAX_VALUE);
+		assertEquals(2, rows.getRemainingRowCount());
+		assertTrue(rows.next());
+		assertEquals(1, rows.getInt("id"));
+		assertTrue(rows.next());
+		assertEquals(2, rows.getInt("id"));
+		assertFalse(rows.next());
+		assertNull(resultSet.unwrap(FireboltResultSet.class).nextRows(Integer.MAX_VALUE));
+	}
+
+	@Test
+	void shouldStreamPrefetchedRowsInParallel() throws SQLException {
+		when(fireboltStatement.getFetchSize()).thenReturn(100);
+		StringBuilder response = new StringBuilder("id\tname\nbigint\ttext null\n");
+		for (int i = 0; i < 10_000; i++) {
+			response.append(i).append('\t').append(i % 7 == 0 ? "\\N" : "name" + i).append('\n');
+		}
+		inputStream = new ByteArrayInputStream(response.toString().getBytes());
+		resultSet = new FireboltResultSet(inputStream, "a_table", "a_db", 65535, false, fireboltStatement, false,
+				FireboltResultSetOptions.builder().prefetch(true).build());
+		List<String> names = resultSet.unwrap(FireboltResultSet.class).stream((rs, rowNum) -> {
+			assertEquals(rowNum, rs.getLong(1));
+			return rs.getString(2);
+		}).parallel().collect(Collectors.toList());
+		assertEquals(10_000, names.size());
+		for (int i = 0; i < 10_000; i++) {
+			assertEquals(i % 7 == 0 ? null : "name" + i, names.get(i));
+		}
+	}
+
+	@Test
+	void shouldStreamRowsOfScrollInsensitiveResultSetWithKnownSize() throws SQLException {
+		when(fireboltStatement.getResultSetType()).thenReturn(TYPE_SCROLL_INSENSITIVE);
+		inputStream = getInputStreamWithCommonResponseExample();
+		resultSet = createResultSet(inputStream);
+		Spliterator<Integer> spliterator = resultSet.unwrap(FireboltResultSet.class).stream((rs, rowNum) -> rs.getInt("id")).spliterator();
+		assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED));
+		assertEquals(2, spliterator.getExactSizeIfKnown());
+		Spliterator<Integer> prefix = spliterator.trySplit();
+		assertEquals(1, prefix.getExactSizeIfKnown());
+		assertEquals(1, spliterator.getExactSizeIfKnown());
+		List<Integer> ids = new ArrayList<>();
+		prefix.forEachRemaining(ids::add);
+		spliterator.forEachRemaining(ids::add);
+		assertEquals(List.of(1, 2), ids);
+	}
+
+	@Test
+	void shouldCloseResultSetWhenStreamIsClosed() throws SQLException {
+		inputStream = getInputStreamWithCommonResponseExample();
+		resultSet = createResultSet(inputStream);
+		try (Stream<String> stream = resultSet.unwrap(FireboltResultSet.class).stream((rs, rowNum) -> rs.getString("name"))) {
+			assertEquals("Taylor's Prime Steak House", stream.findFirst().orElse(null));
+		}
+		assertTrue(resultSet.isClosed());
+		assertThrows(SQLException.class, () -> resultSet.unwrap(FireboltResultSet.class).stream((rs, rowNum) -> rowNum));
+	}
+
+	@Test
+	void shouldWrapExceptionOfRowMapper() throws SQLException {
+		inputStream = getInputStreamWithCommonResponseExample();
+		resultSet = createResultSet(inputStream);
+		Stream<String> stream = resultSet.unwrap(FireboltResultSet.class).stream((rs, rowNum) -> rs.getString("unknown"));
+		UncheckedSQLException exception = assertThrows(UncheckedSQLException.class, stream::count);
+		assertNotNull(exception.getCause());
+	}
+
 	private void assertThrowsForwardOnly(String name, Callable<?> method) {
 		assertEquals(format("Cannot call %s() for ResultSet of type TYPE_FORWARD_ONLY", name), assertThrows(SQLException.class, method::call).getMessage());
 	}
@@ -270,11 +505,106 @@ class FireboltResultSetTest {
 		resultSet = createResultSet(inputStream);
 		assertEquals(0, resultSet.getFetchSize());
 
-		resultSet.setFetchSize(0); // ignored
-		resultSet.setFetchSize(1); // ignored
+		resultSet.setFetchSize(0);
+		resultSet.setFetchSize(1);
+		assertEquals(1, resultSet.getFetchSize());
 		assertThrows(SQLException.class, () -> resultSet.setFetchSize(-1));
 	}
 
+	@Test
+	void shouldUseFetchSizeOfStatement() throws SQLException {
+		when(fireboltStatement.getFetchSize()).thenReturn(100);
+		inputStream = getInputStreamWithCommonResponseExample();
+		resultSet = createResultSet(inputStream);
+		assertEquals(100, resultSet.getFetchSize());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {0, 1, 2})
+	void shouldReadPrefetchedRowsLikeOtherRows(int fetchSize) throws SQLException {
+		when(fireboltStatement.getFetchSize()).thenReturn(fetchSize);
+		inputStream = getInputStreamWithCommonResponseExample();
+		resultSet = new FireboltResultSet(inputStream, "a_table", "a_db", 65535, false, fireboltStatement, false,
+				FireboltResultSetOptions.builder().prefetch(true).build());
+		try (ResultSet expected = createResultSet(getInputStreamWithCommonResponseExample())) {
+			int columnCount = expected.getMetaData().getColumnCount();
+			assertEquals(columnCount, resultSet.getMetaData().getColumnCount());
+			while (expected.next()) {
+				assertTrue(resultSet.next());
+				assertEquals(expected.getRow(), resultSet.getRow());
+				assertEquals(expected.isLast(), resultSet.isLast());
+				for (int i = 1; i <= columnCount; i++) {
+					assertTrue(Objects.deepEquals(expected.getObject(i), resultSet.getObject(i)), "column " + i);
+					assertEquals(expected.wasNull(), resultSet.wasNull());
+				}
+			}
+			assertFalse(resultSet.next());
+			assertTrue(resultSet.isAfterLast());
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 4})
+	void shouldReadRowsSplitInParallelLikeOtherRows(int decodingThreads) throws SQLException {
+		inputStream = getInputStreamWithCommonResponseExample();
+		resultSet = new FireboltResultSet(inputStream, "a_table", "a_db", 65535, false, fireboltStatement, false,
+				FireboltResultSetOptions.builder().decodingThreads(decodingThreads).build());
+		try (ResultSet expected = createResultSet(getInputStreamWithCommonResponseExample())) {
+			int columnCount = expected.getMetaData().getColumnCount();
+			assertEquals(columnCount, resultSet.getMetaData().getColumnCount());
+			while (expected.next()) {
+				assertTrue(resultSet.next());
+				assertEquals(expected.getRow(), resultSet.getRow());
+				assertEquals(expected.isLast(), resultSet.isLast());
+				for (int i = 1; i <= columnCount; i++) {
+					assertTrue(Objects.deepEquals(expected.getObject(i), resultSet.getObject(i)), "column " + i);
+					assertEquals(expected.wasNull(), resultSet.wasNull());
+				}
+			}
+			assertFalse(resultSet.next());
+			assertTrue(resultSet.isAfterLast());
+		}
+	}
+
+	@Test
+	void shouldNotReadRowsAfterPrefetchingWasStopped() throws SQLException {
+		inputStream = getInputStreamWithCommonResponseExample();
+		resultSet = new FireboltResultSet(inputStream, "a_table", "a_db", 65535, false, fireboltStatement, false,
+				FireboltResultSetOptions.builder().prefetch(true).build());
+		((FireboltResultSet) resultSet).stopPrefetching();
+		assertThrows(SQLException.class, resultSet::next);
+	}
+
+	@Test
+	void shouldTransferTheRowsWithoutTheHeader() throws SQLException {
+		inputStream = new ByteArrayInputStream("id\tname\nint\ttext\n1\ta\n2\tb\n3\tc\n".getBytes());
+		resultSet = createResultSet(inputStream);
+		assertTrue(resultSet.next());
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertEquals(8, ((FireboltResultSet) resultSet).transferTo(out));
+		assertEquals("2\tb\n3\tc\n", out.toString());
+		assertEquals("name", resultSet.getMetaData().getColumnName(2));
+		assertFalse(resultSet.next());
+	}
+
+	@Test
+	void shouldNotTransferTheRowsWhenTheyArePrefetched() throws SQLException {
+		inputStream = getInputStreamWithCommonResponseExample();
+		resultSet = new FireboltResultSet(inputStream, "a_table", "a_db", 65535, false, fireboltStatement, false,
+				FireboltResultSetOptions.builder().prefetch(true).build());
+		FireboltResultSet fireboltResultSet = (FireboltResultSet) resultSet;
+		assertThrows(FireboltException.class, () -> fireboltResultSet.transferTo(new ByteArrayOutputStream()));
+	}
+
+	@Test
+	void shouldNotTransferTheRowsWhenTheMaxRowsIsSet() throws SQLException {
+		when(fireboltStatement.getMaxRows()).thenReturn(1);
+		inputStream = getInputStreamWithCommonResponseExample();
+		resultSet = createResultSet(inputStream);
+		FireboltResultSet fireboltResultSet = (FireboltResultSet) resultSet;
+		assertThrows(FireboltException.class, () -> fireboltResultSet.transferTo(Channels.newChannel(new ByteArrayOutputStream())));
+	}
+
 	@Test
 	void shouldNotBeLastWhenThereIsMoreData() throws SQLException {
 		inputStream = getInputStreamWithCommonResponseExample();
@@ -683,6 +1013,8 @@ class FireboltResultSetTest {
 		inputStream = getInputStreamWithCommonResponseExample();
 		when(fireboltStatement.getMaxRows()).thenReturn(1024);
 		when(fireboltStatement.getMaxFieldSize()).thenReturn(0);
+		when(fireboltStatement.getFetchSize()).thenReturn(0);
+		when(fireboltStatement.getResultSetType()).thenReturn(TYPE_FORWARD_ONLY);
 		resultSet = createResultSet(inputStream);
 		resultSet.close();
 		verifyNoMoreInteractions(fireboltStatement);
@@ -801,6 +1133,31 @@ class FireboltResultSetTest {
 		}
 	}
 
+	@Test
+	@DefaultTimeZone("Asia/Kolkata")
+	void shouldGetJavaTimeObjectsWithTimeZoneFromResponse() throws SQLException {
+		inputStream = getInputStreamWithDates();
+		resultSet = createResultSet(inputStream);
+		resultSet.next();
+		Instant instant = Instant.parse("2022-05-10T18:01:02Z");
+		assertEquals(instant, resultSet.getObject(1, Instant.class));
+		assertEquals(instant.atOffset(ZoneOffset.UTC), resultSet.getObject(1, OffsetDateTime.class));
+		assertEquals(instant.atZone(TimeZone.getTimeZone("EST").toZoneId()), resultSet.getObject(1, ZonedDateTime.class));
+		assertEquals(LocalDateTime.of(2022, 5, 10, 13, 1, 2), resultSet.getObject(1, LocalDateTime.class));
+		assertEquals(LocalDate.of(2022, 5, 10), resultSet.getObject(1, LocalDate.class));
+		// values without time zone in the response are in UTC like for the server
+		assertEquals(Instant.parse("2022-05-10T13:01:02Z"), resultSet.getObject(2, Instant.class));
+		assertEquals(LocalDateTime.of(2022, 5, 10, 13, 1, 2), resultSet.getObject(2, LocalDateTime.class));
+		assertEquals(Instant.parse("2022-05-11T06:01:02Z"), resultSet.getObject(3, Instant.class));
+		assertEquals(LocalDate.of(2022, 5, 11), resultSet.getObject(3, LocalDate.class));
+		assertEquals(OffsetDateTime.of(2022, 5, 10, 23, 1, 2, 0, ZoneOffset.UTC), resultSet.getObject(4, OffsetDateTime.class));
+		resultSet.next();
+		assertNull(resultSet.getObject(3, Instant.class));
+		assertNull(resultSet.getObject(4, LocalDateTime.class));
+		assertNull(resultSet.getObject(4, ZonedDateTime.class));
+		assertNull(resultSet.getObject(4, LocalDate.class));
+	}
+
 	@Test
 	void shouldGetDateWithTimezoneFromCalendar() throws SQLException {
 		inputStream = getInputStreamWithDates();
@@ -842,6 +1199,24 @@ class FireboltResultSetTest {
 		assertEquals("\\x00ab", resultSet.getString("a_bytea"));
 	}
 
+	@Test
+	void shouldReadByteAAsStream() throws SQLException, IOException {
+		inputStream = getInputStreamWithByteA();
+		resultSet = createResultSet(inputStream);
+		resultSet.next();
+		assertNull(resultSet.getBinaryStream("null_bytea"));
+		assertArrayEquals(new byte[] {}, resultSet.getBinaryStream("an_empty_bytea").readAllBytes());
+		InputStream stream = resultSet.getBinaryStream("a_bytea");
+		assertEquals(4, stream.available());
+		assertEquals(0xde, stream.read());
+		assertEquals(1, stream.skip(1));
+		assertArrayEquals(new byte[] { -66, -17 }, stream.readAllBytes());
+		assertEquals(-1, stream.read());
+		resultSet.next();
+		assertArrayEquals(resultSet.getBytes("a_bytea"), resultSet.getBinaryStream("a_bytea").readAllBytes());
+		assertArrayEquals("hello".getBytes(), resultSet.getBinaryStream("false_bytea").readAllBytes());
+	}
+
 	@Test
 	void shouldFindEmptyByteA() throws SQLException {
 		inputStream = getInputStreamWithByteA();
@@ -1061,6 +1436,19 @@ class FireboltResultSetTest {
 		assertEquals(new BigDecimal("1231232.123459999990457054844258706536"), resultSet.getObject(5, BigDecimal.class));
 	}
 
+	@Test
+	void shouldGetObjectsForPrimitiveTypesLikeWrapperTypes() throws SQLException {
+		inputStream = getInputStreamWithNumericTypes();
+		resultSet = createResultSet(inputStream);
+		resultSet.next();
+		assertEquals(1, resultSet.getObject(1, int.class));
+		assertEquals(30000000000L, resultSet.getObject(2, long.class));
+		assertEquals(1.23f, resultSet.getObject(3, float.class));
+		assertEquals(1.23456789012, resultSet.getObject(4, double.class));
+		assertEquals("conversion to class java.lang.Integer from java.lang.Float not supported",
+				assertThrows(SQLException.class, () -> resultSet.getObject(3, int.class)).getMessage());
+	}
+
 	@Test
 	void shouldReturnDataWithProvidedTypes() throws SQLException {
 		inputStream = getInputStreamWithNewTypes();
@@ -1283,6 +1671,53 @@ class FireboltResultSetTest {
 		assertArrayEquals(expected, stream == null ? null : stream.readAllBytes());
 	}
 
+	@Test
+	void shouldReadRowBinaryResponseLikeTabSeparatedResponse() throws SQLException, IOException {
+		// same content as firebolt-response-example, the types are nullable when the example contains NULL
+		RowBinaryPayload payload = RowBinaryPayload.header("id", "int32", "arr", "Array(Array(Array(Nullable(String))))",
+				"name", "Nullable(String)", "a_date", "Date", "is_online", "Boolean", "a_double", "Nullable(Float32)",
+				"an_integer", "Nullable(Int64)", "url", "Nullable(String)");
+		int date = (int) LocalDate.of(2022, 5, 10).toEpochDay();
+		payload.int32(1).length(1).length(2).length(2).isNull(false).string("1").isNull(false).string("2")
+				.length(2).isNull(false).string("3").isNull(false).string("4")
+				.isNull(false).string("Taylor's Prime Steak House").int16(date).int8(1).isNull(false).float32(14.6f)
+				.isNull(false).int64(5).isNull(false).string("http://firebolt.io");
+		payload.int32(2).length(2)
+				.length(2).length(2).isNull(false).string("1").isNull(false).string("2").length(2).isNull(false).string("3").isNull(false).string("4")
+				.length(2).length(2).isNull(false).string("5").isNull(false).string("6").length(3).isNull(false).string("7").isNull(false).string("8").isNull(true)
+				.isNull(true).int16(date).int8(0).isNull(true).isNull(true).isNull(true);
+		inputStream = new ByteArrayInputStream(payload.toByteArray());
+		resultSet = new FireboltResultSet(inputStream, "a_table", "a_db", 16, false, fireboltStatement, false,
+				FireboltResultSetOptions.builder().resultFormat(ResultFormat.ROW_BINARY_WITH_NAMES_AND_TYPES).build());
+
+		try (ResultSet expected = createResultSet(getInputStreamWithCommonResponseExample())) {
+			int columnCount = expected.getMetaData().getColumnCount();
+			assertEquals(columnCount, resultSet.getMetaData().getColumnCount());
+			for (int i = 1; i <= columnCount; i++) {
+				assertEquals(expected.getMetaData().getColumnName(i), resultSet.getMetaData().getColumnName(i));
+				assertEquals(expected.getMetaData().getColumnType(i), resultSet.getMetaData().getColumnType(i));
+			}
+			while (expected.next()) {
+				assertTrue(resultSet.next());
+				assertEquals(expected.getRow(), resultSet.getRow());
+				assertEquals(expected.isLast(), resultSet.isLast());
+				for (int i = 1; i <= columnCount; i++) {
+					assertTrue(Objects.deepEquals(expected.getObject(i), resultSet.getObject(i)), "column " + i);
+					assertEquals(expected.wasNull(), resultSet.wasNull());
+				}
+				assertEquals(expected.getInt("id"), resultSet.getInt("id"));
+				assertEquals(expected.getString("name"), resultSet.getString("name"));
+				assertEquals(expected.getString("arr"), resultSet.getString("arr"));
+				assertEquals(expected.getDate("a_date"), resultSet.getDate("a_date"));
+				assertEquals(expected.getBoolean("is_online"), resultSet.getBoolean("is_online"));
+				assertEquals(expected.getFloat("a_double"), resultSet.getFloat("a_double"));
+				assertEquals(expected.getLong("an_integer"), resultSet.getLong("an_integer"));
+			}
+			assertFalse(resultSet.next());
+			assertTrue(resultSet.isAfterLast());
+		}
+	}
+
 	private InputStream getInputStreamWithCommonResponseExample() {
 		return FireboltResultSetTest.class.getResourceAsStream("/responses/firebolt-response-example");
 	}
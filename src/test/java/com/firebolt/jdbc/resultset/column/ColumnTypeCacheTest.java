@@ -0,0 +1,95 @@
+package com.firebolt.jdbc.resultset.column;
+
+import com.firebolt.jdbc.type.FireboltDataType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnTypeCacheTest {
+
+	@Test
+	void shouldParseTypeOnce() {
+		ColumnTypeCache cache = new ColumnTypeCache(10);
+		AtomicInteger parsed = new AtomicInteger();
+		ColumnType first = cache.get("int", type -> parse(type, parsed));
+		assertSame(first, cache.get("int", type -> parse(type, parsed)));
+		assertEquals(1, parsed.get());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	void shouldNotEvictTypeUsedSinceLastEviction() {
+		ColumnTypeCache cache = new ColumnTypeCache(2);
+		AtomicInteger parsed = new AtomicInteger();
+		ColumnType integer = cache.get("int", type -> parse(type, parsed));
+		cache.get("text", type -> parse(type, parsed));
+		cache.get("int", type -> parse(type, parsed));
+		cache.get("bigint", type -> parse(type, parsed));
+		assertEquals(2, cache.size());
+		assertSame(integer, cache.get("int", type -> parse(type, parsed)));
+		assertEquals(3, parsed.get());
+		cache.clear();
+		assertEquals(0, cache.size());
+		assertNotSame(integer, cache.get("int", type -> parse(type, parsed)));
+	}
+
+	@Test
+	void shouldShareImmutableColumnTypes() {
+		ColumnType columnType = ColumnType.of("Array(Tuple(int, Nullable(text))) null");
+		long misses = ColumnType.getCache().getMissCount();
+		assertSame(columnType, ColumnType.of("Array(Tuple(int, Nullable(text))) null"));
+		assertEquals(misses, ColumnType.getCache().getMissCount());
+		assertEquals(FireboltDataType.TUPLE, columnType.getInnerTypes().get(0).getDataType());
+		assertThrows(UnsupportedOperationException.class, () -> columnType.getInnerTypes().clear());
+		assertThrows(UnsupportedOperationException.class, () -> columnType.getInnerTypes().get(0).getInnerTypes().clear());
+	}
+
+	@Test
+	void shouldStayBoundedWhenUsedConcurrently() throws Exception {
+		ColumnTypeCache cache = new ColumnTypeCache(8);
+		AtomicInteger parsed = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<String>> names = new ArrayList<>();
+			for (int i = 0; i < 1000; i++) {
+				String type = i % 2 == 0 ? "int" : "text" + i % 32;
+				names.add(executor.submit(() -> cache.get(type, t -> parse(t, parsed)).getName()));
+			}
+			for (int i = 0; i < 1000; i++) {
+				assertEquals(i % 2 == 0 ? "int" : "text" + i % 32, names.get(i).get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertTrue(cache.size() <= 8);
+		assertEquals(1000, cache.getHitCount() + cache.getMissCount());
+	}
+
+	@Test
+	void shouldNotShareTheTimeZoneOfCachedTypes() {
+		ColumnType columnType = ColumnType.of("DateTime64(4, \\'EST\\')");
+		columnType.getTimeZone().setID("UTC");
+		columnType.getTimeZone().setRawOffset(0);
+		assertEquals("EST", ColumnType.of("DateTime64(4, \\'EST\\')").getTimeZone().getID());
+		assertEquals(TimeZone.getTimeZone("EST").getRawOffset(), columnType.getTimeZone().getRawOffset());
+	}
+
+	private static ColumnType parse(String type, AtomicInteger parsed) {
+		parsed.incrementAndGet();
+		return ColumnType.builder().name(type).dataType(FireboltDataType.ofType(type)).build();
+	}
+}
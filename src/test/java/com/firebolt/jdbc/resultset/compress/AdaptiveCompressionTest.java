@@ -0,0 +1,184 @@
+package com.firebolt.jdbc.resultset.compress;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveCompressionTest {
+	private static final int MIN_RESULT_BYTES = 1024;
+	private static final int CHUNK_SIZE = 4096;
+	private static final int ROWS = 50_000;
+	private static final long SECOND_NANOS = 1_000_000_000L;
+
+	@Test
+	void shouldCompressAsLongAsNothingWasMeasured() {
+		AdaptiveCompression adaptiveCompression = new AdaptiveCompression(MIN_RESULT_BYTES);
+		assertTrue(adaptiveCompression.shouldCompress("select 1"));
+		assertEquals(1, adaptiveCompression.getCompressedCount());
+		assertEquals(0, adaptiveCompression.getWireBytesPerSecond());
+	}
+
+	@Test
+	void shouldNotCompressTheResultsOfTheStatementsThatReturnedSmallResults() throws IOException {
+		AdaptiveCompression adaptiveCompression = new AdaptiveCompression(MIN_RESULT_BYTES);
+		read(adaptiveCompression, "select 1", compress(response(1)), 0, 0, false);
+		// a slow network so that the big result is compressed whatever the speed of the decompression
+		read(adaptiveCompression, "select * from t", compress(response(ROWS)), 5, 0, false);
+		assertFalse(adaptiveCompression.shouldCompress("select 1"));
+		assertTrue(adaptiveCompression.shouldCompress("select * from t"));
+		assertEquals(1, adaptiveCompression.getSmallResultCount());
+		assertEquals(1, adaptiveCompression.getUncompressedCount());
+		assertEquals(2, adaptiveCompression.getObservedCount());
+	}
+
+	@Test
+	void shouldCompressWhenTheNetworkIsSlowerThanTheDecompression() throws IOException {
+		AdaptiveCompression adaptiveCompression = new AdaptiveCompression(MIN_RESULT_BYTES);
+		byte[] response = response(ROWS);
+		byte[] compressed = compress(response);
+		read(adaptiveCompression, "select * from t", compressed, 5, 0, false);
+		assertEquals((double) response.length / compressed.length, adaptiveCompression.getCompressionRatio(), 0.01);
+		assertTrue(adaptiveCompression.getDecompressedBytesPerSecond() > adaptiveCompression.getWireBytesPerSecond());
+		assertTrue(adaptiveCompression.shouldCompress("select * from t"));
+	}
+
+	@Test
+	void shouldMeasureTheDecompressionDoneInTheBackground() throws IOException {
+		AdaptiveCompression adaptiveCompression = new AdaptiveCompression(MIN_RESULT_BYTES);
+		read(adaptiveCompression, "select * from t", compress(response(ROWS)), 0, SECOND_NANOS, true);
+		// the network is not slowed down: the decompression of the background thread is what is slower
+		assertTrue(adaptiveCompression.getDecompressedBytesPerSecond() < adaptiveCompression.getWireBytesPerSecond());
+		assertFalse(adaptiveCompression.shouldCompress("select * from t"));
+	}
+
+	@Test
+	void shouldNotCompressWhenTheDecompressionIsSlowerThanTheNetwork() throws IOException {
+		AdaptiveCompression adaptiveCompression = new AdaptiveCompression(MIN_RESULT_BYTES);
+		read(adaptiveCompression, "select * from t", compress(response(ROWS)), 0, SECOND_NANOS, false);
+		assertTrue(adaptiveCompression.getDecompressedBytesPerSecond() < adaptiveCompression.getWireBytesPerSecond());
+		assertFalse(adaptiveCompression.shouldCompress("select * from t"));
+		assertEquals(1, adaptiveCompression.getUncompressedCount());
+		assertEquals(0, adaptiveCompression.getSmallResultCount());
+	}
+
+	@Test
+	void shouldCompressSomeResponsesToMeasureTheDecompressionAgain() throws IOException {
+		AdaptiveCompression adaptiveCompression = new AdaptiveCompression(MIN_RESULT_BYTES);
+		read(adaptiveCompression, "select * from t", compress(response(ROWS)), 0, SECOND_NANOS, false);
+		int compressed = 0;
+		for (int i = 0; i < 32; i++) {
+			if (adaptiveCompression.shouldCompress("select * from t")) {
+				compressed++;
+			}
+		}
+		assertEquals(2, compressed);
+		assertEquals(0, adaptiveCompression.getSmallResultCount());
+	}
+
+	/**
+	 * Reads a compressed response whose compressed bytes are received in chunks
+	 */
+	private static void read(AdaptiveCompression adaptiveCompression, String statement, byte[] compressed,
+							 long networkMillisPerChunk, long extraDecompressionNanos, boolean pipelined) throws IOException {
+		AdaptiveCompression.Observation observation = adaptiveCompression.observe(statement, true);
+		InputStream wire = observation.wire(new SlowStream(new ByteArrayInputStream(compressed), networkMillisPerChunk));
+		LZ4InputStream lz4 = pipelined
+				? new SlowPipelinedLZ4InputStream(wire, extraDecompressionNanos)
+				: new SlowLZ4InputStream(wire, extraDecompressionNanos);
+		try (InputStream decompressed = observation.decompressed(lz4)) {
+			byte[] buffer = new byte[CHUNK_SIZE];
+			while (decompressed.read(buffer) >= 0) {
+				// only measured
+			}
+		}
+	}
+
+	private static byte[] response(int rows) {
+		StringBuilder response = new StringBuilder();
+		for (int i = 0; i < rows; i++) {
+			response.append(i).append("\tname").append(i % 100).append('\n');
+		}
+		return response.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static byte[] compress(byte[] bytes) throws IOException {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (LZ4OutputStream lz4 = new LZ4OutputStream(compressed, CHUNK_SIZE * 4)) {
+			lz4.write(bytes);
+		}
+		return compressed.toByteArray();
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class SlowStream extends InputStream {
+		private final InputStream in;
+		private final long millisPerChunk;
+
+		private SlowStream(InputStream in, long millisPerChunk) {
+			this.in = in;
+			this.millisPerChunk = millisPerChunk;
+		}
+
+		@Override
+		public int read() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			sleep(millisPerChunk);
+			return in.read(b, off, Math.min(len, CHUNK_SIZE));
+		}
+
+		@Override
+		public void close() throws IOException {
+			in.close();
+		}
+	}
+
+	/**
+	 * Reports decompression slower than it is
+	 */
+	private static class SlowLZ4InputStream extends LZ4InputStream {
+		private final long extraNanos;
+
+		private SlowLZ4InputStream(InputStream stream, long extraNanos) {
+			super(stream);
+			this.extraNanos = extraNanos;
+		}
+
+		@Override
+		public long getDecompressionNanos() {
+			return super.getDecompressionNanos() + extraNanos;
+		}
+	}
+
+	private static class SlowPipelinedLZ4InputStream extends PipelinedLZ4InputStream {
+		private final long extraNanos;
+
+		private SlowPipelinedLZ4InputStream(InputStream stream, long extraNanos) {
+			super(stream);
+			this.extraNanos = extraNanos;
+		}
+
+		@Override
+		public long getDecompressionNanos() {
+			return super.getDecompressionNanos() + extraNanos;
+		}
+	}
+}
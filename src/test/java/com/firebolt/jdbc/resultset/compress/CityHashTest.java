@@ -0,0 +1,51 @@
+package com.firebolt.jdbc.resultset.compress;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class CityHashTest {
+
+	// hashes computed by the implementation assembling the words byte by byte
+	private static Stream<Arguments> hashes() {
+		return Stream.of(
+				Arguments.of(0, 0x3df09dfc64c09a2bL, 0x3cb540c392e51e29L),
+				Arguments.of(1, 0xd33fb28a02ce3c50L, 0xf96859f4c4fde67eL),
+				Arguments.of(3, 0xc64b4bb2fdebc340L, 0xf1c5cf5ff45e0ef8L),
+				Arguments.of(4, 0x2a3355ca188f0edbL, 0x3238b1f4cb9a9519L),
+				Arguments.of(7, 0x555303e497c6b485L, 0xa9e8ee13f1b79e74L),
+				Arguments.of(8, 0xbaac943857c31a66L, 0x7f819857f9b9b465L),
+				Arguments.of(9, 0x27bba6ce6ff44111L, 0xaf76e636df1c7526L),
+				Arguments.of(15, 0xbba3911e98a06cf2L, 0xcf15380eda429322L),
+				Arguments.of(16, 0xc4490ae4a396d252L, 0xf42d2fa319537fd9L),
+				Arguments.of(17, 0x74b63969ce7f7c72L, 0xd445ab562084f687L),
+				Arguments.of(31, 0xfbdd8d3c8663843fL, 0xd1660ea18c2bde3cL),
+				Arguments.of(32, 0x465b72ee557a8189L, 0xfd58e0ac5448cb86L),
+				Arguments.of(63, 0xc67e2c640e047be4L, 0xaa3d743348aa59abL),
+				Arguments.of(64, 0xd9d64eb076f7472fL, 0x979388a345fec1a9L),
+				Arguments.of(100, 0xacc5877521f01c24L, 0xee1bb447bae8b874L),
+				Arguments.of(127, 0x2979fa7fd714d356L, 0xc28398f432aadebeL),
+				Arguments.of(128, 0x07beb614aef5e531L, 0xbc6112809444c253L),
+				Arguments.of(129, 0xf0a85018c044b890L, 0x2819ea09129c0f86L),
+				Arguments.of(200, 0x04471a3d7760ca9aL, 0xe02f476994d45f2cL),
+				Arguments.of(255, 0x06eada4f5fe1f54aL, 0x5e7183a5b0fad0acL),
+				Arguments.of(256, 0xe50bbb9529ca3498L, 0x253007a3782422c9L),
+				Arguments.of(1000, 0x623b8053f3ded162L, 0x0ea159b0891eb240L),
+				Arguments.of(4099, 0x416a06ddf83a87a9L, 0x70bb7802489b21d0L)
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("hashes")
+	void shouldHashBytesAtAnyPosition(int length, long first, long second) {
+		// the hashed bytes start at an unaligned position
+		byte[] bytes = new byte[length + 3];
+		new Random(length).nextBytes(bytes);
+		assertArrayEquals(new long[] {first, second}, CityHash.cityHash128(bytes, 3, length));
+	}
+}
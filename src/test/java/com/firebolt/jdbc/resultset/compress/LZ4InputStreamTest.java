@@ -1,13 +1,18 @@
 package com.firebolt.jdbc.resultset.compress;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.util.Random;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class LZ4InputStreamTest {
 
@@ -51,6 +56,111 @@ class LZ4InputStreamTest {
 		assertEquals(EXPECTED_TEXT, out.toString());
 	}
 
+	@ParameterizedTest
+	@ValueSource(ints = {1, 7, 8192, 100_000})
+	void shouldReadBlocksOfDifferentSizes(int readSize) throws IOException {
+		byte[] expected = new byte[300_000];
+		new Random(0).nextBytes(expected);
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		// blocks bigger than the initial buffers followed by smaller ones
+		int offset = 0;
+		for (int blockSize : new int[] {100_000, 10, 65_536}) {
+			LZ4OutputStream outputStream = new LZ4OutputStream(compressed, blockSize);
+			int length = Math.min(blockSize * 2, expected.length - offset);
+			outputStream.write(expected, offset, length);
+			outputStream.flush();
+			offset += length;
+		}
+		LZ4OutputStream outputStream = new LZ4OutputStream(compressed, 1024);
+		outputStream.write(expected, offset, expected.length - offset);
+		outputStream.flush();
+
+		LZ4InputStream is = new LZ4InputStream(new ByteArrayInputStream(compressed.toByteArray()));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[readSize];
+		int read;
+		while ((read = is.read(buffer)) >= 0) {
+			out.write(buffer, 0, read);
+		}
+		assertArrayEquals(expected, out.toByteArray());
+	}
+
+	@Test
+	void shouldTransferAndSkipDecompressedBytes() throws IOException {
+		byte[] compressed = compress(EXPECTED_TEXT.getBytes(), 64);
+		LZ4InputStream is = new LZ4InputStream(new ByteArrayInputStream(compressed));
+		assertEquals(100, is.skip(100));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertEquals(EXPECTED_TEXT.length() - 100, is.transferTo(out));
+		assertEquals(EXPECTED_TEXT.substring(100), out.toString());
+		assertEquals(-1, is.read());
+		assertEquals(0, is.skip(10));
+	}
+
+	@Test
+	void shouldReadKeepaliveBlocksAsSpaces() throws IOException {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		stream.write("keepalivekeepali ".getBytes());
+		stream.write(compress("a".getBytes(), 64));
+		stream.write("keepalivekeepali ".getBytes());
+		LZ4InputStream is = new LZ4InputStream(new ByteArrayInputStream(stream.toByteArray()));
+		assertEquals(" a ", new String(is.readAllBytes()));
+	}
+
+	@Test
+	void shouldFailWhenBlockIsCorrupted() throws IOException {
+		byte[] compressed = compress(EXPECTED_TEXT.getBytes(), 1024);
+		compressed[compressed.length - 1]++;
+		LZ4InputStream is = new LZ4InputStream(new ByteArrayInputStream(compressed));
+		assertThrows(IllegalArgumentException.class, is::read);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {0, 1, 5})
+	void shouldNotVerifyAnyChecksumWhenVerificationIsDisabled(int corruptedBlock) throws IOException {
+		byte[] text = EXPECTED_TEXT.getBytes();
+		byte[] compressed = corruptChecksum(compress(text, 16), corruptedBlock);
+		assertThrows(IllegalArgumentException.class, () -> new LZ4InputStream(new ByteArrayInputStream(compressed)).readAllBytes());
+		LZ4InputStream is = new LZ4InputStream(new ByteArrayInputStream(compressed), ChecksumVerification.NONE);
+		assertArrayEquals(text, is.readAllBytes());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 5, ChecksumVerification.SAMPLING_INTERVAL - 1, ChecksumVerification.SAMPLING_INTERVAL + 1})
+	void shouldNotVerifyTheChecksumsOfTheBlocksOutsideOfTheSample(int corruptedBlock) throws IOException {
+		byte[] text = EXPECTED_TEXT.getBytes();
+		byte[] compressed = corruptChecksum(compress(text, 8), corruptedBlock);
+		LZ4InputStream is = new LZ4InputStream(new ByteArrayInputStream(compressed), ChecksumVerification.SAMPLED);
+		assertArrayEquals(text, is.readAllBytes());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {0, ChecksumVerification.SAMPLING_INTERVAL, ChecksumVerification.SAMPLING_INTERVAL * 2})
+	void shouldVerifyTheChecksumsOfTheSampledBlocks(int corruptedBlock) throws IOException {
+		byte[] compressed = corruptChecksum(compress(EXPECTED_TEXT.getBytes(), 8), corruptedBlock);
+		LZ4InputStream is = new LZ4InputStream(new ByteArrayInputStream(compressed), ChecksumVerification.SAMPLED);
+		assertThrows(IllegalArgumentException.class, is::readAllBytes);
+	}
+
+	@Test
+	void shouldFailWhenBlockIsTruncated() throws IOException {
+		byte[] compressed = compress(EXPECTED_TEXT.getBytes(), 1024);
+		LZ4InputStream is = new LZ4InputStream(new ByteArrayInputStream(compressed, 0, compressed.length - 1));
+		assertThrows(EOFException.class, is::read);
+	}
+
+	@ParameterizedTest
+	@CsvSource({"FULL,17", "FULL,20", "FULL,26", "SAMPLED,17", "SAMPLED,20", "SAMPLED,26", "NONE,17", "NONE,20", "NONE,26"})
+	void shouldFailWhenTheStreamEndsInsideABlock(ChecksumVerification checksumVerification, int bytesOfSecondBlock) throws IOException {
+		byte[] text = ("A".repeat(16) + "B".repeat(16)).getBytes();
+		byte[] compressed = compress(text, 16);
+		// checksum, magic, then the size of the block including its header
+		int secondBlock = 16 + (compressed[17] & 0xFF) + ((compressed[18] & 0xFF) << 8);
+		LZ4InputStream is = new LZ4InputStream(new ByteArrayInputStream(compressed, 0, secondBlock + bytesOfSecondBlock), checksumVerification);
+		assertArrayEquals("A".repeat(16).getBytes(), is.readNBytes(16));
+		assertThrows(EOFException.class, is::read);
+	}
+
 	@Test
 	void shouldThrowExceptionWhenByteArrayIsNull() {
 		LZ4InputStream is = new LZ4InputStream(new ByteArrayInputStream("".getBytes()));
@@ -68,4 +178,25 @@ class LZ4InputStreamTest {
 		LZ4InputStream is = new LZ4InputStream(new ByteArrayInputStream("".getBytes()));
 		assertEquals(0, is.read(new byte[1], 1, 0));
 	}
+
+	/**
+	 * Changes the checksum of a block, the block itself remains valid
+	 */
+	private static byte[] corruptChecksum(byte[] compressed, int blockIndex) {
+		int offset = 0;
+		for (int i = 0; i < blockIndex; i++) {
+			// checksum, magic, then the size of the block including its header
+			offset += 16 + (compressed[offset + 17] & 0xFF) + ((compressed[offset + 18] & 0xFF) << 8);
+		}
+		compressed[offset]++;
+		return compressed;
+	}
+
+	private static byte[] compress(byte[] bytes, int blockSize) throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		LZ4OutputStream outputStream = new LZ4OutputStream(byteArrayOutputStream, blockSize);
+		outputStream.write(bytes);
+		outputStream.flush();
+		return byteArrayOutputStream.toByteArray();
+	}
 }
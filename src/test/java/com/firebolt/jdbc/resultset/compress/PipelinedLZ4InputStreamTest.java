@@ -0,0 +1,122 @@
+package com.firebolt.jdbc.resultset.compress;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(10)
+class PipelinedLZ4InputStreamTest {
+
+	@ParameterizedTest
+	@ValueSource(ints = {2, 3, 16})
+	void shouldReadAllTheBlocksInOrder(int blockCount) throws IOException {
+		byte[] expected = new byte[200_000];
+		new Random(0).nextBytes(expected);
+		try (PipelinedLZ4InputStream is = new PipelinedLZ4InputStream(new ByteArrayInputStream(compress(expected, 1000)), blockCount)) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[777];
+			int read;
+			while ((read = is.read(buffer)) >= 0) {
+				out.write(buffer, 0, read);
+			}
+			assertArrayEquals(expected, out.toByteArray());
+			assertEquals(-1, is.read());
+		}
+	}
+
+	@Test
+	void shouldReadEmptyStream() throws IOException {
+		try (PipelinedLZ4InputStream is = new PipelinedLZ4InputStream(new ByteArrayInputStream(new byte[0]))) {
+			assertEquals(-1, is.read());
+			assertEquals(-1, is.read());
+		}
+	}
+
+	@Test
+	void shouldThrowTheErrorOfTheBackgroundThreadAfterTheValidBlocks() throws IOException {
+		byte[] compressed = compress("abcdefgh".getBytes(), 4);
+		compressed[compressed.length - 1]++;
+		try (PipelinedLZ4InputStream is = new PipelinedLZ4InputStream(new ByteArrayInputStream(compressed))) {
+			assertEquals("abcd", new String(is.readNBytes(4)));
+			assertThrows(IllegalArgumentException.class, is::read);
+			assertThrows(IllegalArgumentException.class, is::read);
+		}
+	}
+
+	@Test
+	void shouldStopReadingWhenClosed() throws IOException, InterruptedException {
+		CountDownLatch closed = new CountDownLatch(1);
+		byte[] block = compress(new byte[100], 100);
+		InputStream endless = new InputStream() {
+			private int position;
+
+			@Override
+			public int read() {
+				return block[position++ % block.length] & 0xFF;
+			}
+
+			@Override
+			public void close() {
+				closed.countDown();
+			}
+		};
+		PipelinedLZ4InputStream is = new PipelinedLZ4InputStream(endless, 2);
+		assertEquals(0, is.read());
+		is.close();
+		assertTrue(closed.await(5, TimeUnit.SECONDS));
+		assertThrows(IOException.class, () -> is.skip(Long.MAX_VALUE));
+	}
+
+	@Test
+	void shouldNotReadTheStreamBeforeTheFirstRead() throws IOException, InterruptedException {
+		AtomicInteger reads = new AtomicInteger();
+		InputStream stream = new ByteArrayInputStream(compress("abcd".getBytes(), 4)) {
+			@Override
+			public synchronized int read(byte[] b, int off, int len) {
+				reads.incrementAndGet();
+				return super.read(b, off, len);
+			}
+		};
+		try (PipelinedLZ4InputStream is = new PipelinedLZ4InputStream(stream)) {
+			Thread.sleep(100);
+			assertEquals(0, reads.get());
+			assertEquals("abcd", new String(is.readAllBytes()));
+		}
+	}
+
+	@Test
+	void shouldFailToReadAStreamClosedBeforeTheFirstRead() throws IOException {
+		PipelinedLZ4InputStream is = new PipelinedLZ4InputStream(new ByteArrayInputStream(compress("abcd".getBytes(), 4)));
+		is.close();
+		assertThrows(IOException.class, is::read);
+	}
+
+	@Test
+	void shouldNeedAtLeastTwoBlocks() {
+		InputStream stream = new ByteArrayInputStream(new byte[0]);
+		assertThrows(IllegalArgumentException.class, () -> new PipelinedLZ4InputStream(stream, 1));
+	}
+
+	private static byte[] compress(byte[] bytes, int blockSize) throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		LZ4OutputStream outputStream = new LZ4OutputStream(byteArrayOutputStream, blockSize);
+		outputStream.write(bytes);
+		outputStream.flush();
+		return byteArrayOutputStream.toByteArray();
+	}
+}
@@ -0,0 +1,67 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import com.firebolt.jdbc.resultset.column.Column;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.TimeZone;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ColumnDecoderTest {
+
+	@ParameterizedTest
+	@CsvSource(value = {
+			"Int32;123;java.lang.Integer",
+			"UInt8;7;java.lang.Integer",
+			"bigint;-9223372036854775808;java.lang.Long",
+			"real;1.5;java.lang.Float",
+			"double precision;-2.25;java.lang.Double",
+			"boolean;t;java.lang.Boolean",
+			"numeric(10,2);12.34;java.math.BigDecimal",
+			"text;abc;java.lang.String"}, delimiter = ';')
+	void shouldDecodeObjectOfColumnType(String type, String value, Class<?> expectedType) throws IOException, SQLException {
+		TsvResultDecoder row = row(value);
+		Object object = ColumnDecoder.of(Column.of(type, "c"), 0).getObject(row, 0);
+		assertEquals(expectedType, object.getClass());
+		assertEquals(value, object instanceof Boolean ? "t" : object.toString());
+	}
+
+	@Test
+	void shouldTruncateHexStringOfByteaToMaxFieldSize() throws IOException, SQLException {
+		TsvResultDecoder row = row("\\x0102030405");
+		assertEquals("\\x0102", ColumnDecoder.of(Column.of("bytea", "c"), 2).getString(row, 0));
+		assertEquals("\\x0102030405", ColumnDecoder.of(Column.of("bytea", "c"), 0).getString(row, 0));
+	}
+
+	@Test
+	void shouldTruncateTextToMaxFieldSize() throws IOException, SQLException {
+		TsvResultDecoder row = row("abcdef");
+		assertEquals("abc", ColumnDecoder.of(Column.of("text", "c"), 3).getString(row, 0));
+	}
+
+	@Test
+	void shouldReturnJavaArrayForArrayColumn() throws IOException, SQLException {
+		TsvResultDecoder row = row("[1,2,3]");
+		assertArrayEquals(new Integer[] {1, 2, 3}, (Integer[]) ColumnDecoder.of(Column.of("array(int)", "c"), 0).getObject(row, 0));
+	}
+
+	@Test
+	void shouldUseTimeZoneOfColumnWhenItHasOne() {
+		TimeZone utc = TimeZone.getTimeZone("UTC");
+		assertEquals(TimeZone.getTimeZone("EST"), ColumnDecoder.of(Column.of("DateTime64(6, \\'EST\\')", "c"), 0).getTimeZone(utc));
+		assertEquals(utc, ColumnDecoder.of(Column.of("timestamp", "c"), 0).getTimeZone(utc));
+	}
+
+	private TsvResultDecoder row(String line) throws IOException {
+		TsvResultDecoder decoder = new TsvResultDecoder(new ByteArrayInputStream(line.getBytes(UTF_8)), 1024);
+		decoder.next();
+		return decoder;
+	}
+}
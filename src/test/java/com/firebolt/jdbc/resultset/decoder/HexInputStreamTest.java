@@ -0,0 +1,69 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HexInputStreamTest {
+
+	@Test
+	void shouldDecodeDigitsWhileReading() throws IOException {
+		byte[] bytes = new byte[1000];
+		new Random(1).nextBytes(bytes);
+		StringBuilder hex = new StringBuilder("\t");
+		for (byte b : bytes) {
+			hex.append(String.format(b % 2 == 0 ? "%02x" : "%02X", b));
+		}
+		byte[] buffer = hex.append('\t').toString().getBytes(UTF_8);
+		HexInputStream stream = new HexInputStream(buffer, 1, buffer.length - 1);
+		byte[] read = new byte[bytes.length];
+		assertEquals(10, stream.read(read, 0, 10));
+		assertEquals(bytes.length - 10, stream.read(read, 10, bytes.length - 10));
+		assertArrayEquals(bytes, read);
+		assertEquals(-1, stream.read(read, 0, 1));
+		assertEquals(0, stream.read(read, 0, 0));
+	}
+
+	@Test
+	void shouldSkipBytes() throws IOException {
+		byte[] buffer = "00010203".getBytes(UTF_8);
+		HexInputStream stream = new HexInputStream(buffer, 0, buffer.length);
+		assertEquals(2, stream.skip(2));
+		assertEquals(2, stream.read());
+		assertEquals(1, stream.skip(5));
+		assertEquals(0, stream.available());
+	}
+
+	@Test
+	void shouldThrowIOExceptionForInvalidDigit() {
+		byte[] buffer = "0g".getBytes(UTF_8);
+		HexInputStream stream = new HexInputStream(buffer, 0, buffer.length);
+		assertEquals("Illegal character g in hex string", assertThrows(IOException.class, stream::read).getMessage());
+	}
+
+	@Test
+	void shouldNotAcceptOddNumberOfDigits() {
+		byte[] buffer = "012".getBytes(UTF_8);
+		assertThrows(IllegalArgumentException.class, () -> new HexInputStream(buffer, 0, buffer.length));
+	}
+
+	@Test
+	void shouldReadTheDigitsNotReadYetOnceDetached() throws IOException {
+		byte[] buffer = "0102030g".getBytes(UTF_8);
+		HexInputStream stream = new HexInputStream(buffer, 0, buffer.length);
+		assertEquals(1, stream.read());
+		stream.detach();
+		buffer[2] = 'f';
+		// the bytes before the invalid digit
+		assertEquals(2, stream.available());
+		assertEquals(1, stream.skip(1));
+		assertEquals(3, stream.read());
+		assertEquals("Illegal character g in hex string", assertThrows(IOException.class, stream::read).getMessage());
+	}
+}
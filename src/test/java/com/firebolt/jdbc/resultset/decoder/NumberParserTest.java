@@ -0,0 +1,134 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NumberParserTest {
+
+	@ParameterizedTest
+	@ValueSource(strings = {"0", "1", "-1", "+1", "123456789", "-9223372036854775808", "9223372036854775807", "007"})
+	void shouldParseLong(String value) {
+		assertEquals(Long.parseLong(value), parseLong(value, Long.MIN_VALUE, Long.MAX_VALUE));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"", "-", "+", "1.0", "1e3", "abc", "inf", "-inf", " 1", "9223372036854775808", "-9223372036854775809", "99999999999999999999"})
+	void shouldNotParseInvalidLong(String value) {
+		assertThrows(NumberFormatException.class, () -> parseLong(value, Long.MIN_VALUE, Long.MAX_VALUE));
+	}
+
+	@ParameterizedTest
+	@CsvSource({"2147483647,true", "-2147483648,true", "2147483648,false", "-2147483649,false"})
+	void shouldCheckRangeOfInteger(String value, boolean valid) {
+		if (valid) {
+			assertEquals(Integer.parseInt(value), parseLong(value, Integer.MIN_VALUE, Integer.MAX_VALUE));
+		} else {
+			assertThrows(NumberFormatException.class, () -> parseLong(value, Integer.MIN_VALUE, Integer.MAX_VALUE));
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"0", "-0", "0.0", "-0.0", "1", "1.5", "-1.5", "3.14159", "0.1", "0.30000000000000004",
+			"1e10", "1E-10", "1.7976931348623157E308", "4.9E-324", "2.2250738585072014E-308", "123456789012345678901234567890",
+			".5", "5.", "1e+5", "9007199254740993", "1.0d", "1f", "0x1p3", " 1.5 ", "Infinity", "-Infinity", "NaN"})
+	void shouldParseDoubleLikeJdk(String value) {
+		assertEquals(Double.parseDouble(value), NumberParser.parseDouble(bytes(value), 0, bytes(value).length));
+		assertEquals(Float.parseFloat(value), NumberParser.parseFloat(bytes(value), 0, bytes(value).length));
+	}
+
+	@Test
+	void shouldParseRandomDoublesLikeJdk() {
+		Random random = new Random(42);
+		for (int i = 0; i < 100_000; i++) {
+			String value = i % 2 == 0 ? Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20))
+					: String.format(Locale.ROOT, "%." + random.nextInt(10) + "f", (random.nextDouble() - 0.5) * random.nextInt(100000));
+			byte[] bytes = bytes(value);
+			assertEquals(Double.parseDouble(value), NumberParser.parseDouble(bytes, 0, bytes.length), value);
+			assertEquals(Float.parseFloat(value), NumberParser.parseFloat(bytes, 0, bytes.length), value);
+		}
+	}
+
+	@Test
+	void shouldParseDoublesWithManyDigitsLikeJdk() {
+		Random random = new Random(7);
+		for (int i = 0; i < 200_000; i++) {
+			String value;
+			if (i % 2 == 0) {
+				// shortest representation of any double: up to 17 digits and any exponent
+				double d = Double.longBitsToDouble(random.nextLong());
+				value = Double.isNaN(d) ? "0" : Double.toString(d);
+			} else {
+				// up to 19 digits, close to halfway between two doubles
+				value = Long.toUnsignedString(random.nextLong()) + "e" + (random.nextInt(700) - 350);
+			}
+			byte[] bytes = bytes(value);
+			assertEquals(Double.parseDouble(value), NumberParser.parseDouble(bytes, 0, bytes.length), value);
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"9007199254740993e5", "2.2250738585072011e-308", "2.2250738585072012e-308", "1e-400", "1e400",
+			"1.7976931348623158e308", "123456789012345678e-300", "0.000000000000000000001234", "7.3177701707893310e15"})
+	void shouldParseHardDoublesLikeJdk(String value) {
+		assertEquals(Double.parseDouble(value), NumberParser.parseDouble(bytes(value), 0, bytes(value).length));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"0", "-0", "0.00", "-0.00", "1", "+1", "-1.50", "123456789012345678", "-123456789.123456789",
+			"12345678901234567890", "1234567890.1234567890123", ".5", "5.", "1e3", "1.5E-7", "00012.3400"})
+	void shouldParseBigDecimalLikeJdk(String value) {
+		BigDecimal expected = new BigDecimal(value);
+		BigDecimal actual = NumberParser.parseBigDecimal(bytes(value), 0, bytes(value).length);
+		assertEquals(expected, actual);
+		assertEquals(expected.scale(), actual.scale());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"", "-", ".", "abc", "inf", "1.2.3"})
+	void shouldNotParseInvalidBigDecimal(String value) {
+		assertThrows(NumberFormatException.class, () -> NumberParser.parseBigDecimal(bytes(value), 0, bytes(value).length));
+	}
+
+	@ParameterizedTest
+	@CsvSource({"inf,Infinity", "+inf,Infinity", "INF,Infinity", "-inf,-Infinity", "-Inf,-Infinity", "nan,NaN", "+nan,NaN", "-nan,NaN", "NaN,NaN"})
+	void shouldParseSpecialValues(String value, double expected) {
+		assertEquals(expected, NumberParser.parseDouble(bytes(value), 0, bytes(value).length));
+		assertEquals((float) expected, NumberParser.parseFloat(bytes(value), 0, bytes(value).length));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"", "-", "abc", "1e", "1.2.3", "infinite"})
+	void shouldNotParseInvalidDouble(String value) {
+		assertThrows(NumberFormatException.class, () -> NumberParser.parseDouble(bytes(value), 0, bytes(value).length));
+	}
+
+	@Test
+	void shouldParseRangeOfBuffer() {
+		byte[] bytes = bytes("12\t-3.5\t\\N");
+		assertEquals(12, NumberParser.parseLong(bytes, 0, 2, Long.MIN_VALUE, Long.MAX_VALUE));
+		assertEquals(-3.5, NumberParser.parseDouble(bytes, 3, 7));
+		assertFalse(NumberParser.isNull(bytes, 0, 2));
+		assertTrue(NumberParser.isNull(bytes, 8, 10));
+	}
+
+	private long parseLong(String value, long min, long max) {
+		byte[] bytes = bytes(value);
+		return NumberParser.parseLong(bytes, 0, bytes.length, min, max);
+	}
+
+	private byte[] bytes(String value) {
+		return value.getBytes(UTF_8);
+	}
+}
@@ -0,0 +1,232 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(10)
+class ParallelResultDecoderTest {
+
+	@ParameterizedTest
+	@CsvSource({"1,1", "1,7", "2,16", "4,64", "4,1048576"})
+	void shouldReadAllTheRowsInOrder(int parallelism, int chunkSize) throws IOException, SQLException {
+		StringBuilder response = new StringBuilder("id\tname\\tescaped\nint\ttext null\n");
+		for (int i = 0; i < 1000; i++) {
+			response.append(i).append('\t').append(i % 3 == 0 ? "\\N" : "name" + i).append(i % 5 == 0 ? "\r\n" : "\n");
+		}
+		// last row without line terminator
+		response.append("1000\t");
+		try (ParallelResultDecoder decoder = decoder(stream(response.toString()), parallelism, chunkSize)) {
+			assertArrayEquals(new String[] {"id", "name\tescaped"}, decoder.getColumnNames());
+			assertArrayEquals(new String[] {"int", "text null"}, decoder.getColumnTypes());
+			assertFalse(decoder.isOnRow());
+			for (int i = 0; i < 1000; i++) {
+				assertTrue(decoder.hasNext());
+				assertTrue(decoder.next());
+				assertEquals(i, decoder.getInt(0));
+				assertEquals(i % 3 == 0, decoder.isNull(1));
+				if (i % 3 != 0) {
+					assertEquals("name" + i, decoder.getString(1));
+				}
+			}
+			assertTrue(decoder.next());
+			assertEquals(1000L, decoder.getLong(0));
+			assertEquals("", decoder.getString(1));
+			assertFalse(decoder.hasNext());
+			assertFalse(decoder.next());
+			assertFalse(decoder.isOnRow());
+			assertFalse(decoder.next());
+		}
+	}
+
+	@Test
+	void shouldReadHeaderSplitAcrossReads() throws IOException, SQLException {
+		InputStream is = new ByteArrayInputStream("a\tb\nint\ttext\n1\tx\n".getBytes(UTF_8)) {
+			@Override
+			public synchronized int read(byte[] b, int off, int len) {
+				return super.read(b, off, Math.min(len, 1));
+			}
+		};
+		try (ParallelResultDecoder decoder = decoder(is, 2, 4)) {
+			assertArrayEquals(new String[] {"a", "b"}, decoder.getColumnNames());
+			assertArrayEquals(new String[] {"int", "text"}, decoder.getColumnTypes());
+			assertTrue(decoder.next());
+			assertEquals("x", decoder.getString(1));
+			assertFalse(decoder.next());
+		}
+	}
+
+	@Test
+	void shouldNotReadRowsWhenResponseIsEmpty() throws IOException, SQLException {
+		try (ParallelResultDecoder decoder = decoder(stream(""), 2, 16)) {
+			assertEquals(0, decoder.getColumnNames().length);
+			assertEquals(0, decoder.getColumnTypes().length);
+			assertFalse(decoder.hasNext());
+			assertFalse(decoder.next());
+			assertThrows(IndexOutOfBoundsException.class, () -> decoder.getString(0));
+		}
+	}
+
+	@Test
+	void shouldKeepCopyOfRowAfterMoving() throws IOException, SQLException {
+		try (ParallelResultDecoder decoder = decoder(stream("a\ntext\nfirst\nsecond\n"), 2, 4)) {
+			decoder.next();
+			ResultDecoder copy = decoder.copyRow();
+			decoder.next();
+			assertEquals("first", copy.getString(0));
+			assertEquals("second", decoder.getString(0));
+		}
+	}
+
+	@Test
+	void shouldReadTheStringsOfAllTheColumns() throws IOException, SQLException {
+		StringBuilder response = new StringBuilder("i\tt\tb\td\tu\nint\ttext null\tbytea\tdate null\tunknown_type\n");
+		for (int i = 0; i < 100; i++) {
+			response.append(i).append("\tname\\t").append(i).append("\t\\x0").append(i % 10).append('\t')
+					.append(i % 2 == 0 ? "\\N" : "2024-01-0" + (i % 9 + 1)).append("\tx\n");
+		}
+		try (ParallelResultDecoder decoder = decoder(stream(response.toString()), 2, 64)) {
+			for (int i = 0; i < 100; i++) {
+				assertTrue(decoder.next());
+				assertEquals(Integer.toString(i), decoder.getString(0));
+				assertEquals("name\\t" + i, decoder.getString(1));
+				assertEquals("\\x0" + i % 10, decoder.getString(2));
+				assertEquals(i % 2 == 0, decoder.isNull(3));
+				assertEquals(i % 2 == 0 ? "\\N" : "2024-01-0" + (i % 9 + 1), decoder.getString(3));
+				assertEquals("x", decoder.getString(4));
+			}
+			assertFalse(decoder.next());
+		}
+	}
+
+	@Test
+	void shouldKeepTheBinaryStreamOfARowWhenItsChunkIsReused() throws IOException, SQLException {
+		StringBuilder response = new StringBuilder("b\nbytea\n");
+		for (int i = 0; i < 100; i++) {
+			response.append(String.format("\\x%08x\n", i));
+		}
+		try (ParallelResultDecoder decoder = decoder(stream(response.toString()), 2, 16)) {
+			assertTrue(decoder.next());
+			InputStream stream = decoder.getBinaryStream(0);
+			for (int i = 1; i < 100; i++) {
+				assertTrue(decoder.next());
+				assertArrayEquals(new byte[] {0, 0, 0, (byte) i}, decoder.getBytes(0));
+			}
+			assertArrayEquals(new byte[4], stream.readAllBytes());
+		}
+	}
+
+	@Test
+	void shouldThrowTheErrorOfTheReadingThread() throws IOException, SQLException {
+		InputStream is = new InputStream() {
+			private final InputStream response = stream("a\nint\n1\n");
+
+			@Override
+			public int read() throws IOException {
+				int b = response.read();
+				if (b < 0) {
+					throw new IOException("Connection reset");
+				}
+				return b;
+			}
+		};
+		try (ParallelResultDecoder decoder = decoder(is, 2, 16)) {
+			IOException exception = assertThrows(IOException.class, decoder::next);
+			assertEquals("Connection reset", exception.getMessage());
+			assertThrows(IOException.class, decoder::next);
+		}
+	}
+
+	@Test
+	void shouldStopReadingWhenClosed() throws IOException, SQLException, InterruptedException {
+		CountDownLatch closed = new CountDownLatch(1);
+		InputStream is = new InputStream() {
+			private final byte[] header = "id\nint\n".getBytes(UTF_8);
+			private int position;
+
+			@Override
+			public int read() {
+				// endless rows containing 1 after the header
+				int b = position < header.length ? header[position] : (position - header.length) % 2 == 0 ? '1' : '\n';
+				position++;
+				return b;
+			}
+
+			@Override
+			public void close() {
+				closed.countDown();
+			}
+		};
+		ParallelResultDecoder decoder = decoder(is, 2, 16);
+		assertTrue(decoder.next());
+		assertEquals(1, decoder.getInt(0));
+		decoder.close();
+		assertTrue(closed.await(5, TimeUnit.SECONDS));
+		// the rows of the current chunk are still available
+		assertThrows(IOException.class, () -> {
+			while (decoder.next()) {
+				assertEquals(1, decoder.getInt(0));
+			}
+		});
+	}
+
+	@Test
+	void shouldReadChunksThatDoNotFitInTheMemoryBudget() throws IOException, SQLException {
+		StringBuilder response = new StringBuilder("id\nint\n");
+		for (int i = 0; i < 1000; i++) {
+			response.append(i).append('\n');
+		}
+		InputStream is = new ByteArrayInputStream(response.toString().getBytes(UTF_8)) {
+			@Override
+			public synchronized int read(byte[] b, int off, int len) {
+				return super.read(b, off, Math.min(len, 16));
+			}
+		};
+		ResultMemoryBudget budget = new ResultMemoryBudget(64, null);
+		try (ParallelResultDecoder decoder = decoder(is, 4, 32, budget)) {
+			for (int i = 0; i < 1000; i++) {
+				assertTrue(decoder.next());
+				assertEquals(i, decoder.getInt(0));
+				// the background thread waits for the chunks to be read instead of reading the whole response
+				assertTrue(budget.getUsedBytes() <= 2 * 64);
+			}
+			assertFalse(decoder.next());
+		}
+		assertEquals(0, budget.getUsedBytes());
+	}
+
+	@Test
+	void shouldNotAcceptZeroThreads() {
+		InputStream is = stream("");
+		assertThrows(IllegalArgumentException.class, () -> new ParallelResultDecoder(is, 0));
+	}
+
+	private ParallelResultDecoder decoder(InputStream is, int parallelism, int chunkSize) throws IOException {
+		return decoder(is, parallelism, chunkSize, new ResultMemoryBudget(0, null));
+	}
+
+	private ParallelResultDecoder decoder(InputStream is, int parallelism, int chunkSize, ResultMemoryBudget budget) throws IOException {
+		ParallelResultDecoder decoder = new ParallelResultDecoder(is, parallelism, chunkSize, budget);
+		decoder.readHeader();
+		return decoder;
+	}
+
+	private static InputStream stream(String response) {
+		return new ByteArrayInputStream(response.getBytes(UTF_8));
+	}
+}
@@ -0,0 +1,370 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import com.firebolt.jdbc.testutils.RowBinaryPayload;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Timeout(10)
+class PrefetchResultDecoderTest {
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 2, 3, 100})
+	void shouldReadAllTheRowsOfTabSeparatedResponse(int batchSize) throws IOException, SQLException {
+		StringBuilder response = new StringBuilder("id\tname\nint\ttext null\n");
+		for (int i = 0; i < 10; i++) {
+			response.append(i).append('\t').append(i % 3 == 0 ? "\\N" : "name" + i).append('\n');
+		}
+		try (PrefetchResultDecoder decoder = decoder(new TsvResultDecoder(stream(response.toString()), 4), batchSize)) {
+			assertArrayEquals(new String[] {"id", "name"}, decoder.getColumnNames());
+			assertArrayEquals(new String[] {"int", "text null"}, decoder.getColumnTypes());
+			assertFalse(decoder.isOnRow());
+			for (int i = 0; i < 10; i++) {
+				assertTrue(decoder.hasNext());
+				assertTrue(decoder.next());
+				assertEquals(i, decoder.getInt(0));
+				assertEquals(i % 3 == 0, decoder.isNull(1));
+				if (i % 3 != 0) {
+					assertEquals("name" + i, decoder.getString(1));
+				}
+			}
+			assertFalse(decoder.hasNext());
+			assertFalse(decoder.next());
+			assertFalse(decoder.isOnRow());
+			assertFalse(decoder.next());
+		}
+	}
+
+	@Test
+	void shouldReadAllTheRowsOfRowBinaryResponse() throws IOException, SQLException {
+		RowBinaryPayload payload = RowBinaryPayload.header("a", "Int64", "b", "double precision");
+		for (int i = 0; i < 5; i++) {
+			payload.int64(i).float64(i / 2.0);
+		}
+		RowBinaryResultDecoder rowBinaryDecoder = new RowBinaryResultDecoder(new ByteArrayInputStream(payload.toByteArray()), 8);
+		try (PrefetchResultDecoder decoder = decoder(rowBinaryDecoder, 2)) {
+			for (int i = 0; i < 5; i++) {
+				assertTrue(decoder.next());
+				assertEquals(i, decoder.getLong(0));
+				assertEquals(i / 2.0, decoder.getDouble(1));
+			}
+			assertFalse(decoder.next());
+		}
+	}
+
+	@Test
+	void shouldNotReadRowsWhenResponseIsEmpty() throws IOException, SQLException {
+		try (PrefetchResultDecoder decoder = decoder(new TsvResultDecoder(stream(""), 16), 10)) {
+			assertEquals(0, decoder.getColumnNames().length);
+			assertFalse(decoder.hasNext());
+			assertFalse(decoder.next());
+			assertThrows(IndexOutOfBoundsException.class, () -> decoder.getString(0));
+		}
+	}
+
+	@Test
+	void shouldLimitTheNumberOfPrefetchedRows() throws IOException, SQLException, InterruptedException {
+		CountingInputStream is = new CountingInputStream(1000);
+		try (PrefetchResultDecoder decoder = decoder(new TsvResultDecoder(is, 16), 10)) {
+			assertTrue(decoder.next());
+			assertEquals(0, decoder.getInt(0));
+			// waits for the background thread to be blocked by the full queue
+			int rows;
+			do {
+				rows = is.rows.get();
+				Thread.sleep(50);
+			} while (rows != is.rows.get());
+			// the queue (2 batches), the batch being read and the batch waiting to be added to the queue
+			assertTrue(rows <= 4 * 10 + 1, "read " + rows + " rows");
+			for (int i = 1; i < 1000; i++) {
+				assertTrue(decoder.next());
+				assertEquals(i, decoder.getInt(0));
+			}
+			assertFalse(decoder.next());
+		}
+	}
+
+	@Test
+	void shouldNotPrefetchRowsThatDoNotFitInTheMemoryBudget() throws IOException, SQLException, InterruptedException {
+		CountingInputStream is = new CountingInputStream(1000);
+		ResultMemoryBudget budget = new ResultMemoryBudget(1, null);
+		try (PrefetchResultDecoder decoder = decoder(new TsvResultDecoder(is, 16), 10, budget)) {
+			assertTrue(decoder.next());
+			assertEquals(0, decoder.getInt(0));
+			int rows;
+			do {
+				rows = is.rows.get();
+				Thread.sleep(50);
+			} while (rows != is.rows.get());
+			// the batch being read, the next one and the batch waiting for the budget
+			assertTrue(rows <= 3 * 10 + 1, "read " + rows + " rows");
+			for (int i = 1; i < 1000; i++) {
+				assertTrue(decoder.next());
+				assertEquals(i, decoder.getInt(0));
+			}
+			assertFalse(decoder.next());
+		}
+		assertEquals(0, budget.getUsedBytes());
+	}
+
+	@Test
+	void shouldReadAllTheRowsWhenTheBatchSizeIsHuge() throws IOException, SQLException {
+		try (PrefetchResultDecoder decoder = decoder(new TsvResultDecoder(new CountingInputStream(1000), 16), Integer.MAX_VALUE)) {
+			for (int i = 0; i < 1000; i++) {
+				assertTrue(decoder.next());
+				assertEquals(i, decoder.getInt(0));
+			}
+			assertFalse(decoder.next());
+		}
+	}
+
+	@Test
+	void shouldWaitForTheMemoryBudgetWhileFillingABatch() throws IOException, SQLException, InterruptedException {
+		CountingInputStream is = new CountingInputStream(300_000);
+		ResultMemoryBudget budget = new ResultMemoryBudget(1, null);
+		try (PrefetchResultDecoder decoder = decoder(new TsvResultDecoder(is, 16), 100_000, budget)) {
+			assertTrue(decoder.next());
+			int rows;
+			do {
+				rows = is.rows.get();
+				Thread.sleep(50);
+			} while (rows != is.rows.get());
+			// the batch being read, the next one and the first rows of the batch after it
+			assertTrue(rows < 250_000, "read " + rows + " rows");
+			for (int i = 1; i < 300_000; i++) {
+				assertTrue(decoder.next());
+			}
+			assertFalse(decoder.next());
+		}
+		assertEquals(0, budget.getUsedBytes());
+	}
+
+	@Test
+	void shouldStopTheThreadWaitingForRows() throws IOException, SQLException, InterruptedException {
+		CountDownLatch unblocked = new CountDownLatch(1);
+		InputStream is = new InputStream() {
+			private final InputStream header = stream("id\nint\n");
+
+			@Override
+			public int read() {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				// the header and then waits for rows that never come
+				int read = header.read(b, off, len);
+				if (read < 0) {
+					try {
+						unblocked.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				return read;
+			}
+
+			@Override
+			public void close() {
+				unblocked.countDown();
+			}
+		};
+		PrefetchResultDecoder decoder = decoder(new TsvResultDecoder(is, 16), 10);
+		Thread stopper = new Thread(() -> {
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			decoder.stop();
+		});
+		stopper.start();
+		assertThrows(IOException.class, decoder::next);
+		stopper.join();
+		decoder.close();
+	}
+
+	@Test
+	void shouldStopReadingWhenClosed() throws IOException, SQLException, InterruptedException {
+		CountingInputStream is = new CountingInputStream(Integer.MAX_VALUE);
+		PrefetchResultDecoder decoder = decoder(new TsvResultDecoder(is, 16), 10);
+		assertTrue(decoder.next());
+		decoder.close();
+		assertTrue(is.closed.await(5, TimeUnit.SECONDS));
+		Thread.sleep(100);
+		int rows = is.rows.get();
+		Thread.sleep(100);
+		assertEquals(rows, is.rows.get());
+	}
+
+	@Test
+	void shouldWaitForTheBackgroundThreadWhenClosed() throws IOException, SQLException {
+		CountDownLatch closed = new CountDownLatch(1);
+		InputStream is = new SequenceInputStream(stream("id\nint\n1\n"), new InputStream() {
+			@Override
+			public int read() throws IOException {
+				// blocked until the stream is closed, and slow to return even when interrupted
+				boolean interrupted = false;
+				while (true) {
+					try {
+						closed.await();
+						Thread.sleep(200);
+						break;
+					} catch (InterruptedException e) {
+						interrupted = true;
+					}
+				}
+				if (interrupted) {
+					Thread.currentThread().interrupt();
+				}
+				throw new IOException("Stream closed");
+			}
+
+			@Override
+			public void close() {
+				closed.countDown();
+			}
+		});
+		long threads = countPrefetchThreads();
+		PrefetchResultDecoder decoder = decoder(new TsvResultDecoder(is, 16), 10);
+		assertTrue(countPrefetchThreads() > threads);
+		decoder.close();
+		assertTrue(countPrefetchThreads() <= threads);
+	}
+
+	@Test
+	void shouldNotReadMoreRowsWhenStopped() throws IOException, SQLException {
+		try (PrefetchResultDecoder decoder = decoder(new TsvResultDecoder(new CountingInputStream(1000), 16), 10)) {
+			assertTrue(decoder.next());
+			decoder.stop();
+			// the rows of the current batch are still available
+			assertEquals(0, decoder.getInt(0));
+			for (int i = 1; i < 10; i++) {
+				assertTrue(decoder.next());
+			}
+			assertThrows(IOException.class, decoder::next);
+			assertThrows(IOException.class, decoder::hasNext);
+		}
+	}
+
+	@Test
+	void shouldThrowTheErrorOfTheBackgroundThread() throws IOException, SQLException {
+		byte[] bytes = RowBinaryPayload.header("a", "Int64").int64(1).int64(2).toByteArray();
+		RowBinaryResultDecoder rowBinaryDecoder = new RowBinaryResultDecoder(new ByteArrayInputStream(bytes, 0, bytes.length - 1), 16);
+		try (PrefetchResultDecoder decoder = decoder(rowBinaryDecoder, 1)) {
+			assertTrue(decoder.next());
+			assertEquals(1, decoder.getLong(0));
+			IOException exception = assertThrows(IOException.class, decoder::next);
+			assertEquals("Unexpected end of the stream", exception.getMessage());
+			assertThrows(IOException.class, decoder::next);
+		}
+	}
+
+	@Test
+	void shouldShareTheRowsAlreadyCopied() throws IOException, SQLException {
+		try (PrefetchResultDecoder decoder = decoder(new TsvResultDecoder(stream("id\nint\n1\n2\n"), 16), 10)) {
+			assertTrue(decoder.next());
+			ResultDecoder row = decoder.shareRow();
+			assertSame(row, decoder.shareRow());
+			assertNotSame(row, decoder.copyRow());
+			assertTrue(decoder.next());
+			assertEquals(1, row.getInt(0));
+			assertEquals(2, decoder.shareRow().getInt(0));
+		}
+	}
+
+	@Test
+	void shouldNotAcceptEmptyBatches() {
+		TsvResultDecoder tsvDecoder = new TsvResultDecoder(stream(""), 16);
+		assertThrows(IllegalArgumentException.class, () -> new PrefetchResultDecoder(tsvDecoder, 0));
+	}
+
+	private PrefetchResultDecoder decoder(ResultDecoder decoder, int batchSize) throws IOException, SQLException {
+		return decoder(decoder, batchSize, new ResultMemoryBudget(0, null));
+	}
+
+	private PrefetchResultDecoder decoder(ResultDecoder decoder, int batchSize, ResultMemoryBudget budget) throws IOException, SQLException {
+		PrefetchResultDecoder prefetchDecoder = new PrefetchResultDecoder(decoder, batchSize, budget);
+		prefetchDecoder.readHeader();
+		return prefetchDecoder;
+	}
+
+	private static long countPrefetchThreads() {
+		return Thread.getAllStackTraces().keySet().stream()
+				.filter(thread -> thread.getName().equals("firebolt-result-prefetch") && thread.isAlive()).count();
+	}
+
+	private static InputStream stream(String response) {
+		return new ByteArrayInputStream(response.getBytes(UTF_8));
+	}
+
+	/**
+	 * Generates a response with one integer column and counts the rows that were read
+	 */
+	private static class CountingInputStream extends InputStream {
+		private final int rowCount;
+		private final AtomicInteger rows = new AtomicInteger();
+		private final CountDownLatch closed = new CountDownLatch(1);
+		private byte[] line = "id\nint\n".getBytes(UTF_8);
+		private int position;
+
+		private CountingInputStream(int rowCount) {
+			this.rowCount = rowCount;
+		}
+
+		@Override
+		public int read() {
+			if (position == line.length) {
+				int row = rows.get();
+				if (row == rowCount) {
+					return -1;
+				}
+				line = (row + "\n").getBytes(UTF_8);
+				position = 0;
+				rows.incrementAndGet();
+			}
+			return line[position++];
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			// one line at most so the number of rows read is close to the number of rows decoded
+			int n = 0;
+			while (n < len) {
+				int c = read();
+				if (c < 0) {
+					return n == 0 ? -1 : n;
+				}
+				b[off + n++] = (byte) c;
+				if (c == '\n') {
+					break;
+				}
+			}
+			return n;
+		}
+
+		@Override
+		public void close() {
+			closed.countDown();
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Timeout(10)
+class ResultMemoryBudgetTest {
+
+	@Test
+	void shouldReserveAndReleaseBytesInTheBudgetAndItsParent() throws InterruptedException {
+		ResultMemoryBudget parent = new ResultMemoryBudget(0, null);
+		ResultMemoryBudget budget = new ResultMemoryBudget(100, parent);
+		budget.reserve(60, () -> false);
+		budget.reserve(40, () -> false);
+		assertEquals(100, budget.getUsedBytes());
+		assertEquals(100, parent.getUsedBytes());
+		budget.release(30);
+		assertEquals(70, budget.getUsedBytes());
+		assertEquals(70, parent.getUsedBytes());
+	}
+
+	@Test
+	void shouldAlwaysReserveWhenNothingIsReserved() throws InterruptedException {
+		ResultMemoryBudget budget = new ResultMemoryBudget(10, null);
+		budget.reserve(1000, () -> false);
+		assertEquals(1000, budget.getUsedBytes());
+	}
+
+	@Test
+	void shouldWaitUntilTheBytesAreReleased() throws Exception {
+		ResultMemoryBudget budget = new ResultMemoryBudget(100, null);
+		budget.reserve(80, () -> false);
+		CompletableFuture<Void> reservation = CompletableFuture.runAsync(() -> reserve(budget, 50));
+		assertThrows(TimeoutException.class, () -> reservation.get(100, TimeUnit.MILLISECONDS));
+		budget.release(80);
+		reservation.get(5, TimeUnit.SECONDS);
+		assertEquals(50, budget.getUsedBytes());
+	}
+
+	@Test
+	void shouldWaitUntilTheLimitIsRaised() throws Exception {
+		ResultMemoryBudget budget = new ResultMemoryBudget(100, null);
+		budget.reserve(80, () -> false);
+		CompletableFuture<Void> reservation = CompletableFuture.runAsync(() -> reserve(budget, 50));
+		assertThrows(TimeoutException.class, () -> reservation.get(100, TimeUnit.MILLISECONDS));
+		budget.setMaxBytes(0);
+		reservation.get(5, TimeUnit.SECONDS);
+		assertEquals(130, budget.getUsedBytes());
+	}
+
+	@Test
+	void shouldNotWaitWhenTheCallerMustProceed() throws InterruptedException {
+		ResultMemoryBudget parent = new ResultMemoryBudget(100, null);
+		ResultMemoryBudget budget = new ResultMemoryBudget(100, parent);
+		parent.reserve(90, () -> false);
+		budget.reserve(50, () -> true);
+		assertEquals(50, budget.getUsedBytes());
+		assertEquals(140, parent.getUsedBytes());
+	}
+
+	@Test
+	void shouldNotAcceptNegativeBudget() {
+		assertThrows(IllegalArgumentException.class, () -> new ResultMemoryBudget(-1, null));
+	}
+
+	private static void reserve(ResultMemoryBudget budget, long bytes) {
+		try {
+			budget.reserve(bytes, () -> false);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
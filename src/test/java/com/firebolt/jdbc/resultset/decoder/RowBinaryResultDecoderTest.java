@@ -0,0 +1,291 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import com.firebolt.jdbc.exception.FireboltException;
+import com.firebolt.jdbc.testutils.RowBinaryPayload;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RowBinaryResultDecoderTest {
+
+	@Test
+	void shouldReadHeader() throws IOException, SQLException {
+		RowBinaryResultDecoder decoder = decoder(RowBinaryPayload.header("id", "Int32", "a name", "DateTime64(3, 'EST')"), 1024);
+		assertArrayEquals(new String[] {"id", "a name"}, decoder.getColumnNames());
+		assertArrayEquals(new String[] {"Int32", "DateTime64(3, \\'EST\\')"}, decoder.getColumnTypes());
+		assertFalse(decoder.isOnRow());
+		assertFalse(decoder.hasNext());
+		assertFalse(decoder.next());
+	}
+
+	@Test
+	void shouldNotHaveColumnsWhenResponseIsEmpty() throws IOException, SQLException {
+		RowBinaryResultDecoder decoder = new RowBinaryResultDecoder(new ByteArrayInputStream(new byte[0]), 1024);
+		decoder.readHeader();
+		assertEquals(0, decoder.getColumnNames().length);
+		assertEquals(0, decoder.getColumnTypes().length);
+		assertFalse(decoder.next());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 3, 1024})
+	void shouldDecodeIntegers(int bufferSize) throws IOException, SQLException {
+		RowBinaryPayload payload = RowBinaryPayload.header("a", "Int8", "b", "UInt8", "c", "Int16", "d", "UInt16", "e", "Int32",
+				"f", "UInt32", "g", "Int64", "h", "UInt64");
+		payload.int8(-1).int8(255).int16(-2).int16(65535).int32(Integer.MIN_VALUE).int32(-1).int64(Long.MIN_VALUE).int64(-1);
+		payload.int8(1).int8(2).int16(3).int16(4).int32(5).int32(6).int64(7).int64(8);
+		RowBinaryResultDecoder decoder = decoder(payload, bufferSize);
+
+		assertTrue(decoder.next());
+		assertEquals(-1, decoder.getByte(0));
+		assertEquals(255, decoder.getInt(1));
+		assertEquals(-2, decoder.getShort(2));
+		assertEquals(65535, decoder.getInt(3));
+		assertEquals(Integer.MIN_VALUE, decoder.getInt(4));
+		assertEquals(4294967295L, decoder.getLong(5));
+		assertEquals(Long.MIN_VALUE, decoder.getLong(6));
+		assertEquals("18446744073709551615", decoder.getString(7));
+		assertEquals("-2147483648", decoder.getString(4));
+		assertEquals(-2.0, decoder.getDouble(2));
+
+		assertTrue(decoder.next());
+		long[] values = new long[8];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = decoder.getLong(i);
+		}
+		assertArrayEquals(new long[] {1, 2, 3, 4, 5, 6, 7, 8}, values);
+		assertTrue(decoder.getBoolean(0));
+		assertFalse(decoder.next());
+		assertFalse(decoder.isOnRow());
+	}
+
+	@Test
+	void shouldFallBackToTextWhenValueDoesNotFitType() throws IOException, SQLException {
+		RowBinaryPayload payload = RowBinaryPayload.header("a", "Int64").int64(4_000_000_000L);
+		RowBinaryResultDecoder decoder = decoder(payload, 1024);
+		decoder.next();
+		assertEquals(4_000_000_000L, decoder.getLong(0));
+		assertThrows(NumberFormatException.class, () -> decoder.getByte(0));
+	}
+
+	@Test
+	void shouldDecodeFloatsAndBooleans() throws IOException, SQLException {
+		RowBinaryPayload payload = RowBinaryPayload.header("r", "real", "d", "double precision", "b", "boolean");
+		payload.float32(1.5f).float64(-2.25).int8(1);
+		payload.float32(Float.NaN).float64(Double.NEGATIVE_INFINITY).int8(0);
+		RowBinaryResultDecoder decoder = decoder(payload, 1024);
+
+		decoder.next();
+		assertEquals(1.5f, decoder.getFloat(0));
+		assertEquals(1.5, decoder.getDouble(0));
+		assertEquals("1.5", decoder.getString(0));
+		assertEquals(-2.25, decoder.getDouble(1));
+		assertEquals("-2.25", decoder.getString(1));
+		assertTrue(decoder.getBoolean(2));
+		assertEquals("t", decoder.getString(2));
+
+		decoder.next();
+		assertTrue(Float.isNaN(decoder.getFloat(0)));
+		assertEquals("nan", decoder.getString(0));
+		assertEquals(Double.NEGATIVE_INFINITY, decoder.getDouble(1));
+		assertEquals("-inf", decoder.getString(1));
+		assertFalse(decoder.getBoolean(2));
+		assertEquals("f", decoder.getString(2));
+	}
+
+	@ParameterizedTest
+	@CsvSource(value = {
+			"1.0,1", "-0.0,-0", "0.0,0", "100.0,100", "0.1,0.1", "123.456,123.456", "1e20,100000000000000000000",
+			"1e21,1e+21", "-1.5e22,-1.5e+22", "1e-6,0.000001", "1.25e-6,0.00000125", "1e-7,1e-7",
+			"1.7976931348623157e308,1.7976931348623157e+308"
+	})
+	void shouldWriteDoublesAsInTabSeparated(double value, String expected) throws IOException, SQLException {
+		RowBinaryResultDecoder decoder = decoder(RowBinaryPayload.header("d", "double precision").float64(value), 1024);
+		decoder.next();
+		assertEquals(expected, decoder.getString(0));
+		assertEquals(value, Double.parseDouble(decoder.getString(0)));
+	}
+
+	@ParameterizedTest
+	@CsvSource(value = {"1.0,1", "0.1,0.1", "3.4028235e38,3.4028235e+38", "1e-10,1e-10", "16777216.0,16777216"})
+	void shouldWriteRealsAsInTabSeparated(float value, String expected) throws IOException, SQLException {
+		RowBinaryResultDecoder decoder = decoder(RowBinaryPayload.header("r", "real").float32(value), 1024);
+		decoder.next();
+		assertEquals(expected, decoder.getString(0));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"1.1", "0.1", "-2.5", "3.4028235e+38", "1e-10", "16777216", "nan", "-inf"})
+	void shouldReadRealsAsDoublesLikeTabSeparated(String value) throws IOException, SQLException {
+		RowBinaryResultDecoder decoder = decoder(RowBinaryPayload.header("r", "real").float32(Float.parseFloat(
+				value.replace("nan", "NaN").replace("inf", "Infinity"))), 1024);
+		TsvResultDecoder tsvDecoder = new TsvResultDecoder(new ByteArrayInputStream(("r\nreal\n" + value + "\n").getBytes(UTF_8)), 1024);
+		tsvDecoder.readHeader();
+		decoder.next();
+		tsvDecoder.next();
+		assertEquals(tsvDecoder.getDouble(0), decoder.getDouble(0));
+		assertEquals(tsvDecoder.getFloat(0), decoder.getFloat(0));
+	}
+
+	@Test
+	void shouldDecodeNullableValues() throws IOException, SQLException {
+		RowBinaryPayload payload = RowBinaryPayload.header("a", "Nullable(Int32)", "b", "text null", "c", "Nothing null");
+		payload.isNull(false).int32(42).isNull(true).isNull(true);
+		payload.isNull(true).isNull(false).string("x").isNull(true);
+		RowBinaryResultDecoder decoder = decoder(payload, 1024);
+
+		decoder.next();
+		assertFalse(decoder.isNull(0));
+		assertEquals(42, decoder.getInt(0));
+		assertTrue(decoder.isNull(1));
+		assertTrue(decoder.isNull(2));
+
+		decoder.next();
+		assertTrue(decoder.isNull(0));
+		assertFalse(decoder.isNull(1));
+		assertEquals("x", decoder.getString(1));
+		assertTrue(decoder.isNull(2));
+	}
+
+	@Test
+	void shouldEscapeStringsLikeTabSeparatedFormat() throws IOException, SQLException {
+		RowBinaryPayload payload = RowBinaryPayload.header("s", "String").string("Taylor's\tPrime\\Steak\nHouse");
+		RowBinaryResultDecoder decoder = decoder(payload, 4);
+		decoder.next();
+		assertEquals("Taylor's\\tPrime\\\\Steak\\nHouse", decoder.getString(0));
+	}
+
+	@Test
+	void shouldDecodeDatesAndTimestamps() throws IOException, SQLException {
+		RowBinaryPayload payload = RowBinaryPayload.header("a", "Date", "b", "pgdate", "c", "DateTime", "d",
+				"DateTime64(4, 'EST')", "e", "timestampntz", "f", "timestamptz");
+		payload.int16((int) LocalDate.of(2022, 5, 10).toEpochDay()).int32((int) LocalDate.of(1, 1, 1).toEpochDay())
+				.int32(1652187662).int64(16521876621234L).int64(-27_107_074_517_876_544L).int64(1652248862000000L);
+		RowBinaryResultDecoder decoder = decoder(payload, 1024);
+		decoder.next();
+		assertEquals("2022-05-10", decoder.getString(0));
+		assertEquals("0001-01-01", decoder.getString(1));
+		assertEquals("2022-05-10 13:01:02", decoder.getString(2));
+		assertEquals("2022-05-10 08:01:02.1234", decoder.getString(3));
+		assertEquals("1111-01-05 17:04:42.123456", decoder.getString(4));
+		assertEquals("2022-05-11 06:01:02+00", decoder.getString(5));
+	}
+
+	@Test
+	void shouldDecodeDecimals() throws IOException, SQLException {
+		byte[] int128 = new BigInteger("-1231232123459999990457054844258706536").toByteArray();
+		byte[] littleEndian = new byte[16];
+		Arrays.fill(littleEndian, (byte) 0xFF);
+		for (int i = 0; i < int128.length; i++) {
+			littleEndian[i] = int128[int128.length - 1 - i];
+		}
+		RowBinaryPayload payload = RowBinaryPayload.header("a", "numeric(9, 2)", "b", "Decimal(18, 4)", "c", "Decimal(38, 30)");
+		payload.int32(1234).int64(-5);
+		for (byte b : littleEndian) {
+			payload.int8(b);
+		}
+		RowBinaryResultDecoder decoder = decoder(payload, 1024);
+		decoder.next();
+		assertEquals("12.34", decoder.getString(0));
+		assertEquals(12.34, decoder.getDouble(0));
+		assertEquals("-0.0005", decoder.getString(1));
+		assertEquals("-1231232.123459999990457054844258706536", decoder.getString(2));
+	}
+
+	@Test
+	void shouldDecodeByteA() throws IOException, SQLException {
+		RowBinaryPayload payload = RowBinaryPayload.header("a", "bytea").bytes(new byte[] {1, (byte) 0xAB, 0x7F});
+		RowBinaryResultDecoder decoder = decoder(payload, 1024);
+		decoder.next();
+		assertArrayEquals(new byte[] {1, (byte) 0xAB, 0x7F}, decoder.getBytes(0));
+		assertEquals("\\x01ab7f", decoder.getString(0));
+	}
+
+	@Test
+	void shouldWriteArraysLikeTabSeparatedFormat() throws IOException, SQLException {
+		RowBinaryPayload payload = RowBinaryPayload.header("a", "array(int null)", "b", "Array(Array(String))", "c", "Array(Date)");
+		payload.length(3).isNull(false).int32(1).isNull(true).isNull(false).int32(3);
+		payload.length(2).length(2).string("it's").string("b").length(0);
+		payload.length(1).int16((int) LocalDate.of(2022, 5, 10).toEpochDay());
+		RowBinaryResultDecoder decoder = decoder(payload, 1024);
+		decoder.next();
+		assertEquals("[1,NULL,3]", decoder.getString(0));
+		assertEquals("[['it\\'s','b'],[]]", decoder.getString(1));
+		assertEquals("['2022-05-10']", decoder.getString(2));
+	}
+
+	@Test
+	void shouldFailOnTruncatedRow() throws IOException, SQLException {
+		byte[] bytes = RowBinaryPayload.header("a", "Int64").int64(1).toByteArray();
+		RowBinaryResultDecoder decoder = new RowBinaryResultDecoder(new ByteArrayInputStream(bytes, 0, bytes.length - 1), 1024);
+		decoder.readHeader();
+		assertThrows(EOFException.class, decoder::next);
+	}
+
+	@Test
+	void shouldSkipBytesOfFieldsLongerThanMaxFieldSize() throws IOException, SQLException {
+		byte[] bytes = new byte[100_000];
+		Arrays.fill(bytes, (byte) 7);
+		RowBinaryPayload payload = RowBinaryPayload.header("s", "String", "b", "bytea", "i", "Int32")
+				.string("x".repeat(100_000)).bytes(bytes).int32(5).string("short").bytes(new byte[] {1}).int32(6);
+		RowBinaryResultDecoder decoder = new RowBinaryResultDecoder(new ByteArrayInputStream(payload.toByteArray()), 16, 3);
+		decoder.readHeader();
+		assertTrue(decoder.next());
+		assertEquals("x".repeat(12), decoder.getString(0));
+		assertArrayEquals(new byte[] {7, 7, 7}, decoder.getBytes(1));
+		assertEquals(5, decoder.getInt(2));
+		assertTrue(decoder.next());
+		assertEquals("short", decoder.getString(0));
+		assertArrayEquals(new byte[] {1}, decoder.getBytes(1));
+		assertEquals(6, decoder.getInt(2));
+		assertFalse(decoder.next());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 1024})
+	void shouldTransferRowsThatWereNotReadYet(int bufferSize) throws IOException, SQLException {
+		RowBinaryResultDecoder decoder = decoder(RowBinaryPayload.header("a", "Int32").int32(1).int32(2).int32(3), bufferSize);
+		assertTrue(decoder.next());
+		assertEquals(1, decoder.getInt(0));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertEquals(8, decoder.transferTo(out));
+		assertArrayEquals(new byte[] {2, 0, 0, 0, 3, 0, 0, 0}, out.toByteArray());
+		assertFalse(decoder.isOnRow());
+		assertFalse(decoder.next());
+	}
+
+	@Test
+	void shouldNotSupportUnknownTypes() {
+		RowBinaryResultDecoder decoder = new RowBinaryResultDecoder(new ByteArrayInputStream(RowBinaryPayload.header("a", "UUID").toByteArray()), 1024);
+		assertThrows(FireboltException.class, decoder::readHeader);
+	}
+
+	@Test
+	void shouldNotReadFieldsWhenNotOnRow() throws IOException, SQLException {
+		RowBinaryResultDecoder decoder = decoder(RowBinaryPayload.header("a", "Int32"), 1024);
+		assertThrows(IndexOutOfBoundsException.class, () -> decoder.getInt(0));
+	}
+
+	private RowBinaryResultDecoder decoder(RowBinaryPayload payload, int bufferSize) throws IOException, SQLException {
+		RowBinaryResultDecoder decoder = new RowBinaryResultDecoder(new ByteArrayInputStream(payload.toByteArray()), bufferSize);
+		decoder.readHeader();
+		return decoder;
+	}
+}
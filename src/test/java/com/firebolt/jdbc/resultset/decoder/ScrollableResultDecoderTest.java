@@ -0,0 +1,127 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import com.firebolt.jdbc.testutils.RowBinaryPayload;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScrollableResultDecoderTest {
+
+	@Test
+	void shouldMoveToAnyRowOfTabSeparatedResponse() throws IOException, SQLException {
+		StringBuilder response = new StringBuilder("id\tname\nint\ttext null\n");
+		for (int i = 0; i < 100; i++) {
+			response.append(i).append('\t').append(i % 2 == 0 ? "\\N" : "name\\t" + i).append(i % 3 == 0 ? "\r\n" : "\n");
+		}
+		// last row without line terminator and with an empty value
+		response.append("100\t");
+		try (ScrollableResultDecoder decoder = decoder(new TsvResultDecoder(stream(response.toString()), 16), 0)) {
+			assertArrayEquals(new String[] {"id", "name"}, decoder.getColumnNames());
+			assertEquals(101, decoder.getRowCount());
+			assertEquals(-1, decoder.getRowIndex());
+			assertFalse(decoder.isOnRow());
+
+			assertTrue(decoder.moveTo(57));
+			assertEquals(57, decoder.getInt(0));
+			assertEquals("name\\t57", decoder.getString(1));
+			assertTrue(decoder.moveTo(100));
+			assertEquals(100, decoder.getLong(0));
+			assertEquals("", decoder.getString(1));
+			assertFalse(decoder.hasNext());
+			assertTrue(decoder.moveTo(0));
+			assertTrue(decoder.isNull(1));
+			for (int i = 1; i <= 100; i++) {
+				assertTrue(decoder.next());
+				assertEquals(i, decoder.getShort(0));
+				assertEquals(i < 100 && i % 2 == 0, decoder.isNull(1));
+			}
+			assertFalse(decoder.next());
+			assertEquals(101, decoder.getRowIndex());
+			assertFalse(decoder.moveTo(1000));
+			assertEquals(101, decoder.getRowIndex());
+			assertFalse(decoder.moveTo(-5));
+			assertEquals(-1, decoder.getRowIndex());
+		}
+	}
+
+	@Test
+	void shouldSpoolRowBinaryResponseAsText() throws IOException, SQLException {
+		RowBinaryPayload payload = RowBinaryPayload.header("a", "Int64", "b", "Nullable(String)", "c", "Array(Int32)");
+		payload.int64(1).isNull(false).string("tab\there").length(2).int32(1).int32(2);
+		payload.int64(-2).isNull(true).length(0);
+		try (ScrollableResultDecoder decoder = decoder(new RowBinaryResultDecoder(new ByteArrayInputStream(payload.toByteArray()), 8), 0)) {
+			assertEquals(2, decoder.getRowCount());
+			assertTrue(decoder.moveTo(1));
+			assertEquals(-2, decoder.getLong(0));
+			assertTrue(decoder.isNull(1));
+			assertEquals("[]", decoder.getString(2));
+			assertTrue(decoder.moveTo(0));
+			assertEquals("tab\\there", decoder.getString(1));
+			assertEquals("[1,2]", decoder.getString(2));
+		}
+	}
+
+	@Test
+	void shouldOnlySpoolMaxRows() throws IOException, SQLException {
+		try (ScrollableResultDecoder decoder = decoder(new TsvResultDecoder(stream("a\nint\n1\n2\n3\n"), 16), 2)) {
+			assertEquals(2, decoder.getRowCount());
+			assertTrue(decoder.moveTo(1));
+			assertEquals(2, decoder.getInt(0));
+		}
+	}
+
+	@Test
+	void shouldHaveNoRowsWhenResponseIsEmpty() throws IOException, SQLException {
+		try (ScrollableResultDecoder decoder = decoder(new TsvResultDecoder(stream(""), 16), 0)) {
+			assertEquals(0, decoder.getRowCount());
+			assertFalse(decoder.next());
+			assertThrows(IndexOutOfBoundsException.class, () -> decoder.getString(0));
+		}
+	}
+
+	@Test
+	void shouldKeepCopyOfRowAfterMoving() throws IOException, SQLException {
+		try (ScrollableResultDecoder decoder = decoder(new TsvResultDecoder(stream("a\ntext\nfirst\nsecond\n"), 16), 0)) {
+			decoder.next();
+			ResultDecoder copy = decoder.copyRow();
+			decoder.next();
+			assertEquals("first", copy.getString(0));
+			assertEquals("second", decoder.getString(0));
+		}
+	}
+
+	@Test
+	void shouldCloseResponseOnceSpooled() throws IOException, SQLException {
+		boolean[] closed = new boolean[1];
+		InputStream is = new ByteArrayInputStream("a\nint\n1\n".getBytes(UTF_8)) {
+			@Override
+			public void close() {
+				closed[0] = true;
+			}
+		};
+		try (ScrollableResultDecoder decoder = decoder(new TsvResultDecoder(is, 16), 0)) {
+			assertTrue(closed[0]);
+			assertTrue(decoder.next());
+		}
+	}
+
+	private ScrollableResultDecoder decoder(ResultDecoder decoder, int maxRows) throws IOException, SQLException {
+		ScrollableResultDecoder scrollableDecoder = new ScrollableResultDecoder(decoder, maxRows);
+		scrollableDecoder.readHeader();
+		return scrollableDecoder;
+	}
+
+	private static InputStream stream(String response) {
+		return new ByteArrayInputStream(response.getBytes(UTF_8));
+	}
+}
@@ -0,0 +1,196 @@
+package com.firebolt.jdbc.resultset.decoder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.sql.SQLException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TsvResultDecoderTest {
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 2, 3, 7, 8192})
+	void shouldReadRowsWhateverTheBufferSize(int bufferSize) throws IOException {
+		TsvResultDecoder decoder = decoder("id\tname\nInt32\tText\n1\thello\n2\t\\N\n3\t", bufferSize);
+		assertTrue(decoder.next());
+		assertArrayEquals(new String[] {"id", "name"}, decoder.getStrings());
+		assertTrue(decoder.next());
+		assertArrayEquals(new String[] {"Int32", "Text"}, decoder.getStrings());
+		assertTrue(decoder.next());
+		assertArrayEquals(new String[] {"1", "hello"}, decoder.getStrings());
+		assertTrue(decoder.next());
+		assertArrayEquals(new String[] {"2", "\\N"}, decoder.getStrings());
+		assertTrue(decoder.next());
+		assertArrayEquals(new String[] {"3", ""}, decoder.getStrings());
+		assertFalse(decoder.next());
+		assertFalse(decoder.isOnRow());
+	}
+
+	@Test
+	void shouldDecodeUtf8Fields() throws IOException {
+		TsvResultDecoder decoder = decoder("שלום\t日本語\tüñí\n", 2);
+		assertTrue(decoder.next());
+		assertArrayEquals(new String[] {"שלום", "日本語", "üñí"}, decoder.getStrings());
+	}
+
+	@Test
+	void shouldPeekNextRowWithoutMovingToIt() throws IOException {
+		TsvResultDecoder decoder = decoder("a\tb\nc\td\n", 3);
+		assertTrue(decoder.next());
+		assertTrue(decoder.hasNext());
+		assertTrue(decoder.hasNext());
+		assertEquals("b", decoder.getString(1));
+		assertEquals("a", decoder.getString(0));
+		assertTrue(decoder.next());
+		assertFalse(decoder.hasNext());
+		assertEquals("c", decoder.getString(0));
+		assertEquals("d", decoder.getString(1));
+		assertFalse(decoder.next());
+	}
+
+	@Test
+	void shouldStripCarriageReturnBeforeLineFeed() throws IOException {
+		TsvResultDecoder decoder = decoder("a\tb\r\nc\n", 8192);
+		assertTrue(decoder.next());
+		assertArrayEquals(new String[] {"a", "b"}, decoder.getStrings());
+		assertTrue(decoder.next());
+		assertArrayEquals(new String[] {"c"}, decoder.getStrings());
+	}
+
+	@Test
+	void shouldReadEmptyLineAsRowWithOneEmptyField() throws IOException {
+		TsvResultDecoder decoder = decoder("a\n\nb", 8192);
+		assertTrue(decoder.next());
+		assertTrue(decoder.next());
+		assertArrayEquals(new String[] {""}, decoder.getStrings());
+		assertTrue(decoder.next());
+		assertArrayEquals(new String[] {"b"}, decoder.getStrings());
+		assertFalse(decoder.hasNext());
+		assertFalse(decoder.next());
+	}
+
+	@Test
+	void shouldNotHaveRowsWhenStreamIsEmpty() throws IOException {
+		TsvResultDecoder decoder = decoder("", 8192);
+		assertFalse(decoder.hasNext());
+		assertFalse(decoder.next());
+		assertEquals(0, decoder.getFieldCount());
+	}
+
+	@Test
+	void shouldCreateStringOfFieldOnlyOnce() throws IOException {
+		TsvResultDecoder decoder = decoder("abc\tdef\n", 8192);
+		decoder.next();
+		assertSame(decoder.getString(1), decoder.getString(1));
+	}
+
+	@Test
+	void shouldExposeOffsetsOfFields() throws IOException {
+		TsvResultDecoder decoder = decoder("abc\t\tdefg\n", 8192);
+		decoder.next();
+		assertEquals(3, decoder.getFieldCount());
+		assertEquals("abc", new String(decoder.getBuffer(), decoder.getFieldStart(0), decoder.getFieldEnd(0) - decoder.getFieldStart(0), UTF_8));
+		assertEquals(decoder.getFieldStart(1), decoder.getFieldEnd(1));
+		assertEquals("defg", new String(decoder.getBuffer(), decoder.getFieldStart(2), decoder.getFieldEnd(2) - decoder.getFieldStart(2), UTF_8));
+	}
+
+	@Test
+	void shouldReadBigDecimalsFromFields() throws IOException {
+		TsvResultDecoder decoder = decoder("-12.340\t\t123456789012345678901234.5\t1E+3\n", 8192);
+		decoder.next();
+		assertEquals(new BigDecimal("-12.340"), decoder.getBigDecimal(0));
+		assertNull(decoder.getBigDecimal(1));
+		assertEquals(new BigDecimal("123456789012345678901234.5"), decoder.getBigDecimal(2));
+		assertEquals(new BigDecimal("1E+3"), decoder.getBigDecimal(3));
+	}
+
+	@Test
+	void shouldSkipBytesOfFieldsLongerThanMaxFieldSize() throws IOException, SQLException {
+		String longText = "x".repeat(100_000);
+		String content = "t\tb\ti\ntext\tbytea\tint\n" + longText + "\t\\x" + "ab".repeat(50_000) + "\t5\r\nshort\t\\x01\t6";
+		TsvResultDecoder decoder = new TsvResultDecoder(new ByteArrayInputStream(content.getBytes(UTF_8)), 16, 3);
+		decoder.readHeader();
+		assertTrue(decoder.next());
+		assertEquals("x".repeat(12), decoder.getString(0));
+		assertEquals("\\xababab", decoder.getString(1));
+		assertEquals(5, decoder.getInt(2));
+		assertTrue(decoder.getBuffer().length < 1024);
+		assertTrue(decoder.next());
+		assertArrayEquals(new String[] {"short", "\\x01", "6"}, decoder.getStrings());
+		assertFalse(decoder.next());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 16, 8192})
+	void shouldTransferRowsThatWereNotReadYet(int bufferSize) throws IOException, SQLException {
+		TsvResultDecoder decoder = decoder("id\tname\nint\ttext\n1\ta\n2\tb\n3\tc\n", bufferSize);
+		decoder.readHeader();
+		assertTrue(decoder.next());
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertEquals(8, decoder.transferTo(out));
+		assertEquals("2\tb\n3\tc\n", out.toString(UTF_8));
+		assertFalse(decoder.isOnRow());
+		assertFalse(decoder.next());
+		assertEquals(0, decoder.transferTo(out));
+	}
+
+	@Test
+	void shouldTransferRowsToChannel() throws IOException, SQLException {
+		TsvResultDecoder decoder = decoder("id\nint\n1\n2\n", 4);
+		decoder.readHeader();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		assertEquals(4, decoder.transferTo(Channels.newChannel(out)));
+		assertEquals("1\n2\n", out.toString(UTF_8));
+		assertFalse(decoder.next());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 8, 8192})
+	void shouldKeepTheBinaryStreamsOfARowWhenMovingToTheNextRows(int bufferSize) throws IOException, SQLException {
+		TsvResultDecoder decoder = decoder("\\x686921\tplain\n\\x0000\tzero\n\\x0000\tzero\n", bufferSize);
+		assertTrue(decoder.next());
+		InputStream hex = decoder.getBinaryStream(0);
+		InputStream plain = decoder.getBinaryStream(1);
+		assertEquals('h', hex.read());
+		assertTrue(decoder.next());
+		assertTrue(decoder.hasNext());
+		assertEquals(2, hex.available());
+		assertArrayEquals("i!".getBytes(UTF_8), hex.readAllBytes());
+		assertArrayEquals("plain".getBytes(UTF_8), plain.readAllBytes());
+	}
+
+	@Test
+	void shouldNotDecodeOddNumberOfHexDigits() throws IOException {
+		TsvResultDecoder decoder = decoder("\\x686\n", 8192);
+		assertTrue(decoder.next());
+		assertEquals("Odd number of digits 3 in hex string", assertThrows(IllegalArgumentException.class, () -> decoder.getBytes(0)).getMessage());
+		assertThrows(IllegalArgumentException.class, () -> decoder.getBinaryStream(0));
+	}
+
+	@Test
+	void shouldThrowExceptionWhenFieldDoesNotExist() throws IOException {
+		TsvResultDecoder decoder = decoder("a\tb\n", 8192);
+		decoder.next();
+		assertThrows(IndexOutOfBoundsException.class, () -> decoder.getString(2));
+	}
+
+	private TsvResultDecoder decoder(String content, int bufferSize) {
+		InputStream is = new ByteArrayInputStream(content.getBytes(UTF_8));
+		return new TsvResultDecoder(is, bufferSize);
+	}
+}
@@ -6,6 +6,7 @@ import com.firebolt.jdbc.connection.FireboltConnection;
 import com.firebolt.jdbc.connection.settings.FireboltProperties;
 import com.firebolt.jdbc.exception.FireboltException;
 import com.firebolt.jdbc.resultset.FireboltResultSet;
+import com.firebolt.jdbc.resultset.compress.AdaptiveCompression;
 import com.firebolt.jdbc.statement.FireboltStatement;
 import com.firebolt.jdbc.statement.StatementInfoWrapper;
 import com.firebolt.jdbc.statement.StatementUtil;
@@ -20,10 +21,16 @@ import org.mockito.MockedConstruction;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.sql.SQLException;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -126,6 +133,47 @@ class FireboltStatementServiceTest {
 		verify(statementClient).executeSqlStatement(statementInfoWrapper, fireboltProperties, false, -1, true);
 	}
 
+	@ParameterizedTest
+	@ValueSource(booleans = {true, false})
+	void shouldNotCompressTheResultOfAQueryWhoseLastResultWasSmall(boolean adaptive) throws SQLException, IOException {
+		try (MockedConstruction<FireboltResultSet> mocked = Mockito.mockConstruction(FireboltResultSet.class)) {
+			StatementInfoWrapper statementInfoWrapper = StatementUtil.parseToStatementInfoWrappers("SELECT 1").get(0);
+			FireboltProperties fireboltProperties = fireboltProperties("firebolt1", false).toBuilder().compress(true)
+					.adaptiveCompression(adaptive).build();
+			AdaptiveCompression adaptiveCompression = new AdaptiveCompression();
+			adaptiveCompression.observe(statementInfoWrapper.getSql(), false).wire(new ByteArrayInputStream(new byte[0])).close();
+			FireboltConnection connection = mock(FireboltConnection.class);
+			lenient().when(connection.getAdaptiveCompression()).thenReturn(adaptiveCompression);
+			FireboltStatement statement = mock(FireboltStatement.class);
+			when(statement.getConnection()).thenReturn(connection);
+			new FireboltStatementService(statementClient).execute(statementInfoWrapper, fireboltProperties, true, statement);
+			verify(statementClient).executeSqlStatement(eq(statementInfoWrapper),
+					argThat(properties -> properties.isCompress() != adaptive), eq(false), eq(0), eq(true));
+			Assertions.assertEquals(adaptive ? 1 : 0, adaptiveCompression.getSmallResultCount());
+		}
+	}
+
+	@Test
+	void shouldNotCompressTheResultOfAPreparedStatementWhoseLastResultWasSmallWithOtherParameters() throws SQLException, IOException {
+		try (MockedConstruction<FireboltResultSet> mocked = Mockito.mockConstruction(FireboltResultSet.class)) {
+			String sql = "SELECT * FROM t WHERE id = ?";
+			StatementInfoWrapper statementInfoWrapper = StatementUtil.replaceParameterMarksWithValues(Map.of(1, "2"), sql).get(0);
+			FireboltProperties fireboltProperties = fireboltProperties("firebolt1", false).toBuilder().compress(true)
+					.adaptiveCompression(true).build();
+			AdaptiveCompression adaptiveCompression = new AdaptiveCompression();
+			// observed when executed with the value 1
+			adaptiveCompression.observe(sql, false).wire(new ByteArrayInputStream(new byte[0])).close();
+			FireboltConnection connection = mock(FireboltConnection.class);
+			when(connection.getAdaptiveCompression()).thenReturn(adaptiveCompression);
+			FireboltStatement statement = mock(FireboltStatement.class);
+			when(statement.getConnection()).thenReturn(connection);
+			new FireboltStatementService(statementClient).execute(statementInfoWrapper, fireboltProperties, true, statement);
+			verify(statementClient).executeSqlStatement(eq(statementInfoWrapper),
+					argThat(properties -> !properties.isCompress()), eq(false), eq(0), eq(true));
+			Assertions.assertEquals(1, adaptiveCompression.getSmallResultCount());
+		}
+	}
+
 	@Test
 	void abortStatementHttpRequest() throws FireboltException {
 		FireboltStatementService fireboltStatementService = new FireboltStatementService(statementClient);
@@ -7,6 +7,8 @@ import com.firebolt.jdbc.connection.settings.FireboltProperties;
 import com.firebolt.jdbc.connection.settings.FireboltSessionProperty;
 import com.firebolt.jdbc.exception.FireboltException;
 import com.firebolt.jdbc.resultset.FireboltResultSet;
+import com.firebolt.jdbc.resultset.FireboltResultSetOptions;
+import com.firebolt.jdbc.resultset.decoder.ResultMemoryBudget;
 import com.firebolt.jdbc.service.FireboltStatementService;
 import com.firebolt.jdbc.type.array.SqlArrayUtil;
 import org.junit.jupiter.api.Test;
@@ -23,6 +25,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.lang.reflect.Field;
 import java.sql.Connection;
@@ -115,6 +118,21 @@ class FireboltStatementTest {
         verify(fireboltStatementService).abortStatement(any(), eq(fireboltProperties));
     }
 
+    @Test
+    void shouldTransferRawRowsWithoutReadingThemAhead() throws SQLException {
+        FireboltProperties properties = fireboltProperties.toBuilder().prefetch(true).decodingThreads(4).build();
+        FireboltStatement fireboltStatement = new FireboltStatement(fireboltStatementService, properties, fireboltConnection);
+        ArgumentCaptor<FireboltProperties> propertiesCaptor = ArgumentCaptor.forClass(FireboltProperties.class);
+        when(fireboltStatementService.execute(any(), propertiesCaptor.capture(), anyBoolean(), any())).thenAnswer(invocation ->
+                Optional.of(new FireboltResultSet(new ByteArrayInputStream("a\nint\n1\n2\n".getBytes()), "t", "db", 1024, false,
+                        null, false, FireboltResultSetOptions.of(propertiesCaptor.getValue(), ResultMemoryBudget.global()))));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(4, fireboltStatement.executeQueryRaw("select a from t", out));
+        assertEquals("1\n2\n", out.toString());
+        assertFalse(propertiesCaptor.getValue().isPrefetch());
+        assertEquals(0, propertiesCaptor.getValue().getDecodingThreads());
+    }
+
     @Test
     void shouldCloseInputStreamOnClose() throws SQLException {
         ResultSet rs = mock(ResultSet.class);
@@ -217,6 +235,17 @@ class FireboltStatementTest {
         verify(resultSet).close();
     }
 
+    @Test
+    void shouldStopPrefetchingOnCancel() throws SQLException {
+        FireboltStatement fireboltStatement = new FireboltStatement(fireboltStatementService, fireboltProperties, mock(FireboltConnection.class));
+        FireboltResultSet rs = mock(FireboltResultSet.class);
+        when(fireboltStatementService.execute(any(), any(), anyBoolean(), any())).thenReturn(Optional.of(rs));
+        fireboltStatement.executeQuery("SELECT 1");
+        fireboltStatement.cancel();
+        verify(rs).stopPrefetching();
+        verify(rs, never()).close();
+    }
+
     @Test
     void shouldKeepCurrentAndGetMoreResultWhenCallingGetMoreResultsWithKeepCurrentResultFlag() throws SQLException {
         FireboltConnection connection = mock(FireboltConnection.class);
@@ -367,8 +396,8 @@ class FireboltStatementTest {
     void fetchSize() throws SQLException {
         Statement statement = new FireboltStatement(fireboltStatementService, null, mock(FireboltConnection.class));
         assertEquals(0, statement.getFetchSize());
-        statement.setFetchSize(123); // ignore
-        assertEquals(0, statement.getFetchSize());
+        statement.setFetchSize(123);
+        assertEquals(123, statement.getFetchSize());
         assertThrows(SQLException.class, () -> statement.setFetchSize(-1));
     }
 
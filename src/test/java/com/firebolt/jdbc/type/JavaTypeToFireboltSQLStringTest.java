@@ -9,9 +9,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junitpioneer.jupiter.DefaultTimeZone;
 
+import java.math.BigDecimal;
 import java.sql.Date;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Map;
@@ -73,6 +75,11 @@ class JavaTypeToFireboltSQLStringTest {
 		assertEquals("'105'' OR 1=1--'' '", JavaTypeToFireboltSQLString.transformAny("105' OR 1=1--' "));
 	}
 
+	@Test
+	void shouldEscapeTheBackslashOfNulLikeTheOtherBackslashes() throws FireboltException {
+		assertEquals("'a\\\\0b\\\\c''d'", JavaTypeToFireboltSQLString.STRING.transform("a\0b\\c'd"));
+	}
+
 	@Test
 	void shouldTransformLongToString() throws FireboltException {
 		assertEquals("105", JavaTypeToFireboltSQLString.LONG.transform(105L));
@@ -151,6 +158,36 @@ class JavaTypeToFireboltSQLStringTest {
 		assertEquals("NULL", JavaTypeToFireboltSQLString.TIMESTAMP.transform(null));
 	}
 
+	@Test
+	void shouldAppendLiteralsToBuilder() throws SQLException {
+		StringBuilder sb = new StringBuilder("SELECT ");
+		JavaTypeToFireboltSQLString.STRING.appendTo(sb, "it's a \\ \0");
+		JavaTypeToFireboltSQLString.appendAny(sb.append(", "), Date.valueOf(LocalDate.of(2022, 5, 23)));
+		JavaTypeToFireboltSQLString.TIMESTAMP.appendTo(sb.append(", "),
+				Timestamp.valueOf(LocalDateTime.of(2022, 5, 23, 12, 57, 13)), "UTC");
+		JavaTypeToFireboltSQLString.appendAny(sb.append(", "), new BigDecimal("1E+3"));
+		JavaTypeToFireboltSQLString.appendAny(sb.append(", "), new byte[] { 1, (byte) 0xAB });
+		JavaTypeToFireboltSQLString.appendAny(sb.append(", "), null);
+		JavaTypeToFireboltSQLString.appendAny(sb.append(", "), 5);
+		assertEquals("SELECT 'it''s a \\\\ \\\\0', '2022-05-23', '2022-05-23 12:57:13', 1000, E'\\x01\\xab'::BYTEA, NULL, 5",
+				sb.toString());
+		assertEquals(TYPE_TRANSFORMATION_ERROR, assertThrows(FireboltException.class,
+				() -> JavaTypeToFireboltSQLString.DATE.appendTo(new StringBuilder(), Date.valueOf(LocalDate.of(2022, 5, 23)), new Object())).getType());
+	}
+
+	@Test
+	void shouldTransformSubclassesAndSqlTypes() throws SQLException {
+		Timestamp ts = new Timestamp(Timestamp.valueOf(LocalDateTime.of(2022, 5, 23, 12, 57, 13)).getTime()) {
+		};
+		assertEquals("'2022-05-23 12:57:13'", JavaTypeToFireboltSQLString.transformAny(ts));
+		FireboltArray array = SqlArrayUtil.transformToSqlArray("[1,2]", ColumnType.of("Array(INT32)"));
+		assertEquals("[1,2]", JavaTypeToFireboltSQLString.transformAny(array));
+		assertEquals("[1,2]", JavaTypeToFireboltSQLString.transformAny(new int[] { 1, 2 }));
+		assertEquals("105", JavaTypeToFireboltSQLString.transformAny(105, Types.INTEGER));
+		assertEquals(TYPE_NOT_SUPPORTED, assertThrows(FireboltException.class,
+				() -> JavaTypeToFireboltSQLString.transformAny(new Object())).getType());
+	}
+
 	@Test
 	void shouldTransformSqlArray() throws SQLException {
 		String value = "[1,2,3,NULL,5]";
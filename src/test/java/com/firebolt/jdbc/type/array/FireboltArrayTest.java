@@ -9,10 +9,12 @@ import org.junit.jupiter.params.provider.ValueSource;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.BitSet;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class FireboltArrayTest {
@@ -39,6 +41,26 @@ class FireboltArrayTest {
 		assertThrows(SQLException.class, () -> fireboltArray.getResultSet(null));
 	}
 
+	@Test
+	void shouldBoxPrimitiveValuesOnce() throws SQLException {
+		BitSet nulls = new BitSet();
+		nulls.set(1);
+		FireboltArray array = new FireboltArray(FireboltDataType.BIG_INT, new long[] { 1, 0, 3 }, nulls);
+		Object boxed = array.getArray();
+		assertArrayEquals(new Long[] { 1L, null, 3L }, (Object[]) boxed);
+		assertSame(boxed, array.getArray());
+		assertArrayEquals(new Long[] { null, 3L }, (Object[]) array.getArray(2, 2));
+		array.free();
+		assertThrows(SQLException.class, array::getArray);
+		assertThrows(SQLException.class, array::getPrimitiveArray);
+	}
+
+	@Test
+	void shouldReturnPrimitiveValuesWithoutBoxing() throws SQLException {
+		int[] values = { 1, 2, 3 };
+		assertSame(values, new FireboltArray(FireboltDataType.INTEGER, values, null).getPrimitiveArray());
+	}
+
 	@Test
 	void shouldReturnArrayWhenNoMapIsGiven() throws SQLException {
 		assertEquals(ARRAY, fireboltArray.getArray(null));
@@ -58,6 +58,43 @@ class SqlArrayUtilTest {
 		shouldTransformArray(type, value, INTEGER, new Integer[] { 1, 2, 3, null, 5 });
 	}
 
+	@ParameterizedTest
+	@CsvSource(value = {
+			"Array(int);[1,-2,3];int[]",
+			"Array(long);{1,-2,3};long[]",
+			"Array(real);[1,-2,3];float[]",
+			"Array(double);{1.0,-2e0,3};double[]"
+	}, delimiter = ';')
+	void shouldTransformNumericArrayToPrimitiveArray(String type, String value, String expectedClass) throws SQLException {
+		FireboltArray array = SqlArrayUtil.transformToSqlArray(value, ColumnType.of(type));
+		Object primitiveArray = array.getPrimitiveArray();
+		assertEquals(expectedClass, primitiveArray.getClass().getSimpleName());
+		assertEquals(3, java.lang.reflect.Array.getLength(primitiveArray));
+		assertEquals(-2, ((Number) java.lang.reflect.Array.get(primitiveArray, 1)).intValue());
+		assertEquals(-2, ((Number) ((Object[]) array.getArray())[1]).intValue());
+	}
+
+	@Test
+	void shouldTransformDoubleArrayWithSpecialValues() throws SQLException {
+		FireboltArray array = SqlArrayUtil.transformToSqlArray("[1.5,inf,-inf,nan,\\N,1e-3]", ColumnType.of("Array(double)"));
+		assertArrayEquals(new Double[] { 1.5, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN, null, 0.001 },
+				(Object[]) array.getArray());
+	}
+
+	@Test
+	void shouldNotReadArrayWithNullElementsAsPrimitiveArray() throws SQLException {
+		FireboltArray array = SqlArrayUtil.transformToSqlArray("{1,NULL,3}", ColumnType.of("Array(int null)"));
+		assertThrows(SQLException.class, array::getPrimitiveArray);
+		assertArrayEquals(new Integer[] { 1, null, 3 }, (Object[]) array.getArray());
+	}
+
+	@Test
+	void shouldNotReadTextArrayAsPrimitiveArray() throws SQLException {
+		FireboltArray array = SqlArrayUtil.transformToSqlArray("['a\\tb','c']", ColumnType.of("Array(TEXT)"));
+		assertThrows(SQLException.class, array::getPrimitiveArray);
+		assertArrayEquals(new String[] { "a\tb", "c" }, (Object[]) array.getArray());
+	}
+
 	@ParameterizedTest
 	@ValueSource(strings = {
 			"['1','2','3','',\\N,'5']",
@@ -187,6 +224,17 @@ class SqlArrayUtilTest {
 		assertArrayEquals(expected.getBytes(), SqlArrayUtil.hexStringToByteArray(hex));
 	}
 
+	@ParameterizedTest
+	@CsvSource({
+			"\\x78797A,xyz",
+			"\\x,''",
+			"hello,hello" // not hex string
+	})
+	void hexBytesToByteArray(String hex, String expected) {
+		byte[] buffer = ("\t" + hex + "\t").getBytes();
+		assertArrayEquals(expected.getBytes(), SqlArrayUtil.hexStringToByteArray(buffer, 1, buffer.length - 1));
+	}
+
 	@Test
 	void notHexStringToByteArray() {
 		assertArrayEquals("nothing".getBytes(), SqlArrayUtil.hexStringToByteArray("nothing"));
@@ -210,6 +258,15 @@ class SqlArrayUtilTest {
 		assertEquals(format("Illegal character %s in hex string", expectedWrongCharacter), e.getMessage());
 	}
 
+	@ParameterizedTest
+	@ValueSource(strings = {"\\x7", "\\x78797"})
+	void oddHexStringToByteArray(String hex) {
+		assertEquals(format("Odd number of digits %d in hex string", hex.length() - 2),
+				assertThrows(IllegalArgumentException.class, () -> SqlArrayUtil.hexStringToByteArray(hex)).getMessage());
+		byte[] buffer = ("\t" + hex + "\t").getBytes();
+		assertThrows(IllegalArgumentException.class, () -> SqlArrayUtil.hexStringToByteArray(buffer, 1, buffer.length - 1));
+	}
+
 	private static Stream<Arguments> biDimensionalIntArray() {
 		return Stream.of(
 				// 2 dim integer
@@ -0,0 +1,163 @@
+package com.firebolt.jdbc.type.date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junitpioneer.jupiter.DefaultTimeZone;
+
+@DefaultTimeZone("UTC")
+class TimestampUtilTest {
+
+	private static final TimeZone NEW_YORK_TZ = TimeZone.getTimeZone("America/New_York");
+
+	@ParameterizedTest
+	@CsvSource({
+			// moved forward by the length of the gap
+			"2021-03-14 02:30:00, 2021-03-14T07:30:00Z",
+			// the offset after the transition is used in an overlap
+			"2021-11-07 01:30:00, 2021-11-07T06:30:00Z",
+			"2021-07-01 12:00:00, 2021-07-01T16:00:00Z",
+			"2021-12-31 23:59:59, 2022-01-01T04:59:59Z" })
+	void shouldConvertLocalTimestampLikeGregorianCalendar(String value, String expectedInstant) throws SQLException {
+		assertEquals(expectedInstant, TimestampUtil.toTimestamp(value, NEW_YORK_TZ).toInstant().toString());
+		assertEquals(calendarMillis(value, NEW_YORK_TZ), TimestampUtil.toTimestamp(value, NEW_YORK_TZ).getTime());
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "1800-06-15 10:00:00", "1582-10-10 10:00:00", "2080-07-01 01:00:00", "2022-02-30 10:00:00",
+			"2022-05-10 24:00:00" })
+	void shouldConvertTimestampsOutsideOfTheRulesOfJavaTimeLikeGregorianCalendar(String value) throws SQLException {
+		assertEquals(calendarMillis(value, NEW_YORK_TZ), TimestampUtil.toTimestamp(value, NEW_YORK_TZ).getTime());
+	}
+
+	@Test
+	void shouldTruncateToDayAndTimeInTimeZone() throws SQLException {
+		long millis = TimestampUtil.toTimestamp("2022-05-10 21:01:02.5", NEW_YORK_TZ).getTime();
+		assertEquals(LocalDate.of(2022, 5, 10).atStartOfDay(NEW_YORK_TZ.toZoneId()).toInstant().toEpochMilli(),
+				TimestampUtil.convertToDate(millis, NEW_YORK_TZ).getTime());
+		assertEquals(ZonedDateTime.of(1970, 1, 1, 21, 1, 2, 500_000_000, NEW_YORK_TZ.toZoneId()).toInstant().toEpochMilli(),
+				TimestampUtil.toTime("2022-05-10 21:01:02.5", NEW_YORK_TZ).getTime());
+		assertEquals(ZonedDateTime.of(1970, 1, 1, 21, 1, 2, 0, ZoneId.of("+05:30")).toInstant().toEpochMilli(),
+				TimestampUtil.toTime("2022-05-10 21:01:02+05:30", NEW_YORK_TZ).getTime());
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "2021-03-14 02:30:00", "2021-11-07 01:30:00", "2021-07-01 12:00:00.123456", "2022-05-10 24:00:00",
+			"2022-02-30 10:00:00", "2021-07-01 12:00:00+02:30" })
+	void shouldParseInstantLikeTimestamp(String value) throws SQLException {
+		assertEquals(TimestampUtil.toTimestamp(value, NEW_YORK_TZ).toInstant(), TimestampUtil.toInstant(value, NEW_YORK_TZ));
+		assertEquals(TimestampUtil.toTimestamp(value, NEW_YORK_TZ).toInstant().atZone(NEW_YORK_TZ.toZoneId()),
+				TimestampUtil.toZonedDateTime(value, NEW_YORK_TZ));
+	}
+
+	@ParameterizedTest
+	@CsvSource({ "2022-05-10 13:01:02.5, 2022-05-10T13:01:02.500", "2022-05-10, 2022-05-10T00:00",
+			"2022-05-10 24:00:00, 2022-05-11T00:00", "0001-03-28 BC, 0000-03-28T00:00",
+			"1111-01-05 17:04:42.123456, 1111-01-05T17:04:42.123456",
+			// converted to the time zone when the value has an offset
+			"2022-05-10 23:01:02-02, 2022-05-10T21:01:02" })
+	void shouldParseLocalDateTimeAsWritten(String value, String expected) throws SQLException {
+		assertEquals(LocalDateTime.parse(expected), TimestampUtil.toLocalDateTime(value, NEW_YORK_TZ));
+		assertEquals(LocalDateTime.parse(expected).toLocalDate(), TimestampUtil.toLocalDate(value, NEW_YORK_TZ));
+	}
+
+	@Test
+	void shouldParseValuesWithoutTimeZoneInUtc() throws SQLException {
+		assertEquals(Instant.parse("2022-05-10T13:01:02Z"), TimestampUtil.toInstant("2022-05-10 13:01:02", null));
+		assertEquals(OffsetDateTime.of(2022, 5, 10, 13, 1, 2, 0, ZoneOffset.UTC),
+				TimestampUtil.toOffsetDateTime("2022-05-10 13:01:02", null));
+		assertEquals(OffsetDateTime.of(2022, 5, 10, 11, 1, 2, 0, ZoneOffset.UTC),
+				TimestampUtil.toOffsetDateTime("2022-05-10 13:01:02+02", null));
+		assertEquals(LocalDateTime.of(2022, 5, 10, 11, 1, 2), TimestampUtil.toLocalDateTime("2022-05-10 13:01:02+02", null));
+	}
+
+	@Test
+	@DefaultTimeZone("Asia/Kolkata")
+	void shouldReturnTheInstantOfOffsetDateTimeAtUtcWhateverTheDefaultTimeZone() throws SQLException {
+		assertEquals(OffsetDateTime.of(2022, 5, 10, 13, 1, 2, 0, ZoneOffset.UTC),
+				TimestampUtil.toOffsetDateTime("2022-05-10 13:01:02", null));
+		assertEquals(OffsetDateTime.of(2022, 5, 10, 17, 1, 2, 0, ZoneOffset.UTC),
+				TimestampUtil.toOffsetDateTime("2022-05-10 13:01:02", NEW_YORK_TZ));
+		assertEquals(OffsetDateTime.of(2022, 5, 10, 11, 1, 2, 0, ZoneOffset.UTC),
+				TimestampUtil.toOffsetDateTime("2022-05-10 13:01:02+02", NEW_YORK_TZ));
+		// going through a Timestamp shifted the local time by the offset of the default time zone
+		Timestamp timestamp = TimestampUtil.toTimestamp("2022-05-10 13:01:02", NEW_YORK_TZ);
+		assertEquals(OffsetDateTime.of(2022, 5, 10, 22, 31, 2, 0, ZoneOffset.UTC),
+				SqlDateUtil.transformFromTimestampToOffsetDateTime.apply(timestamp));
+	}
+
+	@Test
+	void shouldParseInfinity() throws SQLException {
+		assertEquals(Instant.MAX, TimestampUtil.toInstant("infinity", NEW_YORK_TZ));
+		assertEquals(Instant.MIN, TimestampUtil.toInstant("-infinity", NEW_YORK_TZ));
+		assertEquals(LocalDateTime.MAX, TimestampUtil.toLocalDateTime("infinity", NEW_YORK_TZ));
+		assertEquals(LocalDate.MIN, TimestampUtil.toLocalDate("-infinity", NEW_YORK_TZ));
+		assertEquals(OffsetDateTime.MAX, TimestampUtil.toOffsetDateTime("infinity", NEW_YORK_TZ));
+		assertEquals(LocalDateTime.MIN, TimestampUtil.toZonedDateTime("-infinity", NEW_YORK_TZ).toLocalDateTime());
+	}
+
+	@Test
+	void shouldConvertTimestampsConcurrently() throws Exception {
+		List<String> values = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			values.add(String.format("20%02d-%02d-%02d %02d:%02d:%02d.%06d", i % 30, i % 12 + 1, i % 28 + 1, i % 24,
+					i % 60, (i * 7) % 60, i));
+		}
+		String[] zones = { "America/New_York", "Europe/Moscow", "Asia/Kolkata", "Australia/Sydney" };
+		ExecutorService executor = Executors.newFixedThreadPool(zones.length);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (String zone : zones) {
+				TimeZone tz = TimeZone.getTimeZone(zone);
+				List<Timestamp> expected = new ArrayList<>();
+				for (String value : values) {
+					expected.add(TimestampUtil.toTimestamp(value, tz));
+				}
+				futures.add(executor.submit(() -> {
+					for (int repeat = 0; repeat < 20; repeat++) {
+						for (int i = 0; i < values.size(); i++) {
+							assertEquals(expected.get(i), TimestampUtil.toTimestamp(values.get(i), tz));
+						}
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static long calendarMillis(String value, TimeZone tz) {
+		String[] dateTime = value.split(" ");
+		String[] date = dateTime[0].split("-");
+		String[] time = dateTime[1].split(":");
+		Calendar calendar = new GregorianCalendar(tz);
+		calendar.clear();
+		calendar.set(Integer.parseInt(date[0]), Integer.parseInt(date[1]) - 1, Integer.parseInt(date[2]),
+				Integer.parseInt(time[0]), Integer.parseInt(time[1]), Integer.parseInt(time[2]));
+		return calendar.getTimeInMillis();
+	}
+}
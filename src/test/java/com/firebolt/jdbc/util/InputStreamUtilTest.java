@@ -4,10 +4,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import com.firebolt.jdbc.resultset.compress.LZ4InputStream;
+import com.firebolt.jdbc.resultset.compress.LZ4OutputStream;
+
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -38,4 +47,77 @@ class InputStreamUtilTest {
     void read(String in, int length, String expected) throws IOException {
         assertEquals(expected, InputStreamUtil.read(new StringReader(in), length));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldTransferTheBytesAlreadyReadAndTheRestOfTheStream() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = "xxabc".getBytes(UTF_8);
+        assertEquals(6, InputStreamUtil.transferTo(buffer, 2, 3, new ByteArrayInputStream("def".getBytes(UTF_8)), out));
+        assertEquals("abcdef", out.toString(UTF_8));
+    }
+
+    @Test
+    void shouldCopyTheRestOfAnUncompressedStreamInBlocksOf64KBytes() throws IOException {
+        byte[] content = new byte[200_000];
+        new Random(0).nextBytes(content);
+        int[] maxReadLength = new int[1];
+        InputStream is = new ByteArrayInputStream(content) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                maxReadLength[0] = Math.max(maxReadLength[0], len);
+                return super.read(b, off, len);
+            }
+        };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(content.length + 1, InputStreamUtil.transferTo(new byte[] {42}, 0, 1, is, out));
+        assertEquals(64 * 1024, maxReadLength[0]);
+        byte[] written = out.toByteArray();
+        assertEquals(42, written[0]);
+        assertArrayEquals(content, Arrays.copyOfRange(written, 1, written.length));
+
+        is.reset();
+        maxReadLength[0] = 0;
+        ByteArrayOutputStream channelOut = new ByteArrayOutputStream();
+        assertEquals(content.length, InputStreamUtil.transferTo(new byte[0], 0, 0, is, Channels.newChannel(channelOut)));
+        assertEquals(64 * 1024, maxReadLength[0]);
+        assertArrayEquals(content, channelOut.toByteArray());
+    }
+
+    @Test
+    void shouldTransferTheRestOfTheStreamWithItsOwnTransfer() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(6, InputStreamUtil.transferTo("abc".getBytes(UTF_8), 0, 3, new UnreadableLZ4InputStream("def"), out));
+        assertEquals("abcdef", out.toString(UTF_8));
+
+        ByteArrayOutputStream channelOut = new ByteArrayOutputStream();
+        assertEquals(6, InputStreamUtil.transferTo("abc".getBytes(UTF_8), 0, 3, new UnreadableLZ4InputStream("def"), Channels.newChannel(channelOut)));
+        assertEquals("abcdef", channelOut.toString(UTF_8));
+    }
+
+    /**
+     * Can only be transferred, by {@link LZ4InputStream#transferTo(java.io.OutputStream)}
+     */
+    private static class UnreadableLZ4InputStream extends LZ4InputStream {
+        private UnreadableLZ4InputStream(String content) throws IOException {
+            super(new ByteArrayInputStream(compress(content)));
+        }
+
+        private static byte[] compress(String content) throws IOException {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (LZ4OutputStream lz4 = new LZ4OutputStream(compressed, 1024)) {
+                lz4.write(content.getBytes(UTF_8));
+            }
+            return compressed.toByteArray();
+        }
+
+        @Override
+        public int read() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.firebolt.jdbc.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TsvUnescaperTest {
+
+	@Test
+	void shouldReturnSameInstanceWhenThereIsNoBackslash() {
+		String value = "hello world";
+		assertSame(value, TsvUnescaper.unescape(value));
+	}
+
+	@ParameterizedTest
+	@MethodSource("escapedValues")
+	void shouldUnescape(String escaped, String expected) {
+		assertEquals(expected, TsvUnescaper.unescape(escaped));
+	}
+
+	private static Stream<Arguments> escapedValues() {
+		return Stream.of(
+				Arguments.of("a\\tb", "a\tb"),
+				Arguments.of("a\\nb", "a\nb"),
+				Arguments.of("a\\rb", "a\rb"),
+				Arguments.of("\\0", "\0"),
+				Arguments.of("\\b\\f", "\b\f"),
+				Arguments.of("it\\'s", "it's"),
+				Arguments.of("say \\\"hi\\\"", "say \"hi\""),
+				Arguments.of("c:\\\\temp", "c:\\temp"),
+				Arguments.of("\\\\n", "\\n"),
+				Arguments.of("\\\\\\\\", "\\\\"),
+				Arguments.of("\\x01", "\\x01"),
+				Arguments.of("end\\", "end\\"),
+				Arguments.of("שלום\\tעולם", "שלום\tעולם"));
+	}
+
+	@Test
+	void shouldUnescapeBellAndVerticalTab() {
+		assertEquals("\u0007\u000B", TsvUnescaper.unescape("\\a\\v"));
+	}
+}
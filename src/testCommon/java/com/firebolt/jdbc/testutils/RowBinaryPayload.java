@@ -0,0 +1,93 @@
+package com.firebolt.jdbc.testutils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Writes responses in the format RowBinaryWithNamesAndTypes like the server does
+ */
+public class RowBinaryPayload {
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+	/**
+	 * Starts a response with its header
+	 *
+	 * @param namesAndTypes the name and the type of each column
+	 * @return the payload
+	 */
+	public static RowBinaryPayload header(String... namesAndTypes) {
+		RowBinaryPayload payload = new RowBinaryPayload();
+		int columns = namesAndTypes.length / 2;
+		payload.length(columns);
+		for (int i = 0; i < columns; i++) {
+			payload.string(namesAndTypes[i * 2]);
+		}
+		for (int i = 0; i < columns; i++) {
+			payload.string(namesAndTypes[i * 2 + 1]);
+		}
+		return payload;
+	}
+
+	public RowBinaryPayload length(long length) {
+		do {
+			int b = (int) (length & 0x7F);
+			length >>>= 7;
+			out.write(length == 0 ? b : b | 0x80);
+		} while (length != 0);
+		return this;
+	}
+
+	public RowBinaryPayload int8(int value) {
+		out.write(value);
+		return this;
+	}
+
+	public RowBinaryPayload int16(int value) {
+		return write(ByteBuffer.allocate(Short.BYTES).order(ByteOrder.LITTLE_ENDIAN).putShort((short) value));
+	}
+
+	public RowBinaryPayload int32(int value) {
+		return write(ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(value));
+	}
+
+	public RowBinaryPayload int64(long value) {
+		return write(ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(value));
+	}
+
+	public RowBinaryPayload float32(float value) {
+		return write(ByteBuffer.allocate(Float.BYTES).order(ByteOrder.LITTLE_ENDIAN).putFloat(value));
+	}
+
+	public RowBinaryPayload float64(double value) {
+		return write(ByteBuffer.allocate(Double.BYTES).order(ByteOrder.LITTLE_ENDIAN).putDouble(value));
+	}
+
+	public RowBinaryPayload string(String value) {
+		return bytes(value.getBytes(UTF_8));
+	}
+
+	public RowBinaryPayload bytes(byte[] value) {
+		length(value.length);
+		out.write(value, 0, value.length);
+		return this;
+	}
+
+	/**
+	 * Writes the null flag of a nullable value
+	 */
+	public RowBinaryPayload isNull(boolean isNull) {
+		return int8(isNull ? 1 : 0);
+	}
+
+	public byte[] toByteArray() {
+		return out.toByteArray();
+	}
+
+	private RowBinaryPayload write(ByteBuffer buffer) {
+		out.write(buffer.array(), 0, buffer.capacity());
+		return this;
+	}
+}